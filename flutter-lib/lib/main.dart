@@ -38,8 +38,11 @@ import 'widgetSize.dart' as widget_size;
 import 'bench.dart' as bench;
 import 'test_harness.dart' as test_harness;
 import 'src/gen/gc.dart';
+import 'src/gen/rectangle.dart';
+import 'src/live_bounds.dart';
 import 'src/impl/gcdrawer_evolve.dart';
 import 'src/impl/utils/image_utils.dart';
+import 'src/impl/utils/clipboard_channel.dart';
 
 bool _themeConfigLogged = false;
 Completer<void>? _swtEvolvePropertiesCompleter;
@@ -114,6 +117,14 @@ void main(List<String> args) async {
     sendClientReady(widgetName, widgetId);
     return;
   }
+  else if (widgetName == "GCEngine") {
+    // A pooled off-screen engine (see OffscreenEnginePool.java): serves GC after GC, each
+    // announced on its own create channel as GC/create announces one to a Display engine.
+    _registerGcCreateListener("GCEngine/$widgetId/create");
+    _registerGcBatchListener("GCEngine/$widgetId/batch");
+    sendClientReady(widgetName, widgetId);
+    return;
+  }
   else if (widgetName == "BenchBridge") {
     bench.measureRequest(widgetName, widgetId);
     sendClientReady(widgetName, widgetId);
@@ -126,6 +137,10 @@ void main(List<String> args) async {
   setCurrentTheme(theme == ThemeMode.dark);
   setParentBackgroundColor(parentBackgroundColor);
   unawaited(initSwtEvolveProperties());
+  _registerBoundsListener();
+  // Every engine draws remote images and SVG icons: an embedded one gets its own canvas's Swing
+  // texture and the documents its widgets refer to, on its own comm.
+  _registerImageListeners();
 
   if (widgetName == "Display") {
     csdMainWindowId = widgetId;
@@ -134,7 +149,8 @@ void main(List<String> args) async {
       (active) => csdWindowActive.value = active,
     );
     _registerGcCreateListener();
-    _registerImageReleaseListener();
+    _registerGcBatchListener();
+    ClipboardChannel.register();
   }
 
   Widget contentWidget = createContentWidget(widgetName!, widgetId!);
@@ -164,9 +180,9 @@ final Map<int, GCDrawer> _activeGcDrawers = {};
 int _readInt64BE(ByteData v, int offset) =>
     (v.getUint32(offset, Endian.big) << 32) | v.getUint32(offset + 4, Endian.big);
 
-void _registerGcCreateListener() {
+void _registerGcCreateListener([String channel = "GC/create"]) {
   // Raw-bytes path: Java sends the gcId as 8 big-endian bytes, no JSON round-trip.
-  EquoCommService.onBytes("GC/create", (bytes) {
+  EquoCommService.onBytes(channel, (bytes) {
     final gcId = _readInt64BE(ByteData.sublistView(bytes), 0);
     final state = VGC()
       ..swt = "GC"
@@ -179,12 +195,120 @@ void _registerGcCreateListener() {
   });
 }
 
-void _registerImageReleaseListener() {
+// GC(Image) jobs packed into one frame (see GCBatch.java): [8-byte batch id][4-byte job count], then
+// per job [8-byte gcId][4-byte frame count] and its frames, each [4-byte length][frame]. Each job gets
+// a standalone drawer and its frames are delivered as if they had arrived one by one; the renders go
+// back together on GC/batch/<batch id>: [4-byte count], then per render [8-byte gcId][4-byte length]
+// [the imageResult payload]. A job whose render failed is left out, and Java cancels it. The reply
+// goes once every job's drawer is done, or after _gcBatchReplyTimeout with the renders there are:
+// a job Java never disposed would otherwise hold back the whole batch.
+void _registerGcBatchListener([String channel = "GC/batch"]) {
+  EquoCommService.onBytes(channel, (bytes) {
+    final view = ByteData.sublistView(bytes);
+    final batchId = _readInt64BE(view, 0);
+    final jobs = view.getInt32(8, Endian.big);
+    final renders = <int, Uint8List>{};
+    final pending = <int>{};
+    Timer? timeout;
+    var replied = false;
+    void reply() {
+      if (replied) return;
+      replied = true;
+      timeout?.cancel();
+      var length = 4;
+      for (final render in renders.values) {
+        length += 12 + render.length;
+      }
+      final out = Uint8List(length);
+      final outView = ByteData.sublistView(out)..setInt32(0, renders.length, Endian.big);
+      var at = 4;
+      renders.forEach((gcId, render) {
+        outView
+          ..setUint32(at, gcId >> 32, Endian.big)
+          ..setUint32(at + 4, gcId & 0xFFFFFFFF, Endian.big)
+          ..setInt32(at + 8, render.length, Endian.big);
+        out.setRange(at + 12, at + 12 + render.length, render);
+        at += 12 + render.length;
+      });
+      EquoCommService.sendBytes("GC/batch/$batchId", out);
+    }
+
+    final frames = <Uint8List>[];
+    var offset = 12;
+    for (var job = 0; job < jobs; job++) {
+      final gcId = _readInt64BE(view, offset);
+      final count = view.getInt32(offset + 8, Endian.big);
+      offset += 12;
+      final state = VGC()
+        ..swt = "GC"
+        ..id = gcId;
+      pending.add(gcId);
+      _activeGcDrawers[gcId] = GCDrawer.standalone(
+        state,
+        onResult: (render) => renders[gcId] = render,
+        onDisposed: () {
+          _activeGcDrawers.remove(gcId);
+          if (pending.remove(gcId) && pending.isEmpty) reply();
+        },
+      );
+      for (var i = 0; i < count; i++) {
+        final length = view.getInt32(offset, Endian.big);
+        frames.add(Uint8List.sublistView(bytes, offset + 4, offset + 4 + length));
+        offset += 4 + length;
+      }
+    }
+    if (jobs == 0) reply();
+    frames.forEach(EquoCommService.receive);
+    if (!replied) {
+      timeout = Timer(_gcBatchReplyTimeout, () {
+        for (final gcId in pending) {
+          _activeGcDrawers.remove(gcId)?.dispose();
+        }
+        pending.clear();
+        reply();
+      });
+    }
+  });
+}
+
+// Shorter than GCBatch.TIMEOUT_MS, so the jobs that did render still reach Java.
+const _gcBatchReplyTimeout = Duration(seconds: 8);
+
+// Controls that only moved or resized in a layout pass (see FlutterBridge.BOUNDS_CHANNEL):
+// [8-byte seq][4-byte count], then per control [8-byte id][4-byte x][4-byte y][4-byte width]
+// [4-byte height]. Each goes to LiveBounds, which hands it to the control and relayouts its parent.
+void _registerBoundsListener() {
+  EquoCommService.onBytes("swt.evolve.bounds", (bytes) {
+    final view = ByteData.sublistView(bytes);
+    final seq = _readInt64BE(view, 0);
+    final count = view.getInt32(8, Endian.big);
+    for (var i = 0, at = 12; i < count; i++, at += 24) {
+      LiveBounds.move(
+        _readInt64BE(view, at),
+        VRectangle()
+          ..x = view.getInt32(at + 8, Endian.big)
+          ..y = view.getInt32(at + 12, Endian.big)
+          ..width = view.getInt32(at + 16, Endian.big)
+          ..height = view.getInt32(at + 20, Endian.big),
+        seq,
+      );
+    }
+  });
+}
+
+void _registerImageListeners() {
   // Raw-bytes path: Java sends the remoteRef as 8 big-endian bytes when it disposes an Image
   // whose offscreen render was cached here (see GCImageDrawer.java / DartImage#destroy()).
   EquoCommService.onBytes("Image/releaseRemoteRef", (bytes) {
     ImageUtils.releaseRemoteImage(_readInt64BE(ByteData.sublistView(bytes), 0));
   });
+  // Damaged tiles of an embedded Swing frame (see EvolveSwingHost.java); Java repaints the host
+  // canvas on the ack, once the patched texture is drawable.
+  EquoCommService.onBytes("Image/patchRemote", (bytes) {
+    ImageUtils.patchRemoteImage(bytes, (ref) => EquoCommService.send("Image/$ref/Patched"));
+  });
+  // SVG markup, once per document; VImages then reference it by svgRef (see SvgDocuments.java).
+  EquoCommService.onBytes("Image/svgDocument", ImageUtils.registerSvgDocument);
 }
 
 void sendClientReady(String widgetName, int widgetId, {bool sendWindowSize = false}) {
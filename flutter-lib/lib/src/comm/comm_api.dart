@@ -23,6 +23,8 @@ class EquoCommService {
   static void onBytes(
           String userEventActionId, void Function(Uint8List) callback) =>
       throw UnsupportedError("EquoComm.onBytes");
+  static void receive(Uint8List frame) =>
+      throw UnsupportedError("EquoComm.receive");
   static Future setPort(int port) => throw UnsupportedError("EquoComm.setPort");
   static void onReconnect(void Function() callback) =>
       throw UnsupportedError("EquoComm.onReconnect");
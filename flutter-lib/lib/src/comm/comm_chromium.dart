@@ -138,6 +138,10 @@ class EquoCommService {
           String userEventActionId, void Function(Uint8List) callback) =>
       _comm.onBytes(userEventActionId, callback);
 
+  /// Delivers [frame], in the wire codec, as if it had just arrived on the socket: how a batch
+  /// of frames packed into one (see GCBatch.java) reaches its handlers.
+  static void receive(Uint8List frame) => _comm.receiveBinary(frame);
+
   static void remove(eventName, [Object? token]) => _comm.remove(eventName, token);
 
   /// Registers the callback fired when the socket comes back after a drop, so the app can
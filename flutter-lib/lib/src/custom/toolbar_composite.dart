@@ -19,6 +19,7 @@ import '../impl/widget_config.dart';
 import '../impl/decorations_evolve.dart';
 import 'csd/csd_drag_view.dart';
 import 'csd/window_controls.dart';
+import '../live_bounds.dart';
 import '../nolayout.dart';
 import '../theme/theme_extensions/clabel_theme_extension.dart';
 import '../theme/theme_extensions/toolbar_theme_extension.dart';
@@ -83,7 +84,7 @@ class MainToolbarCompositeImpl extends CompositeImpl<ToolbarComposite, VComposit
               .where((l) => !chipLabels.contains(l) && l.image != null)
               .map((l) => l.image!)
               .toList();
-          chipLabels.sort((a, b) => (a.bounds?.x ?? 0).compareTo(b.bounds?.x ?? 0));
+          chipLabels.sort((a, b) => (LiveBounds.current(a)?.x ?? 0).compareTo(LiveBounds.current(b)?.x ?? 0));
           Widget chipWidget = mapWidgetFromValue(chipLabels.first);
           if (addonImages.isNotEmpty) {
             chipWidget = ChipAddonImages(addonImages: addonImages, child: chipWidget);
@@ -120,68 +121,8 @@ class MainToolbarCompositeImpl extends CompositeImpl<ToolbarComposite, VComposit
       final dividerThickness = widgetTheme!.separatorThickness;
       final dividerVerticalPadding = widgetTheme!.dividerVerticalPadding;
 
-      final nonSepChildren = visibleChildren
-          .where((c) => c is! VLabel)
-          .where((c) => (c.bounds?.width ?? 0) > 0 || (c.bounds?.height ?? 0) > 0)
-          .toList()
-        ..sort((a, b) {
-          final byRow = (a.bounds?.y ?? 0).compareTo(b.bounds?.y ?? 0);
-          return byRow != 0 ? byRow : (a.bounds?.x ?? 0).compareTo(b.bounds?.x ?? 0);
-        });
-
-      // The trim wraps its contributions onto extra rows when the window is too narrow to fit them
-      // on one line, and a child carries its row in the y it was given. Group by vertical overlap so
-      // each row keeps its own horizontal flow: treating them as a single line puts the wrapped rows
-      // back at x=0 and draws them over the first one.
-      final rows = <List<VControl>>[];
-      var rowBottom = 0.0;
-      for (final child in nonSepChildren) {
-        final top = (child.bounds?.y ?? 0).toDouble();
-        final bottom = top + (child.bounds?.height ?? 0).toDouble();
-        if (rows.isEmpty || top >= rowBottom) {
-          rows.add(<VControl>[]);
-          rowBottom = bottom;
-        } else if (bottom > rowBottom) {
-          rowBottom = bottom;
-        }
-        rows.last.add(child);
-      }
-
-      // A divider fills the gap between two adjacent contributions, so it belongs to a single row
-      // and spans only that row's height.
-      final computedDividers = <({double x, double top, double height})>[];
-      for (final row in rows) {
-        row.sort((a, b) => (a.bounds?.x ?? 0).compareTo(b.bounds?.x ?? 0));
-        var rowTop = double.infinity;
-        var rowEnd = 0.0;
-        for (final c in row) {
-          final top = (c.bounds?.y ?? 0).toDouble();
-          final bottom = top + (c.bounds?.height ?? 0).toDouble();
-          if (top < rowTop) rowTop = top;
-          if (bottom > rowEnd) rowEnd = bottom;
-        }
-        for (var i = 0; i < row.length - 1; i++) {
-          final curr = row[i];
-          final next = row[i + 1];
-          if (curr is VToolBar) {
-            final currEnd =
-                ((curr.bounds?.x ?? 0) + (curr.bounds?.width ?? 0)).toDouble();
-            final nextStart = (next.bounds?.x ?? 0).toDouble();
-            if (nextStart > currEnd) {
-              computedDividers.add((
-                x: (currEnd + nextStart) / 2.0,
-                top: rowTop,
-                height: rowEnd - rowTop,
-              ));
-            }
-          }
-        }
-      }
-
-      final builtChildren = [
-        for (final child in nonSepChildren)
-          (child: child, widget: buildMapWidgetFromValue(child)),
-      ];
+      final moves = LiveBounds.relayoutFor(visibleChildren.map((child) => child.id)) ??
+          Listenable.merge(const <Listenable>[]);
 
       final toolbarRow = Row(
         crossAxisAlignment: CrossAxisAlignment.stretch,
@@ -189,64 +130,70 @@ class MainToolbarCompositeImpl extends CompositeImpl<ToolbarComposite, VComposit
           if (csdLeading) const WindowControls(),
           if (isRootToolbar) VerticalMenuButton(key: _vmBtnAtStartKey, atStart: true),
           Expanded(
-            child: LayoutBuilder(
-              builder: (_, box) {
-                final availW = box.maxWidth;
-                final effectiveH =
-                    box.maxHeight.isFinite ? box.maxHeight : toolbarHeight;
-
-                // Children carry a y measured from the top of the whole bar, but a horizontal menu
-                // bar takes the first band of the Column and leaves this Stack only what is below
-                // it. Without shifting by that band, every child is placed a menu-height too low and
-                // clipped. The band is exactly what the bar has that this Stack does not.
-                final rowOrigin = toolbarHeight - effectiveH;
-
-                final stackChildren = <Widget>[];
-
-                final vmBtnRb = _vmBtnAtStartKey.currentContext?.findRenderObject() as RenderBox?;
-                final vmBtnW = (isRootToolbar &&
-                        menuData?.isHorizontal == false &&
-                        menuData?.isAtStart == true)
-                    ? (vmBtnRb?.size.width ?? 0.0)
-                    : 0.0;
-
-                for (final entry in builtChildren) {
-                  final left = (entry.child.bounds?.x ?? 0).toDouble() - vmBtnW;
-                  final width = (entry.child.bounds?.width ?? 0).toDouble();
-                  final height = (entry.child.bounds?.height ?? 0).toDouble();
-                  if (width <= 0) continue;
-                  // Honour the y the trim layout assigned: it is what puts a wrapped contribution on
-                  // the second row instead of on top of the first. Children with no height of their
-                  // own still stretch to fill the bar, as they always did.
-                  stackChildren.add(Positioned(
-                    left: left,
-                    top: (entry.child.bounds?.y ?? 0).toDouble() - rowOrigin,
-                    bottom: height > 0 ? null : 0,
-                    width: width,
-                    height: height > 0 ? height : null,
-                    child: entry.widget,
-                  ));
-                }
-
-                for (final divider in computedDividers) {
-                  stackChildren.add(Positioned(
-                    left: divider.x - dividerThickness / 2,
-                    top: divider.top - rowOrigin + dividerVerticalPadding,
-                    height: divider.height - dividerVerticalPadding * 2,
-                    width: dividerThickness,
-                    child: ColoredBox(color: dividerColor),
-                  ));
-                }
-
-                return SizedBox(
-                  width: availW,
-                  height: effectiveH,
-                  child: Stack(
-                    clipBehavior: Clip.hardEdge,
-                    children: stackChildren,
-                  ),
-                );
-              },
+            child: ListenableBuilder(
+              // A child a packed update moved never rebuilds this bar, so re-place the row when one is.
+              listenable: moves,
+              builder: (_, __) => LayoutBuilder(
+                builder: (_, box) {
+                  final availW = box.maxWidth;
+                  final effectiveH =
+                      box.maxHeight.isFinite ? box.maxHeight : toolbarHeight;
+
+                  // Children carry a y measured from the top of the whole bar, but a horizontal menu
+                  // bar takes the first band of the Column and leaves this Stack only what is below
+                  // it. Without shifting by that band, every child is placed a menu-height too low and
+                  // clipped. The band is exactly what the bar has that this Stack does not.
+                  final rowOrigin = toolbarHeight - effectiveH;
+
+                  final placement = _placeByBounds(visibleChildren);
+                  final stackChildren = <Widget>[];
+
+                  final vmBtnRb = _vmBtnAtStartKey.currentContext?.findRenderObject() as RenderBox?;
+                  final vmBtnW = (isRootToolbar &&
+                          menuData?.isHorizontal == false &&
+                          menuData?.isAtStart == true)
+                      ? (vmBtnRb?.size.width ?? 0.0)
+                      : 0.0;
+
+                  for (final child in placement.placed) {
+                    final bounds = LiveBounds.current(child);
+                    final left = (bounds?.x ?? 0).toDouble() - vmBtnW;
+                    final width = (bounds?.width ?? 0).toDouble();
+                    final height = (bounds?.height ?? 0).toDouble();
+                    if (width <= 0) continue;
+                    // Honour the y the trim layout assigned: it is what puts a wrapped contribution on
+                    // the second row instead of on top of the first. Children with no height of their
+                    // own still stretch to fill the bar, as they always did.
+                    stackChildren.add(Positioned(
+                      left: left,
+                      top: (bounds?.y ?? 0).toDouble() - rowOrigin,
+                      bottom: height > 0 ? null : 0,
+                      width: width,
+                      height: height > 0 ? height : null,
+                      child: buildMapWidgetFromValue(child),
+                    ));
+                  }
+
+                  for (final divider in placement.dividers) {
+                    stackChildren.add(Positioned(
+                      left: divider.x - dividerThickness / 2,
+                      top: divider.top - rowOrigin + dividerVerticalPadding,
+                      height: divider.height - dividerVerticalPadding * 2,
+                      width: dividerThickness,
+                      child: ColoredBox(color: dividerColor),
+                    ));
+                  }
+
+                  return SizedBox(
+                    width: availW,
+                    height: effectiveH,
+                    child: Stack(
+                      clipBehavior: Clip.hardEdge,
+                      children: stackChildren,
+                    ),
+                  );
+                },
+              ),
             ),
           ),
           if (isRootToolbar) ToolbarOptionalControlsRow(useBoundsLayout: true),
@@ -319,6 +266,72 @@ class MainToolbarCompositeImpl extends CompositeImpl<ToolbarComposite, VComposit
     );
   }
 
+  /// The children the bounds layout places, those with a size in reading order, and the dividers
+  /// between adjacent contributions. Read through [LiveBounds] so a child a packed update moved is
+  /// placed where it now is, not where this bar's copy of it last was.
+  ({List<VControl> placed, List<({double x, double top, double height})> dividers}) _placeByBounds(
+      List<VControl> visibleChildren) {
+    final bounds = {for (final c in visibleChildren) c.id: LiveBounds.current(c)};
+    final nonSepChildren = visibleChildren
+        .where((c) => c is! VLabel)
+        .where((c) => (bounds[c.id]?.width ?? 0) > 0 || (bounds[c.id]?.height ?? 0) > 0)
+        .toList()
+      ..sort((a, b) {
+        final byRow = (bounds[a.id]?.y ?? 0).compareTo(bounds[b.id]?.y ?? 0);
+        return byRow != 0 ? byRow : (bounds[a.id]?.x ?? 0).compareTo(bounds[b.id]?.x ?? 0);
+      });
+
+    // The trim wraps its contributions onto extra rows when the window is too narrow to fit them
+    // on one line, and a child carries its row in the y it was given. Group by vertical overlap so
+    // each row keeps its own horizontal flow: treating them as a single line puts the wrapped rows
+    // back at x=0 and draws them over the first one.
+    final rows = <List<VControl>>[];
+    var rowBottom = 0.0;
+    for (final child in nonSepChildren) {
+      final top = (bounds[child.id]?.y ?? 0).toDouble();
+      final bottom = top + (bounds[child.id]?.height ?? 0).toDouble();
+      if (rows.isEmpty || top >= rowBottom) {
+        rows.add(<VControl>[]);
+        rowBottom = bottom;
+      } else if (bottom > rowBottom) {
+        rowBottom = bottom;
+      }
+      rows.last.add(child);
+    }
+
+    // A divider fills the gap between two adjacent contributions, so it belongs to a single row
+    // and spans only that row's height.
+    final computedDividers = <({double x, double top, double height})>[];
+    for (final row in rows) {
+      row.sort((a, b) => (bounds[a.id]?.x ?? 0).compareTo(bounds[b.id]?.x ?? 0));
+      var rowTop = double.infinity;
+      var rowEnd = 0.0;
+      for (final c in row) {
+        final top = (bounds[c.id]?.y ?? 0).toDouble();
+        final bottom = top + (bounds[c.id]?.height ?? 0).toDouble();
+        if (top < rowTop) rowTop = top;
+        if (bottom > rowEnd) rowEnd = bottom;
+      }
+      for (var i = 0; i < row.length - 1; i++) {
+        final curr = row[i];
+        final next = row[i + 1];
+        if (curr is VToolBar) {
+          final currEnd =
+              ((bounds[curr.id]?.x ?? 0) + (bounds[curr.id]?.width ?? 0)).toDouble();
+          final nextStart = (bounds[next.id]?.x ?? 0).toDouble();
+          if (nextStart > currEnd) {
+            computedDividers.add((
+              x: (currEnd + nextStart) / 2.0,
+              top: rowTop,
+              height: rowEnd - rowTop,
+            ));
+          }
+        }
+      }
+    }
+    return (placed: nonSepChildren, dividers: computedDividers);
+  }
+
   /// Puts a DOM window-drag surface behind the toolbar so pressing bare toolbar
   /// background/labels drags the frameless window, while toolbar buttons (painted on top)
   /// keep their own clicks. Uses a real DOM mousedown ([CsdDragView]) because CEF ignores
@@ -350,15 +363,15 @@ class MainToolbarCompositeImpl extends CompositeImpl<ToolbarComposite, VComposit
     }
     return math.max(
       margins + clabelTheme.iconSize + (text.isNotEmpty ? clabelTheme.iconTextSpacing + textW : 0.0),
-      (vcl.bounds?.width ?? 0).toDouble(),
+      (LiveBounds.current(vcl)?.width ?? 0).toDouble(),
     );
   }
 
   double _getVCLabelCompositeW(VComposite composite) {
     final vcLabels = (composite.children ?? []).whereType<VCLabel>().toList();
-    if (vcLabels.isEmpty) return (composite.bounds?.width ?? 0).toDouble();
+    if (vcLabels.isEmpty) return (LiveBounds.current(composite)?.width ?? 0).toDouble();
     return vcLabels.fold(0.0, (total, vcl) =>
-        total + (_isVCLabelChip(vcl) ? _measureChipW(vcl) : (vcl.bounds?.width ?? 0).toDouble()));
+        total + (_isVCLabelChip(vcl) ? _measureChipW(vcl) : (LiveBounds.current(vcl)?.width ?? 0).toDouble()));
   }
 
   static bool _containsKeyword(VControl child, String keywordTextLower) {
@@ -405,14 +418,14 @@ class MainToolbarCompositeImpl extends CompositeImpl<ToolbarComposite, VComposit
       });
     }
     if (child is VComposite) {
-      final javaW = (child.bounds?.width ?? 0).toDouble();
+      final javaW = (LiveBounds.current(child)?.width ?? 0).toDouble();
       final children = child.children;
       if (children == null || children.isEmpty) return javaW;
       final childrenSum = children.fold(
           0.0, (acc, c) => acc + _estimateChildNaturalWidth(c, itemTheme));
       return math.max(javaW, childrenSum);
     }
-    return (child.bounds?.width ?? 0).toDouble();
+    return (LiveBounds.current(child)?.width ?? 0).toDouble();
   }
 
   Widget buildMapWidgetFromValue(VControl child) {
@@ -477,25 +490,34 @@ class StatusBarCompositeImpl extends CompositeImpl<StatusBarComposite, VComposit
       return wrap(const SizedBox.shrink());
     }
 
+    // A child a packed update moved never rebuilds this bar, so re-place its items when one is.
+    return ListenableBuilder(
+      listenable: LiveBounds.relayoutFor(children.map((child) => child.id))!,
+      builder: (_, __) => _statusBar(children),
+    );
+  }
+
+  Widget _statusBar(List<VControl> children) {
     final widgetTheme = Theme.of(context).extension<ToolBarThemeExtension>()!;
     final backgroundColor = widgetTheme.compositeBackgroundColor;
 
+    final bounds = {for (final child in children) child.id: LiveBounds.current(child)};
     final visibleChildren = children.where((child) => child.visible != false).toList()
-      ..sort((a, b) => (a.bounds?.x ?? 0).compareTo(b.bounds?.x ?? 0));
+      ..sort((a, b) => (bounds[a.id]?.x ?? 0).compareTo(bounds[b.id]?.x ?? 0));
 
     final positionedItems = visibleChildren.map((child) {
       return Positioned(
-        left: (child.bounds?.x ?? 0).toDouble(),
-        top: (child.bounds?.y ?? 0).toDouble(),
-        width: child.bounds?.width.toDouble(),
-        height: child.bounds?.height.toDouble(),
+        left: (bounds[child.id]?.x ?? 0).toDouble(),
+        top: (bounds[child.id]?.y ?? 0).toDouble(),
+        width: bounds[child.id]?.width.toDouble(),
+        height: bounds[child.id]?.height.toDouble(),
         child: mapWidgetFromValue(child),
       );
     }).toList();
 
     double contentHeight = 0;
     for (final child in visibleChildren) {
-      final bottom = (child.bounds?.y ?? 0) + (child.bounds?.height ?? 0);
+      final bottom = (bounds[child.id]?.y ?? 0) + (bounds[child.id]?.height ?? 0);
       if (bottom > contentHeight) contentHeight = bottom.toDouble();
     }
 
@@ -30,6 +30,7 @@ VAnimatedProgress _$VAnimatedProgressFromJson(Map<String, dynamic> json) =>
       ..dropTargetId = (json['dropTargetId'] as num?)?.toInt()
       ..enabled = json['enabled'] as bool?
       ..enabledEffective = json['enabledEffective'] as bool?
+  ..events = (json['events'] as num?)?.toInt()
       ..font = json['font'] == null
           ? null
           : VFont.fromJson(json['font'] as Map<String, dynamic>)
@@ -86,6 +87,7 @@ Map<String, dynamic> _$VAnimatedProgressToJson(VAnimatedProgress instance) =>
       'dropTargetId': ?instance.dropTargetId,
       'enabled': ?instance.enabled,
       'enabledEffective': ?instance.enabledEffective,
+  'events': ?instance.events,
       'font': ?instance.font,
       'foreground': ?instance.foreground,
       'hasOwnBackground': ?instance.hasOwnBackground,
@@ -29,6 +29,7 @@ VButton _$VButtonFromJson(Map<String, dynamic> json) => VButton()
   ..dropTargetId = (json['dropTargetId'] as num?)?.toInt()
   ..enabled = json['enabled'] as bool?
   ..enabledEffective = json['enabledEffective'] as bool?
+  ..events = (json['events'] as num?)?.toInt()
   ..font = json['font'] == null
       ? null
       : VFont.fromJson(json['font'] as Map<String, dynamic>)
@@ -71,6 +72,7 @@ Map<String, dynamic> _$VButtonToJson(VButton instance) => <String, dynamic>{
   'dropTargetId': ?instance.dropTargetId,
   'enabled': ?instance.enabled,
   'enabledEffective': ?instance.enabledEffective,
+  'events': ?instance.events,
   'font': ?instance.font,
   'foreground': ?instance.foreground,
   'hasOwnBackground': ?instance.hasOwnBackground,
@@ -29,6 +29,7 @@ VCanvas _$VCanvasFromJson(Map<String, dynamic> json) => VCanvas()
   ..dropTargetId = (json['dropTargetId'] as num?)?.toInt()
   ..enabled = json['enabled'] as bool?
   ..enabledEffective = json['enabledEffective'] as bool?
+  ..events = (json['events'] as num?)?.toInt()
   ..font = json['font'] == null
       ? null
       : VFont.fromJson(json['font'] as Map<String, dynamic>)
@@ -84,6 +85,7 @@ Map<String, dynamic> _$VCanvasToJson(VCanvas instance) => <String, dynamic>{
   'dropTargetId': ?instance.dropTargetId,
   'enabled': ?instance.enabled,
   'enabledEffective': ?instance.enabledEffective,
+  'events': ?instance.events,
   'font': ?instance.font,
   'foreground': ?instance.foreground,
   'hasOwnBackground': ?instance.hasOwnBackground,
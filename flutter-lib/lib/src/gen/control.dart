@@ -16,6 +16,14 @@ part 'control.g.dart';
 abstract class ControlSwt<V extends VControl> extends WidgetSwt<V> {
   const ControlSwt({super.key, required super.value});
 
+  /// Drops an event Java only wants once something listens for it (see [lazyControlEvents]).
+  @override
+  void sendEvent(V val, String ev, VEvent? payload) {
+    final bit = lazyControlEvents[ev];
+    if (bit != null && ((val.events ?? 0) & bit) == 0) return;
+    super.sendEvent(val, ev, payload);
+  }
+
   void sendControlMove(V val, VEvent? payload) {
     sendEvent(val, "Control/Move", payload);
   }
@@ -101,6 +109,23 @@ abstract class ControlSwt<V extends VControl> extends WidgetSwt<V> {
   }
 }
 
+/// The events a control sends only when [VControl.events] has their bit set: a listener or a
+/// Display filter hooked them in Java (the order of `DartControl.LAZY_EVENTS`).
+const Map<String, int> lazyControlEvents = {
+  "Control/Move": 1 << 0,
+  "Control/Resize": 1 << 1,
+  "DragDetect/DragDetect": 1 << 2,
+  "Gesture/Gesture": 1 << 3,
+  "Help/Help": 1 << 4,
+  "Mouse/MouseDoubleClick": 1 << 5,
+  "Mouse/MouseDown": 1 << 6,
+  "Mouse/MouseUp": 1 << 7,
+  "MouseTrack/MouseHover": 1 << 8,
+  "MouseWheel/MouseWheel": 1 << 9,
+  "Touch/Touch": 1 << 10,
+  "Traverse/Traverse": 1 << 11,
+};
+
 @JsonSerializable()
 class VControl extends VWidget {
   VControl() : this.empty();
@@ -118,6 +143,8 @@ class VControl extends VWidget {
   int? dropTargetId;
   bool? enabled;
   bool? enabledEffective;
+  /// Which of [lazyControlEvents] Java listens for, by their bits.
+  int? events;
   VFont? font;
   VColor? foreground;
   bool? hasOwnBackground;
@@ -29,6 +29,7 @@ VExpandBar _$VExpandBarFromJson(Map<String, dynamic> json) => VExpandBar()
   ..dropTargetId = (json['dropTargetId'] as num?)?.toInt()
   ..enabled = json['enabled'] as bool?
   ..enabledEffective = json['enabledEffective'] as bool?
+  ..events = (json['events'] as num?)?.toInt()
   ..font = json['font'] == null
       ? null
       : VFont.fromJson(json['font'] as Map<String, dynamic>)
@@ -83,6 +84,7 @@ Map<String, dynamic> _$VExpandBarToJson(VExpandBar instance) =>
       'dropTargetId': ?instance.dropTargetId,
       'enabled': ?instance.enabled,
       'enabledEffective': ?instance.enabledEffective,
+  'events': ?instance.events,
       'font': ?instance.font,
       'foreground': ?instance.foreground,
       'hasOwnBackground': ?instance.hasOwnBackground,
@@ -24,6 +24,39 @@ abstract class GCDrawerBase {
 
   void onStateChanged(VGC newState) {}
 
+  // A state-change op: only the attributes that changed since the state Java last sent (see
+  // GCStateShadow.java), in order with the draw ops. A present key replaces the attribute, null
+  // included; an absent one keeps it.
+  void _applyStateDelta(Map<String, dynamic> delta) {
+    final d = VGC.fromJson({'swt': state.swt, 'id': state.id, 'style': state.style, ...delta});
+    T pick<T>(String key, T changed, T current) => delta.containsKey(key) ? changed : current;
+    final s = state;
+    _trackChanges(VGC()
+      ..swt = s.swt
+      ..id = s.id
+      ..seq = s.seq
+      ..style = s.style
+      ..XORMode = pick('XORMode', d.XORMode, s.XORMode)
+      ..advanced = pick('advanced', d.advanced, s.advanced)
+      ..alpha = pick('alpha', d.alpha, s.alpha)
+      ..antialias = pick('antialias', d.antialias, s.antialias)
+      ..background = pick('background', d.background, s.background)
+      ..backgroundPattern = pick('backgroundPattern', d.backgroundPattern, s.backgroundPattern)
+      ..clipping = pick('clipping', d.clipping, s.clipping)
+      ..fillRule = pick('fillRule', d.fillRule, s.fillRule)
+      ..font = pick('font', d.font, s.font)
+      ..foreground = pick('foreground', d.foreground, s.foreground)
+      ..foregroundPattern = pick('foregroundPattern', d.foregroundPattern, s.foregroundPattern)
+      ..interpolation = pick('interpolation', d.interpolation, s.interpolation)
+      ..lineCap = pick('lineCap', d.lineCap, s.lineCap)
+      ..lineDash = pick('lineDash', d.lineDash, s.lineDash)
+      ..lineJoin = pick('lineJoin', d.lineJoin, s.lineJoin)
+      ..lineStyle = pick('lineStyle', d.lineStyle, s.lineStyle)
+      ..lineWidth = pick('lineWidth', d.lineWidth, s.lineWidth)
+      ..textAntialias = pick('textAntialias', d.textAntialias, s.textAntialias)
+      ..transform = pick('transform', d.transform, s.transform));
+  }
+
   void _op(String name, void Function(Map<String, dynamic>) fn) {
     final channel = "${state.swt}/${state.id}/$name";
     _handlerTokens[channel] = EquoCommService.onRaw(channel, (raw) {
@@ -39,6 +72,7 @@ abstract class GCDrawerBase {
   }
 
   void _registerOps() {
+    _op("state", _applyStateDelta);
     _op(
       "copyAreaImageintint",
       (p) => onCopyAreaImageintint(VGCCopyAreaImageintint.fromJson(p)),
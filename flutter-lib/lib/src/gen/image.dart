@@ -14,6 +14,7 @@ class VImage {
   VImageData? imageData;
   int? remoteRef;
   String? svgContent;
+  int? svgRef;
 
   factory VImage.fromJson(Map<String, dynamic> json) => _$VImageFromJson(json);
   Map<String, dynamic> toJson() => _$VImageToJson(this);
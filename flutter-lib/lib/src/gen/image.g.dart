@@ -15,7 +15,8 @@ VImage _$VImageFromJson(Map<String, dynamic> json) => VImage()
       ? null
       : VImageData.fromJson(json['imageData'] as Map<String, dynamic>)
   ..remoteRef = (json['remoteRef'] as num?)?.toInt()
-  ..svgContent = json['svgContent'] as String?;
+  ..svgContent = json['svgContent'] as String?
+  ..svgRef = (json['svgRef'] as num?)?.toInt();
 
 Map<String, dynamic> _$VImageToJson(VImage instance) => <String, dynamic>{
   'background': ?instance.background,
@@ -23,4 +24,5 @@ Map<String, dynamic> _$VImageToJson(VImage instance) => <String, dynamic>{
   'imageData': ?instance.imageData,
   'remoteRef': ?instance.remoteRef,
   'svgContent': ?instance.svgContent,
+  'svgRef': ?instance.svgRef,
 };
@@ -87,6 +87,7 @@ VShell _$VShellFromJson(Map<String, dynamic> json) => VShell()
   ..alpha = (json['alpha'] as num?)?.toInt()
   ..darkThemePreferred = json['darkThemePreferred'] as bool?
   ..enabledEffective = json['enabledEffective'] as bool?
+  ..events = (json['events'] as num?)?.toInt()
   ..fullScreen = json['fullScreen'] as bool?
   ..imeInputMode = (json['imeInputMode'] as num?)?.toInt()
   ..maximumSize = json['maximumSize'] == null
@@ -144,6 +145,7 @@ Map<String, dynamic> _$VShellToJson(VShell instance) => <String, dynamic>{
   'alpha': ?instance.alpha,
   'darkThemePreferred': ?instance.darkThemePreferred,
   'enabledEffective': ?instance.enabledEffective,
+  'events': ?instance.events,
   'fullScreen': ?instance.fullScreen,
   'imeInputMode': ?instance.imeInputMode,
   'maximumSize': ?instance.maximumSize,
@@ -57,6 +57,7 @@ class VText extends VScrollable {
   bool? editable;
   List<int>? hiddenText;
   String? message;
+  int? revision;
   VPoint? selection;
   int? tabs;
   String? text;
@@ -29,6 +29,7 @@ VText _$VTextFromJson(Map<String, dynamic> json) => VText()
   ..dropTargetId = (json['dropTargetId'] as num?)?.toInt()
   ..enabled = json['enabled'] as bool?
   ..enabledEffective = json['enabledEffective'] as bool?
+  ..events = (json['events'] as num?)?.toInt()
   ..font = json['font'] == null
       ? null
       : VFont.fromJson(json['font'] as Map<String, dynamic>)
@@ -63,6 +64,7 @@ VText _$VTextFromJson(Map<String, dynamic> json) => VText()
       ?.map((e) => (e as num).toInt())
       .toList()
   ..message = json['message'] as String?
+  ..revision = (json['revision'] as num?)?.toInt()
   ..selection = json['selection'] == null
       ? null
       : VPoint.fromJson(json['selection'] as Map<String, dynamic>)
@@ -88,6 +90,7 @@ Map<String, dynamic> _$VTextToJson(VText instance) => <String, dynamic>{
   'dropTargetId': ?instance.dropTargetId,
   'enabled': ?instance.enabled,
   'enabledEffective': ?instance.enabledEffective,
+  'events': ?instance.events,
   'font': ?instance.font,
   'foreground': ?instance.foreground,
   'hasOwnBackground': ?instance.hasOwnBackground,
@@ -108,6 +111,7 @@ Map<String, dynamic> _$VTextToJson(VText instance) => <String, dynamic>{
   'editable': ?instance.editable,
   'hiddenText': ?instance.hiddenText,
   'message': ?instance.message,
+  'revision': ?instance.revision,
   'selection': ?instance.selection,
   'tabs': ?instance.tabs,
   'text': ?instance.text,
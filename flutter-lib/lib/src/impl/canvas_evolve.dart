@@ -14,6 +14,7 @@ import '../gen/image.dart';
 import '../gen/scrollbar.dart';
 import '../gen/swt.dart';
 import '../gen/widgets.dart';
+import '../live_bounds.dart';
 import '../nolayout.dart';
 import '../styles.dart';
 import 'composite_evolve.dart';
@@ -266,7 +267,7 @@ class CanvasImpl<T extends CanvasSwt, V extends VCanvas>
     final kids = state.children;
     if (kids == null) return false;
     for (final child in kids) {
-      final b = child.bounds;
+      final b = LiveBounds.current(child);
       if (b == null) continue;
       final rect = Rect.fromLTWH(
         b.x.toDouble(),
@@ -7,6 +7,7 @@ import '../gen/event.dart';
 import '../gen/gc.dart';
 import '../gen/swt.dart';
 import '../gen/widget.dart';
+import '../live_bounds.dart';
 import '../styles.dart';
 import '../impl/gc_evolve.dart';
 import '../impl/scrollable_evolve.dart';
@@ -26,7 +27,7 @@ bool _hitsAnyChild(VComposite state, Offset pos) {
   final children = state.children;
   if (children == null || children.isEmpty) return false;
   for (final child in children) {
-    final b = child.bounds;
+    final b = LiveBounds.current(child);
     if (b == null) continue;
     final rect = Rect.fromLTWH(
       b.x.toDouble(), b.y.toDouble(),
@@ -10,6 +10,8 @@ class ConfigFlags {
   bool? ctabfolder_visible_controls;
   bool? ctabfolder_topright_auto_hide;
   bool? image_disable_icons_replacement;
+  bool? image_png_readback;
+  bool? image_downsample;
   String? assets_path;
   bool? disable_evolve_icons;
   bool? use_swt_colors;
@@ -12,6 +12,8 @@ ConfigFlags _$ConfigFlagsFromJson(Map<String, dynamic> json) => ConfigFlags()
       json['ctabfolder_topright_auto_hide'] as bool?
   ..image_disable_icons_replacement =
       json['image_disable_icons_replacement'] as bool?
+  ..image_png_readback = json['image_png_readback'] as bool?
+  ..image_downsample = json['image_downsample'] as bool?
   ..assets_path = json['assets_path'] as String?
   ..disable_evolve_icons = json['disable_evolve_icons'] as bool?
   ..use_swt_colors = json['use_swt_colors'] as bool?
@@ -42,6 +44,8 @@ Map<String, dynamic> _$ConfigFlagsToJson(
   'ctabfolder_visible_controls': ?instance.ctabfolder_visible_controls,
   'ctabfolder_topright_auto_hide': ?instance.ctabfolder_topright_auto_hide,
   'image_disable_icons_replacement': ?instance.image_disable_icons_replacement,
+  'image_png_readback': ?instance.image_png_readback,
+  'image_downsample': ?instance.image_downsample,
   'assets_path': ?instance.assets_path,
   'disable_evolve_icons': ?instance.disable_evolve_icons,
   'use_swt_colors': ?instance.use_swt_colors,
@@ -26,7 +26,7 @@ import 'utils/widget_utils.dart';
 import 'widget_config.dart';
 
 abstract class ControlImpl<T extends ControlSwt, V extends VControl>
-    extends WidgetSwtState<T, V> {
+    extends WidgetSwtState<T, V> implements BoundsOwner {
 
   final GlobalKey<State<MenuSwt>> _menuKey = GlobalKey<State<MenuSwt>>();
   final GlobalKey _tooltipContentKey = GlobalKey();
@@ -68,12 +68,29 @@ abstract class ControlImpl<T extends ControlSwt, V extends VControl>
   /// Publishes the bounds this control believes it has, so its parent's layout can prefer them
   /// over a stale copy of this child (see [LiveBounds]).
   void _publishBounds() {
-    LiveBounds.publish(state.id, state.bounds, this);
+    LiveBounds.publish(state.id, state.bounds, this, state.seq);
+  }
+
+  /// A snapshot older than the bounds a packed update already moved this control to keeps those.
+  void _keepMovedBounds(V value) {
+    final moved = LiveBounds.newerThan(value.id, value.seq);
+    if (moved != null) value.bounds = moved;
+  }
+
+  @override
+  void adoptBounds(VRectangle bounds, int seq) {
+    if (!mounted || seq < state.seq) return;
+    setState(() {
+      state.bounds = bounds;
+      state.seq = seq;
+      _lastRealBounds = bounds;
+    });
   }
 
   @override
   void initState() {
     super.initState();
+    _keepMovedBounds(state);
     _resolveSentinelBounds(state);
     HoverExclusivityArbiter.instance.register(this, (hovering) {
       if (hovering) {
@@ -88,6 +105,7 @@ abstract class ControlImpl<T extends ControlSwt, V extends VControl>
 
   @override
   void setValue(V value) {
+    _keepMovedBounds(value);
     _resolveSentinelBounds(value);
     super.setValue(value);
     _publishBounds();
@@ -95,6 +113,7 @@ abstract class ControlImpl<T extends ControlSwt, V extends VControl>
 
   @override
   void didUpdateWidget(covariant T oldWidget) {
+    _keepMovedBounds(widget.value as V);
     _resolveSentinelBounds(widget.value as V);
     super.didUpdateWidget(oldWidget);
     _publishBounds();
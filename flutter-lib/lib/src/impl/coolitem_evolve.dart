@@ -3,6 +3,7 @@ import 'package:swtflutter/src/gen/control.dart';
 import '../gen/coolitem.dart';
 import '../gen/widgets.dart';
 import '../impl/item_evolve.dart';
+import '../live_bounds.dart';
 import '../theme/theme_extensions/coolitem_theme_extension.dart';
 import 'utils/double_tap_detector.dart';
 
@@ -45,7 +46,8 @@ class CoolItemImpl<T extends CoolItemSwt, V extends VCoolItem>
   }
 
   double? _getWidth() {
-    final controlBounds = state.control?.bounds;
+    final control = state.control;
+    final controlBounds = control == null ? null : LiveBounds.current(control);
     final preferredSize = state.preferredSize;
 
     return controlBounds?.width?.toDouble() ?? preferredSize?.x?.toDouble();
@@ -15,6 +15,7 @@ import '../gen/widget.dart';
 import '../gen/widgets.dart';
 import '../gen/color.dart';
 import '../gen/image.dart';
+import '../live_bounds.dart';
 import '../custom/toolbar_composite.dart';
 import 'composite_evolve.dart';
 import 'widget_config.dart';
@@ -238,10 +239,10 @@ class CTabFolderImpl<T extends CTabFolderSwt, V extends VCTabFolder>
     if (e.control != null) {
       final control = e.control!;
 
-      if (hasBounds(control.bounds)) {
-        final bounds = control.bounds!;
+      final bounds = LiveBounds.current(control);
+      if (hasBounds(bounds)) {
         return SizedBox(
-          width: bounds.width.toDouble(),
+          width: bounds!.width.toDouble(),
           height: bounds.height.toDouble(),
           child: mapWidgetFromValue(control),
         );
@@ -1,4 +1,5 @@
 import 'package:flutter/material.dart';
+import '../comm/comm.dart';
 import '../gen/canvas.dart';
 import '../gen/gc.dart';
 import '../gen/widget.dart';
@@ -42,6 +43,9 @@ class GCImpl<T extends GCSwt, V extends VGC> extends GCState<T, V> {
           });
         }
       },
+      onPictureMissing: () {
+        if (mounted && !_awaitingDispose) _requestParentPaint();
+      },
     );
   }
 
@@ -82,6 +86,21 @@ class GCImpl<T extends GCSwt, V extends VGC> extends GCState<T, V> {
     });
   }
 
+  // Asks Java for the whole paint: Paint requests are never answered with a reuse.
+  void _requestParentPaint() {
+    context.visitAncestorElements((element) {
+      if (element is StatefulElement && element.state is WidgetSwtState) {
+        final parentState = element.state as WidgetSwtState;
+        if (parentState.gcOverlayKey == widget.key) {
+          markPaintRequested();
+          EquoCommService.send("${parentState.state.swt}/${parentState.state.id}/Paint/Paint");
+          return false;
+        }
+      }
+      return true;
+    });
+  }
+
   CanvasThemeExtension get _canvasTheme =>
       Theme.of(context).extension<CanvasThemeExtension>()!;
 
@@ -62,10 +62,26 @@ class GCDrawer extends GCDrawerBase {
   // commit; anything superseded by a newer start discards itself.
   int _gcDisposeGeneration = 0;
 
+  // Hash of the picture Java last sent whole (gcDispose 'picture'), which these shapes are.
+  // A later paint that comes out identical sends only gcDispose 'reuse' with the same hash;
+  // anything else Java draws here arrives without one and clears it.
+  Object? _pictureHash;
+
+  // Partial paints (gcDispose 'damage') composited over the last full one. Each keeps the
+  // shapes it covers alive underneath, so past a few a full repaint is asked for instead.
+  static const int _maxPartialLayers = 16;
+  int _partialLayers = 0;
+
+  // Where a standalone drawer's render goes instead of its imageResult channel (a GC batch).
+  void Function(Uint8List payload)? _onResult;
+
   /// Standalone mode: registers comm listeners for state + all draw ops + imageInit/gcDispose.
-  /// Used for headless image rendering (new GC(image)). [onDisposed] fires once the render is sent.
-  GCDrawer.standalone(VGC state, {void Function()? onDisposed})
-      : onShapesUpdated = null, onGCDispose = null, super(state) {
+  /// Used for headless image rendering (new GC(image)). [onDisposed] fires once the render is sent,
+  /// to [onResult] if given (a GC batch collecting its renders into one reply), else to imageResult;
+  /// it fires too when the render fails, with nothing sent.
+  GCDrawer.standalone(VGC state, {void Function()? onDisposed, void Function(Uint8List)? onResult})
+      : onShapesUpdated = null, onGCDispose = null, onPictureMissing = null, super(state) {
+    _onResult = onResult;
     _localTokens["${state.swt}/${state.id}/imageInit"] =
         EquoCommService.onRaw("${state.swt}/${state.id}/imageInit", (payload) {
       _baseImageCompleter = Completer<void>();
@@ -77,17 +93,24 @@ class GCDrawer extends GCDrawerBase {
     _localTokens["${state.swt}/${state.id}/gcDispose"] =
         EquoCommService.onRaw("${state.swt}/${state.id}/gcDispose", (_) async {
       final myGeneration = ++_gcDisposeGeneration;
-      if (_baseImageCompleter != null) await _baseImageCompleter!.future;
-      await Future.wait(_pendingImages);
-      if (myGeneration != _gcDisposeGeneration) return;
-      shapes
-        ..clear()
-        ..addAll(_staging);
-      _staging = [];
-      await _renderAndSend();
-      onDisposed?.call();
-      // One-shot drawer: nothing reuses this gcId after this point, so tear down now.
-      dispose();
+      try {
+        if (_baseImageCompleter != null) await _baseImageCompleter!.future;
+        await Future.wait(_pendingImages);
+        if (myGeneration != _gcDisposeGeneration) return;
+        shapes
+          ..clear()
+          ..addAll(_staging);
+        _staging = [];
+        await _renderAndSend();
+      } finally {
+        // Also when the render failed (an imageInit that didn't decode): nothing is sent for it,
+        // but the owner must still learn this drawer is done.
+        if (myGeneration == _gcDisposeGeneration) {
+          onDisposed?.call();
+          // One-shot drawer: nothing reuses this gcId after this point, so tear down now.
+          dispose();
+        }
+      }
     });
     // Non-terminal: renders the current draw state (staged + already-committed shapes) without
     // clearing staging or unregistering listeners, so more ops (and a later real gcDispose, or
@@ -104,16 +127,29 @@ class GCDrawer extends GCDrawerBase {
 
   final void Function(List<Shape>)? onGCDispose;
 
+  /// Called when Java reuses, or paints part of, a picture this drawer doesn't have (it started
+  /// over since), and when partial paints have piled up: the owner asks for a full paint.
+  final void Function()? onPictureMissing;
+
   /// Embedded mode: registers comm listeners for state + all draw ops + gcDispose.
   /// onShapesUpdated triggers GCImpl.setState().
-  GCDrawer.embedded(VGC state, {this.onShapesUpdated, this.onGCDispose}) : super(state) {
+  GCDrawer.embedded(VGC state, {this.onShapesUpdated, this.onGCDispose, this.onPictureMissing})
+      : super(state) {
     _localTokens["${state.swt}/${state.id}/gcDispose"] =
         EquoCommService.onRaw("${state.swt}/${state.id}/gcDispose", (payload) async {
+      final reuse = payload is Map ? payload['reuse'] : null;
+      if (reuse != null) {
+        // Nothing was drawn: the shapes already committed are this paint.
+        if (reuse != _pictureHash) onPictureMissing?.call();
+        return;
+      }
+      _pictureHash = payload is Map ? payload['picture'] : null;
       // Whether this GC mirrors a real SWT.Paint (ControlHelper.firePaint()) versus one
       // the app opened outside any Paint dispatch (e.g. GEF/draw2d drag/hover feedback on
       // a FigureCanvas). Malformed/missing payload defaults to true (replace).
       final fullRepaint =
           !(payload is Map && payload['fullRepaint'] == false);
+      final damage = payload is Map ? payload['damage'] : null;
       final myGeneration = ++_gcDisposeGeneration;
       final cycleStaging = _staging;
       _staging = [];
@@ -138,7 +174,16 @@ class GCDrawer extends GCDrawerBase {
       final keep = <ui.Image>{};
       collectShapeImages(cycleStaging, keep);
       collectShapeImages(_lateLoadedImages, keep);
-      if (fullRepaint) {
+      var missing = false;
+      if (damage is List && damage.length == 4) {
+        // A redraw of part of the control (redraw(x, y, width, height, all)): clear that area
+        // of the picture held, as native SWT does before the Paint, and draw the paint over it.
+        missing = shapes.isEmpty || ++_partialLayers > _maxPartialLayers;
+        shapes.add(DamageShape(Rect.fromLTWH((damage[0] as num).toDouble(), (damage[1] as num).toDouble(),
+            (damage[2] as num).toDouble(), (damage[3] as num).toDouble())));
+        shapes.addAll(cycleStaging);
+      } else if (fullRepaint) {
+        _partialLayers = 0;
         // A FigureCanvas/GEF full repaint can synchronously answer with only its
         // background layer, while the app's own delayed update loop redraws the actual
         // figures moments later as separate, additive ImageShapes (fullRepaint=false).
@@ -159,6 +204,7 @@ class GCDrawer extends GCDrawerBase {
 
       if (shapes.isNotEmpty) onGCDispose?.call(List.from(shapes));
       onShapesUpdated?.call(shapes);
+      if (missing) onPictureMissing?.call();
     });
   }
 
@@ -269,6 +315,7 @@ class GCDrawer extends GCDrawerBase {
   void clearShapes() {
     shapes.clear();
     _staging = [];
+    _pictureHash = null;
   }
 
   void _addShape(Shape shape) {
@@ -451,7 +498,7 @@ class GCDrawer extends GCDrawerBase {
     _imgHeight = vImage.imageData?.height ?? _baseImage?.height ?? 0;
   }
 
-  Future<(ui.Image, Uint8List)?> _paintToImageAndPngBytes(
+  Future<(ui.Image, Uint8List)?> _paintToImageAndReadbackBytes(
       List<Shape> shapesToRender) async {
     final w = _imgWidth > 0 ? _imgWidth : 1;
     final h = _imgHeight > 0 ? _imgHeight : 1;
@@ -474,14 +521,35 @@ class GCDrawer extends GCDrawerBase {
 
     final picture = recorder.endRecording();
     final image = await picture.toImage(w, h);
-    final byteData = await image.toByteData(format: ui.ImageByteFormat.png);
-    final bytes = byteData?.buffer.asUint8List();
+    final bytes = await _readbackBytes(image);
     if (bytes == null) return null;
     return (image, bytes);
   }
 
-  Future<Uint8List?> _paintToPngBytes(List<Shape> shapesToRender) async {
-    final result = await _paintToImageAndPngBytes(shapesToRender);
+  // Leads a raw readback; Java's GCHelper.decodeRendered tells it from a PNG by this magic.
+  static const int _rawRgbaMagic = 0x52474241; // "RGBA"
+
+  /// The bytes Java reads [image] back from: "RGBA", big-endian width and height, then straight
+  /// (unpremultiplied) RGBA rows — Java unpacks them into ImageData in one pass instead of
+  /// inflating a PNG, and this side skips the PNG encode. `image_png_readback` keeps PNG.
+  Future<Uint8List?> _readbackBytes(ui.Image image) async {
+    if (getConfigFlags().image_png_readback ?? false) {
+      final png = await image.toByteData(format: ui.ImageByteFormat.png);
+      return png?.buffer.asUint8List(png.offsetInBytes, png.lengthInBytes);
+    }
+    final rgba = await image.toByteData(format: ui.ImageByteFormat.rawStraightRgba);
+    if (rgba == null) return null;
+    final out = Uint8List(12 + rgba.lengthInBytes);
+    ByteData.sublistView(out, 0, 12)
+      ..setUint32(0, _rawRgbaMagic, Endian.big)
+      ..setInt32(4, image.width, Endian.big)
+      ..setInt32(8, image.height, Endian.big);
+    out.setRange(12, out.length, rgba.buffer.asUint8List(rgba.offsetInBytes, rgba.lengthInBytes));
+    return out;
+  }
+
+  Future<Uint8List?> _paintToReadbackBytes(List<Shape> shapesToRender) async {
+    final result = await _paintToImageAndReadbackBytes(shapesToRender);
     return result?.$2;
   }
 
@@ -494,23 +562,27 @@ class GCDrawer extends GCDrawerBase {
   }
 
   Future<void> _renderAndSend() async {
-    final result = await _paintToImageAndPngBytes(shapes);
+    final result = await _paintToImageAndReadbackBytes(shapes);
     if (result == null) return;
-    final (image, pngBytes) = result;
+    final (image, bytes) = result;
     final ref = ImageUtils.registerRemoteImage(image);
-    // Desktop binary path: send remoteRef + raw PNG bytes as-is — no base64 (the binary comm
+    // Desktop binary path: send remoteRef + readback bytes as-is — no base64 (the binary comm
     // channel carries them verbatim). Java reads them via onBytes (see GCImageDrawer.java).
-    final payload = Uint8List(8 + pngBytes.length)
+    final payload = Uint8List(8 + bytes.length)
       ..setRange(0, 8, _int64BE(ref))
-      ..setRange(8, 8 + pngBytes.length, pngBytes);
-    EquoCommService.sendBytes('${state.swt}/${state.id}/imageResult', payload);
+      ..setRange(8, 8 + bytes.length, bytes);
+    if (_onResult != null) {
+      _onResult!(payload);
+    } else {
+      EquoCommService.sendBytes('${state.swt}/${state.id}/imageResult', payload);
+    }
     _unregisterImageListeners();
   }
 
   /// Non-terminal counterpart to [_renderAndSend]: paints the current staged + committed shapes
   /// and sends the result on its own channel, without clearing state or unregistering listeners.
   Future<void> _renderSnapshotAndSend() async {
-    final bytes = await _paintToPngBytes([...shapes, ..._staging]);
+    final bytes = await _paintToReadbackBytes([...shapes, ..._staging]);
     if (bytes == null) return;
     EquoCommService.sendBytes(
         '${state.swt}/${state.id}/imageSnapshotResult', bytes);
@@ -881,12 +953,12 @@ class GCDrawer extends GCDrawerBase {
       final result =
       await cropRecorder.endRecording().toImage(imgW, imgH);
 
-      final byteData = await result.toByteData(format: ui.ImageByteFormat.png);
-      if (byteData == null) return;
-      // Binary path: raw PNG bytes, no base64 (see imageResult above).
+      final bytes = await _readbackBytes(result);
+      if (bytes == null) return;
+      // Binary path: the readback bytes as-is, no base64 (see imageResult above).
       EquoCommService.sendBytes(
         '${state.swt}/${state.id}/copyAreaImageintintResponse',
-        byteData.buffer.asUint8List(),
+        bytes,
       );
     } catch (e, stack) {
       print('[GC copyArea] Error: $e\n$stack');
@@ -971,7 +1043,11 @@ class ScenePainter extends CustomPainter {
     canvas.drawRect(Offset.zero & size, Paint()..color = bg);
     canvas.save();
     for (final s in shapes) {
-      s.draw(canvas);
+      if (s is DamageShape) {
+        canvas.drawRect(s.rect, Paint()..color = bg);
+      } else {
+        s.draw(canvas);
+      }
     }
     canvas.restore();
   }
@@ -991,6 +1067,18 @@ abstract class Shape {
   Rect? get clipRect => null;
 }
 
+/// The area a partial paint repaints: [ScenePainter] clears it to the background.
+class DamageShape extends Shape {
+  DamageShape(this.rect);
+  final Rect rect;
+
+  @override
+  void draw(ui.Canvas c) {}
+
+  @override
+  String toString() => 'Damage $rect';
+}
+
 class TransformShape extends Shape {
   TransformShape(this.matrix, this.children, [this.clipRect]);
   final Float64List matrix;
@@ -1407,8 +1495,9 @@ class ImageShape extends Shape {
         : ColorFilter.mode(tint ?? AppColors.getColor(true), BlendMode.srcIn);
     try {
       Object? replacement;
-      if (vImage.svgContent?.isNotEmpty ?? false) {
-        replacement = vImage.svgContent!;
+      final svg = ImageUtils.svgContentOf(vImage);
+      if (svg != null) {
+        replacement = svg;
       } else if (vImage.filename != null && vImage.filename!.isNotEmpty) {
         try {
           replacement = await AssetsManager.loadReplacement(vImage.filename!);
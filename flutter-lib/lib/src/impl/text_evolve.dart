@@ -1,5 +1,6 @@
 import 'dart:async';
 import 'dart:convert';
+import 'dart:math' as math;
 
 import 'package:flutter/material.dart';
 import 'package:flutter/services.dart';
@@ -36,11 +37,16 @@ class TextImpl<T extends TextSwt, V extends VText>
 
   String get _vetoableChannel => '${state.swt}/${state.id}/modify/vetoable';
   String get _verdictChannel => '${state.swt}/${state.id}/modify/verdict';
+  String get _editChannel => '${state.swt}/${state.id}/modify/edit';
 
   @override
   void initState() {
     super.initState();
     _controller = TextEditingController(text: state.text);
+    // No text: Java leaves out content it knows this field shows, and this one is new.
+    if (state.text == null) {
+      EquoCommService.send('${state.swt}/${state.id}/modify/resync');
+    }
     _controller.addListener(_updateCaretPosition);
     _focusNode = FocusNode();
     _focusNode!.addListener(_handleFocusChange);
@@ -78,16 +84,48 @@ class TextImpl<T extends TextSwt, V extends VText>
       const Duration(milliseconds: 400),
       () => _resolvePendingEdit(true),
     );
-    recordSentText(newValue.text);
-    widget.sendModifyModify(
-      state,
+    _sendEdit(oldValue.text, newValue.text, newValue.selection.baseOffset);
+    return oldValue;
+  }
+
+  /// Sends a change from [base] (the content Java has) to [value] as the one range of [base]
+  /// it replaced and the replacement, rather than the whole content: a keystroke into a large
+  /// document costs the keystroke. The range never splits a surrogate pair, which would not
+  /// survive the UTF-8 encoding. The revision Java last pushed goes along, so Java drops an
+  /// edit made against content it has since replaced, whatever its length.
+  void _sendEdit(String base, String value, int caret) {
+    final shorter = math.min(base.length, value.length);
+    var start = 0;
+    while (start < shorter && base.codeUnitAt(start) == value.codeUnitAt(start)) {
+      start++;
+    }
+    var end = base.length;
+    var valueEnd = value.length;
+    while (end > start && valueEnd > start &&
+        base.codeUnitAt(end - 1) == value.codeUnitAt(valueEnd - 1)) {
+      end--;
+      valueEnd--;
+    }
+    if (start > 0 && _isHighSurrogate(value.codeUnitAt(start - 1))) start--;
+    if (valueEnd < value.length && _isLowSurrogate(value.codeUnitAt(valueEnd))) {
+      end++;
+      valueEnd++;
+    }
+    EquoCommService.sendPayload(
+      _editChannel,
       VEvent()
-        ..text = newValue.text
-        ..start = newValue.selection.baseOffset,
+        ..start = start
+        ..end = end
+        ..text = value.substring(start, valueEnd)
+        ..count = base.length
+        ..index = state.revision ?? 0
+        ..x = caret,
     );
-    return oldValue;
   }
 
+  static bool _isHighSurrogate(int unit) => unit >= 0xD800 && unit <= 0xDBFF;
+  static bool _isLowSurrogate(int unit) => unit >= 0xDC00 && unit <= 0xDFFF;
+
   void _handleModifyVerdict(bool doit) {
     _pendingTimer?.cancel();
     _pendingTimer = null;
@@ -123,7 +161,9 @@ class TextImpl<T extends TextSwt, V extends VText>
 
   @override
   void extraSetState() {
-    String newText = state.text ?? "";
+    // Java leaves the text out once it has applied this field's edits: what's shown is current.
+    state.text ??= _controller.text;
+    String newText = state.text!;
     // A Java value push may be the echo of a Modify this field sent moments ago. If the user
     // has typed further in the meantime, resetting the controller to the echoed (older) text
     // silently drops those keystrokes (the mid-word lost character on slow machines). See
@@ -389,12 +429,9 @@ class TextImpl<T extends TextSwt, V extends VText>
       _handleSubmitted(clean);
       return;
     }
+    final base = state.text ?? '';
     state.text = value;
-    recordSentText(value);
-    var e = VEvent()
-      ..text = value
-      ..start = _controller.selection.baseOffset;
-    widget.sendModifyModify(state, e);
+    _sendEdit(base, value, _controller.selection.baseOffset);
   }
 
   void _handleSubmitted(String value) {
@@ -0,0 +1,93 @@
+import 'dart:convert';
+import 'dart:math';
+import 'dart:typed_data';
+
+import 'package:flutter/services.dart';
+
+import '../../comm/comm.dart';
+
+/// The client half of Java's ClipboardChannel: answers `Clipboard/read` requests in chunks and
+/// assembles `Clipboard/write` chunks. Flutter's clipboard holds plain text only, so text goes to
+/// the system clipboard and the other formats (RTF, HTML, raw RGBA images) are kept here, for as
+/// long as the system clipboard still holds the text written with them.
+class ClipboardChannel {
+  ClipboardChannel._();
+
+  static const int _text = 0;
+  static const int _written = 4;
+  static const int _absent = -1;
+  static const int _chunk = 1 << 20;
+
+  static int? _writeId;
+  static final Map<int, Uint8List> _held = {};
+  static final Map<int, int> _filled = {};
+  static String? _heldText;
+
+  static void register() {
+    EquoCommService.onBytes("Clipboard/read", _read);
+    EquoCommService.onBytes("Clipboard/write", _write);
+  }
+
+  // ByteData.getInt64 is unsupported by dart2js; read the two uint32 halves (as main.dart does).
+  static int _readInt64BE(ByteData v, int offset) =>
+      (v.getUint32(offset, Endian.big) << 32) | v.getUint32(offset + 4, Endian.big);
+
+  static Future<void> _read(Uint8List bytes) async {
+    final view = ByteData.sublistView(bytes);
+    final reply = "Clipboard/read/${_readInt64BE(view, 0)}";
+    final data = await _contents(view.getUint8(8));
+    if (data == null) {
+      EquoCommService.sendBytes(reply, Uint8List(4)..buffer.asByteData().setInt32(0, _absent, Endian.big));
+      return;
+    }
+    var offset = 0;
+    do {
+      final length = min(_chunk, data.length - offset);
+      final frame = Uint8List(4 + length);
+      frame.buffer.asByteData().setInt32(0, data.length, Endian.big);
+      frame.setRange(4, 4 + length, data, offset);
+      EquoCommService.sendBytes(reply, frame);
+      offset += length;
+    } while (offset < data.length);
+  }
+
+  static Future<Uint8List?> _contents(int format) async {
+    final text = (await Clipboard.getData(Clipboard.kTextPlain))?.text;
+    if (format == _text) return text == null ? null : utf8.encode(text);
+    if (_heldText != null && text != _heldText) _held.clear();
+    // Which write the clipboard still holds: only known while it still has the text written with it.
+    if (format == _written) return _heldText != null && text == _heldText ? _int64BE(_writeId!) : null;
+    return _held[format];
+  }
+
+  static Uint8List _int64BE(int value) {
+    final bytes = Uint8List(8);
+    bytes.buffer.asByteData()
+      ..setUint32(0, value ~/ 0x100000000, Endian.big)
+      ..setUint32(4, value % 0x100000000, Endian.big);
+    return bytes;
+  }
+
+  static void _write(Uint8List bytes) {
+    final view = ByteData.sublistView(bytes);
+    final id = _readInt64BE(view, 0);
+    final format = view.getUint8(8);
+    final total = view.getInt32(9, Endian.big);
+    if (id != _writeId) {
+      _writeId = id;
+      _held.clear();
+      _filled.clear();
+      _heldText = null;
+    }
+    final buffer = _held.putIfAbsent(format, () => Uint8List(total));
+    final filled = _filled[format] ?? 0;
+    final length = bytes.length - 13;
+    buffer.setRange(filled, filled + length, bytes, 13);
+    _filled[format] = filled + length;
+    if (format == _text && filled + length == total) {
+      _held.remove(_text);
+      _heldText = utf8.decode(buffer);
+      Clipboard.setData(ClipboardData(text: _heldText!));
+    }
+  }
+}
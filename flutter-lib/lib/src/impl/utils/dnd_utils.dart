@@ -136,6 +136,12 @@ class _DropTargetNegotiator<T extends Object> extends StatefulWidget {
 }
 
 class _DropTargetNegotiatorState<T extends Object> extends State<_DropTargetNegotiator<T>> {
+  /// A negotiation was sent and its result has not come back yet.
+  bool _awaitingResult = false;
+
+  /// The latest move while [_awaitingResult]; sent, alone, when the result arrives.
+  DragTargetDetails<T>? _pendingOver;
+
   @override
   void initState() {
     super.initState();
@@ -168,9 +174,25 @@ class _DropTargetNegotiatorState<T extends Object> extends State<_DropTargetNego
   }
 
   void _onNegotiationUpdate(DndNegotiationState state) {
+    _awaitingResult = false;
+    final pending = _pendingOver;
+    if (pending != null) {
+      _pendingOver = null;
+      _sendNegotiation("dragOver", pending);
+    }
     if (mounted) setState(() {});
   }
 
+  /// Sends a move unless Java is still negotiating the previous one; moves made meanwhile
+  /// collapse into the latest, so the pointer never queues work behind the hit test.
+  void _sendOver(DragTargetDetails<T> details) {
+    if (_awaitingResult) {
+      _pendingOver = details;
+      return;
+    }
+    _sendNegotiation("dragOver", details);
+  }
+
   Offset _resolvePosition(DragTargetDetails<T> details) =>
       widget.resolvePosition != null ? widget.resolvePosition!(details) : details.offset;
 
@@ -190,6 +212,7 @@ class _DropTargetNegotiatorState<T extends Object> extends State<_DropTargetNego
         event.itemId = widget.resolveItemId!(details);
       }
     }
+    _awaitingResult = ev != "dragLeave";
     DropTargetSwt<VDropTarget>(value: dropTargetValue)
         .sendEvent(dropTargetValue, "Drop/$ev", event);
   }
@@ -202,12 +225,15 @@ class _DropTargetNegotiatorState<T extends Object> extends State<_DropTargetNego
         _sendNegotiation("dragEnter", details);
         return true;
       },
-      onMove: (details) => _sendNegotiation("dragOver", details),
+      onMove: _sendOver,
       onLeave: (_) {
+        _pendingOver = null;
         if (widget.dropTargetId == null) return;
         _sendNegotiation("dragLeave", null);
       },
       onAcceptWithDetails: (details) {
+        _pendingOver = null;
+        _awaitingResult = false;
         if (widget.dropTargetId == null) return;
         if (DragStartVeto.isVetoed) return;
         final index = widget.resolveIndex != null ? widget.resolveIndex!(details) : null;
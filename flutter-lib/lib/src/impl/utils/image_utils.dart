@@ -1,3 +1,4 @@
+import 'dart:async';
 import 'dart:convert';
 import 'dart:io';
 import 'dart:typed_data';
@@ -55,9 +56,88 @@ class ImageUtils {
     // draw's cache lookup, leaving it permanently blank. Defer by one event-loop turn.
     Future(() {
       _remoteImageCache.remove(ref)?.dispose();
+      _remoteTextures.remove(ref);
     });
   }
 
+  // SVG documents Java sends once per connection (see SvgDocuments.java), keyed by the content
+  // hash a VImage then carries as svgRef instead of the markup.
+  static final Map<int, String> _svgDocuments = {};
+
+  /// Stores one document: an 8-byte big-endian content hash followed by the UTF-8 markup. The
+  /// hash is 53 bits, so it is read as two halves to stay exact on the web.
+  static void registerSvgDocument(Uint8List bytes) {
+    final header = ByteData.sublistView(bytes);
+    final ref = header.getUint32(0) * 0x100000000 + header.getUint32(4);
+    _svgDocuments[ref] = utf8.decode(Uint8List.sublistView(bytes, 8));
+  }
+
+  /// The image's SVG markup, inline or by reference; null when it isn't an SVG.
+  static String? svgContentOf(VImage image) {
+    final inline = image.svgContent;
+    if (inline != null && inline.isNotEmpty) return inline;
+    final ref = image.svgRef;
+    return ref == null ? null : _svgDocuments[ref];
+  }
+
+  // Textures Java streams in damaged tiles (see EvolveSwingHost.java / FrameTiles.java), keyed
+  // like _remoteImageCache, whose ui.Image is each one's current frame. Java allocates these refs,
+  // negative, so they never collide with _nextRemoteRef.
+  static final Map<int, _RemoteTexture> _remoteTextures = {};
+
+  /// Applies one tile — a 32-byte big-endian header (ref, texture width and height, tile x, y,
+  /// width and height) followed by the tile's rows as RGBA — to the texture: only the tile is
+  /// decoded, then drawn over the current frame into a new one on the GPU. Tiles of a texture
+  /// apply in the order they arrive. [onInstalled] runs once the new frame is drawable.
+  static void patchRemoteImage(Uint8List bytes, void Function(int ref) onInstalled) {
+    final header = ByteData.sublistView(bytes);
+    final ref = header.getInt64(0);
+    final width = header.getInt32(8);
+    final height = header.getInt32(12);
+    final x = header.getInt32(16);
+    final y = header.getInt32(20);
+    final w = header.getInt32(24);
+    final h = header.getInt32(28);
+    var texture = _remoteTextures[ref];
+    if (texture == null || texture.width != width || texture.height != height) {
+      texture = _RemoteTexture(width, height);
+      _remoteTextures[ref] = texture;
+    }
+    final target = texture;
+    // The comm may reuse its buffer once this returns, and the tile waits for those before it.
+    final pixels = bytes.sublist(32, 32 + w * h * 4);
+    target.pending = target.pending.then((_) async {
+      final tile = await _decodeRgba(pixels, w, h);
+      if (_remoteTextures[ref] != target) {
+        tile.dispose();
+        return;
+      }
+      final recorder = ui.PictureRecorder();
+      final canvas = Canvas(recorder);
+      final current = _remoteImageCache[ref];
+      if (current != null && current.width == width && current.height == height) {
+        canvas.drawImage(current, Offset.zero, Paint());
+      }
+      canvas.drawImage(tile, Offset(x.toDouble(), y.toDouble()), Paint()..blendMode = BlendMode.src);
+      final picture = recorder.endRecording();
+      final frame = picture.toImageSync(width, height);
+      picture.dispose();
+      tile.dispose();
+      _remoteImageCache.remove(ref)?.dispose();
+      _remoteImageCache[ref] = frame;
+      onInstalled(ref);
+    }).catchError((Object e) {
+      // A tile that fails leaves the frame as it was; the ones after it still apply.
+      debugPrint('patchRemoteImage($ref): $e');
+    });
+  }
+
+  static Future<ui.Image> _decodeRgba(Uint8List pixels, int width, int height) {
+    final decoded = Completer<ui.Image>();
+    ui.decodeImageFromPixels(pixels, width, height, ui.PixelFormat.rgba8888, decoded.complete);
+    return decoded.future;
+  }
+
   static Widget? buildIconWidget(
     String filename, {
     double? size,
@@ -463,10 +543,11 @@ class ImageUtils {
     required bool renderAsIcon,
   }) async {
     // SVG content loaded by Java (no filesystem access needed)
-    if (image.svgContent?.isNotEmpty ?? false) {
+    final svg = svgContentOf(image);
+    if (svg != null) {
       return _buildReplacementWidget(
-        image.svgContent!,
-        filename: image.svgContent!,
+        svg,
+        filename: svg,
         size: size,
         width: width,
         height: height,
@@ -546,10 +627,11 @@ class ImageUtils {
     if (image == null) return null;
 
     // SVG content loaded by Java (no filesystem access needed)
-    if (image.svgContent?.isNotEmpty ?? false) {
+    final svg = svgContentOf(image);
+    if (svg != null) {
       return _buildReplacementWidget(
-        image.svgContent!,
-        filename: image.svgContent!,
+        svg,
+        filename: svg,
         size: size,
         width: width,
         height: height,
@@ -620,9 +702,9 @@ class ImageUtils {
   static String stableImageKey(VImage? image) {
     if (image == null) return 'no-image';
     if (image.filename?.isNotEmpty ?? false) return image.filename!;
-    if (image.svgContent?.isNotEmpty ?? false) {
-      return 'svg-${image.svgContent!.hashCode}';
-    }
+    if (image.svgRef != null) return 'svg-${image.svgRef}';
+    final svg = svgContentOf(image);
+    if (svg != null) return 'svg-${svg.hashCode}';
     final data = image.imageData?.data;
     if (data != null && data.isNotEmpty) {
       final len = data.length;
@@ -705,3 +787,13 @@ class ImageUtils {
     }
   }
 }
+
+class _RemoteTexture {
+  _RemoteTexture(this.width, this.height);
+
+  final int width;
+  final int height;
+
+  /// The tiles queued so far; the next one applies after them.
+  Future<void> pending = Future.value();
+}
@@ -1,5 +1,6 @@
 import 'package:flutter/foundation.dart';
 
+import 'gen/control.dart';
 import 'gen/rectangle.dart';
 
 /// The bounds each control last reported for **itself**, keyed by its SWT id.
@@ -12,20 +13,43 @@ import 'gen/rectangle.dart';
 ///
 /// Entries are owner-scoped: Flutter mounts a replacement element before unmounting the one it
 /// replaces, so disposal must only erase an entry that is still the disposing State's own.
+///
+/// A control that only moved or resized is not re-sent at all: its new bounds come in a packed
+/// bounds update (see FlutterBridge.BOUNDS_CHANNEL), stamped from the same sequence as snapshots.
+/// [move] records them, and [newerThan] is how a parent's copy or an older snapshot of the control
+/// finds out it is out of date.
 class LiveBounds {
   LiveBounds._();
 
   static final Map<int, VRectangle> _bounds = {};
   static final Map<int, Object> _owners = {};
   static final Map<int, _BoundsTick> _ticks = {};
+  static final Map<int, int> _seqs = {};
 
   /// Records what [owner] (a control's State) currently believes its own bounds are.
-  static void publish(int id, VRectangle? bounds, Object owner) {
+  static void publish(int id, VRectangle? bounds, Object owner, [int seq = 0]) {
     _owners[id] = owner;
     if (bounds == null) return;
+    final known = _seqs[id];
+    if (known != null && known > seq) return;
+    _seqs[id] = seq;
+    final previous = _bounds[id];
+    if (previous != null && _sameRect(previous, bounds)) return;
+    _bounds[id] = bounds;
+    _ticks[id]?.tick();
+  }
+
+  /// Records the bounds a packed bounds update sent for [id], stamped [seq], and hands them to the
+  /// State that owns [id], if one is mounted. A control not mounted yet finds them on [newerThan].
+  static void move(int id, VRectangle bounds, int seq) {
+    final known = _seqs[id];
+    if (known != null && known > seq) return;
+    _seqs[id] = seq;
     final previous = _bounds[id];
     if (previous != null && _sameRect(previous, bounds)) return;
     _bounds[id] = bounds;
+    final owner = _owners[id];
+    if (owner is BoundsOwner) owner.adoptBounds(bounds, seq);
     _ticks[id]?.tick();
   }
 
@@ -35,10 +59,21 @@ class LiveBounds {
     _owners.remove(id);
     _bounds.remove(id);
     _ticks.remove(id);
+    _seqs.remove(id);
   }
 
   static VRectangle? of(int id) => _bounds[id];
 
+  /// [id]'s bounds if they were stamped after [seq], i.e. newer than a snapshot stamped [seq].
+  static VRectangle? newerThan(int id, int seq) {
+    final known = _seqs[id];
+    return known != null && known > seq ? _bounds[id] : null;
+  }
+
+  /// Where [child], a parent's copy of a control, is now: where a packed update moved it since
+  /// that copy was taken, else the copy's own bounds. For anything reading `children[i].bounds`.
+  static VRectangle? current(VControl child) => newerThan(child.id, child.seq) ?? child.bounds;
+
   /// Notifies whenever any of [ids] reports new bounds for itself. A layout delegate passes this
   /// as its `relayout` so a child's own update re-runs its parent's layout — the parent itself
   /// never rebuilt, which is exactly the case this registry exists for.
@@ -55,12 +90,18 @@ class LiveBounds {
     _bounds.clear();
     _owners.clear();
     _ticks.clear();
+    _seqs.clear();
   }
 
   static bool _sameRect(VRectangle a, VRectangle b) =>
       a.x == b.x && a.y == b.y && a.width == b.width && a.height == b.height;
 }
 
+/// A control's State, which takes the bounds [LiveBounds.move] records for it over its own.
+abstract class BoundsOwner {
+  void adoptBounds(VRectangle bounds, int seq);
+}
+
 class _BoundsTick extends ChangeNotifier {
   void tick() => notifyListeners();
 }
@@ -89,8 +89,11 @@ class _AbsoluteLayoutDelegate extends MultiChildLayoutDelegate {
 
   /// The bounds to lay [child] out at: the parent's own copy, except when that copy is 0x0 and the
   /// child itself reports otherwise ([LiveBounds]) — a stale copy must not pin a live child at zero
-  /// size. A child that is genuinely 0x0 publishes 0x0 too, so it stays 0x0.
+  /// size. A child that is genuinely 0x0 publishes 0x0 too, so it stays 0x0. Bounds a packed update
+  /// moved the child to after this copy was taken win over it outright.
   VRectangle? _boundsOf(VControl child) {
+    final moved = LiveBounds.newerThan(child.id, child.seq);
+    if (moved != null) return moved;
     final fromParent = child.bounds;
     if (fromParent != null && (fromParent.width != 0 || fromParent.height != 0)) {
       return fromParent;
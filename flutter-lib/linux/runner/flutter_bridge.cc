@@ -381,6 +381,13 @@ Java_dev_equo_swt_FlutterNative_WaitEvents(JNIEnv *env, jclass cls, jlong contex
   g_source_unref(timeout);
 }
 
+// Makes a WaitEvents blocked in the default main context return (or the next one return at once).
+// g_main_context_wakeup is thread-safe, so Java calls this from whichever thread woke the Display.
+JNIEXPORT void JNICALL
+Java_dev_equo_swt_FlutterNative_WakeEvents(JNIEnv *env, jclass cls) {
+  g_main_context_wakeup(g_main_context_default());
+}
+
 JNIEXPORT void JNICALL
 Java_dev_equo_swt_FlutterNative_SetTitle(JNIEnv *env, jclass cls, jlong context, jstring title) {
   FlutterWindow *w = reinterpret_cast<FlutterWindow *>(context);
@@ -41,6 +41,9 @@ Java_dev_equo_swt_FlutterNative_Pump(JNIEnv *env, jclass cls, jlong context);
 JNIEXPORT void JNICALL
 Java_dev_equo_swt_FlutterNative_WaitEvents(JNIEnv *env, jclass cls, jlong context, jint millis);
 
+JNIEXPORT void JNICALL
+Java_dev_equo_swt_FlutterNative_WakeEvents(JNIEnv *env, jclass cls);
+
 JNIEXPORT void JNICALL
 Java_dev_equo_swt_FlutterNative_SetTitle(JNIEnv *env, jclass cls, jlong context, jstring title);
 
@@ -362,6 +362,20 @@ public func FlutterNative_waitEvents(env: UnsafeMutablePointer<JNIEnv?>, cls: jc
     surfaceFrom(context)?.waitForEvent(millis: millis)
 }
 
+// Makes a WaitEvents return: the main queue posts an empty application-defined event, which
+// nextEvent(matching:until:) sees and the next Pump dispatches harmlessly. Not @MainActor — Java
+// calls it from whichever thread woke the Display; a queued event also ends the next wait at once.
+@_cdecl("Java_dev_equo_swt_FlutterNative_WakeEvents")
+public func FlutterNative_wakeEvents(env: UnsafeMutablePointer<JNIEnv?>, cls: jclass) {
+    DispatchQueue.main.async {
+        if let event = NSEvent.otherEvent(with: .applicationDefined, location: .zero, modifierFlags: [],
+                                          timestamp: 0, windowNumber: 0, context: nil,
+                                          subtype: 0, data1: 0, data2: 0) {
+            NSApp.postEvent(event, atStart: false)
+        }
+    }
+}
+
 @MainActor @_cdecl("Java_dev_equo_swt_FlutterNative_SetTitle")
 public func FlutterNative_setTitle(env: UnsafeMutablePointer<JNIEnv?>, cls: jclass, context: jlong, title: jstring) {
     surfaceFrom(context)?.setTitle(jstringToSwift(env, title))
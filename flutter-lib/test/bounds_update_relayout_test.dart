@@ -0,0 +1,88 @@
+// A control that only moved or resized in a Java layout pass is not re-sent, and neither is its
+// parent: its new bounds arrive in a packed bounds update (FlutterBridge.BOUNDS_CHANNEL), stamped
+// from the same sequence as snapshots. The parent's copy of the child is then older than those
+// bounds, and must not pin the child where it was, not even when the parent rebuilds from it.
+
+import 'package:flutter/material.dart';
+import 'package:flutter_test/flutter_test.dart';
+
+import 'package:swtflutter/main.dart';
+import 'package:swtflutter/src/gen/canvas.dart';
+import 'package:swtflutter/src/gen/composite.dart';
+import 'package:swtflutter/src/gen/control.dart';
+import 'package:swtflutter/src/gen/rectangle.dart';
+import 'package:swtflutter/src/gen/swt.dart';
+import 'package:swtflutter/src/live_bounds.dart';
+
+VRectangle _rect(int x, int y, int width, int height) => VRectangle()
+  ..x = x
+  ..y = y
+  ..width = width
+  ..height = height;
+
+VCanvas _canvas(int id, VRectangle bounds, int seq) => VCanvas()
+  ..id = id
+  ..seq = seq
+  ..style = SWT.NONE
+  ..enabled = true
+  ..visible = true
+  ..bounds = bounds;
+
+VComposite _form(List<VControl> children) => VComposite()
+  ..id = 600
+  ..seq = 1
+  ..style = SWT.NONE
+  ..enabled = true
+  ..visible = true
+  ..bounds = _rect(0, 0, 800, 600)
+  ..children = children;
+
+Widget _app(VComposite form) => EvolveApp(
+      theme: ThemeMode.light,
+      contentWidget: SizedBox(
+        width: 800,
+        height: 600,
+        child: CompositeSwt<VComposite>(value: form),
+      ),
+    );
+
+void main() {
+  tearDown(LiveBounds.clear);
+
+  testWidgets('a bounds update resizes a child its parent copy still has at the old size',
+      (WidgetTester tester) async {
+    await tester.pumpWidget(_app(_form([_canvas(601, _rect(0, 0, 100, 50), 2)])));
+    await tester.pumpAndSettle();
+    expect(tester.getSize(find.byType(CanvasSwt<VCanvas>)), const Size(100, 50));
+
+    LiveBounds.move(601, _rect(10, 20, 300, 200), 3);
+    await tester.pumpAndSettle();
+
+    expect(tester.getSize(find.byType(CanvasSwt<VCanvas>)), const Size(300, 200));
+  });
+
+  testWidgets('a parent rebuilt from its older copy keeps the moved bounds',
+      (WidgetTester tester) async {
+    await tester.pumpWidget(_app(_form([_canvas(601, _rect(0, 0, 100, 50), 2)])));
+    await tester.pumpAndSettle();
+    LiveBounds.move(601, _rect(10, 20, 300, 200), 3);
+    await tester.pumpAndSettle();
+
+    await tester.pumpWidget(_app(_form([_canvas(601, _rect(0, 0, 100, 50), 2)])));
+    await tester.pumpAndSettle();
+
+    expect(tester.getSize(find.byType(CanvasSwt<VCanvas>)), const Size(300, 200));
+  });
+
+  testWidgets('a snapshot sent after the bounds update wins over it', (WidgetTester tester) async {
+    await tester.pumpWidget(_app(_form([_canvas(601, _rect(0, 0, 100, 50), 2)])));
+    await tester.pumpAndSettle();
+    LiveBounds.move(601, _rect(10, 20, 300, 200), 3);
+    await tester.pumpAndSettle();
+
+    await tester.pumpWidget(_app(_form([_canvas(601, _rect(0, 0, 400, 100), 4)])));
+    await tester.pumpAndSettle();
+
+    expect(tester.getSize(find.byType(CanvasSwt<VCanvas>)), const Size(400, 100));
+  });
+}
@@ -2,6 +2,7 @@
 #include <flutter/dart_project.h>
 #include <flutter/flutter_view_controller.h>
 #include <windows.h>
+#include <atomic>
 #include <string>
 #include <iostream>
 #include <memory>
@@ -25,6 +26,10 @@ static FlutterWindow* s_first_engine = nullptr;
 // that CONTAINS data\ (the Windows release dir). Empty selects the GetDllPath() lookup.
 static std::wstring g_bundle_override;
 
+// The thread that waits in WaitEvents (the SWT UI thread), so WakeEvents knows whose queue to post to.
+// Recorded at Initialize too, which runs on that thread, so a wake before the first wait is not lost.
+static std::atomic<DWORD> g_wait_thread{0};
+
 // Converts a UTF-8 std::string to a UTF-16 std::wstring for the Win32 *W APIs.
 static std::wstring Utf16FromUtf8(const std::string& utf8) {
     if (utf8.empty()) {
@@ -203,6 +208,7 @@ struct Surface {
 // =================================================================================================
 
 JNIEXPORT jlong JNICALL Java_dev_equo_swt_FlutterNative_Initialize(JNIEnv* env, jclass cls, jint port, jlong parent, jlong widget_id, jstring widget_name, jstring theme, jint background_color, jint parent_background_color, jint width, jint height) {
+    g_wait_thread.store(::GetCurrentThreadId());
     const char* name_c = env->GetStringUTFChars(widget_name, nullptr);
     std::string nameStr(name_c);
     env->ReleaseStringUTFChars(widget_name, name_c);
@@ -281,10 +287,18 @@ JNIEXPORT jint JNICALL Java_dev_equo_swt_FlutterNative_Pump(JNIEnv* env, jclass
 
 // Blocks until a message/input is available or up to |millis| ms, WITHOUT removing it (the idle sleep).
 JNIEXPORT void JNICALL Java_dev_equo_swt_FlutterNative_WaitEvents(JNIEnv* env, jclass cls, jlong context, jint millis) {
+    g_wait_thread.store(::GetCurrentThreadId());
     DWORD timeout = millis < 0 ? 0 : (DWORD)millis;
     ::MsgWaitForMultipleObjectsEx(0, nullptr, timeout, QS_ALLINPUT, MWMO_INPUTAVAILABLE);
 }
 
+// Makes a WaitEvents return by posting an empty thread message; Pump later drops it. Callable from
+// any thread. The posted message stays queued, so a wake that lands before the wait is not lost.
+JNIEXPORT void JNICALL Java_dev_equo_swt_FlutterNative_WakeEvents(JNIEnv* env, jclass cls) {
+    DWORD thread = g_wait_thread.load();
+    if (thread != 0) ::PostThreadMessage(thread, WM_NULL, 0, 0);
+}
+
 JNIEXPORT void JNICALL Java_dev_equo_swt_FlutterNative_SetTitle(JNIEnv* env, jclass cls, jlong context, jstring title) {
     Surface* s = reinterpret_cast<Surface*>(context);
     const char* t = env->GetStringUTFChars(title, nullptr);
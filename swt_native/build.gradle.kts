@@ -456,8 +456,28 @@ tasks.register<Test>("webBenchmark") {
     forwardSystemProperties("bench.warmup", "bench.measured", "bench.timeoutMs", "comm.impl", "equo.swt.browser", "bench.web.headless")
 }
 
+// Packs an icon-replacement directory (-PiconAssets=<dir>) into one indexed file that every jar
+// bundles as dev/equo/swt/icons.pack: replacements then resolve with a map lookup and a read from
+// a mapped blob instead of a directory scan and a file read per icon (see dev.equo.swt.IconPack).
+// Without the property nothing is packed and the jars are unchanged.
+val iconAssets = providers.gradleProperty("iconAssets")
+val iconPackDir = layout.buildDirectory.dir("generated/iconPack")
+val packIconAssets = tasks.register<JavaExec>("packIconAssets") {
+    group = "build"
+    description = "Packs -PiconAssets=<dir> into dev/equo/swt/icons.pack for the jars"
+    onlyIf { iconAssets.isPresent }
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("dev.equo.swt.IconPack")
+    if (iconAssets.isPresent) inputs.dir(iconAssets)
+    outputs.dir(iconPackDir)
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(iconAssets.get(), iconPackDir.get().file("dev/equo/swt/icons.pack").asFile.path)
+    })
+}
+
 tasks.jar {
     duplicatesStrategy = DuplicatesStrategy.EXCLUDE
+    from(packIconAssets)
     from(layout.buildDirectory.dir("natives/$currentPlatform"))
 
     dependsOn(copyWebBinaries)
@@ -731,6 +751,7 @@ platforms.forEach { platform ->
         // and keep the first occurrence.
         duplicatesStrategy = DuplicatesStrategy.EXCLUDE
         from(sourceSets[info.sourceSet].output)
+        from(packIconAssets)
         if (!info.isWeb)
             from(layout.buildDirectory.dir("natives/${info.desktopPlatform}"))
         if (info.isHybrid) {
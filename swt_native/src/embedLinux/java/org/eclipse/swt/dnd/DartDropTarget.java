@@ -15,6 +15,7 @@
  */
 package org.eclipse.swt.dnd;
 
+import java.util.*;
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
 import org.eclipse.swt.internal.*;
@@ -91,6 +92,13 @@ public class DartDropTarget extends DartWidget implements IDropTarget {
 
     int selectedOperation;
 
+    // Per drag session: the control's items by Flutter id, and the types both ends can transfer
+    Map<Long, Widget> itemsById;
+
+    DartDragSource mutualSource;
+
+    TransferData[] mutualDataTypes;
+
     // workaround - There is no event for "operation changed" so track operation based on key state
     int keyOperation = -1;
 
@@ -523,6 +531,7 @@ public class DartDropTarget extends DartWidget implements IDropTarget {
      */
     public void setTransfer(Transfer... transferAgents) {
         dirty();
+        mutualDataTypes = null;
     }
 
     /**
@@ -655,6 +664,7 @@ public class DartDropTarget extends DartWidget implements IDropTarget {
             DNDEvent dropEvent = toDropEvent(event);
             super.sendEvent(DND.Drop, dropEvent);
             notifyDragSourceOfDragEnd(dropEvent.detail);
+            endSession();
             return;
         }
         if (eventType == DND.DragEnter || eventType == DND.DragOver || eventType == DND.DragOperationChanged || eventType == DND.DragLeave || eventType == DND.DropAccept) {
@@ -664,11 +674,19 @@ public class DartDropTarget extends DartWidget implements IDropTarget {
             selectedOperation = negotiationEvent.detail;
             dndFeedback = negotiationEvent.feedback;
             sendNegotiationResult();
+            if (eventType == DND.DragLeave)
+                endSession();
             return;
         }
         super.sendEvent(eventType, event);
     }
 
+    private void endSession() {
+        itemsById = null;
+        mutualSource = null;
+        mutualDataTypes = null;
+    }
+
     int dndFeedback = DND.FEEDBACK_NONE;
 
     private void sendNegotiationResult() {
@@ -687,13 +705,25 @@ public class DartDropTarget extends DartWidget implements IDropTarget {
         event.y = e.y;
         event.item = e.item != null ? e.item : resolveItem(e);
         event.operations = getStyle();
-        event.dataTypes = computeMutualDataTypes(matchingDragSource());
+        event.dataTypes = mutualDataTypes(matchingDragSource());
         event.dataType = selectedDataType != null ? selectedDataType : (event.dataTypes.length > 0 ? event.dataTypes[0] : null);
         event.detail = eventType == DND.DragEnter ? DND.DROP_DEFAULT : (selectedOperation != DND.DROP_NONE ? selectedOperation : DND.DROP_DEFAULT);
         event.feedback = dndFeedback;
         return event;
     }
 
+    /**
+     * The mutual types for {@code source}, computed once per drag session. Each event gets its own
+     * copy, as listeners may write to the array.
+     */
+    private TransferData[] mutualDataTypes(DartDragSource source) {
+        if (mutualDataTypes == null || source != mutualSource) {
+            mutualDataTypes = computeMutualDataTypes(source);
+            mutualSource = source;
+        }
+        return mutualDataTypes.clone();
+    }
+
     private TransferData[] computeMutualDataTypes(DartDragSource source) {
         if (source == null)
             return new TransferData[0];
@@ -729,7 +759,7 @@ public class DartDropTarget extends DartWidget implements IDropTarget {
         event.detail = detail == DND.DROP_DEFAULT ? resolveDefaultOperation() : detail;
         event.item = e.item != null ? e.item : resolveItem(e);
         DartDragSource source = matchingDragSource();
-        TransferData[] mutual = computeMutualDataTypes(source);
+        TransferData[] mutual = mutualDataTypes(source);
         TransferData type = selectedDataType != null ? selectedDataType : (mutual.length > 0 ? mutual[0] : null);
         event.dataTypes = mutual;
         event.dataType = type;
@@ -764,31 +794,40 @@ public class DartDropTarget extends DartWidget implements IDropTarget {
         return null;
     }
 
+    /**
+     * Looks {@code id} up in the control's items, indexed on the first lookup of the session. An
+     * id the index lacks, or whose item was disposed, is an item created or replaced since, as when
+     * a hovered tree item expands; the control is indexed again. An id still missing after that is
+     * remembered as missing, so hovering it doesn't walk the control at every move.
+     */
     private Widget findItemById(Control control, long id) {
-        if (control instanceof Table table) {
-            for (TableItem item : table.getItems()) {
-                if (FlutterBridge.id(item) == id)
-                    return item;
-            }
-        } else if (control instanceof Tree tree) {
-            for (TreeItem item : tree.getItems()) {
-                Widget found = findTreeItemById(item, id);
-                if (found != null)
-                    return found;
-            }
+        if (!(control instanceof Table) && !(control instanceof Tree))
+            return null;
+        if (itemsById != null) {
+            Widget found = itemsById.get(id);
+            if (found == null ? itemsById.containsKey(id) : !found.isDisposed())
+                return found;
         }
-        return null;
+        itemsById = indexItems(control);
+        Widget found = itemsById.get(id);
+        if (found == null)
+            itemsById.put(id, null);
+        return found;
     }
 
-    private Widget findTreeItemById(TreeItem item, long id) {
-        if (FlutterBridge.id(item) == id)
-            return item;
-        for (TreeItem child : item.getItems()) {
-            Widget found = findTreeItemById(child, id);
-            if (found != null)
-                return found;
+    private static Map<Long, Widget> indexItems(Control control) {
+        Map<Long, Widget> index = new HashMap<>();
+        if (control instanceof Table table) {
+            for (TableItem item : table.getItems()) index.put(FlutterBridge.id(item), item);
+        } else if (control instanceof Tree tree) {
+            ArrayDeque<TreeItem> pending = new ArrayDeque<>(Arrays.asList(tree.getItems()));
+            while (!pending.isEmpty()) {
+                TreeItem item = pending.pop();
+                index.put(FlutterBridge.id(item), item);
+                for (TreeItem child : item.getItems()) pending.push(child);
+            }
         }
-        return null;
+        return index;
     }
 
     private void notifyDragSourceOfDragEnd(int detail) {
@@ -803,7 +803,7 @@ public abstract class DartControl extends DartWidget implements Drawable, IContr
     }
 
     int setBounds(int x, int y, int width, int height, boolean move, boolean resize) {
-        dirty();
+        boolean boundsOnly = dirtyBounds();
         int finalX = move ? x : this.bounds.x;
         int finalY = move ? y : this.bounds.y;
         int finalWidth = resize ? width : this.bounds.width;
@@ -875,11 +875,17 @@ public abstract class DartControl extends DartWidget implements Drawable, IContr
             result |= RESIZED;
         }
         getBridge().setBounds(this, bounds);
-        if (parent != null && parent.getImpl() instanceof DartWidget pw)
+        if (!boundsOnly && parent != null && parent.getImpl() instanceof DartWidget pw)
             pw.dirty();
         return result;
     }
 
+    /** Marks this control's new bounds for the next flush; see {@link FlutterBridge#dirtyBounds}. */
+    boolean dirtyBounds() {
+        FlutterBridge bridge = getBridge();
+        return bridge != null && bridge.dirtyBounds(this);
+    }
+
     /**
      * Returns a point describing the receiver's location relative to its parent in
      * points (or its display if its parent is null), unless the receiver is a
@@ -4882,27 +4888,13 @@ public abstract class DartControl extends DartWidget implements Drawable, IContr
 
     protected void _hookEvents() {
         super._hookEvents();
-        FlutterBridge.on(this, "Control", "Move", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.Move, e);
-            });
-        });
-        FlutterBridge.on(this, "Control", "Resize", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.Resize, e);
-            });
-        });
-        FlutterBridge.on(this, "DragDetect", "DragDetect", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.DragDetect, e);
-            });
-        });
+        boolean lazy = FlutterBridge.lazyEvents();
+        for (int i = 0; i < LAZY_EVENTS.length; i++) {
+            if (!lazy || hooks(LAZY_EVENTS[i]) || filters(LAZY_EVENTS[i])) {
+                hookFlutterEvent(LAZY_EVENTS[i]);
+                flutterEvents |= 1 << i;
+            }
+        }
         FlutterBridge.on(this, "Focus", "FocusIn", e -> {
             getDisplay().asyncExec(() -> {
                 if (isDisposed())
@@ -4927,20 +4919,6 @@ public abstract class DartControl extends DartWidget implements Drawable, IContr
                     bridge.clearFocus(this);
             });
         });
-        FlutterBridge.on(this, "Gesture", "Gesture", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.Gesture, e);
-            });
-        });
-        FlutterBridge.on(this, "Help", "Help", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.Help, e);
-            });
-        });
         FlutterBridge.on(this, "Key", "KeyDown", e -> {
             getDisplay().asyncExec(() -> {
                 if (isDisposed())
@@ -4965,27 +4943,6 @@ public abstract class DartControl extends DartWidget implements Drawable, IContr
                 sendEvent(SWT.MenuDetect, e);
             });
         });
-        FlutterBridge.on(this, "Mouse", "MouseDoubleClick", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.MouseDoubleClick, e);
-            });
-        });
-        FlutterBridge.on(this, "Mouse", "MouseDown", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.MouseDown, e);
-            });
-        });
-        FlutterBridge.on(this, "Mouse", "MouseUp", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.MouseUp, e);
-            });
-        });
         FlutterBridge.on(this, "MouseMove", "MouseMove", e -> {
             getDisplay().asyncExec(() -> {
                 if (isDisposed())
@@ -5007,20 +4964,6 @@ public abstract class DartControl extends DartWidget implements Drawable, IContr
                 sendEvent(SWT.MouseExit, e);
             });
         });
-        FlutterBridge.on(this, "MouseTrack", "MouseHover", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.MouseHover, e);
-            });
-        });
-        FlutterBridge.on(this, "MouseWheel", "MouseWheel", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.MouseWheel, e);
-            });
-        });
         FlutterBridge.on(this, "Paint", "Paint", e -> {
             getDisplay().asyncExec(() -> {
                 if (isDisposed())
@@ -5028,20 +4971,169 @@ public abstract class DartControl extends DartWidget implements Drawable, IContr
                 ControlHelper.paint(this, e);
             });
         });
-        FlutterBridge.on(this, "Touch", "Touch", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.Touch, e);
-            });
-        });
-        FlutterBridge.on(this, "Traverse", "Traverse", e -> {
-            getDisplay().asyncExec(() -> {
-                if (isDisposed())
-                    return;
-                sendEvent(SWT.Traverse, e);
-            });
-        });
+    }
+
+    /**
+     * The events Flutter reports only once something listens for them. A control gets their
+     * channels, and Flutter sends them, when a listener or a Display filter hooks the type
+     * ({@link #_hookEvent}); a label or composite nobody clicks costs neither.
+     */
+    static final int[] LAZY_EVENTS = { SWT.Move, SWT.Resize, SWT.DragDetect, SWT.Gesture, SWT.Help,
+            SWT.MouseDoubleClick, SWT.MouseDown, SWT.MouseUp, SWT.MouseHover, SWT.MouseWheel, SWT.Touch,
+            SWT.Traverse };
+
+    /** The {@link #LAZY_EVENTS} Flutter sends for this control, bit {@code i} for entry {@code i}. */
+    int flutterEvents;
+
+    @Override
+    void _hookEvent(int eventType) {
+        int bit = lazyEventBit(eventType);
+        if (bit == 0 || (flutterEvents & bit) != 0)
+            return;
+        hookFlutterEvent(eventType);
+        flutterEvents |= bit;
+        dirty();
+    }
+
+    /** Listeners carried over from another implementation were hooked before this one existed. */
+    @Override
+    public void _eventTable(EventTable eventTable) {
+        super._eventTable(eventTable);
+        for (int eventType : LAZY_EVENTS) {
+            if (hooks(eventType))
+                _hookEvent(eventType);
+        }
+    }
+
+    static int lazyEventBit(int eventType) {
+        for (int i = 0; i < LAZY_EVENTS.length; i++) {
+            if (LAZY_EVENTS[i] == eventType)
+                return 1 << i;
+        }
+        return 0;
+    }
+
+    /** Every control under {@code controls} asks Flutter for {@code eventType}: a Display filter hears it from all. */
+    static void hookFilter(Control[] controls, int eventType) {
+        for (Control control : controls) {
+            if (control.getImpl() instanceof DartControl dartControl)
+                dartControl._hookEvent(eventType);
+            if (control instanceof Composite composite)
+                hookFilter(composite.getChildren(), eventType);
+        }
+    }
+
+    private void hookFlutterEvent(int eventType) {
+        switch (eventType) {
+            case SWT.Move:
+                FlutterBridge.on(this, "Control", "Move", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.Move, e);
+                    });
+                });
+                break;
+            case SWT.Resize:
+                FlutterBridge.on(this, "Control", "Resize", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.Resize, e);
+                    });
+                });
+                break;
+            case SWT.DragDetect:
+                FlutterBridge.on(this, "DragDetect", "DragDetect", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.DragDetect, e);
+                    });
+                });
+                break;
+            case SWT.Gesture:
+                FlutterBridge.on(this, "Gesture", "Gesture", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.Gesture, e);
+                    });
+                });
+                break;
+            case SWT.Help:
+                FlutterBridge.on(this, "Help", "Help", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.Help, e);
+                    });
+                });
+                break;
+            case SWT.MouseDoubleClick:
+                FlutterBridge.on(this, "Mouse", "MouseDoubleClick", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.MouseDoubleClick, e);
+                    });
+                });
+                break;
+            case SWT.MouseDown:
+                FlutterBridge.on(this, "Mouse", "MouseDown", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.MouseDown, e);
+                    });
+                });
+                break;
+            case SWT.MouseUp:
+                FlutterBridge.on(this, "Mouse", "MouseUp", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.MouseUp, e);
+                    });
+                });
+                break;
+            case SWT.MouseHover:
+                FlutterBridge.on(this, "MouseTrack", "MouseHover", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.MouseHover, e);
+                    });
+                });
+                break;
+            case SWT.MouseWheel:
+                FlutterBridge.on(this, "MouseWheel", "MouseWheel", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.MouseWheel, e);
+                    });
+                });
+                break;
+            case SWT.Touch:
+                FlutterBridge.on(this, "Touch", "Touch", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.Touch, e);
+                    });
+                });
+                break;
+            case SWT.Traverse:
+                FlutterBridge.on(this, "Traverse", "Traverse", e -> {
+                    getDisplay().asyncExec(() -> {
+                        if (isDisposed())
+                            return;
+                        sendEvent(SWT.Traverse, e);
+                    });
+                });
+                break;
+        }
     }
 
     public Control getApi() {
@@ -1691,6 +1691,7 @@ public class DartText extends DartScrollable implements IText {
         selection = null;
         sendEvent(SWT.Modify);
         this.text = newValue;
+        revision++;
         applySegments();
     }
 
@@ -1834,6 +1835,9 @@ public class DartText extends DartScrollable implements IText {
 
     char[] hiddenText = new char[0];
 
+    // The version of the content that Flutter edits are made against; see TextHelper#handleEdit.
+    int revision;
+
     Point selection;
 
     String text = "";
@@ -2026,6 +2030,20 @@ public class DartText extends DartScrollable implements IText {
                 }
             });
         });
+        FlutterBridge.on(this, "modify", "edit", e -> {
+            getDisplay().asyncExec(() -> {
+                if (!isDisposed()) {
+                    TextHelper.handleEdit(this, e);
+                }
+            });
+        });
+        FlutterBridge.on(this, "modify", "resync", e -> {
+            getDisplay().asyncExec(() -> {
+                if (!isDisposed()) {
+                    TextHelper.resync(this);
+                }
+            });
+        });
         FlutterBridge.on(this, "Segment", "Segments", e -> {
             getDisplay().asyncExec(() -> {
                 if (!isDisposed()) {
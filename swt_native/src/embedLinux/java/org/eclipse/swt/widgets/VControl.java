@@ -114,6 +114,13 @@ public class VControl extends VWidget {
     public void setEnabledEffective(Boolean value) {
     }
 
+    public int getEvents() {
+        return ((DartControl) impl).flutterEvents;
+    }
+
+    public void setEvents(int value) {
+    }
+
     public Font getFont() {
         Font val = ((DartControl) impl).font;
         if (val != null && val.getImpl() instanceof SwtFont)
@@ -68,6 +68,14 @@ public class VText extends VScrollable {
         ((DartText) impl).message = value;
     }
 
+    public int getRevision() {
+        return ((DartText) impl).revision;
+    }
+
+    public void setRevision(int value) {
+        ((DartText) impl).revision = value;
+    }
+
     public Point getSelection() {
         return ((DartText) impl).getSelection();
     }
@@ -84,9 +92,9 @@ public class VText extends VScrollable {
         ((DartText) impl).tabs = value;
     }
 
-    @JsonAttribute(nullable = false)
+    /** {@code null} when Flutter already shows the content: see {@link TextHelper#textForFlutter}. */
     public String getText() {
-        return ((DartText) impl).getText();
+        return TextHelper.textForFlutter((DartText) impl);
     }
 
     public void setText(String value) {
@@ -16,6 +16,7 @@
 package org.eclipse.swt.internal.image;
 
 import java.io.*;
+import java.util.zip.*;
 
 public class PngInputStream extends InputStream {
 
@@ -65,6 +66,21 @@ public class PngInputStream extends InputStream {
         return b;
     }
 
+    /**
+     * Hand the rest of the current IDAT chunk to the inflater in
+     * place, moving on to the next IDAT chunk first if this one
+     * is used up. Answer false once the image data has ended.
+     */
+    boolean feed(Inflater inflater) throws IOException {
+        if (chunk == null)
+            throw new IOException();
+        if (offset == length && !checkChunk())
+            return false;
+        inflater.setInput(chunk.reference, DATA_OFFSET + offset, length - offset);
+        offset = length;
+        return true;
+    }
+
     @Override
     public int read(byte[] b, int off, int len) throws IOException {
         if (chunk == null)
@@ -925,6 +925,7 @@ public final class DartImage extends DartResource implements Drawable, IImage {
         memGC = null;
         _releaseRemoteRefOnDart(remoteRef);
         _releaseRemoteRefOnDart(previousRemoteRef);
+        ImageDownsampler.forget(this);
     }
 
     private void destroyHandles() {
@@ -2491,10 +2492,18 @@ public final class DartImage extends DartResource implements Drawable, IImage {
 
     ImageData imageData;
 
+    // Downsampled copies of imageData drawn scaled; see ImageDownsampler.
+    ImageDownsampler.Sizes downsampled;
+
     Long remoteRef;
 
     String svgContent;
 
+    Long svgRef;
+
+    // The markup svgRef was hashed from; svgContent may be replaced after the fact.
+    private String svgRefOf;
+
     public GC _memGC() {
         return memGC;
     }
@@ -2519,6 +2528,25 @@ public final class DartImage extends DartResource implements Drawable, IImage {
         return svgContent;
     }
 
+    /**
+     * The hash Flutter knows {@link #svgContent} by, when the payload being serialized on this
+     * thread refers to documents by hash; {@code null} when the markup travels inline. Sends
+     * nothing: the serializer publishes the documents a payload refers to (see {@link SvgDocuments}).
+     */
+    public Long _svgRefForWire() {
+        if (svgContent == null || !SvgDocuments.byRef())
+            return null;
+        if (svgRefOf != svgContent) {
+            svgRef = SvgDocuments.hash(svgContent);
+            svgRefOf = svgContent;
+        }
+        return svgRef;
+    }
+
+    public String _svgContentForWire() {
+        return _svgRefForWire() != null ? null : svgContent;
+    }
+
     public void _filename(String filename) {
         this.filename = filename;
     }
@@ -9,6 +9,7 @@ import java.util.stream.*;
 import org.eclipse.swt.*;
 import com.dslplatform.json.*;
 import dev.equo.swt.Serializer;
+import dev.equo.swt.SvgDocuments;
 
 @CompiledJson()
 public class VImage extends VResource {
@@ -54,23 +55,37 @@ public class VImage extends VResource {
     }
 
     public String getSvgContent() {
-        return ((DartImage) impl).svgContent;
+        return ((DartImage) impl)._svgContentForWire();
     }
 
     public void setSvgContent(String value) {
         ((DartImage) impl).svgContent = value;
     }
 
+    @JsonAttribute(nullable = true)
+    public Long getSvgRef() {
+        return ((DartImage) impl)._svgRefForWire();
+    }
+
+    public void setSvgRef(Long value) {
+        ((DartImage) impl).svgRef = value;
+    }
+
     @JsonConverter(target = Image.class)
     public static class ImageJson implements Configuration {
 
         @Override
         public void configure(DslJson json) {
             json.registerWriter(DartImage.class, (JsonWriter.WriteObject<DartImage>) (writer, impl) -> {
-                if (impl == null)
+                if (impl == null) {
                     writer.writeNull();
-                else
-                    writer.serializeObject(impl.getValue());
+                    return;
+                }
+                // The markup goes out ahead of the payload, on the comm it is for.
+                Long svgRef = impl._svgRefForWire();
+                if (svgRef != null)
+                    SvgDocuments.refer(svgRef, impl._svgContent());
+                writer.serializeObject(impl.getValue());
             });
             json.registerReader(DartImage.class, (JsonReader.ReadObject<DartImage>) reader -> {
                 return null;
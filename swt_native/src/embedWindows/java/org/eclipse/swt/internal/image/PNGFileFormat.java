@@ -43,6 +43,16 @@ public final class PNGFileFormat extends StaticImageFileFormat {
 
     int adler;
 
+    /**
+     * Forces non-interlaced images through the {@code InflaterInputStream} stack instead of the
+     * direct {@link Inflater} path, for compatibility testing. Read on each decode.
+     */
+    static final String STREAM_DECODE_PROPERTY = "dev.equo.swt.png.streamDecode";
+
+    // One Inflater per decoding thread, reset for each image: decoding a run of icons doesn't
+    // allocate and free native zlib state per image.
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
     /**
      * Skip over signature data. This has already been
      * verified in isFileFormat().
@@ -145,6 +155,25 @@ public final class PNGFileFormat extends StaticImageFileFormat {
         encoder.encode(outputStream);
     }
 
+    /**
+     * Encodes the image as PNG for the Flutter bridge, where it is decoded
+     * once and thrown away: fastest compression, a filter chosen per row,
+     * and big images compressed in parallel bands. The result is a standard
+     * PNG, a little larger than {@link ImageLoader#save} would write.
+     */
+    public static byte[] encodeForBridge(ImageData image) {
+        ImageLoader loader = new ImageLoader();
+        loader.data = new ImageData[] { image };
+        PngEncoder encoder = new PngEncoder(loader);
+        encoder.bridge = true;
+        try {
+            return encoder.encode();
+        } catch (IOException e) {
+            SWT.error(SWT.ERROR_IO, e);
+            return null;
+        }
+    }
+
     @Override
     boolean isFileFormat(LEDataInputStream stream) throws IOException {
         byte[] signature = new byte[SIGNATURE_LENGTH];
@@ -323,6 +352,12 @@ public final class PNGFileFormat extends StaticImageFileFormat {
     void readPixelData(PngIdatChunk chunk, PngChunkReader chunkReader) throws IOException {
         //TEMPORARY CODE
         boolean use3_2 = System.getProperty("org.eclipse.swt.internal.image.PNGFileFormat_3.2") != null;
+        if (!use3_2 && !Boolean.getBoolean(STREAM_DECODE_PROPERTY) && headerChunk.getInterlaceMethod() == PngIhdrChunk.INTERLACE_METHOD_NONE) {
+            try (PngInputStream pngStream = new PngInputStream(chunk, chunkReader)) {
+                inflateNonInterlacedImage(pngStream);
+            }
+            return;
+        }
         try (InputStream pngStream = new PngInputStream(chunk, chunkReader);
             InputStream stream = use3_2 ? new PngDecodingDataStream(pngStream) : new BufferedInputStream(new InflaterInputStream(pngStream))) {
             int interlaceMethod = headerChunk.getInterlaceMethod();
@@ -502,6 +537,120 @@ public final class PNGFileFormat extends StaticImageFileFormat {
         setImageDataValues(data, imageData);
     }
 
+    /**
+     * Read the pixel data for a non-interlaced image with a
+     * direct Inflater: each row is inflated straight into its
+     * place in the data and unfiltered there against the row
+     * above, which is already in place. No intermediate
+     * streams, row buffers or copies.
+     */
+    void inflateNonInterlacedImage(PngInputStream source) throws IOException {
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        int alignedBytesPerRow = getAlignedBytesPerRow();
+        int bytesPerRow = getBytesPerRow();
+        int bytesPerPixel = headerChunk.getFilterByteOffset();
+        int height = headerChunk.getHeight();
+        byte[] filterType = new byte[1];
+        try {
+            for (int row = 0, offset = 0; row < height; row++, offset += alignedBytesPerRow) {
+                inflateFully(inflater, source, filterType, 0, 1);
+                inflateFully(inflater, source, data, offset, bytesPerRow);
+                unfilterRow(data, offset, row == 0 ? -1 : offset - alignedBytesPerRow, bytesPerRow, bytesPerPixel, filterType[0]);
+            }
+            // Like the stream path at close: run the zlib stream to its end (the checksum), so
+            // the chunk reader resumes after the image data.
+            while (!inflater.finished() && !inflater.needsDictionary() && (!inflater.needsInput() || source.feed(inflater))) {
+                inflater.inflate(filterType);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(e);
+        } finally {
+            // Drops the reference to the last IDAT chunk held as input.
+            inflater.reset();
+        }
+        setImageDataValues(data, imageData);
+    }
+
+    /**
+     * Inflate exactly len bytes into b, feeding the inflater
+     * IDAT data as it runs out.
+     */
+    static void inflateFully(Inflater inflater, PngInputStream source, byte[] b, int off, int len) throws IOException, DataFormatException {
+        while (len > 0) {
+            int n = inflater.inflate(b, off, len);
+            off += n;
+            len -= n;
+            if (n == 0 && (inflater.finished() || inflater.needsDictionary() || (inflater.needsInput() && !source.feed(inflater)))) {
+                throw new EOFException("Unexpected end of PNG image data");
+            }
+        }
+    }
+
+    /**
+     * Unfilter the row of len bytes at cur in data, in place.
+     * prev is the offset of the row above, or -1 for the first
+     * row (which PNG filters against zeros). Same result as
+     * filterRow, with each filter's edge pixels split out so
+     * the inner loops are branch-free.
+     */
+    static void unfilterRow(byte[] data, int cur, int prev, int len, int bytesPerPixel, int filterType) {
+        int end = cur + len;
+        int edge = Math.min(end, cur + bytesPerPixel);
+        switch(filterType) {
+            case PngIhdrChunk.FILTER_SUB:
+                for (int i = edge; i < end; i++) {
+                    data[i] += data[i - bytesPerPixel];
+                }
+                break;
+            case PngIhdrChunk.FILTER_UP:
+                if (prev < 0)
+                    break;
+                for (int i = cur, j = prev; i < end; i++, j++) {
+                    data[i] += data[j];
+                }
+                break;
+            case PngIhdrChunk.FILTER_AVERAGE:
+                if (prev < 0) {
+                    for (int i = edge; i < end; i++) {
+                        data[i] += (data[i - bytesPerPixel] & 0xFF) >>> 1;
+                    }
+                    break;
+                }
+                for (int i = cur, j = prev; i < edge; i++, j++) {
+                    data[i] += (data[j] & 0xFF) >>> 1;
+                }
+                for (int i = edge, j = prev + bytesPerPixel; i < end; i++, j++) {
+                    data[i] += ((data[i - bytesPerPixel] & 0xFF) + (data[j] & 0xFF)) >>> 1;
+                }
+                break;
+            case PngIhdrChunk.FILTER_PAETH:
+                if (prev < 0) {
+                    // Above and above-left are zero: the predictor is always left (Sub).
+                    for (int i = edge; i < end; i++) {
+                        data[i] += data[i - bytesPerPixel];
+                    }
+                    break;
+                }
+                // Left and above-left are zero: the predictor is always above (Up).
+                for (int i = cur, j = prev; i < edge; i++, j++) {
+                    data[i] += data[j];
+                }
+                for (int i = edge, j = prev + bytesPerPixel; i < end; i++, j++) {
+                    int left = data[i - bytesPerPixel] & 0xFF;
+                    int above = data[j] & 0xFF;
+                    int aboveLeft = data[j - bytesPerPixel] & 0xFF;
+                    int a = Math.abs(above - aboveLeft);
+                    int b = Math.abs(left - aboveLeft);
+                    int c = Math.abs(left + above - 2 * aboveLeft);
+                    data[i] += (a <= b && a <= c) ? left : (b <= c) ? above : aboveLeft;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
     /**
      * SWT does not support 16-bit depth color formats.
      * Convert the 16-bit data to 8-bit data.
@@ -1768,6 +1768,9 @@ public class DartText extends DartScrollable implements IText {
 
     char[] hiddenText;
 
+    // The version of the content that Flutter edits are made against; see TextHelper#handleEdit.
+    int revision;
+
     Point selection;
 
     String text = "";
@@ -1944,6 +1947,20 @@ public class DartText extends DartScrollable implements IText {
                 }
             });
         });
+        FlutterBridge.on(this, "modify", "edit", e -> {
+            getDisplay().asyncExec(() -> {
+                if (!isDisposed()) {
+                    TextHelper.handleEdit(this, e);
+                }
+            });
+        });
+        FlutterBridge.on(this, "modify", "resync", e -> {
+            getDisplay().asyncExec(() -> {
+                if (!isDisposed()) {
+                    TextHelper.resync(this);
+                }
+            });
+        });
         FlutterBridge.on(this, "Segment", "Segments", e -> {
             getDisplay().asyncExec(() -> {
                 if (!isDisposed()) {
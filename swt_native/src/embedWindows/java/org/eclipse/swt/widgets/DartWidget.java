@@ -199,6 +199,11 @@ public abstract class DartWidget implements IWidget {
         if (eventTable == null)
             eventTable = new EventTable();
         eventTable.hook(eventType, listener);
+        _hookEvent(eventType);
+    }
+
+    /** {@code eventType} is now hooked; a control asks Flutter for it if Flutter only sends it on request. */
+    void _hookEvent(int eventType) {
     }
 
     void _removeListener(int eventType, Listener listener) {
@@ -1369,6 +1374,8 @@ public abstract class DartWidget implements IWidget {
     public void setData(String key, Object value) {
         if (key == null)
             error(SWT.ERROR_NULL_ARGUMENT);
+        if (FlutterBridge.COALESCE.equals(key))
+            coalesce = !Boolean.FALSE.equals(value);
         int index = 1;
         Object[] table = null;
         if ((getApi().state & KEYED_DATA) != 0) {
@@ -1608,6 +1615,14 @@ public abstract class DartWidget implements IWidget {
         bridge = SwtEmbeddedBridge.of(this);
     }
 
+    // FlutterBridge.COALESCE, kept apart from the data table for the comm thread to read.
+    volatile boolean coalesce = true;
+
+    /** Whether events queued for this widget may fold into each other; see {@link FlutterBridge#COALESCE}. */
+    public boolean _coalesce() {
+        return coalesce;
+    }
+
     protected FlutterBridge bridge;
 
     public FlutterBridge getBridge() {
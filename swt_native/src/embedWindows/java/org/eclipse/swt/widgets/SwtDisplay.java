@@ -760,7 +760,10 @@ public class SwtDisplay extends SwtDevice implements Executor, IDisplay {
             error(SWT.ERROR_NULL_ARGUMENT);
         if (filterTable == null)
             filterTable = new EventTable();
+        boolean hooked = filterTable.hooks(eventType);
         filterTable.hook(eventType, listener);
+        if (!hooked)
+            DartControl.hookFilter(getShells(), eventType);
     }
 
     void addLayoutDeferred(Composite comp) {
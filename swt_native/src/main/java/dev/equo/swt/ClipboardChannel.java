@@ -0,0 +1,235 @@
+package dev.equo.swt;
+
+import dev.equo.swt.comm.CommService;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * The system clipboard as the Flutter client holds it. A read is a request that the client answers
+ * in chunks on the comm's receive thread, so neither the request nor the transfer holds the UI
+ * thread. A write streams its payloads in chunks from a background thread. Every chunk carries its
+ * payload's total length, so the receiver sizes its buffer once and knows the progress from the
+ * first chunk. Images travel as raw RGBA pixels, which both ends use as they are, with no PNG to
+ * encode on one side and decode on the other.
+ */
+public final class ClipboardChannel {
+
+    /** {@code [8-byte request id][1-byte format]}; answered on {@code Clipboard/read/<id>}. */
+    public static final String READ = "Clipboard/read";
+
+    /**
+     * {@code [8-byte write id][1-byte format][4-byte total length][chunk]}. The payloads of one
+     * write share its id; a new id replaces everything the client held.
+     */
+    public static final String WRITE = "Clipboard/write";
+
+    public static final byte TEXT = 0, RTF = 1, HTML = 2, IMAGE = 3;
+
+    /**
+     * Not a data format: read with it, the client answers with the 8-byte id of the write its
+     * clipboard still holds, or {@link #ABSENT} once something else has replaced it.
+     */
+    public static final byte WRITTEN = 4;
+
+    /** Reply chunks are {@code [4-byte total length][chunk]}; this total means the client has no such data. */
+    public static final int ABSENT = -1;
+
+    static final int CHUNK = 1 << 20;
+
+    /** A reply is given up on, and the read completes with {@code null}, this long after its last chunk. */
+    static final long READ_TIMEOUT_MS = Long.getLong("dev.equo.swt.clipboard.timeoutMs", 10_000);
+
+    @FunctionalInterface
+    public interface Progress {
+        /** {@code done} of {@code total} bytes have been transferred. */
+        void update(int done, int total);
+    }
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private static volatile long lastWrite;
+
+    /** One thread, so successive writes, and the reads after them, reach the client in order. */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "swt-evolve-clipboard");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final CommService comm;
+
+    public ClipboardChannel(CommService comm) {
+        this.comm = comm;
+    }
+
+    /**
+     * Asks the client for its data in {@code format}. The future completes on the comm's receive
+     * thread with the payload, or with {@code null} when the client has none or stops answering.
+     * The request goes out behind any write still being sent, so it reads what was written.
+     */
+    public CompletableFuture<byte[]> read(byte format, Progress progress) {
+        long id = IDS.incrementAndGet();
+        String reply = READ + "/" + id;
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        Reply assembler = new Reply(result, progress);
+        comm.on(reply, byte[].class, assembler);
+        result.whenComplete((data, error) -> comm.remove(reply));
+        assembler.arm();
+        byte[] request = ByteBuffer.allocate(9).putLong(id).put(format).array();
+        WRITER.execute(() -> comm.send(READ, request));
+        return result;
+    }
+
+    /**
+     * Whether the client's clipboard still holds write {@code id}. Asked on the same lane as a
+     * read, behind any write still being sent; the answer is eight bytes, however large the
+     * contents are.
+     */
+    public CompletableFuture<Boolean> holds(long id) {
+        return read(WRITTEN, null).thenApply(reply -> reply != null && reply.length == 8 && ByteBuffer.wrap(reply).getLong() == id);
+    }
+
+    /** The id of the last {@link #write} from this process, 0 before the first. */
+    public static long lastWrite() {
+        return lastWrite;
+    }
+
+    /**
+     * Replaces the client's clipboard with {@code values}, each {@link #encode encoded} in the
+     * format at the same index of {@code formats}. Encoding and sending both happen off the calling
+     * thread; the future completes once the last chunk has been handed to the comm.
+     */
+    public CompletableFuture<Void> write(byte[] formats, Object[] values, Progress progress) {
+        long id = IDS.incrementAndGet();
+        lastWrite = id;
+        return CompletableFuture.runAsync(() -> {
+            byte[][] payloads = new byte[values.length][];
+            int total = 0;
+            for (int i = 0; i < values.length; i++) {
+                payloads[i] = encode(formats[i], values[i]);
+                total += payloads[i].length;
+            }
+            int done = 0;
+            for (int i = 0; i < formats.length; i++) {
+                byte[] payload = payloads[i];
+                int offset = 0;
+                do {
+                    int length = Math.min(CHUNK, payload.length - offset);
+                    comm.send(WRITE, ByteBuffer.allocate(13 + length).putLong(id).put(formats[i])
+                            .putInt(payload.length).put(payload, offset, length).array());
+                    offset += length;
+                    done += length;
+                    if (progress != null)
+                        progress.update(done, total);
+                } while (offset < payload.length);
+            }
+        }, WRITER);
+    }
+
+    /** Fills one read's buffer from the client's chunks, in the order the comm delivers them. */
+    private static final class Reply implements Consumer<byte[]> {
+        private final CompletableFuture<byte[]> result;
+        private final Progress progress;
+        private byte[] data;
+        private int received;
+        private CompletableFuture<byte[]> deadline;
+
+        Reply(CompletableFuture<byte[]> result, Progress progress) {
+            this.result = result;
+            this.progress = progress;
+        }
+
+        /** (Re)starts the wait for the next chunk. */
+        void arm() {
+            if (deadline != null)
+                deadline.cancel(false);
+            deadline = new CompletableFuture<byte[]>().completeOnTimeout(null, READ_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            deadline.thenAccept(timedOut -> result.complete(null));
+        }
+
+        @Override
+        public void accept(byte[] frame) {
+            ByteBuffer in = ByteBuffer.wrap(frame);
+            int total = in.getInt();
+            if (total == ABSENT) {
+                deadline.cancel(false);
+                result.complete(null);
+                return;
+            }
+            if (data == null)
+                data = new byte[total];
+            int length = Math.min(in.remaining(), total - received);
+            in.get(data, received, length);
+            received += length;
+            if (progress != null)
+                progress.update(received, total);
+            if (received < total) {
+                arm();
+                return;
+            }
+            deadline.cancel(false);
+            result.complete(data);
+        }
+    }
+
+    /** {@link #TEXT}, {@link #RTF} and {@link #HTML} are UTF-8 strings; an {@link #IMAGE} is {@link ImageData}. */
+    public static byte[] encode(byte format, Object value) {
+        return format == IMAGE ? encodeImage((ImageData) value) : ((String) value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static Object decode(byte format, byte[] bytes) {
+        return format == IMAGE ? decodeImage(bytes) : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** {@code [4-byte width][4-byte height][RGBA, 4 bytes per pixel, row by row]}. */
+    static byte[] encodeImage(ImageData image) {
+        int width = image.width, height = image.height;
+        ByteBuffer out = ByteBuffer.allocate(8 + width * height * 4).putInt(width).putInt(height);
+        PaletteData palette = image.palette;
+        int[] pixels = new int[width];
+        byte[] alphas = new byte[width];
+        for (int y = 0; y < height; y++) {
+            image.getPixels(0, y, width, pixels, 0);
+            image.getAlphas(0, y, width, alphas, 0);
+            for (int x = 0; x < width; x++) {
+                int pixel = pixels[x];
+                if (palette.isDirect) {
+                    out.put((byte) shift(pixel & palette.redMask, palette.redShift))
+                            .put((byte) shift(pixel & palette.greenMask, palette.greenShift))
+                            .put((byte) shift(pixel & palette.blueMask, palette.blueShift));
+                } else {
+                    RGB rgb = palette.colors[pixel];
+                    out.put((byte) rgb.red).put((byte) rgb.green).put((byte) rgb.blue);
+                }
+                out.put(alphas[x]);
+            }
+        }
+        return out.array();
+    }
+
+    private static int shift(int component, int shift) {
+        return shift < 0 ? component >>> -shift : component << shift;
+    }
+
+    static ImageData decodeImage(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        int width = in.getInt(), height = in.getInt();
+        byte[] rgba = new byte[width * height * 4];
+        in.get(rgba);
+        ImageData image = new ImageData(width, height, 32, new PaletteData(0xFF000000, 0xFF0000, 0xFF00), 4, rgba);
+        byte[] alpha = new byte[width * height];
+        for (int i = 0; i < alpha.length; i++) alpha[i] = rgba[i * 4 + 3];
+        image.alphaData = alpha;
+        return image;
+    }
+}
@@ -607,6 +607,8 @@ public class Config {
             configFlags.ctabfolder_visible_controls = Boolean.getBoolean("swt.evolve.ctabfolder_visible_controls");
             configFlags.ctabfolder_topright_auto_hide = Boolean.parseBoolean(System.getProperty("swt.evolve.ctabfolder_topright_auto_hide", "true"));
             configFlags.image_disable_icons_replacement = Boolean.getBoolean("swt.evolve.image_disable_icons_replacement");
+            configFlags.image_png_readback = Boolean.getBoolean("swt.evolve.image_png_readback");
+            configFlags.image_downsample = Boolean.getBoolean("swt.evolve.image_downsample");
             configFlags.assets_path = System.getProperty("swt.evolve.assets_path");
             configFlags.disable_evolve_icons = Boolean.getBoolean("swt.evolve.disable_evolve_icons");
             configFlags.use_swt_colors = Boolean.getBoolean("swt.use_swt_colors");
@@ -51,6 +51,14 @@ public class ConfigFlags {
 
     public boolean image_disable_icons_replacement;
 
+    /** Makes Flutter read GC(Image) renders and {@code copyArea} back as PNG instead of raw RGBA —
+     *  the pre-raw format, kept for compatibility testing. */
+    public boolean image_png_readback;
+
+    /** Crops and shrinks the source of a scaled {@code GC.drawImage} to the destination's pixel
+     *  size before sending it, instead of sending the whole image for Flutter to scale. */
+    public boolean image_downsample;
+
     public String assets_path;
 
     /**
@@ -103,6 +111,8 @@ public class ConfigFlags {
                 ", ctabfolder_visible_controls=" + ctabfolder_visible_controls +
                 ", ctabfolder_topright_auto_hide=" + ctabfolder_topright_auto_hide +
                 ", image_disable_icons_replacement=" + image_disable_icons_replacement +
+                ", image_png_readback=" + image_png_readback +
+                ", image_downsample=" + image_downsample +
                 ", assets_path=" + assets_path +
                 ", disable_evolve_icons=" + disable_evolve_icons +
                 ", use_swt_colors=" + use_swt_colors +
@@ -0,0 +1,160 @@
+package dev.equo.swt;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * One Display's pending flush: the widgets and resources marked dirty since the last
+ * {@code FlutterBridge.update()}. Marking is lock-free, since {@code dirty()} runs off the UI thread
+ * too (an asyncExec body, a resource changed by a worker); only the flush, on the UI thread, drains.
+ *
+ * <p>Each mark is queued once, tagged with the widget's depth in the tree as of the mark, so the
+ * flush can sort a batch parents-first and decide ancestor suppression in one pass instead of
+ * re-walking every chain against the whole set. Membership is a map from item to its live entry:
+ * {@link #remove} only drops the mapping and the stale queue node is skipped at drain, so an
+ * unmark is O(1) too.
+ *
+ * <p>A Table held back by frame coalescing stays a member (so {@code send} still sees it dirty)
+ * but is not counted as due: {@link #hasDue} is a counter read plus the earliest held deadline,
+ * which is what lets the idle loop park through the rest of the frame.
+ *
+ * <p>Controls that only moved or resized are {@link #move moved} rather than marked: the flush
+ * sends their bounds together in one message, unless a push it makes carries them anyway.
+ */
+final class DirtyQueue {
+
+    static final class Entry {
+        final Object item;
+        final int depth;
+        final boolean held;
+
+        Entry(Object item, int depth, boolean held) {
+            this.item = item;
+            this.depth = depth;
+            this.held = held;
+        }
+    }
+
+    private final ToIntFunction<Object> depthOf;
+    private final ConcurrentLinkedQueue<Entry> marked = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Entry> held = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<Object, Entry> members = new ConcurrentHashMap<>();
+    private final AtomicInteger due = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Object> moved = new ConcurrentLinkedQueue<>();
+    private final Set<Object> moves = ConcurrentHashMap.newKeySet();
+
+    /** Earliest deadline among held entries; only the UI thread's flush writes it. */
+    private volatile long nextHeldDue = Long.MAX_VALUE;
+
+    DirtyQueue(ToIntFunction<Object> depthOf) {
+        this.depthOf = depthOf;
+    }
+
+    /** Marks {@code item} for the next flush; returns false if it already was. */
+    boolean mark(Object item) {
+        if (members.containsKey(item))
+            return false;
+        Entry e = new Entry(item, depthOf.applyAsInt(item), false);
+        if (members.putIfAbsent(item, e) != null)
+            return false;
+        marked.add(e);
+        due.incrementAndGet();
+        return true;
+    }
+
+    /** Adds {@code item} to the next flush's bounds update; returns false if it already was. */
+    boolean move(Object item) {
+        if (!moves.add(item))
+            return false;
+        moved.add(item);
+        due.incrementAndGet();
+        return true;
+    }
+
+    boolean isMoved(Object item) {
+        return moves.contains(item);
+    }
+
+    /**
+     * Keeps {@code item} pending without counting it as due until {@code dueNanos}. Called by the
+     * flush for a widget it held back; a mark that arrives meanwhile is already covered by it.
+     */
+    boolean hold(Object item, long dueNanos) {
+        Entry e = new Entry(item, depthOf.applyAsInt(item), true);
+        if (members.putIfAbsent(item, e) != null)
+            return false;
+        held.add(e);
+        if (dueNanos < nextHeldDue)
+            nextHeldDue = dueNanos;
+        return true;
+    }
+
+    /** Unmarks {@code item}; its queue node is dropped lazily at the next drain. */
+    boolean remove(Object item) {
+        Entry e = members.remove(item);
+        if (e == null)
+            return false;
+        if (!e.held)
+            due.decrementAndGet();
+        return true;
+    }
+
+    boolean contains(Object item) {
+        return members.containsKey(item);
+    }
+
+    boolean isEmpty() {
+        return members.isEmpty() && moves.isEmpty();
+    }
+
+    /** Whether a flush at {@code nowNanos} would have anything to push. */
+    boolean hasDue(long nowNanos) {
+        return due.get() > 0 || nextHeldDue <= nowNanos;
+    }
+
+    /**
+     * Moves every live entry, held ones included, to {@code out} and unmarks it. Anything marked
+     * from here on belongs to the next drain.
+     */
+    void drainTo(List<Entry> out) {
+        nextHeldDue = Long.MAX_VALUE;
+        drain(held, out);
+        drain(marked, out);
+    }
+
+    /** Moves every control waiting for the bounds update to {@code out}. */
+    void drainMovedTo(List<Object> out) {
+        Object item;
+        while ((item = moved.poll()) != null) {
+            moves.remove(item);
+            due.decrementAndGet();
+            out.add(item);
+        }
+    }
+
+    private void drain(ConcurrentLinkedQueue<Entry> queue, List<Entry> out) {
+        Entry e;
+        while ((e = queue.poll()) != null) {
+            // A removed or re-marked item has no mapping to this node any more: skip the stale one.
+            if (members.remove(e.item, e)) {
+                if (!e.held)
+                    due.decrementAndGet();
+                out.add(e);
+            }
+        }
+    }
+
+    void clear() {
+        members.clear();
+        marked.clear();
+        held.clear();
+        moves.clear();
+        moved.clear();
+        due.set(0);
+        nextHeldDue = Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,191 @@
+package dev.equo.swt;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * The Display's queue of decoded Flutter events, from the comm's receive thread to the UI thread.
+ * Every inbound handler used to hop threads with its own {@code asyncExec}: a lambda and a
+ * {@code RunnableLock} per mouse move, the Display and Synchronizer locks, and a wake. Here a post
+ * fills a slot of a preallocated chunk and wakes the loop only if it had nothing queued; the loop
+ * {@link #drain drains} the queue in order, ahead of its runnables.
+ *
+ * <p>One consumer, the UI thread, which takes no lock. Posts are serialized among themselves by
+ * the producer side's own monitor, which only the receive thread takes in practice. The queue is a
+ * list of fixed chunks; the consumer hands each chunk it empties back to the producer, so a steady
+ * stream allocates nothing. The {@link Event}s themselves are not recycled: a listener may keep
+ * the one it was sent, as SWT lets it.
+ *
+ * <p>A post may pass a {@link Merge}: if the last event queued went to the same handler and the
+ * loop has not taken it yet, the two become one. This is how a stream of mouse moves for one
+ * widget collapses to its latest position while the loop is behind. Only the last slot merges,
+ * so an event never moves past another: a button, key or focus event between two moves keeps
+ * them apart. The producer claims that slot from the consumer before merging, with a
+ * compare-and-set on its handler.
+ */
+public final class EventInbox {
+
+    static final int CHUNK = 256;
+
+    /**
+     * Folds an event into the one still queued for the same handler: returns the event to run in
+     * its place, or {@code null} to queue both. It runs on the posting thread, which owns
+     * {@code queued} until it returns.
+     */
+    @FunctionalInterface
+    public interface Merge {
+        Event merge(Event queued, Event next);
+    }
+
+    /** The newer event replaces the queued one: where the pointer or the shell is now. */
+    public static final Merge LATEST = (queued, next) -> next;
+
+    /** Wheel events scrolling the same way add up their {@code count}. */
+    public static final Merge WHEEL = (queued, next) -> {
+        if (queued.detail != next.detail)
+            return null;
+        next.count += queued.count;
+        return next;
+    };
+
+    /** A drag's {@code Selection} events (detail {@code SWT.DRAG}) replace each other; the drop doesn't. */
+    public static final Merge DRAG = (queued, next) ->
+            queued.detail == SWT.DRAG && next.detail == SWT.DRAG ? next : null;
+
+    /** Held in a handler slot while the producer merges into it; the consumer waits it out. */
+    private static final Consumer<Event> MERGING = e -> {};
+
+    private static final class Chunk {
+        final AtomicReferenceArray<Consumer<Event>> handlers = new AtomicReferenceArray<>(CHUNK);
+        final Event[] events = new Event[CHUNK];
+        volatile Chunk next;
+    }
+
+    private final Runnable wake;
+    private final Object producerLock = new Object();
+    private final AtomicReference<Chunk> spare = new AtomicReference<>();
+
+    /** Events posted so far; written by the producer once the slot is filled. */
+    private volatile long produced;
+
+    /** Events drained so far; written by the consumer. */
+    private volatile long consumed;
+
+    private Chunk tail = new Chunk();
+    private int tailIndex;
+    private Chunk head = tail;
+    private int headIndex;
+
+    /** {@code wake} ends the UI thread's sleep; it runs when a post finds the inbox empty. */
+    public EventInbox(Runnable wake) {
+        this.wake = wake;
+    }
+
+    /** Queues {@code event} for {@code handler}, which the UI thread runs with it. */
+    public void post(Consumer<Event> handler, Event event) {
+        post(handler, event, null);
+    }
+
+    /**
+     * Queues {@code event} for {@code handler}, or, with a {@code merge}, folds it into the last
+     * event queued if that one is for the same handler and still waiting.
+     */
+    public void post(Consumer<Event> handler, Event event, Merge merge) {
+        boolean wasEmpty;
+        synchronized (producerLock) {
+            if (merge != null && tailIndex > 0 && mergeIntoLast(handler, event, merge))
+                return;
+            if (tailIndex == CHUNK) {
+                Chunk next = spare.getAndSet(null);
+                if (next == null)
+                    next = new Chunk();
+                tail.next = next;
+                tail = next;
+                tailIndex = 0;
+            }
+            tail.events[tailIndex] = event;
+            tail.handlers.set(tailIndex, handler);
+            tailIndex++;
+            long count = produced + 1;
+            produced = count;
+            wasEmpty = consumed == count - 1;
+        }
+        // A consumer that drained everything before this post may be about to sleep. One still
+        // draining leaves it for its next drain, and checks isEmpty() before it sleeps.
+        if (wasEmpty)
+            wake.run();
+    }
+
+    /** Under the producer lock: merges into the last slot if the consumer hasn't taken it. */
+    private boolean mergeIntoLast(Consumer<Event> handler, Event event, Merge merge) {
+        int last = tailIndex - 1;
+        if (!tail.handlers.compareAndSet(last, handler, MERGING))
+            return false;
+        Event merged = null;
+        try {
+            merged = merge.merge(tail.events[last], event);
+            if (merged != null)
+                tail.events[last] = merged;
+        } finally {
+            tail.handlers.set(last, handler);
+        }
+        return merged != null;
+    }
+
+    public boolean isEmpty() {
+        return consumed == produced;
+    }
+
+    /**
+     * Runs, on the UI thread, the events posted before this call, in the order they were posted;
+     * events posted meanwhile wait for the next drain, so a stream can't hold the loop. An
+     * exception out of {@code dispatch} leaves the rest queued. Returns whether any event ran.
+     *
+     * <p>A handler may drain again, as a nested {@code readAndDispatch} does: the loop reads
+     * where it is from the fields after each event, so it carries on past what the nested drain
+     * ran, and stops if that got beyond this drain's end.
+     */
+    public boolean drain(BiConsumer<Consumer<Event>, Event> dispatch) {
+        long end = produced;
+        if (consumed == end)
+            return false;
+        while (consumed < end) {
+            if (headIndex == CHUNK) {
+                Chunk done = head;
+                head = done.next;
+                headIndex = 0;
+                done.next = null;
+                spare.set(done);
+            }
+            Consumer<Event> handler = take(head, headIndex);
+            Event event = head.events[headIndex];
+            head.events[headIndex] = null;
+            headIndex++;
+            consumed = consumed + 1;
+            dispatch.accept(handler, event);
+        }
+        return true;
+    }
+
+    /**
+     * Empties a slot's handler, waiting for a merge into it to finish first. Every slot below
+     * {@code produced} is filled and taken once, so an empty one is a drain gone wrong, not an
+     * event to skip; and since a taken slot holds no handler, no merge can claim it back.
+     */
+    private static Consumer<Event> take(Chunk chunk, int index) {
+        while (true) {
+            Consumer<Event> handler = chunk.handlers.get(index);
+            if (handler == null)
+                throw new IllegalStateException("inbox slot " + index + " was already taken");
+            if (handler == MERGING)
+                Thread.onSpinWait();
+            else if (chunk.handlers.compareAndSet(index, handler, null))
+                return handler;
+        }
+    }
+}
@@ -22,7 +22,10 @@ import static dev.equo.swt.Config.getConfigFlags;
 public abstract class FlutterBridge {
     private static final String DEV_EQU_SWT_NEW = "dev.equo.swt.new";
     protected static final Serializer serializer = new Serializer();
-    private static final Set<Object> dirty = new HashSet<>();
+    /** Pending flush per Display (resources keyed by their Device); see {@link DirtyQueue}. */
+    private static final Map<Object, DirtyQueue> dirtyByDisplay = new java.util.concurrent.ConcurrentHashMap<>();
+    /** Queue key for widgets and resources not (yet) tied to a Display. */
+    private static final Object NO_DISPLAY = new Object();
     private static FlutterBridge bridge;
     private static boolean keepClient = false;
 
@@ -222,15 +225,57 @@ public abstract class FlutterBridge {
     }
 
     static Set<Object> filterWidgetsWithDirtyAncestors(Set<Object> dirtySet) {
-        Set<Object> filtered = new HashSet<>();
-
+        List<DirtyQueue.Entry> byDepth = new ArrayList<>(dirtySet.size());
         for (Object widget : dirtySet) {
-            if (isFlutterRoot(widget) || isShell(widget) || !hasAncestorInSet(widget, dirtySet)) {
-                filtered.add(widget);
+            byDepth.add(new DirtyQueue.Entry(widget, depth(widget), false));
+        }
+        byDepth.sort(BY_DEPTH);
+        return new HashSet<>(withoutCoveredDescendants(byDepth, dirtySet));
+    }
+
+    private static final java.util.Comparator<DirtyQueue.Entry> BY_DEPTH =
+            java.util.Comparator.comparingInt(e -> e.depth);
+
+    /**
+     * The flush's ancestor suppression over a batch sorted parents-first: a widget is dropped when
+     * an ancestor is also dirty, since the ancestor's push carries it. Flutter roots and Shells are
+     * always kept (a Shell's parent push does not carry it). Whether a clean ancestor sits under a
+     * dirty one is resolved once per flush and remembered, so siblings share one walk up the tree.
+     */
+    static List<Object> withoutCoveredDescendants(List<DirtyQueue.Entry> byDepth, Set<Object> dirtySet) {
+        List<Object> kept = new ArrayList<>(byDepth.size());
+        Map<Object, Boolean> underDirty = new java.util.HashMap<>();
+        for (DirtyQueue.Entry e : byDepth) {
+            Object widget = e.item;
+            if (isFlutterRoot(widget) || isShell(widget) || !hasDirtyAncestor(widget, dirtySet, underDirty)) {
+                kept.add(widget);
             }
         }
+        return kept;
+    }
 
-        return filtered;
+    private static boolean hasDirtyAncestor(Object widget, Set<Object> dirtySet, Map<Object, Boolean> underDirty) {
+        List<Object> path = null;
+        boolean found = false;
+        Object parent = getParent(widget);
+        while (parent != null) {
+            if (dirtySet.contains(parent)) {
+                found = true;
+                break;
+            }
+            Boolean known = underDirty.get(parent);
+            if (known != null) {
+                found = known;
+                break;
+            }
+            if (path == null) path = new ArrayList<>();
+            path.add(parent);
+            parent = getParent(parent);
+        }
+        if (path != null) {
+            for (Object clean : path) underDirty.put(clean, found);
+        }
+        return found;
     }
 
     private static boolean isShell(Object widget) {
@@ -245,17 +290,46 @@ public abstract class FlutterBridge {
         return false;
     }
 
-    static boolean hasAncestorInSet(Object widget, Set<Object> dirtySet) {
-        Object parent = getParent(widget);
-
-        while (parent != null) {
-            if (dirtySet.contains(parent)) {
-                return true;
-            }
-            parent = getParent(parent);
+    /**
+     * Depth in the widget tree, taken when a widget is marked. Uses the unchecked parent field, as
+     * a mark may come from any thread; it only orders the flush, so a stale value is harmless.
+     */
+    static int depth(Object obj) {
+        int depth = 0;
+        Object node = obj;
+        while (node instanceof DartControl control) {
+            Composite parent = control._parent();
+            if (parent == null || !(parent.getImpl() instanceof DartControl)) break;
+            node = parent.getImpl();
+            depth++;
         }
+        return depth;
+    }
 
-        return false;
+    private static DirtyQueue dirtyQueue(Object w) {
+        return dirtyByDisplay.computeIfAbsent(displayOf(w), d -> new DirtyQueue(FlutterBridge::depth));
+    }
+
+    private static Object displayOf(Object w) {
+        Object display = null;
+        if (w instanceof DartWidget widget) display = widget._display();
+        else if (w instanceof DartResource resource) display = resource._device();
+        return display != null ? display : NO_DISPLAY;
+    }
+
+    /**
+     * Whether a flush on the thread of {@code current} takes the marks queued under
+     * {@code display}: its own Display's, and those of widgets and resources with none. Another
+     * Display's marks wait for that Display's thread. A thread that runs no Display (a test
+     * harness flushing from its own thread) takes every queue.
+     */
+    private static boolean flushes(Display current, Object display) {
+        return current == null || display == current || display == NO_DISPLAY;
+    }
+
+    private static boolean unmark(Object w) {
+        DirtyQueue queue = dirtyByDisplay.get(displayOf(w));
+        return queue != null && queue.remove(w);
     }
 
     static Object getParent(Object obj) {
@@ -289,7 +363,15 @@ public abstract class FlutterBridge {
         return last == null || now - last >= PUSH_INTERVAL_NANOS;
     }
 
-    /** The event loop's flush: coalescible widgets are held to one push per frame. */
+    private static long nextPushNanos(Object widget, long now) {
+        Long last = lastPushNanos.get(widget);
+        return last == null ? now : last + PUSH_INTERVAL_NANOS;
+    }
+
+    /**
+     * The event loop's flush: coalescible widgets are held to one push per frame, and pushes go out
+     * in {@link FrameScheduler} priority order within the frame's budget.
+     */
     public static CompletableFuture<Void> updateFrame() {
         return update(true);
     }
@@ -300,37 +382,53 @@ public abstract class FlutterBridge {
     }
 
     private static CompletableFuture<Void> update(boolean coalesce) {
-        if (dirty.isEmpty()) {
+        // Drain, don't copy-then-clear: clearing after the sends discarded every mark made while
+        // this flush ran, and nothing re-marks them, so that state never reached Dart at all.
+        // Anything dirtied from here on belongs to the next flush.
+        List<DirtyQueue.Entry> drained = new ArrayList<>();
+        List<Object> moved = new ArrayList<>();
+        Display current = Display.getCurrent();
+        for (Map.Entry<Object, DirtyQueue> queue : dirtyByDisplay.entrySet()) {
+            if (queue.getKey() instanceof Device device && device.isDisposed()) {
+                dirtyByDisplay.remove(queue.getKey(), queue.getValue());
+            } else if (flushes(current, queue.getKey())) {
+                queue.getValue().drainTo(drained);
+                queue.getValue().drainMovedTo(moved);
+            }
+        }
+        if (drained.isEmpty() && moved.isEmpty()) {
             return CompletableFuture.completedFuture(null);
         }
 
         List<CompletableFuture<Void>> futures = new ArrayList<>();
 
-        // Drain, don't copy-then-clear: clearing after the sends discarded every mark made while
-        // this flush ran, and nothing re-marks them, so that state never reached Dart at all.
-        // Anything dirtied from here on belongs to the next flush.
-        Set<Object> dirtySnapshot;
-        synchronized (dirty) {
-            dirtySnapshot = new HashSet<>(dirty);
-            dirty.clear();
-        }
-        Set<Object> filteredDirty = filterWidgetsWithDirtyAncestors(dirtySnapshot);
+        Set<Object> dirtySnapshot = new HashSet<>(drained.size() * 2);
+        for (DirtyQueue.Entry e : drained) dirtySnapshot.add(e.item);
+        drained.sort(BY_DEPTH);
+        List<Object> filteredDirty = withoutCoveredDescendants(drained, dirtySnapshot);
 
-        for (Object widget : dirtySnapshot) {
-            if (!filteredDirty.contains(widget)) {
-                setNotNew(widget);
+        if (filteredDirty.size() < dirtySnapshot.size()) {
+            Set<Object> kept = new HashSet<>(filteredDirty);
+            for (Object widget : dirtySnapshot) {
+                if (!kept.contains(widget)) {
+                    setNotNew(widget);
+                }
             }
         }
 
         long now = System.nanoTime();
+        FrameScheduler frame = coalesce ? new FrameScheduler(now) : null;
+        if (frame != null) filteredDirty = frame.order(filteredDirty);
         for (Object widget : filteredDirty) {
             if (isDisposed(widget)) continue;
             // No bridge (Display already gone) -> nothing to send; skip to avoid NPE below.
             if (getBridge(widget) == null) continue;
             if (coalesce && !pushDue(widget, now)) {
-                synchronized (dirty) {
-                    dirty.add(widget);
-                }
+                dirtyQueue(widget).hold(widget, nextPushNanos(widget, now));
+                continue;
+            }
+            if (frame != null && frame.spills(widget)) {
+                dirtyQueue(widget).hold(widget, now); // due at once: the next turn of the loop sends it
                 continue;
             }
             if (coalescible(widget)) lastPushNanos.put(widget, now);
@@ -340,12 +438,14 @@ public abstract class FlutterBridge {
                     boolean isHidden = (widget instanceof org.eclipse.swt.widgets.DartControl dc) && !dc.getVisible();
                     if (!isNew(widget) || widget instanceof DartToolTip || widget instanceof DartMenu || isHidden) { // send with the parent
                         setNotNew(widget);
-                        synchronized (dirty) { // undirty if it was dirtied while waiting foe clientReady
-                            dirty.remove(widget);
-                        }
+                        unmark(widget); // undirty if it was dirtied while waiting for clientReady
                         String event = event(widget);
                         try {
-                            serializeAndSend(commFor(widget), event, getApi(widget));
+                            // A GC being recorded puts its state in the picture (PaintRecorder).
+                            if (widget instanceof DartGC gc && PaintRecorder.of(gc) != null) return;
+                            int sent = serializeAndSend(commFor(widget), event, getApi(widget));
+                            if (widget instanceof DartGC gc) GCStateShadow.sync(gc, gc.getValue());
+                            if (frame != null) frame.charge(sent);
                         } catch (Exception e) {
                             e.printStackTrace();
                         }
@@ -359,9 +459,86 @@ public abstract class FlutterBridge {
             CompletableFuture<Void> future = getBridge(widget).clientReady.thenRun(() -> runOnDisplayThread(widget, send));
             futures.add(future);
         }
+        if (!moved.isEmpty()) sendBounds(moved, dirtySnapshot, futures);
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
     }
 
+    /**
+     * Channel of the packed update a flush sends for the controls that only moved or resized:
+     * {@code [8-byte seq][4-byte count]}, then per control {@code [8-byte id][4-byte x][4-byte y]
+     * [4-byte width][4-byte height]}. The seq comes from the same sequence as snapshots' (see
+     * {@link Serializer}), so Dart takes these bounds over any copy of the control sent before.
+     */
+    public static final String BOUNDS_CHANNEL = "swt.evolve.bounds";
+
+    /**
+     * Whether a control that only moved or resized goes out in its flush's {@link #BOUNDS_CHANNEL}
+     * update instead of as a push of its whole state and its parent's. A layout pass over a big form
+     * moves most of its controls, and each push re-serializes the control's full V* state.
+     * {@code -Ddev.equo.swt.bounds.compact=false} pushes them whole.
+     */
+    public static boolean compactBounds() {
+        return !"false".equals(System.getProperty("dev.equo.swt.bounds.compact"));
+    }
+
+    /**
+     * Marks {@code control}'s new bounds for the next flush: true if they go in its bounds update,
+     * false if {@code control} was marked dirty instead, because Dart doesn't have it yet or it is a
+     * Flutter root or Shell, whose bounds are their surface's. On false its parent is the caller's
+     * to mark, as its copy of {@code control} is what Flutter lays it out from.
+     */
+    public boolean dirtyBounds(DartControl control) {
+        if (!compactBounds() || isNew(control) || isFlutterRoot(control) || isShell(control)) {
+            dirty(control);
+            return false;
+        }
+        registerForRefresh(control);
+        dirtyQueue(control).move(control);
+        wakeForDirty();
+        return true;
+    }
+
+    /**
+     * Sends the bounds of the controls that only moved or resized, one update per bridge. Those this
+     * flush pushes, dirty themselves or under a dirty ancestor, are left out: the push carries them.
+     */
+    private static void sendBounds(List<Object> moved, Set<Object> dirty, List<CompletableFuture<Void>> futures) {
+        Map<Object, Boolean> underDirty = new java.util.HashMap<>();
+        Map<FlutterBridge, List<DartControl>> byBridge = new java.util.LinkedHashMap<>();
+        for (Object item : moved) {
+            if (!(item instanceof DartControl control) || control.isDisposed() || dirty.contains(control))
+                continue;
+            FlutterBridge bridge = control.getBridge();
+            if (bridge == null || hasDirtyAncestor(control, dirty, underDirty))
+                continue;
+            byBridge.computeIfAbsent(bridge, b -> new ArrayList<>()).add(control);
+        }
+        byBridge.forEach((bridge, controls) -> {
+            DartControl first = controls.get(0);
+            futures.add(bridge.clientReady.thenRun(() -> runOnDisplayThread(first, () -> {
+                byte[] update = packBounds(controls);
+                if (update == null) return;
+                commFor(first).send(BOUNDS_CHANNEL, update);
+            })));
+        });
+    }
+
+    /** The {@link #BOUNDS_CHANNEL} update for {@code controls}' current bounds, or null if all are gone. */
+    static byte[] packBounds(List<DartControl> controls) {
+        List<DartControl> live = new ArrayList<>(controls.size());
+        for (DartControl control : controls) {
+            if (!control.isDisposed()) live.add(control);
+        }
+        if (live.isEmpty()) return null;
+        java.nio.ByteBuffer out = java.nio.ByteBuffer.allocate(12 + 24 * live.size())
+                .putLong(Serializer.nextSeq()).putInt(live.size());
+        for (DartControl control : live) {
+            Rectangle bounds = control._bounds();
+            out.putLong(id(control)).putInt(bounds.x).putInt(bounds.y).putInt(bounds.width).putInt(bounds.height);
+        }
+        return out.array();
+    }
+
     private static boolean isNew(Object widget) {
         if (widget instanceof DartWidget)
             return ((DartWidget) widget).getData(DEV_EQU_SWT_NEW) == null;
@@ -414,10 +591,25 @@ public abstract class FlutterBridge {
         serializeAndSend(comm(), eventName, args);
     }
 
-    private static void serializeAndSend(CommService comm, String eventName, Object args) throws IOException {
-        byte[] bytes = serializer.to(args);
-        DebugLog.logSend(eventName, bytes);
-        comm.send(eventName, bytes);
+    /**
+     * Serializing walks the live V* views, so the flush's {@link Serializer#snapshot snapshot}
+     * stays on the calling (Display) thread; the pixels of the images in it are encoded on a pool,
+     * and the comm sends the payload in this call's place among its sends once they are in.
+     * Returns the payload's size, counting those images at their raw size.
+     */
+    private static int serializeAndSend(CommService comm, String eventName, Object args) throws IOException {
+        Serializer.Snapshot snapshot = serializer.snapshot(args, comm);
+        if (snapshot.isComplete()) {
+            byte[] bytes = snapshot.json();
+            DebugLog.logSend(eventName, bytes);
+            comm.send(eventName, bytes);
+        } else {
+            comm.send(eventName, snapshot.encode().thenApply(bytes -> {
+                DebugLog.logSend(eventName, bytes);
+                return bytes;
+            }));
+        }
+        return snapshot.size();
     }
 
     private static void setNotNew(Object control) {
@@ -438,8 +630,48 @@ public abstract class FlutterBridge {
         return bridge;
     }
 
+    /**
+     * Whether a control registers the channels of events nothing may be listening for (mouse
+     * clicks, wheel, gestures, help...) only once their type is hooked, and Flutter sends only
+     * those (see {@code DartControl.LAZY_EVENTS}). {@code -Ddev.equo.swt.events.lazy=false}
+     * registers them all at creation and has Flutter send them all.
+     */
+    public static boolean lazyEvents() {
+        return !"false".equals(System.getProperty("dev.equo.swt.events.lazy"));
+    }
+
+    /**
+     * Widget data key that, set to {@link Boolean#FALSE}, has every event Flutter sends the widget
+     * run on its own, as {@code -Ddev.equo.swt.events.coalesce=false} does for all widgets: for a
+     * listener that must see each mouse move of a stroke, say. {@code setData} keeps it in a
+     * volatile field that the comm thread reads as each event arrives.
+     */
+    public static final String COALESCE = "dev.equo.swt.coalesce";
+
+    /**
+     * Whether a mouse move, wheel step, shell move or resize, or drag {@code Selection}, that
+     * arrives while the previous one for the same widget is still queued for the UI thread is
+     * folded into it (see {@link EventInbox.Merge}). At high pointer rates a loop that is behind
+     * otherwise runs a listener for every stale position before the current one.
+     * {@code -Ddev.equo.swt.events.coalesce=false} runs each one.
+     */
+    public static boolean coalesceEvents() {
+        return !"false".equals(System.getProperty("dev.equo.swt.events.coalesce"));
+    }
+
+    /** How an event of this type folds into a queued one for the same widget, or {@code null}. */
+    static EventInbox.Merge merge(String event) {
+        return switch (event) {
+            case "MouseMove", "Move", "Resize" -> EventInbox.LATEST;
+            case "MouseWheel" -> EventInbox.WHEEL;
+            case "Selection" -> EventInbox.DRAG;
+            default -> null;
+        };
+    }
+
     public static void on(DartWidget widget, String listener, String event, Consumer<Event> cb) {
         String eventName = event(widget, listener, event);
+        EventInbox.Merge merge = merge(event);
         commFor(widget).on(eventName, Event.class, ev -> {
             if (widget.isDisposed()) {
                 DebugLog.checkpoint(eventName, "skipped: widget disposed");
@@ -457,13 +689,26 @@ public abstract class FlutterBridge {
             // still worth seeing when reading a trace.
             if (ev == null) {
                 DebugLog.checkpoint(eventName, "empty body: substituting a blank Event");
-                cb.accept(new Event());
-                return;
+                ev = new Event();
             }
-            cb.accept(ev);
+            FlutterBridge owner = widget.getBridge();
+            EventInbox inbox = owner != null ? owner.inbox() : null;
+            if (inbox != null)
+                inbox.post(cb, ev, merge != null && coalesceEvents()
+                        && widget._coalesce() ? merge : null);
+            else
+                cb.accept(ev);
         });
     }
 
+    /**
+     * Where {@link #on} queues the events it receives for the UI thread, or {@code null} to run
+     * the handler on the receiving thread, as the embedded bridges (and the test doubles) do.
+     */
+    protected EventInbox inbox() {
+        return null;
+    }
+
     public static void onPayload(Object widget, String event, Consumer<byte[]> cb) {
         String eventName = eventName(widget, event);
         commFor(widget).on(eventName, byte[].class, p -> {
@@ -502,10 +747,15 @@ public abstract class FlutterBridge {
             try {
                 String stateEventName = null;
                 byte[] stateBytes = null;
-                synchronized (dirty) {
-                    if (dirty.remove(resource)) {
+                if (unmark(resource)) {
+                    GCStateShadow shadow = GCStateShadow.of(resource);
+                    if (shadow != null) {
+                        stateBytes = shadow.delta(((DartGC) resource).getValue(), serializer);
+                        if (stateBytes != null) stateEventName = eventName(resource, GCStateShadow.EVENT);
+                    } else {
                         stateEventName = event(resource);
                         stateBytes = serializer.to(getApi(resource));
+                        if (resource instanceof DartGC gc) GCStateShadow.sync(gc, gc.getValue());
                     }
                 }
                 byte[] opBytes = serializer.to(args);
@@ -526,9 +776,33 @@ public abstract class FlutterBridge {
             }
             return;
         }
-        if (dirty.contains(resource)) {
+        boolean dispose = "gcDispose".equals(event);
+        PaintRecorder recorder = PaintRecorder.of(resource);
+        if (recorder != null && !dispose) {
+            try {
+                record(recorder, comm, resource, event, args);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            return;
+        }
+        if (dispose && args instanceof Map<?, ?> m && resource instanceof DartGC)
+            args = PaintRecorder.finish(resource, comm, event(resource), m);
+        sendOp(comm, resource, event, args);
+    }
+
+    private static void sendOp(CommService comm, DartResource resource, String event, Object args) {
+        if (isDirty(resource)) {
+            byte[] delta;
+            try {
+                delta = takeStateDelta(resource);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return;
+            }
             CompletableFuture<Void> deferred = update().whenComplete((r, a) -> {
                 try {
+                    if (delta != null) comm.send(eventName(resource, GCStateShadow.EVENT), delta);
                     serializeAndSend(comm, eventName(resource, event), args);
                 } catch (IOException e) {
                     e.printStackTrace();
@@ -544,6 +818,36 @@ public abstract class FlutterBridge {
         }
     }
 
+    /**
+     * Adds an op to a paint's recording, preceded by whatever of the GC's state it doesn't have
+     * yet: the full state first, then deltas. The state is compared on every op rather than only
+     * when the GC is marked, since a flush may have drained the mark without sending it.
+     */
+    private static void record(PaintRecorder recorder, CommService comm, DartResource resource, String event, Object args) throws IOException {
+        DartGC gc = (DartGC) resource;
+        unmark(resource);
+        if (recorder.needsState()) {
+            recorder.record(comm, event(resource), event(resource), serializer.to(getApi(resource), comm));
+            GCStateShadow.sync(gc, gc.getValue());
+        } else {
+            byte[] delta = GCStateShadow.of(gc).delta(gc.getValue(), serializer);
+            if (delta != null) recorder.record(comm, event(resource), eventName(resource, GCStateShadow.EVENT), delta);
+        }
+        recorder.record(comm, event(resource), eventName(resource, event), serializer.to(args, comm));
+    }
+
+    /**
+     * For a dirty GC whose full state has gone out, unmarks it and returns what changed since as a
+     * {@link GCStateShadow} delta, to send just ahead of the op; {@code null} leaves it marked for
+     * the full state (or, with nothing actually changed, sends nothing).
+     */
+    private static byte[] takeStateDelta(DartResource resource) throws IOException {
+        GCStateShadow shadow = GCStateShadow.of(resource);
+        if (shadow == null || !unmark(resource))
+            return null;
+        return shadow.delta(((DartGC) resource).getValue(), serializer);
+    }
+
     // A send through the "dirty" branch above defers the actual wire send to an arbitrary
     // later point. An unbuffered, immediate send issued afterwards (e.g. releasing a remote
     // image cache entry a still-deferred draw references) can then physically overtake it on
@@ -568,7 +872,7 @@ public abstract class FlutterBridge {
 
     public static void send(DartWidget resource, String event, Object args) {
         CommService comm = commFor(resource);
-        if (dirty.contains(resource)) {
+        if (isDirty(resource)) {
             update().whenComplete((r, a) -> {
                 try {
                     serializeAndSend(comm, eventName(resource, event), args);
@@ -634,9 +938,7 @@ public abstract class FlutterBridge {
         if (resource == null)
             return;
         registerForRefresh(resource);
-        synchronized (dirty) {
-            dirty.add(resource);
-        }
+        dirtyQueue(resource).mark(resource);
         wakeForDirty();
     }
 
@@ -644,9 +946,7 @@ public abstract class FlutterBridge {
         if (widget == null)
             return;
         registerForRefresh(widget);
-        synchronized (dirty) {
-            dirty.add(widget);
-        }
+        dirtyQueue(widget).mark(widget);
         wakeForDirty();
     }
 
@@ -663,41 +963,40 @@ public abstract class FlutterBridge {
     /**
      * Invoked right after a widget/resource is marked dirty. The dirty set is flushed to Dart only at
      * the top of the next {@code readAndDispatch()}, so on a platform whose UI thread parks while idle
-     * (web {@code DartDisplay.sleep()}), a dirty produced off the UI thread would otherwise wait for
-     * the {@code sleep()} safety-net cap (~50ms) before reaching Dart. The web bridge overrides this to
-     * wake its Display so the flush is prompt; a dirty on the UI thread releases a permit that the same
-     * thread's next {@code sleep()} drains, so it costs nothing there. No-op where the event loop
-     * already flushes itself (desktop natives).
+     * ({@code DartDisplay.sleep()}, which has no timeout), a dirty produced off the UI thread would
+     * otherwise not reach Dart until some other event woke the loop. The Display-level bridges override
+     * this to wake their Display; a dirty on the UI thread releases a permit that the same thread's
+     * next {@code sleep()} drains, so it costs nothing there. No-op where the event loop already
+     * flushes itself (embedded natives).
      */
     protected void wakeForDirty() {
     }
 
     // Package-private methods for testing
     static void clearDirty() {
-        synchronized (dirty) {
-            dirty.clear();
+        for (DirtyQueue queue : dirtyByDisplay.values()) {
+            queue.clear();
         }
     }
 
     static boolean isDirty(Object widget) {
-        synchronized (dirty) {
-            return dirty.contains(widget);
-        }
+        DirtyQueue queue = dirtyByDisplay.get(displayOf(widget));
+        return queue != null && (queue.contains(widget) || queue.isMoved(widget));
     }
     
     /**
-     * Whether anything is awaiting a flush <em>now</em> — a pending-work condition for sleep(). A
+     * Whether anything the calling thread's flush would take is awaiting it <em>now</em> — a
+     * pending-work condition for sleep(), so another Display's marks don't wake this one. A
      * held-back widget must not count, or the loop spins instead of parking for the rest of the
      * frame, and it is the parking that coalesces the pushes.
      */
     public boolean hasDirty() {
         long now = System.nanoTime();
-        synchronized (dirty) {
-            for (Object widget : dirty) {
-                if (pushDue(widget, now)) return true;
-            }
-            return false;
+        Display current = Display.getCurrent();
+        for (Map.Entry<Object, DirtyQueue> queue : dirtyByDisplay.entrySet()) {
+            if (flushes(current, queue.getKey()) && queue.getValue().hasDue(now)) return true;
         }
+        return false;
     }
 
     public static String widgetName(Object w) {
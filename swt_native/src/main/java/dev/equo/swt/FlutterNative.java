@@ -78,6 +78,20 @@ public final class FlutterNative {
         WaitEvents(context, millis);
     }
 
+    /**
+     * Makes a {@link #waitEvents} in progress on the UI thread return now, or the next one return at
+     * once if none is. Callable from any thread. Returns false when the loaded native library
+     * predates it, in which case callers must keep bounding their waits.
+     */
+    public static boolean wakeEvents() {
+        try {
+            WakeEvents();
+            return true;
+        } catch (UnsatisfiedLinkError e) {
+            return false;
+        }
+    }
+
     /** Sets a window surface's title. No-op for an embedded surface. */
     public static void setTitle(long context, String title) {
         SetTitle(context, title);
@@ -119,6 +133,8 @@ public final class FlutterNative {
 
     private static native void WaitEvents(long context, int millis);
 
+    private static native void WakeEvents();
+
     private static native void SetTitle(long context, String title);
 
     private static native void SetState(long context, int state);
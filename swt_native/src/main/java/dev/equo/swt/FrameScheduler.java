@@ -0,0 +1,107 @@
+package dev.equo.swt;
+
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.widgets.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders and meters one event-loop flush ({@code FlutterBridge.updateFrame()}). Pushes go out by
+ * priority — what the user is interacting with first, the rest of the active shell next, other
+ * visible controls after that, and hidden ones (a background tab's page, a collapsed section) last —
+ * and once the frame's byte or time budget is spent the remaining lower-priority pushes spill to
+ * the next turn of the loop. A keystroke's echo then never waits behind a large background refresh.
+ *
+ * <p>Spilling only delays: a spilled widget stays dirty, and the next push serializes its state at
+ * that time, so it still goes out once, with its latest state. A {@code send} on a widget that is
+ * still dirty flushes it first, so its own messages are never reordered around its state either.
+ *
+ * <p>An explicit {@code update()} is never metered; callers that block on it need everything out.
+ */
+final class FrameScheduler {
+
+    /** Resources, the focus and pointer controls and their ancestors: never spilled. */
+    static final int INPUT = 0;
+    /** The rest of the shell that holds the focus. */
+    static final int ACTIVE = 1;
+    static final int VISIBLE = 2;
+    static final int HIDDEN = 3;
+
+    /** Bytes a frame may push before lower-priority work spills to the next one. */
+    static volatile long budgetBytes = Long.getLong("dev.equo.swt.frameBudgetBytes", 4L << 20);
+
+    /** Time a frame may spend pushing before lower-priority work spills to the next one. */
+    static volatile long budgetNanos = Long.getLong("dev.equo.swt.frameBudgetMs", 12) * 1_000_000L;
+
+    private final long startNanos;
+    private final Map<Object, Integer> priorities = new IdentityHashMap<>();
+    private final Map<Display, Control[]> anchors = new HashMap<>();
+    private long bytes;
+    private int pushed;
+
+    FrameScheduler(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * {@code batch}, already parents-first, stably re-sorted by priority: within a class the depth
+     * order is kept.
+     */
+    List<Object> order(List<Object> batch) {
+        List<Object> ordered = new ArrayList<>(batch);
+        for (Object w : ordered) priorities.put(w, classify(w));
+        ordered.sort(Comparator.comparingInt(this::priority));
+        return ordered;
+    }
+
+    int priority(Object w) {
+        Integer p = priorities.get(w);
+        return p != null ? p : VISIBLE;
+    }
+
+    /** Whether {@code w} should wait for the next frame. The first push of a frame always goes. */
+    boolean spills(Object w) {
+        if (pushed == 0 || priority(w) == INPUT) return false;
+        return bytes >= budgetBytes || System.nanoTime() - startNanos >= budgetNanos;
+    }
+
+    void charge(int sentBytes) {
+        bytes += sentBytes;
+        pushed++;
+    }
+
+    private int classify(Object w) {
+        if (!(w instanceof DartControl dc) || dc.getApi() == null) {
+            return w instanceof DartWidget ? VISIBLE : INPUT;
+        }
+        Control control = dc.getApi();
+        try {
+            Control[] focusAndPointer = anchors.computeIfAbsent(control.getDisplay(), FrameScheduler::anchorsOf);
+            Control focus = focusAndPointer[0];
+            for (Control anchor : focusAndPointer) {
+                if (anchor != null && isSelfOrAncestor(control, anchor)) return INPUT;
+            }
+            if (focus != null && control.getShell() == focus.getShell()) return ACTIVE;
+            return control.isVisible() ? VISIBLE : HIDDEN;
+        } catch (SWTException e) {
+            return VISIBLE;
+        }
+    }
+
+    private static Control[] anchorsOf(Display display) {
+        if (display == null) return new Control[2];
+        return new Control[]{display.getFocusControl(), display.getCursorControl()};
+    }
+
+    private static boolean isSelfOrAncestor(Control control, Control of) {
+        for (Control c = of; c != null; c = c.getParent()) {
+            if (c == control) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,285 @@
+package dev.equo.swt;
+
+import dev.equo.swt.comm.CommService;
+import org.eclipse.swt.widgets.Display;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Many GC(Image) jobs rendered in one round trip. Alone, each {@code new GC(image)} costs a
+ * {@code GC/create} handshake, an {@code imageInit}, its ops and {@code gcDispose} as separate
+ * messages, then a blocking wait in {@code dispose()} for its {@code imageResult}. While a batch is
+ * {@link #begin begun} on a thread, the GCs created there record those messages instead, and
+ * disposing them doesn't wait; {@link #submit()} sends every job in one frame and Flutter answers
+ * with every render in one reply, so the caller {@link #await waits} once for all of them.
+ *
+ * <pre>
+ * GCBatch batch = GCBatch.begin();
+ * for (Image image : images) {
+ *     GC gc = new GC(image);
+ *     ...
+ *     gc.dispose();
+ * }
+ * batch.submit();
+ * batch.await();
+ * </pre>
+ *
+ * The GCs of a batch are disposed before it is submitted, and their images aren't read before
+ * it is: nothing is rendered until then.
+ *
+ * <p>The frame, on {@code GC/batch} (or a pooled engine's {@code GCEngine/<id>/batch}):
+ * {@code [8-byte batch id][4-byte job count]}, then per job {@code [8-byte gcId][4-byte frame count]}
+ * and its frames, each {@code [4-byte length][frame]} in the comm's own
+ * {@code [2-byte name length][name][body]} codec. The reply, on {@code GC/batch/<batch id>}:
+ * {@code [4-byte count]}, then per render {@code [8-byte gcId][4-byte length][imageResult payload]}.
+ * A job with no render in the reply is cancelled, as a GC whose engine never answered is.
+ */
+public final class GCBatch {
+
+    public static final String SUBMIT = "GC/batch";
+
+    /** Jobs still unanswered this long after the batch was sent are cancelled. */
+    static final long TIMEOUT_MS = Long.getLong("dev.equo.swt.gc.batch.timeoutMs", 10_000);
+
+    private static final ThreadLocal<GCBatch> current = new ThreadLocal<>();
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final long id = IDS.incrementAndGet();
+    private final List<Job> jobs = new ArrayList<>();
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private CommService sharedComm;
+    private boolean submitted;
+
+    private GCBatch() {
+    }
+
+    /** Starts recording the GC(Image) jobs created on this thread, until {@link #submit()}. */
+    public static GCBatch begin() {
+        GCBatch batch = new GCBatch();
+        current.set(batch);
+        return batch;
+    }
+
+    /** The batch begun on this thread and not submitted yet, or {@code null}. */
+    public static GCBatch current() {
+        return current.get();
+    }
+
+    /**
+     * Adds the job of GC {@code gcId}; everything it sends goes to the returned comm until the batch
+     * is submitted, and its {@code imageResult} handler is called from the reply. {@code sharedComm}
+     * is its Display's engine comm, if one is live: the first such comm is where the batch goes.
+     * {@code cancel} runs if the job gets no render.
+     */
+    public CommService join(long gcId, CommService sharedComm, Runnable cancel) {
+        if (submitted)
+            throw new IllegalStateException("GCBatch already submitted");
+        if (this.sharedComm == null)
+            this.sharedComm = sharedComm;
+        Job job = new Job(gcId, cancel);
+        jobs.add(job);
+        return job;
+    }
+
+    /**
+     * Sends every job in one frame: to the Display's engine if one is live, else to a pooled
+     * off-screen engine. Completes once every job has its render or has been cancelled.
+     */
+    public CompletableFuture<Void> submit() {
+        if (current.get() == this)
+            current.remove();
+        if (submitted)
+            return done;
+        submitted = true;
+        if (jobs.isEmpty()) {
+            done.complete(null);
+            return done;
+        }
+        Display display = Display.getCurrent();
+        done.whenComplete((r, e) -> {
+            if (display != null && !display.isDisposed())
+                display.wake();
+        });
+        if (sharedComm != null)
+            return submit(sharedComm, SUBMIT);
+        OffscreenEnginePool pool = OffscreenEnginePool.shared(TIMEOUT_MS);
+        if (pool == null) {
+            settle(null);
+            return done;
+        }
+        pool.acquire().whenComplete((engine, err) -> {
+            if (err != null) {
+                System.err.println("[GCBatch] No off-screen engine — " + jobs.size() + " GC(Image) jobs will be no-ops: " + err);
+                settle(null);
+                return;
+            }
+            done.whenComplete((r, e) -> engine.release());
+            submit(engine.comm(), "GCEngine/" + engine.id + "/batch");
+        });
+        return done;
+    }
+
+    CompletableFuture<Void> submit(CommService comm, String channel) {
+        submitted = true;
+        String reply = SUBMIT + "/" + id;
+        comm.on(reply, byte[].class, bytes -> {
+            comm.remove(reply);
+            settle(bytes);
+        });
+        done.orTimeout(TIMEOUT_MS, TimeUnit.MILLISECONDS).whenComplete((r, e) -> {
+            if (e != null) {
+                comm.remove(reply);
+                System.err.println("[GCBatch] No reply within " + TIMEOUT_MS + "ms — cancelling its GC(Image) jobs");
+                settle(null);
+            }
+        });
+        comm.send(channel, encode());
+        return done;
+    }
+
+    byte[] encode() {
+        int size = 12;
+        for (Job job : jobs) {
+            size += 12;
+            for (byte[] frame : job.frames) size += 4 + frame.length;
+        }
+        ByteBuffer out = ByteBuffer.allocate(size).putLong(id).putInt(jobs.size());
+        for (Job job : jobs) {
+            synchronized (job) {
+                out.putLong(job.gcId).putInt(job.frames.size());
+                for (byte[] frame : job.frames) out.putInt(frame.length).put(frame);
+            }
+        }
+        return out.array();
+    }
+
+    /** Hands each render in {@code reply} to its job, and cancels the jobs with none. */
+    private void settle(byte[] reply) {
+        if (reply != null) {
+            ByteBuffer in = ByteBuffer.wrap(reply);
+            Map<Long, Job> byId = new HashMap<>();
+            for (Job job : jobs) byId.put(job.gcId, job);
+            for (int count = in.getInt(); count > 0; count--) {
+                long gcId = in.getLong();
+                byte[] payload = new byte[in.getInt()];
+                in.get(payload);
+                Job job = byId.get(gcId);
+                if (job != null)
+                    job.deliver(payload);
+            }
+        }
+        for (Job job : jobs) job.cancel();
+        done.complete(null);
+    }
+
+    /**
+     * Waits, dispatching the Display's events, until every job has its render or was cancelled;
+     * false if that took longer than the batch's timeout.
+     */
+    public boolean await() {
+        Display display = Display.getCurrent();
+        if (display == null || display.isDisposed()) {
+            try {
+                done.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // timed out, or cancelled: reported below
+            }
+            return done.isDone();
+        }
+        // Display#sleep() has no timeout of its own; see DartImage#getImageData(int).
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MS);
+        Runnable wakeOnTimeout = () -> {
+        };
+        display.timerExec((int) TIMEOUT_MS, wakeOnTimeout);
+        try {
+            while (!done.isDone() && !display.isDisposed() && System.nanoTime() < deadline) {
+                if (!display.readAndDispatch())
+                    display.sleep();
+            }
+        } finally {
+            if (!display.isDisposed())
+                display.timerExec(-1, wakeOnTimeout);
+        }
+        return done.isDone();
+    }
+
+    /** One GC's messages, recorded in the comm's frame codec until the batch is sent. */
+    private static final class Job implements CommService {
+        private static final byte[] EMPTY = new byte[0];
+
+        final long gcId;
+        final List<byte[]> frames = new ArrayList<>();
+        private final Runnable cancel;
+        private final Map<String, Consumer<byte[]>> handlers = new HashMap<>();
+        private boolean settled;
+
+        Job(long gcId, Runnable cancel) {
+            this.gcId = gcId;
+            this.cancel = cancel;
+        }
+
+        @Override
+        public void send(String eventName) {
+            send(eventName, EMPTY);
+        }
+
+        @Override
+        public synchronized void send(String eventName, byte[] payload) {
+            byte[] name = eventName.getBytes(StandardCharsets.UTF_8);
+            frames.add(ByteBuffer.allocate(2 + name.length + payload.length)
+                    .putShort((short) name.length).put(name).put(payload).array());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public synchronized <T> void on(String eventName, Class<T> cls, Consumer<T> callback) {
+            handlers.put(eventName, (Consumer<byte[]>) callback);
+        }
+
+        @Override
+        public synchronized void remove(String eventName) {
+            handlers.remove(eventName);
+        }
+
+        void deliver(byte[] payload) {
+            Consumer<byte[]> handler;
+            synchronized (this) {
+                if (settled)
+                    return;
+                settled = true;
+                handler = handlers.get("GC/" + gcId + "/imageResult");
+            }
+            if (handler != null)
+                handler.accept(payload);
+        }
+
+        void cancel() {
+            synchronized (this) {
+                if (settled)
+                    return;
+                settled = true;
+            }
+            cancel.run();
+        }
+
+        @Override
+        public int getPort() {
+            return 0;
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
@@ -14,11 +14,14 @@ import java.util.function.Consumer;
 
 /**
  * Bridge for GC(Image) operations. When Flutter is ready, sends the original image as a VImage
- * on imageInit. Call sendGcDispose() when GC operations are done to trigger rendering. The result
- * PNG is delivered via onImageResult callback.
+ * on imageInit. Call sendGcDispose() when GC operations are done to trigger rendering. The rendered
+ * bytes (a raw RGBA readback, or PNG; see GCHelper#decodeRendered) are delivered via the
+ * onImageResult callback.
  *
  * <p>If the Display already has a live, shared Flutter engine ({@link FlutterBridge#resolveDisplayGcComm}),
  * this piggybacks on it via a {@code GC/create} handshake instead of starting a headless view.
+ * Otherwise it borrows a warm engine from the {@link OffscreenEnginePool} for the same handshake.
+ * Inside a {@link GCBatch}, none of that happens here: its messages go out with the batch's.
  *
  * GC ops (drawLine, drawRect, etc.) arrive from Java before Flutter has registered
  * its listeners.  We queue them here and flush in order after imageInit is sent,
@@ -43,6 +46,10 @@ public class GCImageDrawer extends EmbeddedBridge {
     // comm that received GC/create/imageInit/ops — a fresh resolve could pick a different comm if
     // Display state changed meanwhile, stranding gcDispose on a channel nothing is listening on.
     private volatile CommService resolvedComm;
+    // The pooled off-screen engine serving this GC when there is no shared comm; guarded by this.
+    private OffscreenEnginePool.Engine engine;
+    private boolean viewDisposed;
+    private volatile boolean batched;
 
     /** Ops buffered until Flutter's GCDrawer listeners are registered. */
     private final List<Runnable> pendingOps = new ArrayList<>();
@@ -116,41 +123,47 @@ public class GCImageDrawer extends EmbeddedBridge {
             cancelAndWake(dartImage);
             return;
         }
+        GCBatch batch = GCBatch.current();
+        if (batch != null) {
+            // Recorded, not sent: the batch's one frame carries this GC's messages, so there is no
+            // engine to wait for here and the ops go straight into it.
+            batched = true;
+            resolvedComm = batch.join(gcId, comm, () -> cancelAndWake(dartImage));
+            startDrawing(dartImage, onImageResult, comm != null);
+            return;
+        }
         super.onReady(this, Void.class)
                 .orTimeout(CLIENT_READY_TIMEOUT_SECONDS, TimeUnit.SECONDS)
                 .whenComplete((ignored, err) -> {
                     if (err != null) {
                         System.err.println("[GCImageDrawer] Engine did not answer ClientReady within "
                                 + CLIENT_READY_TIMEOUT_SECONDS + "s — off-screen GC will be a no-op: " + err);
+                        dropEngine();
                         cancelAndWake(dartImage);
                         return;
                     }
-                    try {
-                        serializeAndSend("GC/" + gcId + "/imageInit", dartImage);
-                    } catch (Exception e) {
-                        System.err.println("[GCImageDrawer] Failed to send imageInit: " + e.getMessage());
-                    }
-                    String resultEvent = "GC/" + gcId + "/imageResult";
-                    // Desktop binary path: the rendered PNG arrives as raw bytes via sendBytes — no base64.
-                    // Payload is 8-byte remoteRef + PNG; only trust the ref on the shared-engine path.
-                    comm().on(resultEvent, byte[].class, bytes -> {
-                        comm().remove(resultEvent); // the shared comm outlives this one-shot render
-                        long remoteRef = ByteBuffer.wrap(bytes).getLong();
-                        byte[] pngBytes = Arrays.copyOfRange(bytes, 8, bytes.length);
-                        if (comm != null && dartImage != null && !dartImage.isDisposed()
-                                && dartImage.getImpl() instanceof DartImage di) {
-                            di._setRemoteRef(remoteRef);
-                        }
-                        onImageResult.accept(pngBytes);
-                    });
-                    // Flush buffered GC ops (drawLine, drawRect, etc.) now that Flutter's
-                    // GCDrawer.standalone has registered its listeners.
-                    flushOps();
+                    startDrawing(dartImage, onImageResult, comm != null);
                 });
         if (comm != null) {
             comm.send("GC/create", ByteBuffer.allocate(8).putLong(gcId).array());
             return;
         }
+        OffscreenEnginePool pool = OffscreenEnginePool.shared(TimeUnit.SECONDS.toMillis(CLIENT_READY_TIMEOUT_SECONDS));
+        if (pool != null) {
+            pool.acquire().whenComplete((acquired, err) -> {
+                if (err != null) {
+                    if (err.getCause() instanceof Error)
+                        nativeWindowAvailable = false;
+                    System.err.println("[GCImageDrawer] No off-screen engine — off-screen GC will be a no-op: " + err);
+                    cancelAndWake(dartImage);
+                    return;
+                }
+                if (!holdEngine(acquired))
+                    return;
+                acquired.create(gcId);
+            });
+            return;
+        }
         try {
             ctx = FlutterNative.initialize(comm().getPort(), 0, gcId, widgetName(this), "", 0, 0, 0, 0);
         } catch (Error e) {
@@ -160,6 +173,36 @@ public class GCImageDrawer extends EmbeddedBridge {
         }
     }
 
+    /** Sends imageInit, listens for the render and flushes the ops queued meanwhile. */
+    private void startDrawing(Image dartImage, Consumer<byte[]> onImageResult, boolean shared) {
+        try {
+            serializeAndSend("GC/" + gcId + "/imageInit", dartImage);
+        } catch (Exception e) {
+            System.err.println("[GCImageDrawer] Failed to send imageInit: " + e.getMessage());
+        }
+        String resultEvent = "GC/" + gcId + "/imageResult";
+        // Desktop binary path: the render arrives as raw bytes via sendBytes — no base64.
+        // Payload is 8-byte remoteRef + image bytes; only trust the ref on the shared-engine path.
+        comm().on(resultEvent, byte[].class, bytes -> {
+            comm().remove(resultEvent); // the shared comm outlives this one-shot render
+            long remoteRef = ByteBuffer.wrap(bytes).getLong();
+            byte[] imageBytes = Arrays.copyOfRange(bytes, 8, bytes.length);
+            if (shared && dartImage != null && !dartImage.isDisposed()
+                    && dartImage.getImpl() instanceof DartImage di) {
+                di._setRemoteRef(remoteRef);
+            }
+            onImageResult.accept(imageBytes);
+        });
+        // Flush buffered GC ops (drawLine, drawRect, etc.) now that Flutter's
+        // GCDrawer.standalone has registered its listeners.
+        flushOps();
+    }
+
+    /** Whether this GC's messages go out with a {@link GCBatch}, whose caller waits for the render. */
+    public boolean isBatched() {
+        return batched;
+    }
+
     /** The Display's shared engine comm if one is live for {@code dartImage}'s Device, or null
      *  if there is none (embed mode, or the Device isn't a Display) — see
      *  {@link FlutterBridge#resolveDisplayGcComm}. */
@@ -203,7 +246,31 @@ public class GCImageDrawer extends EmbeddedBridge {
         queueOp(() -> c.send("GC/" + gcId + "/renderSnapshot"));
     }
 
+    /** Keeps the pooled engine until {@link #disposeView()}; false (and released) if that already ran. */
+    private synchronized boolean holdEngine(OffscreenEnginePool.Engine acquired) {
+        if (viewDisposed) {
+            acquired.release();
+            return false;
+        }
+        engine = acquired;
+        return true;
+    }
+
+    /** The pooled engine never answered this GC: it is dead, so the pool must not hand it out again. */
+    private synchronized void dropEngine() {
+        if (engine != null)
+            engine.drop();
+    }
+
     public void disposeView() {
+        OffscreenEnginePool.Engine pooled;
+        synchronized (this) {
+            viewDisposed = true;
+            pooled = engine;
+            engine = null;
+        }
+        if (pooled != null)
+            pooled.release();
         if (ctx == 0) return;
         FlutterNative.dispose(ctx);
         ctx = 0;
@@ -0,0 +1,137 @@
+package dev.equo.swt;
+
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.graphics.Transform;
+import org.eclipse.swt.graphics.VGC;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * The GC state Flutter already has, per GC. Every attribute setter marks the GC dirty, and a dirty
+ * GC used to go out whole — colors, patterns, font, line attributes, clipping, transform — before
+ * its next op, so painting that switches colors per cell re-sent the full state thousands of times
+ * a paint. Once a GC's full state has been sent, {@link FlutterBridge} sends only
+ * {@link #delta the attributes that changed since} as a {@value #EVENT} op on the GC's op channel,
+ * ordered with the draw ops; the Dart drawer merges it into its state.
+ *
+ * <p>A delta carries absolute values, so an attribute set back to its default goes out explicitly
+ * (the full state leaves defaults out).
+ */
+public final class GCStateShadow {
+
+    /** The op a delta goes out as: {@code GC/<id>/state}. */
+    static final String EVENT = "state";
+
+    private record Attribute(String name, Function<VGC, Object> get) {
+    }
+
+    private static final Attribute[] ATTRIBUTES = {
+            new Attribute("XORMode", VGC::getXORMode),
+            new Attribute("advanced", VGC::getAdvanced),
+            new Attribute("alpha", VGC::getAlpha),
+            new Attribute("antialias", VGC::getAntialias),
+            new Attribute("background", VGC::getBackground),
+            new Attribute("backgroundPattern", VGC::getBackgroundPattern),
+            new Attribute("clipping", VGC::getClipping),
+            new Attribute("fillRule", VGC::getFillRule),
+            new Attribute("font", VGC::getFont),
+            new Attribute("foreground", VGC::getForeground),
+            new Attribute("foregroundPattern", VGC::getForegroundPattern),
+            new Attribute("interpolation", VGC::getInterpolation),
+            new Attribute("lineCap", VGC::getLineCap),
+            new Attribute("lineDash", VGC::getLineDash),
+            new Attribute("lineJoin", VGC::getLineJoin),
+            new Attribute("lineStyle", VGC::getLineStyle),
+            new Attribute("lineWidth", VGC::getLineWidth),
+            new Attribute("textAntialias", VGC::getTextAntialias),
+            new Attribute("transform", VGC::getTransform),
+    };
+
+    private static final Map<Object, GCStateShadow> shadows = new WeakHashMap<>();
+
+    /** What was last sent for each attribute, as compared: see {@link #comparable}. */
+    private final Object[] sent = new Object[ATTRIBUTES.length];
+
+    private GCStateShadow() {
+    }
+
+    /** The shadow of a GC whose full state has been sent, or {@code null} if it hasn't been yet. */
+    static GCStateShadow of(Object gc) {
+        synchronized (shadows) {
+            return shadows.get(gc);
+        }
+    }
+
+    /** Records {@code state} as sent in full for {@code gc}. */
+    static void sync(Object gc, VGC state) {
+        GCStateShadow shadow = new GCStateShadow();
+        for (int i = 0; i < ATTRIBUTES.length; i++)
+            shadow.sent[i] = comparable(ATTRIBUTES[i].get.apply(state));
+        synchronized (shadows) {
+            shadows.put(gc, shadow);
+        }
+    }
+
+    /**
+     * Forgets every GC's sent state, so each GC goes out whole again before its next op: a fresh
+     * Flutter instance has no drawer to merge a delta into. Shadows aren't kept per comm; other
+     * clients just get one full state more.
+     */
+    public static void forget() {
+        synchronized (shadows) {
+            shadows.clear();
+        }
+    }
+
+    /**
+     * The attributes of {@code state} that differ from what was sent, as a JSON object of the same
+     * shape as the full state, and records them as sent; {@code null} if nothing differs.
+     */
+    byte[] delta(VGC state, Serializer serializer) throws IOException {
+        ByteArrayOutputStream out = null;
+        for (int i = 0; i < ATTRIBUTES.length; i++) {
+            Object value = ATTRIBUTES[i].get.apply(state);
+            Object compared = comparable(value);
+            if (Objects.deepEquals(compared, sent[i]))
+                continue;
+            sent[i] = compared;
+            out = out == null ? new ByteArrayOutputStream(64) : out;
+            out.write(out.size() == 0 ? '{' : ',');
+            out.write('"');
+            out.write(ATTRIBUTES[i].name.getBytes(StandardCharsets.US_ASCII));
+            out.write('"');
+            out.write(':');
+            out.write(value == null ? "null".getBytes(StandardCharsets.US_ASCII) : serializer.to(value));
+        }
+        if (out == null)
+            return null;
+        out.write('}');
+        return out.toByteArray();
+    }
+
+    /**
+     * A value that compares equal to the one sent iff the same JSON would go out. Colors, fonts
+     * and patterns aren't mutated; a clipping rectangle, a transform and a dash array can be
+     * changed in place after they were set, so their contents are copied.
+     */
+    private static Object comparable(Object value) {
+        if (value instanceof Transform t) {
+            if (t.isDisposed())
+                return null;
+            float[] elements = new float[6];
+            t.getElements(elements);
+            return elements;
+        }
+        if (value instanceof Rectangle r)
+            return new Rectangle(r.x, r.y, r.width, r.height);
+        if (value instanceof int[] dash)
+            return dash.clone();
+        return value;
+    }
+}
@@ -0,0 +1,243 @@
+package dev.equo.swt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The icon replacements ({@code assets_path}) as one indexed file: a header listing each icon's
+ * name, extension and where its bytes are in the blob that follows. The build
+ * writes it ({@code gradle packIconAssets -PiconAssets=<dir>}, which also bundles it in the jars,
+ * or {@code java dev.equo.swt.IconPack <dir> <out>} for an application's own directory); at
+ * runtime the index is parsed once and the file memory-mapped, so a replacement resolves with one
+ * map lookup and reads its bytes from the mapping — no directory scan at startup, no file open
+ * per icon.
+ *
+ * <p>Without a pack, {@link #scan} indexes the directory as before and reads each file when asked.
+ * A pack next to the files it was made from is only used while it still matches them: the same
+ * names, none modified after it (a listing of the directory, no file opened). Otherwise the files
+ * win, and the pack should be rebuilt.
+ */
+public final class IconPack {
+
+    /** The pack's name inside an assets directory, and its path in the jar (under {@code dev/equo/swt/}). */
+    public static final String FILE_NAME = "icons.pack";
+
+    private static final int MAGIC = 0x45514950; // "EQIP"
+    private static final int VERSION = 2;
+
+    /** One replacement, and where its bytes are. */
+    public static final class Entry {
+        public final String name;
+        /** Lower-case extension: {@code svg}, {@code png}, … */
+        public final String ext;
+        private final int offset, length;
+        private final ByteBuffer blob;
+        private final File file;
+
+        Entry(String name, String ext, int offset, int length, ByteBuffer blob, File file) {
+            this.name = name;
+            this.ext = ext;
+            this.offset = offset;
+            this.length = length;
+            this.blob = blob;
+            this.file = file;
+        }
+
+        public byte[] bytes() throws IOException {
+            if (file != null) return Files.readAllBytes(file.toPath());
+            byte[] out = new byte[length];
+            blob.get(offset, out);
+            return out;
+        }
+    }
+
+    private static final IconPack EMPTY = new IconPack(Map.of());
+
+    private final Map<String, Entry> entries;
+
+    private IconPack(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    public static IconPack empty() {
+        return EMPTY;
+    }
+
+    /** The replacement for an image file name without its extension, or {@code null}. */
+    public Entry get(String name) {
+        return entries.get(name);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * The replacements for an assets directory: its {@link #FILE_NAME} if the build packed one and
+     * it still matches the files, otherwise a scan of them. Empty when the directory doesn't exist.
+     */
+    public static IconPack forDirectory(File dir) {
+        File pack = new File(dir, FILE_NAME);
+        if (pack.isFile()) {
+            try {
+                IconPack packed = open(pack.toPath());
+                if (packed.matches(dir, pack.lastModified())) return packed;
+                System.err.println("[IconPack] Ignoring " + pack + ": the files next to it changed since it was packed");
+            } catch (IOException e) {
+                System.err.println("[IconPack] Ignoring " + pack + ": " + e.getMessage());
+            }
+        }
+        return scan(dir);
+    }
+
+    /** Whether {@code dir} holds exactly this pack's icons, none modified after {@code packed}. */
+    private boolean matches(File dir, long packed) {
+        File[] files = dir.listFiles(IconPack::packable);
+        if (files == null) return false;
+        Set<String> names = new HashSet<>(files.length * 2);
+        for (File f : files) {
+            if (f.lastModified() > packed) return false;
+            names.add(baseName(f));
+        }
+        return names.equals(entries.keySet());
+    }
+
+    private static boolean packable(File f) {
+        return f.isFile() && f.getName().lastIndexOf('.') > 0 && !f.getName().equals(FILE_NAME);
+    }
+
+    private static String baseName(File f) {
+        String n = f.getName();
+        return n.substring(0, n.lastIndexOf('.'));
+    }
+
+    /**
+     * The pack bundled in the jar, or {@code null} if the build had no {@code -PiconAssets}. An
+     * exploded class directory's pack is mapped; one inside a jar is read in one go.
+     */
+    public static IconPack bundled() {
+        URL url = IconPack.class.getResource(FILE_NAME);
+        if (url == null) return null;
+        try {
+            if ("file".equals(url.getProtocol())) return open(Path.of(url.toURI()));
+            try (InputStream in = url.openStream()) {
+                return read(ByteBuffer.wrap(in.readAllBytes()));
+            }
+        } catch (IOException | URISyntaxException e) {
+            System.err.println("[IconPack] Ignoring bundled " + FILE_NAME + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Maps a pack file and parses its index. */
+    public static IconPack open(Path pack) throws IOException {
+        try (FileChannel channel = FileChannel.open(pack, StandardOpenOption.READ)) {
+            // The mapping outlives the channel.
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    static IconPack read(ByteBuffer pack) throws IOException {
+        if (pack.remaining() < 12 || pack.getInt(0) != MAGIC) throw new IOException("not an icon pack");
+        if (pack.getInt(4) != VERSION) throw new IOException("unsupported icon pack version " + pack.getInt(4));
+        int indexBytes = pack.getInt(8);
+        byte[] index = new byte[indexBytes];
+        pack.get(12, index);
+        ByteBuffer blob = pack.slice(12 + indexBytes, pack.limit() - 12 - indexBytes);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(index));
+        int count = in.readInt();
+        Map<String, Entry> entries = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            String ext = in.readUTF();
+            int offset = in.readInt(), length = in.readInt();
+            if (offset < 0 || length < 0 || offset + length > blob.limit()) throw new IOException("truncated icon pack");
+            entries.put(name, new Entry(name, ext, offset, length, blob, null));
+        }
+        return new IconPack(entries);
+    }
+
+    /** Indexes a directory without a pack; each entry reads its file when asked for its bytes. */
+    public static IconPack scan(File dir) {
+        File[] files = dir.listFiles(IconPack::packable);
+        if (files == null) return EMPTY;
+        Map<String, Entry> entries = new HashMap<>();
+        for (File f : files) {
+            String n = f.getName();
+            int dot = n.lastIndexOf('.');
+            entries.put(n.substring(0, dot), new Entry(n.substring(0, dot), n.substring(dot + 1).toLowerCase(), 0, 0, null, f));
+        }
+        return new IconPack(entries);
+    }
+
+    /**
+     * Packs every file of {@code dir} with an extension. Files are taken in name order, so of
+     * {@code a.png} and {@code a.svg} the later one, {@code a.svg}, is the replacement for {@code a}.
+     */
+    public static void write(File dir, OutputStream out) throws IOException {
+        File[] files = dir.listFiles(IconPack::packable);
+        if (files == null) throw new IOException("not a directory: " + dir);
+        Arrays.sort(files);
+        Map<String, byte[]> contents = new HashMap<>();
+        Map<String, String> exts = new HashMap<>();
+        for (File f : files) {
+            String n = f.getName();
+            int dot = n.lastIndexOf('.');
+            contents.put(n.substring(0, dot), Files.readAllBytes(f.toPath()));
+            exts.put(n.substring(0, dot), n.substring(dot + 1).toLowerCase());
+        }
+        String[] names = contents.keySet().toArray(new String[0]);
+        Arrays.sort(names);
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        DataOutputStream idx = new DataOutputStream(index);
+        idx.writeInt(names.length);
+        int offset = 0;
+        for (String name : names) {
+            byte[] bytes = contents.get(name);
+            idx.writeUTF(name);
+            idx.writeUTF(exts.get(name));
+            idx.writeInt(offset);
+            idx.writeInt(bytes.length);
+            offset += bytes.length;
+        }
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(index.size());
+        index.writeTo(data);
+        for (String name : names) data.write(contents.get(name));
+        data.flush();
+    }
+
+    /** {@code IconPack <assets dir> <pack file>}: the build's packer. */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: IconPack <assets dir> <pack file>");
+            System.exit(2);
+        }
+        Path out = Path.of(args[1]);
+        if (out.getParent() != null) Files.createDirectories(out.getParent());
+        try (OutputStream os = Files.newOutputStream(out)) {
+            write(new File(args[0]), os);
+        }
+        System.out.println("[IconPack] " + open(out).size() + " icons -> " + out);
+    }
+}
@@ -3,12 +3,19 @@ package dev.equo.swt;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.internal.image.PNGFileFormat;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 
 public final class ImageDataCodec {
 
+    /**
+     * Set to {@code true} to encode PNGs with {@link ImageLoader#save}'s default settings instead
+     * of the faster bridge encoder ({@link PNGFileFormat#encodeForBridge}). Read on each encode.
+     */
+    static final String LEGACY_PNG_PROPERTY = "dev.equo.swt.png.legacyEncoder";
+
     public static byte[] encode(ImageData img) {
         if (img.data == null) return null;
 
@@ -26,8 +33,13 @@ public final class ImageDataCodec {
             };
 
             try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-                ldr.save(out, fmt);
-                byte[] bytes = out.toByteArray();
+                byte[] bytes;
+                if (fmt == SWT.IMAGE_PNG && !Boolean.getBoolean(LEGACY_PNG_PROPERTY)) {
+                    bytes = PNGFileFormat.encodeForBridge(img);
+                } else {
+                    ldr.save(out, fmt);
+                    bytes = out.toByteArray();
+                }
                 if (img.width <= 12 && img.height <= 12) {
                     int origPixel = img.getPixel(img.width - 1, img.height - 1);
                     org.eclipse.swt.graphics.RGB origRgb = img.palette.getRGB(origPixel);
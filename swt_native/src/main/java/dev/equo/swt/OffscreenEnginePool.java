@@ -0,0 +1,239 @@
+package dev.equo.swt;
+
+import dev.equo.swt.comm.CommService;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warm off-screen Flutter engines for GC(Image) rendering when no Display engine is live to
+ * piggyback on. Starting an engine and waiting for its ClientReady costs far more than most
+ * off-screen images take to paint, so an engine, once started, serves GC after GC: each GC is
+ * announced on the engine's own {@code GCEngine/<id>/create} channel, the way {@code GC/create}
+ * announces one to a Display engine. At most {@code maxEngines} run; once they all have, new GCs
+ * share the least busy one. An engine left serving nothing for {@code idleMillis} is shut down.
+ *
+ * <p>{@code -Ddev.equo.swt.gc.pool.size} bounds the pool (0 starts an engine per GC, as before),
+ * {@code -Ddev.equo.swt.gc.pool.idleMs} sets the idle time. {@link #metrics()} reports how long
+ * acquires waited for their engine.
+ */
+public final class OffscreenEnginePool {
+
+    /** Starts and stops the engines; the native one runs a headless Flutter view. */
+    public interface Launcher {
+        /** Starts an engine that announces itself on {@code GCEngine/<engineId>/ClientReady}; returns its handle. */
+        long start(CommService comm, long engineId);
+
+        void stop(long handle);
+    }
+
+    public record Metrics(long acquires, long coldStarts, long evictions, int engines,
+                          long totalAcquireNanos, long maxAcquireNanos) {
+        public double meanAcquireMillis() {
+            return acquires == 0 ? 0 : totalAcquireNanos / 1e6 / acquires;
+        }
+    }
+
+    public final class Engine {
+        final long id;
+        final CompletableFuture<Engine> ready = new CompletableFuture<>();
+        volatile long handle;
+        /** GCs being served; guarded by the pool. */
+        int users;
+        long idleSince;
+
+        Engine(long id) {
+            this.id = id;
+        }
+
+        /** Has the engine set up a GCDrawer for {@code gcId}, which then answers as a Display engine's would. */
+        public void create(long gcId) {
+            comm.send("GCEngine/" + id + "/create", ByteBuffer.allocate(8).putLong(gcId).array());
+        }
+
+        CommService comm() {
+            return comm;
+        }
+
+        /** The GC this engine was acquired for is done. */
+        public void release() {
+            OffscreenEnginePool.this.release(this);
+        }
+
+        /**
+         * A GC's handshake on this engine timed out: the engine has died since its ClientReady, so
+         * it is stopped and no later GC is handed to it. Its GCs still {@link #release()} it.
+         */
+        public void drop() {
+            OffscreenEnginePool.this.drop(this);
+        }
+    }
+
+    static final Launcher NATIVE = new Launcher() {
+        @Override
+        public long start(CommService comm, long engineId) {
+            return FlutterNative.initialize(comm.getPort(), 0, engineId, "GCEngine", "", 0, 0, 0, 0);
+        }
+
+        @Override
+        public void stop(long handle) {
+            FlutterNative.dispose(handle);
+        }
+    };
+
+    private static final AtomicLong IDS = new AtomicLong();
+    private static volatile OffscreenEnginePool shared;
+
+    private final CommService comm;
+    private final Launcher launcher;
+    private final int maxEngines;
+    private final long idleMillis;
+    private final long readyTimeoutMillis;
+    private final List<Engine> engines = new ArrayList<>();
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "swt-evolve-engine-pool");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private long acquires, coldStarts, evictions, totalAcquireNanos, maxAcquireNanos;
+
+    OffscreenEnginePool(CommService comm, Launcher launcher, int maxEngines, long idleMillis, long readyTimeoutMillis) {
+        this.comm = comm;
+        this.launcher = launcher;
+        this.maxEngines = maxEngines;
+        this.idleMillis = idleMillis;
+        this.readyTimeoutMillis = readyTimeoutMillis;
+    }
+
+    /** The pool over the desktop comm, or {@code null} when pooling is off. */
+    public static OffscreenEnginePool shared(long readyTimeoutMillis) {
+        int size = Integer.getInteger("dev.equo.swt.gc.pool.size", 2);
+        if (size <= 0)
+            return null;
+        OffscreenEnginePool pool = shared;
+        if (pool == null) {
+            synchronized (OffscreenEnginePool.class) {
+                pool = shared;
+                if (pool == null)
+                    shared = pool = new OffscreenEnginePool(FlutterBridge.desktopComm(), NATIVE, size,
+                            Long.getLong("dev.equo.swt.gc.pool.idleMs", 30_000), readyTimeoutMillis);
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * An engine for one GC, once it has answered ClientReady: an idle one if there is one, a new one
+     * while fewer than {@code maxEngines} run, else the least busy. Pair with {@link Engine#release()}.
+     * Completes exceptionally when the engine can't start or doesn't answer in time.
+     */
+    public CompletableFuture<Engine> acquire() {
+        long start = System.nanoTime();
+        Engine engine;
+        boolean cold;
+        synchronized (this) {
+            engine = pick();
+            cold = engine == null;
+            if (cold) {
+                engine = new Engine(IDS.incrementAndGet());
+                engines.add(engine);
+                coldStarts++;
+            }
+            engine.users++;
+        }
+        if (cold)
+            launch(engine);
+        Engine acquired = engine;
+        return engine.ready.whenComplete((e, error) -> {
+            if (error != null) {
+                release(acquired);
+                return;
+            }
+            long waited = System.nanoTime() - start;
+            synchronized (this) {
+                acquires++;
+                totalAcquireNanos += waited;
+                maxAcquireNanos = Math.max(maxAcquireNanos, waited);
+            }
+        });
+    }
+
+    private Engine pick() {
+        Engine best = null;
+        for (Engine e : engines) {
+            if (best == null || e.users < best.users)
+                best = e;
+        }
+        if (best != null && best.users > 0 && engines.size() < maxEngines)
+            return null;
+        return best;
+    }
+
+    private void launch(Engine engine) {
+        String readyChannel = "GCEngine/" + engine.id + "/ClientReady";
+        comm.on(readyChannel, Void.class, ignored -> {
+            comm.remove(readyChannel);
+            engine.ready.complete(engine);
+        });
+        engine.ready.orTimeout(readyTimeoutMillis, TimeUnit.MILLISECONDS).whenComplete((e, error) -> {
+            if (error != null) {
+                comm.remove(readyChannel);
+                drop(engine);
+            }
+        });
+        try {
+            engine.handle = launcher.start(comm, engine.id);
+        } catch (Throwable t) {
+            engine.ready.completeExceptionally(t);
+        }
+    }
+
+    private void release(Engine engine) {
+        synchronized (this) {
+            if (--engine.users > 0 || !engines.contains(engine))
+                return;
+            engine.idleSince = System.nanoTime();
+        }
+        evictor.schedule(this::evictIdle, idleMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void evictIdle() {
+        List<Engine> idle = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (Engine e : engines) {
+                if (e.users == 0 && now - e.idleSince >= TimeUnit.MILLISECONDS.toNanos(idleMillis))
+                    idle.add(e);
+            }
+            engines.removeAll(idle);
+            evictions += idle.size();
+        }
+        for (Engine e : idle) stop(e);
+    }
+
+    /** An engine that failed to start or stopped answering: no GC is sent to it again. */
+    private void drop(Engine engine) {
+        synchronized (this) {
+            engines.remove(engine);
+        }
+        stop(engine);
+    }
+
+    private void stop(Engine engine) {
+        long handle = engine.handle;
+        engine.handle = 0;
+        if (handle != 0)
+            launcher.stop(handle);
+    }
+
+    public synchronized Metrics metrics() {
+        return new Metrics(acquires, coldStarts, evictions, engines.size(), totalAcquireNanos, maxAcquireNanos);
+    }
+}
@@ -0,0 +1,191 @@
+package dev.equo.swt;
+
+import dev.equo.swt.comm.CommService;
+import org.eclipse.swt.graphics.Rectangle;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Retained pictures for control paints. Every {@code redraw()} dispatches a full-area
+ * {@code SWT.Paint}, and a control that paints the same thing again — a redraw triggered by an
+ * unrelated state change, a hover that didn't change anything — used to send every op of it
+ * again for Flutter to rebuild the same shapes. While a paint's GC is {@link #begin recorded},
+ * {@link FlutterBridge} holds its state and ops here and hashes them; when the GC is disposed, a
+ * picture whose hash is the one Flutter last committed for that control goes out as a single
+ * {@code gcDispose} carrying {@code reuse}, and anything else goes out in full, its
+ * {@code gcDispose} carrying the new {@code picture} hash.
+ *
+ * <p>Only {@code redraw()} paints are reused. A paint Flutter asked for (a fresh canvas, a
+ * reuse it couldn't honor because its drawer started over) always goes out in full, so a
+ * miss can't ask again forever. A GC that needs an answer from Flutter mid-paint
+ * ({@code copyArea} into an image) is {@link #flush flushed} and no longer recorded; a partial
+ * one still disposes with its damage.
+ *
+ * <p>A paint of part of a control ({@code redraw(x, y, width, height, all)}) is never reused
+ * either: its {@code gcDispose} carries the {@code damage} rectangle instead, and Flutter clears
+ * that area of the picture it holds and draws the paint over it.
+ * {@code -Ddev.equo.swt.paint.reuse=false} turns recording off, and with it partial paints.
+ */
+public final class PaintRecorder {
+
+    private static final Map<Object, PaintRecorder> recording = new WeakHashMap<>();
+
+    /** The damage of partial paints flushed mid-paint, until their GC is disposed. */
+    private static final Map<Object, Rectangle> flushed = new WeakHashMap<>();
+
+    /** The picture hash Flutter last committed, per comm and GC channel ({@code GC/<id>}). */
+    private static final Map<CommService, Map<String, Long>> committed = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final boolean reusable;
+    private final Rectangle damage;
+    private final MessageDigest digest;
+    private final List<String> events = new ArrayList<>();
+    private final List<byte[]> payloads = new ArrayList<>();
+    private CommService comm;
+    private String channel;
+
+    private PaintRecorder(boolean reusable, Rectangle damage) {
+        this.reusable = reusable && damage == null;
+        this.damage = damage;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static boolean enabled() {
+        return !"false".equals(System.getProperty("dev.equo.swt.paint.reuse"));
+    }
+
+    /**
+     * Records what {@code gc} (a paint's {@code GC.getImpl()}) sends until it is disposed;
+     * {@code reusable} lets a picture identical to Flutter's current one go out as a reuse.
+     * {@code damage} is the area painted, {@code null} for the whole control.
+     */
+    public static void begin(Object gc, boolean reusable, Rectangle damage) {
+        if (!enabled())
+            return;
+        synchronized (recording) {
+            recording.put(gc, new PaintRecorder(reusable, damage));
+            flushed.remove(gc);
+        }
+    }
+
+    /** The recording in progress for {@code gc}, or {@code null}. */
+    static PaintRecorder of(Object gc) {
+        synchronized (recording) {
+            return recording.isEmpty() ? null : recording.get(gc);
+        }
+    }
+
+    /**
+     * Sends what {@code gc} recorded so far and stops recording it; its picture won't be reused,
+     * and a partial paint keeps its damage for {@link #finish}.
+     */
+    public static void flush(Object gc) {
+        PaintRecorder recorder;
+        synchronized (recording) {
+            recorder = recording.remove(gc);
+            if (recorder != null && recorder.damage != null)
+                flushed.put(gc, recorder.damage);
+        }
+        if (recorder != null && recorder.comm != null) {
+            recorder.sendRecorded();
+            invalidate(recorder.comm, recorder.channel);
+        }
+    }
+
+    /** The client behind {@code comm} starts over with no pictures. */
+    public static void forget(CommService comm) {
+        committed.remove(comm);
+    }
+
+    /** Flutter's picture on {@code channel} is no longer one we sent whole. */
+    static void invalidate(CommService comm, String channel) {
+        Map<String, Long> pictures = committed.get(comm);
+        if (pictures != null)
+            pictures.remove(channel);
+    }
+
+    /** Whether the GC's full state still has to be recorded: the first thing in every picture. */
+    boolean needsState() {
+        return comm == null;
+    }
+
+    /** Holds {@code payload}, bound for {@code event}, until the picture is finished. */
+    void record(CommService comm, String channel, String event, byte[] payload) {
+        this.comm = comm;
+        this.channel = channel;
+        digest.update(event.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(payload);
+        events.add(event);
+        payloads.add(payload);
+    }
+
+    /**
+     * Ends the recording of {@code gc}, disposed on {@code channel}, and returns the
+     * {@code gcDispose} arguments to send: after nothing if Flutter already has this picture,
+     * after the recorded messages otherwise. A GC that wasn't recorded leaves Flutter with a
+     * picture we can't vouch for.
+     */
+    static Map<?, ?> finish(Object gc, CommService comm, String channel, Map<?, ?> args) {
+        PaintRecorder recorder;
+        Rectangle damage;
+        synchronized (recording) {
+            recorder = recording.remove(gc);
+            damage = recorder != null ? recorder.damage : flushed.remove(gc);
+        }
+        if (damage != null) {
+            if (recorder != null && recorder.comm != null)
+                recorder.sendRecorded();
+            invalidate(comm, channel);
+            Map<Object, Object> sent = new HashMap<>(args);
+            sent.put("damage", new int[] { damage.x, damage.y, damage.width, damage.height });
+            return sent;
+        }
+        if (recorder == null) {
+            invalidate(comm, channel);
+            return args;
+        }
+        long hash = recorder.hash();
+        Map<String, Long> pictures = committed.computeIfAbsent(comm, c -> Collections.synchronizedMap(new HashMap<>()));
+        Map<Object, Object> sent = new HashMap<>(args);
+        Long current = pictures.get(channel);
+        if (recorder.reusable && current != null && current == hash) {
+            sent.put("reuse", hash);
+            return sent;
+        }
+        if (recorder.comm != null)
+            recorder.sendRecorded();
+        pictures.put(channel, hash);
+        sent.put("picture", hash);
+        return sent;
+    }
+
+    /** 53 bits of the digest: the hash travels as a JSON number, exact as a double on the web. */
+    private long hash() {
+        byte[] bytes = digest.digest();
+        long hash = 0;
+        for (int i = 0; i < 8; i++) hash = (hash << 8) | (bytes[i] & 0xFF);
+        return hash & ((1L << 53) - 1);
+    }
+
+    private void sendRecorded() {
+        for (int i = 0; i < events.size(); i++) {
+            DebugLog.logSend(events.get(i), payloads.get(i));
+            comm.send(events.get(i), payloads.get(i));
+        }
+        events.clear();
+        payloads.clear();
+    }
+}
@@ -5,12 +5,19 @@ import com.dslplatform.json.JsonReader;
 import com.dslplatform.json.JsonWriter;
 import com.dslplatform.json.NumberConverter;
 import com.dslplatform.json.StringConverter;
+import com.dslplatform.json.BinaryConverter;
 import com.dslplatform.json.runtime.FormatConverter;
 import org.eclipse.swt.widgets.*;
 import org.eclipse.swt.graphics.*;
 import org.eclipse.swt.custom.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Serializer {
     private static final byte[] name_id = "id".getBytes(java.nio.charset.StandardCharsets.UTF_8);
@@ -23,12 +30,31 @@ public class Serializer {
     // strictly the older snapshot.
     private static final java.util.concurrent.atomic.AtomicLong writeSeq = new java.util.concurrent.atomic.AtomicLong();
 
+    /** A stamp from the same sequence, for a message that carries part of a widget's state. */
+    static long nextSeq() {
+        return writeSeq.incrementAndGet();
+    }
+
+    private static final AtomicInteger encoderIds = new AtomicInteger();
+
+    // Encodes the images snapshots leave out; separate from the comms' send lanes, which wait on it.
+    private static final ExecutorService ENCODERS = Executors.newFixedThreadPool(
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)), r -> {
+                Thread t = new Thread(r, "swt-encode-" + encoderIds.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+
+    // The images the snapshot being taken on this thread left out; null outside snapshot().
+    private static final ThreadLocal<List<Deferred>> DEFERRED = new ThreadLocal<>();
+
     private final DslJson<Object> dsl;
     // Pooled per thread rather than a single thread-local instance: to() can be re-entered on
     // the same thread (some property getters pump the event loop while waiting on an async
     // render), and a shared writer would have its buffer overwritten mid-write by the inner call.
     private final ThreadLocal<java.util.ArrayDeque<JsonWriter>> writerPool;
 
+    @SuppressWarnings("unchecked")
     public Serializer() {
         DslJson.Settings<Object> settings = new DslJson.Settings<>()
                 .includeServiceLoader(Serializer.class.getClassLoader())
@@ -38,9 +64,149 @@ public class Serializer {
         // payloads ([id] / [id, arg]). Additive: Object.class was previously unregistered.
         dsl.registerReader(Object.class, com.dslplatform.json.ObjectConverter::deserializeObject);
         writerPool = ThreadLocal.withInitial(java.util.ArrayDeque::new);
+        JsonWriter.WriteObject<ImageData> imageData = (JsonWriter.WriteObject<ImageData>) dsl.tryFindWriter(ImageData.class);
+        if (imageData != null)
+            dsl.registerWriter(ImageData.class, (writer, data) -> writeImageData(writer, data, imageData));
     }
 
+    /** Encodes {@code p} for no comm in particular: SVG markup stays inline. */
     public byte[] to(Object p) throws IOException {
+        return to(p, null);
+    }
+
+    /**
+     * Encodes {@code p} to be sent on {@code comm}: SVG documents go by reference, and those it
+     * refers to are published on {@code comm} before this returns (see {@link SvgDocuments}).
+     */
+    public byte[] to(Object p, dev.equo.swt.comm.CommService comm) throws IOException {
+        return serialize(p, comm, null).json;
+    }
+
+    /**
+     * Serializes {@code p} for {@code comm} like {@link #to(Object, dev.equo.swt.comm.CommService)},
+     * but leaves each image's pixels out of the payload: the walk over the live V* views reads the
+     * widgets and must stay on the Display thread, while PNG-encoding the pixels it reaches is most
+     * of a flush's cost and needs only the pixels. The snapshot holds a copy of each image's
+     * {@link ImageData}, which nothing else can reach, and {@link Snapshot#encode} finishes the
+     * payload off the calling thread.
+     */
+    public Snapshot snapshot(Object p, dev.equo.swt.comm.CommService comm) throws IOException {
+        return serialize(p, comm, new ArrayList<>());
+    }
+
+    private Snapshot serialize(Object p, dev.equo.swt.comm.CommService comm, List<Deferred> deferred) throws IOException {
+        // A nested to() (a getter pumping the event loop) encodes its images in place.
+        List<Deferred> outer = DEFERRED.get();
+        DEFERRED.set(deferred);
+        SvgDocuments.Wire wire = SvgDocuments.begin(comm);
+        boolean encoded = false;
+        try {
+            byte[] bytes = encode(p);
+            encoded = true;
+            return new Snapshot(bytes, deferred == null ? List.of() : deferred);
+        } finally {
+            SvgDocuments.end(wire, encoded);
+            if (outer != null) DEFERRED.set(outer);
+            else DEFERRED.remove();
+        }
+    }
+
+    /** An image left out of a snapshot: its pixels go at {@code offset} of the payload, as the {@code data} value. */
+    private record Deferred(int offset, ImageData image) {
+    }
+
+    /**
+     * A payload serialized on the Display thread, less the pixels of the images in it. Immutable:
+     * the images are copies taken while serializing.
+     */
+    public final class Snapshot {
+        private final byte[] json;
+        private final List<Deferred> deferred;
+
+        private Snapshot(byte[] json, List<Deferred> deferred) {
+            this.json = json;
+            this.deferred = deferred;
+        }
+
+        /** Whether the payload has nothing left to encode: {@link #json} is all of it. */
+        public boolean isComplete() {
+            return deferred.isEmpty();
+        }
+
+        /** The serialized payload, complete only if {@link #isComplete}. */
+        public byte[] json() {
+            return json;
+        }
+
+        /** The payload's size, counting the images left out at their raw pixel size. */
+        public int size() {
+            int size = json.length;
+            for (Deferred d : deferred) size += d.image.data.length;
+            return size;
+        }
+
+        /** The complete payload: each image is encoded on its own pooled thread, then spliced in. */
+        public CompletableFuture<byte[]> encode() {
+            if (deferred.isEmpty()) return CompletableFuture.completedFuture(json);
+            List<CompletableFuture<byte[]>> images = new ArrayList<>(deferred.size());
+            for (Deferred d : deferred) images.add(CompletableFuture.supplyAsync(() -> pixels(d.image), ENCODERS));
+            return CompletableFuture.allOf(images.toArray(new CompletableFuture[0])).thenApply(done -> {
+                int size = json.length;
+                for (CompletableFuture<byte[]> image : images) size += image.join().length;
+                byte[] bytes = new byte[size];
+                int from = 0, to = 0;
+                for (int i = 0; i < deferred.size(); i++) {
+                    int offset = deferred.get(i).offset;
+                    System.arraycopy(json, from, bytes, to, offset - from);
+                    to += offset - from;
+                    from = offset;
+                    byte[] value = images.get(i).join();
+                    System.arraycopy(value, 0, bytes, to, value.length);
+                    to += value.length;
+                }
+                System.arraycopy(json, from, bytes, to, json.length - from);
+                return bytes;
+            });
+        }
+    }
+
+    /** The quoted {@code data} value of {@code image}, as the compiled converter writes it. */
+    private byte[] pixels(ImageData image) {
+        JsonWriter writer = dsl.newWriter();
+        BinaryConverter.serialize(image.getData(), writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Writes {@code data} with {@code compiled}, its generated converter; in a {@link #snapshot},
+     * writes a copy without its pixels and notes where they go.
+     */
+    private static void writeImageData(JsonWriter writer, ImageData data, JsonWriter.WriteObject<ImageData> compiled) {
+        List<Deferred> deferred = DEFERRED.get();
+        if (deferred == null || data == null || data.data == null) {
+            compiled.write(writer, data);
+            return;
+        }
+        ImageData copy = (ImageData) data.clone();
+        byte[] pixels = copy.data;
+        copy.data = null;
+        int start = writer.size();
+        compiled.write(writer, copy);
+        copy.data = pixels;
+        // The object's closing brace becomes the separator before "data".
+        int last = writer.size() - 1;
+        if (last == start + 1) {
+            writer.getByteBuffer()[last] = '"';
+            writer.writeAscii("data\":");
+        } else {
+            writer.getByteBuffer()[last] = ',';
+            writer.writeAscii("\"data\":");
+        }
+        deferred.add(new Deferred(writer.size(), copy));
+        writer.writeByte((byte) '}');
+    }
+
+    private byte[] encode(Object p) throws IOException {
         java.util.ArrayDeque<JsonWriter> pool = writerPool.get();
         JsonWriter writer = pool.pollFirst();
         if (writer == null) {
@@ -0,0 +1,109 @@
+package dev.equo.swt;
+
+import dev.equo.swt.comm.CommService;
+import org.eclipse.swt.internal.image.SVGRasterCache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * SVG documents sent to Flutter once per connection. An image's markup goes out on
+ * {@link #CHANNEL} the first time a widget referencing it is serialized, and from then on
+ * {@code VImage} carries only its content hash ({@code svgRef}), which the client resolves from
+ * the documents it has received. The same theme icon on a hundred tool items is one document on
+ * the wire, not a hundred copies inside the widget JSON.
+ *
+ * <p>Only a serialization onto a known comm ({@link Serializer#to(Object, CommService)}) refers to
+ * documents by hash; the image writer notes each one it refers to ({@link #refer}), and the
+ * serializer publishes them on that comm once the payload is encoded, before it is sent. Each comm
+ * delivers in send order, so Flutter always has the document first. The {@code VImage} getters
+ * only read which way the current serialization goes, and send nothing. A client that announces a
+ * fresh tree (a browser refresh) starts with no documents: {@link #forget} makes them go out again.
+ * {@code -Ddev.equo.swt.svg.inline=true} keeps the markup inline in every {@code VImage}.
+ */
+public final class SvgDocuments {
+
+    /** {@code [8-byte big-endian content hash][UTF-8 markup]}. */
+    public static final String CHANNEL = "Image/svgDocument";
+
+    private static final Map<CommService, Set<Long>> SENT = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * A serialization in progress on one thread: the comm it is for ({@code null} keeps markup
+     * inline) and the documents its payload refers to. Serialization can be re-entered on a thread,
+     * so each keeps the one it interrupted.
+     */
+    public static final class Wire {
+        final CommService comm;
+        final Wire outer;
+        Map<Long, String> referred;
+
+        private Wire(CommService comm, Wire outer) {
+            this.comm = comm;
+            this.outer = outer;
+        }
+    }
+
+    private static final ThreadLocal<Wire> WIRE = new ThreadLocal<>();
+
+    private SvgDocuments() {
+    }
+
+    public static boolean inline() {
+        return Boolean.getBoolean("dev.equo.swt.svg.inline");
+    }
+
+    public static long hash(String svg) {
+        return SVGRasterCache.contentHash(svg.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Starts a serialization for {@code comm} on this thread; {@link #end} it in a finally. */
+    static Wire begin(CommService comm) {
+        Wire wire = new Wire(comm, WIRE.get());
+        WIRE.set(wire);
+        return wire;
+    }
+
+    /** Ends {@code wire}; with {@code publish}, sends the documents it referred to on its comm. */
+    static void end(Wire wire, boolean publish) {
+        if (wire.outer != null) WIRE.set(wire.outer);
+        else WIRE.remove();
+        if (publish && wire.referred != null) {
+            for (Map.Entry<Long, String> doc : wire.referred.entrySet())
+                publish(wire.comm, doc.getKey(), doc.getValue());
+        }
+    }
+
+    /** Whether the payload being serialized on this thread may refer to documents by hash. */
+    public static boolean byRef() {
+        Wire wire = WIRE.get();
+        return wire != null && wire.comm != null && !inline();
+    }
+
+    /** Notes that the payload being serialized refers to {@code svg} by {@code hash}. */
+    public static void refer(long hash, String svg) {
+        Wire wire = WIRE.get();
+        if (wire == null || wire.comm == null) return;
+        if (wire.referred == null) wire.referred = new LinkedHashMap<>();
+        wire.referred.putIfAbsent(hash, svg);
+    }
+
+    /** Makes sure {@code comm}'s client has {@code svg}, under {@code hash}; sends it at most once per connection. */
+    public static void publish(CommService comm, long hash, String svg) {
+        Set<Long> sent = SENT.computeIfAbsent(comm, c -> Collections.synchronizedSet(new HashSet<>()));
+        if (!sent.add(hash)) return;
+        byte[] markup = svg.getBytes(StandardCharsets.UTF_8);
+        comm.send(CHANNEL, ByteBuffer.allocate(8 + markup.length).putLong(hash).put(markup).array());
+    }
+
+    /** The client behind {@code comm} starts over with no documents. */
+    public static void forget(CommService comm) {
+        SENT.remove(comm);
+    }
+}
@@ -0,0 +1,245 @@
+package dev.equo.swt;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel backing {@code Display.timerExec}. It is owned by the Display loop and only
+ * ever touched from the UI thread ({@code timerExec} from another thread hops onto it through
+ * {@code asyncExec}; {@code runTimers} and {@code sleep} run there), so it needs no locks and no timer thread of its own: the loop asks
+ * {@link #nanosUntilNext} how long it may park and calls {@link #expire} when it wakes.
+ *
+ * <p>Each slot is an intrusive doubly-linked list of entries whose deadline tick hashes to it, and a
+ * runnable maps to its entry, so {@link #schedule} and {@link #cancel} are O(1). An entry further out
+ * than one revolution shares its slot with nearer ones and is simply skipped until its tick comes
+ * round. Re-arming a runnable (an animation calling {@code timerExec} from its own {@code run()})
+ * recycles a pooled entry instead of allocating.
+ *
+ * <p>Deadlines are rounded <em>up</em> to the tick, so a timer never fires early; it may fire up to
+ * one tick late.
+ */
+public final class TimerWheel {
+
+    /** 1 ms ticks: the resolution {@code timerExec} takes its delay in. */
+    static final long DEFAULT_TICK_NANOS = 1_000_000L;
+
+    /** 1024 ticks cover about a second, which holds caret blinks and animation frames in one turn. */
+    static final int DEFAULT_SLOTS = 1024;
+
+    private static final int MAX_POOLED = 256;
+
+    private static final class Entry {
+        Runnable task;
+        long deadlineTick;
+        Entry prev, next;
+    }
+
+    private final Entry[] slots;
+    private final int mask;
+    private final long tickNanos;
+    private final long origin;
+    private final Map<Runnable, Entry> entries = new HashMap<>();
+
+    /** Last tick whose slot has been expired; every live entry has {@code deadlineTick > currentTick}. */
+    private long currentTick;
+
+    private long nextTick;
+    private boolean nextValid;
+
+    private Entry pool;
+    private int pooled;
+
+    public TimerWheel() {
+        this(DEFAULT_SLOTS, DEFAULT_TICK_NANOS, System.nanoTime());
+    }
+
+    TimerWheel(int slotCount, long tickNanos, long originNanos) {
+        if (slotCount <= 0 || Integer.bitCount(slotCount) != 1)
+            throw new IllegalArgumentException("slot count must be a power of two: " + slotCount);
+        if (tickNanos <= 0)
+            throw new IllegalArgumentException("tick must be positive: " + tickNanos);
+        this.slots = new Entry[slotCount];
+        this.mask = slotCount - 1;
+        this.tickNanos = tickNanos;
+        this.origin = originNanos;
+    }
+
+    /**
+     * Arms {@code task} to run {@code delayMillis} after {@code nowNanos}, replacing any deadline it
+     * already had — the {@code timerExec} contract for a runnable that is already scheduled.
+     */
+    public void schedule(Runnable task, long delayMillis, long nowNanos) {
+        Entry e = entries.get(task);
+        if (e != null) {
+            unlink(e);
+            // Moving the earliest entry later leaves nothing at nextTick: a debounce re-armed
+            // before it fired would otherwise read as due from its old deadline on.
+            if (nextValid && e.deadlineTick == nextTick)
+                nextValid = false;
+        } else {
+            e = obtain(task);
+            entries.put(task, e);
+        }
+        long deadline = nowNanos - origin + Math.max(0, delayMillis) * 1_000_000L;
+        long tick = Math.max(Math.floorDiv(deadline + tickNanos - 1, tickNanos), currentTick + 1);
+        e.deadlineTick = tick;
+        link(e);
+        if (nextValid && tick < nextTick)
+            nextTick = tick;
+    }
+
+    /** Disarms {@code task}; returns whether it was scheduled. */
+    public boolean cancel(Runnable task) {
+        Entry e = entries.remove(task);
+        if (e == null)
+            return false;
+        unlink(e);
+        if (nextValid && e.deadlineTick == nextTick)
+            nextValid = false;
+        recycle(e);
+        return true;
+    }
+
+    public boolean isScheduled(Runnable task) {
+        return entries.containsKey(task);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Removes every timer due at {@code nowNanos} and hands it to {@code sink}, in deadline order
+     * unless the loop fell more than a whole revolution behind. Returns how many fired. The sink must
+     * not run the tasks inline if they may re-arm themselves — collect first, run after.
+     */
+    public int expire(long nowNanos, Consumer<Runnable> sink) {
+        long nowTick = Math.floorDiv(nowNanos - origin, tickNanos);
+        if (nowTick <= currentTick || entries.isEmpty()) {
+            currentTick = Math.max(currentTick, nowTick);
+            return 0;
+        }
+        int fired = 0;
+        long first = currentTick + 1;
+        long turns = Math.min(nowTick - currentTick, slots.length);
+        for (long t = first; t < first + turns; t++) {
+            Entry e = slots[(int) (t & mask)];
+            while (e != null) {
+                Entry next = e.next;
+                if (e.deadlineTick <= nowTick) {
+                    unlink(e);
+                    entries.remove(e.task);
+                    Runnable task = e.task;
+                    recycle(e);
+                    sink.accept(task);
+                    fired++;
+                }
+                e = next;
+            }
+        }
+        currentTick = nowTick;
+        // Whatever was due by nowTick has fired; the next deadline, if cached, is past.
+        if (nextValid && nextTick <= nowTick)
+            nextValid = false;
+        return fired;
+    }
+
+    /**
+     * Nanoseconds from {@code nowNanos} until the earliest deadline — {@code 0} when one is already
+     * due, {@link Long#MAX_VALUE} when nothing is scheduled. This is how long the loop may park.
+     */
+    public long nanosUntilNext(long nowNanos) {
+        if (entries.isEmpty())
+            return Long.MAX_VALUE;
+        long deadline = origin + nextTick() * tickNanos;
+        return Math.max(0, deadline - nowNanos);
+    }
+
+    /** Whether a timer is due at {@code nowNanos}, i.e. the next {@link #expire} would fire something. */
+    public boolean hasExpired(long nowNanos) {
+        return !entries.isEmpty() && nanosUntilNext(nowNanos) == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length; i++)
+            slots[i] = null;
+        entries.clear();
+        nextValid = false;
+    }
+
+    /**
+     * The earliest deadline tick. Walks at most one revolution of slots from the cursor: the first
+     * slot holding an entry for that very tick wins, since anything nearer would sit in an earlier
+     * slot. Only timers all farther out than a revolution fall back to a scan of every entry.
+     */
+    private long nextTick() {
+        if (nextValid)
+            return nextTick;
+        long found = Long.MAX_VALUE;
+        for (long t = currentTick + 1; t <= currentTick + slots.length && found == Long.MAX_VALUE; t++) {
+            for (Entry e = slots[(int) (t & mask)]; e != null; e = e.next) {
+                if (e.deadlineTick == t) {
+                    found = t;
+                    break;
+                }
+            }
+        }
+        if (found == Long.MAX_VALUE) {
+            for (Entry e : entries.values())
+                found = Math.min(found, e.deadlineTick);
+        }
+        nextTick = found;
+        nextValid = true;
+        return found;
+    }
+
+    private void link(Entry e) {
+        int slot = (int) (e.deadlineTick & mask);
+        Entry head = slots[slot];
+        e.prev = null;
+        e.next = head;
+        if (head != null)
+            head.prev = e;
+        slots[slot] = e;
+    }
+
+    private void unlink(Entry e) {
+        if (e.prev != null) {
+            e.prev.next = e.next;
+        } else {
+            int slot = (int) (e.deadlineTick & mask);
+            if (slots[slot] == e)
+                slots[slot] = e.next;
+        }
+        if (e.next != null)
+            e.next.prev = e.prev;
+        e.prev = e.next = null;
+    }
+
+    private Entry obtain(Runnable task) {
+        Entry e = pool;
+        if (e != null) {
+            pool = e.next;
+            e.next = null;
+            pooled--;
+        } else {
+            e = new Entry();
+        }
+        e.task = task;
+        return e;
+    }
+
+    private void recycle(Entry e) {
+        e.task = null;
+        if (pooled < MAX_POOLED) {
+            e.next = pool;
+            pool = e;
+            pooled++;
+        }
+    }
+}
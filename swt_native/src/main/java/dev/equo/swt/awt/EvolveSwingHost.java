@@ -8,11 +8,16 @@ import java.awt.Toolkit;
 import java.awt.event.ContainerEvent;
 import java.awt.event.ContainerListener;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.swing.JComponent;
 import javax.swing.JPanel;
 
+import dev.equo.swt.FlutterBridge;
+import dev.equo.swt.comm.CommService;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.DartImage;
+import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.PaletteData;
@@ -37,7 +42,10 @@ import sun.swing.LightweightContent;
  * same mechanism JavaFX's {@code SwingNode} uses), pulls the rendered pixels out
  * of the frame's shared {@code int[]} buffer, and blits them onto a Flutter-backed
  * SWT {@link Canvas} via {@code addPaintListener} + {@code GC.drawImage} — exactly
- * the path FXCanvas uses for JavaFX.</p>
+ * the path FXCanvas uses for JavaFX. Only the rectangles Swing repainted are copied
+ * and shipped ({@link FrameTiles}): they are patched as raw pixel tiles into a texture
+ * Flutter keeps, which the paint draws by ref — on the Display's shared engine, or in
+ * embedded mode on the engine of the canvas's own shell.</p>
  *
  * <p>Because {@code JLightweightFrame extends java.awt.Frame}, the object returned
  * from {@link #newFrame(Composite)} <em>is</em> a {@code Frame}; unmodified app
@@ -56,6 +64,13 @@ public final class EvolveSwingHost {
 
     private static final AtomicBoolean TOOLKIT_STARTED = new AtomicBoolean(false);
 
+    /** Raw-bytes channel carrying {@link FrameTiles} tiles into a host's Flutter-side texture. */
+    private static final String PATCH_CHANNEL = "Image/patchRemote";
+
+    // Texture refs are allocated here, negative, so they never collide with the positive refs
+    // Flutter hands out for GC(Image) renders in the same cache.
+    private static final AtomicLong NEXT_TEXTURE_REF = new AtomicLong();
+
     /**
      * Evolve reimplementation of {@code SWT_AWT.new_Frame}. Returns a Swing
      * {@link Frame} whose content is rendered off-screen and presented on the
@@ -120,14 +135,30 @@ public final class EvolveSwingHost {
         // Guards the container-listener reentrancy while we relocate app-added children.
         private boolean relocating;
 
-        // Latest rendered frame (ARGB), produced on the EDT and consumed on the SWT
-        // thread by the paint listener. Guarded by 'this'.
-        private int[] framePixels;
-        private int frameWidth;
-        private int frameHeight;
-        // Coalesces repaints: many EDT frames (e.g. a blinking caret) collapse to one SWT redraw.
+        // The latest rendered frame and what changed in it, copied on the EDT and presented on the
+        // SWT thread. Guarded by itself.
+        private final FrameTiles tiles = new FrameTiles();
+        // Coalesces presents: many EDT frames (e.g. a blinking caret) collapse to one on the SWT thread.
+        private final AtomicBoolean presentPending = new AtomicBoolean();
         private final AtomicBoolean redrawPending = new AtomicBoolean();
 
+        // Streaming target: a Flutter-side texture the damage is patched into, drawn by ref. Set up
+        // on the first present, on the Display's shared engine or (embed mode) the canvas's own;
+        // paint composites into the persistent image below only where Image isn't Flutter-backed.
+        // SWT thread only, except the flag.
+        private final long textureRef = NEXT_TEXTURE_REF.decrementAndGet();
+        private CommService textureComm;
+        // Embedded engines aren't the shared comm DartImage releases its ref on, so we release it.
+        private boolean releasesTexture;
+        private Image texture;
+        private volatile boolean texturePatched;
+
+        // Fallback target, reallocated only on resize: the damage is composited into the pixels,
+        // then drawn into the image the canvas paints. SWT thread only.
+        private int[] composited;
+        private ImageData imageData;
+        private Image frameImage;
+
         Host(Canvas canvas) {
             this.canvas = canvas;
             this.display = canvas.getDisplay();
@@ -142,7 +173,11 @@ public final class EvolveSwingHost {
                 final int w = Math.max(1, a.width), h = Math.max(1, a.height);
                 EventQueue.invokeLater(() -> frame.setSize(w, h));
             });
-            canvas.addListener(SWT.Dispose, e -> disposeFrame(frame));
+            canvas.addListener(SWT.Dispose, e -> {
+                disposeTexture();
+                disposeFrameImage();
+                disposeFrame(frame);
+            });
             AwtInput.attach(canvas, frame);
         }
 
@@ -197,47 +232,113 @@ public final class EvolveSwingHost {
         }
 
         private void paint(org.eclipse.swt.events.PaintEvent pe) {
-            final int[] px;
-            final int pw, ph;
-            synchronized (this) {
-                px = framePixels;
-                pw = frameWidth;
-                ph = frameHeight;
+            if (texture != null) {
+                // Before the first patch lands there is nothing on the Flutter side to draw yet.
+                if (texturePatched) pe.gc.drawImage(texture, 0, 0);
+                return;
             }
-            if (px == null || pw <= 0 || ph <= 0) return;
-
-            // The off-screen frame's buffer is INT_ARGB_PRE and can leave regions the Swing content
-            // didn't cover transparent (notably on Windows, where a resize leaves the reallocated
-            // buffer's uncovered area unpainted). Composite over the control's background so those
-            // areas show the widget background — a naive alpha-drop would render them black.
             final int bg = backgroundRgb();
-            final int[] out = new int[pw * ph];
-            for (int i = 0; i < out.length; i++) {
-                int argb = px[i];
-                int a = (argb >>> 24) & 0xFF;
-                if (a == 0xFF) {
-                    out[i] = argb & 0xFFFFFF;
-                } else if (a == 0) {
-                    out[i] = bg;
-                } else {
-                    // Premultiplied source over opaque bg: out = src_pre + bg * (255 - a) / 255.
-                    int inv = 255 - a;
-                    int r = ((argb >> 16) & 0xFF) + (((bg >> 16) & 0xFF) * inv) / 255;
-                    int g = ((argb >> 8) & 0xFF) + (((bg >> 8) & 0xFF) * inv) / 255;
-                    int b = (argb & 0xFF) + ((bg & 0xFF) * inv) / 255;
-                    out[i] = (Math.min(r, 255) << 16) | (Math.min(g, 255) << 8) | Math.min(b, 255);
+            final Rectangle damage;
+            synchronized (tiles) {
+                int pw = tiles.width(), ph = tiles.height();
+                if (pw <= 0 || ph <= 0) return;
+                if (imageData == null || imageData.width != pw || imageData.height != ph) {
+                    composited = new int[pw * ph];
+                    imageData = new ImageData(pw, ph, 32, new PaletteData(0x00ff0000, 0x0000ff00, 0x000000ff));
+                    disposeFrameImage();
+                    tiles.damage(0, 0, pw, ph);
+                }
+                damage = tiles.takeInto(composited, bg);
+            }
+            if (damage != null) {
+                int pw = imageData.width;
+                for (int row = damage.y; row < damage.y + damage.height; row++) {
+                    imageData.setPixels(damage.x, row, damage.width, composited, row * pw + damage.x);
                 }
+                if (frameImage != null) patchFrameImage(damage);
             }
+            if (frameImage == null) frameImage = new Image(display, imageData);
+            pe.gc.drawImage(frameImage, 0, 0);
+        }
 
-            PaletteData palette = new PaletteData(0x00ff0000, 0x0000ff00, 0x000000ff);
-            ImageData imageData = new ImageData(pw, ph, 32, palette);
-            imageData.setPixels(0, 0, pw * ph, out, 0);
-            Image image = new Image(display, imageData);
+        /** Draws the {@code damage} region of {@link #imageData} into {@link #frameImage}. */
+        private void patchFrameImage(Rectangle damage) {
+            ImageData region = new ImageData(damage.width, damage.height, 32, imageData.palette);
+            int pw = imageData.width;
+            for (int row = 0; row < damage.height; row++) {
+                region.setPixels(0, row, damage.width, composited, (damage.y + row) * pw + damage.x);
+            }
+            Image patch = new Image(display, region);
+            GC gc = new GC(frameImage);
             try {
-                pe.gc.drawImage(image, 0, 0);
+                gc.drawImage(patch, damage.x, damage.y);
             } finally {
-                image.dispose();
+                gc.dispose();
+                patch.dispose();
+            }
+        }
+
+        private void disposeFrameImage() {
+            if (frameImage == null) return;
+            frameImage.dispose();
+            frameImage = null;
+        }
+
+        /**
+         * Ships what changed since the last present. With a texture, that is one raw RGBA tile of the
+         * damaged region; the canvas repaints once Flutter acknowledges it, so the paint always draws
+         * the patched texture. Without one, the canvas repaints and paint composites the damage.
+         */
+        private void present() {
+            if (canvas.isDisposed()) return;
+            CommService comm = textureComm();
+            if (comm == null) {
+                canvas.redraw();
+                return;
             }
+            final int bg = backgroundRgb();
+            final byte[] tile;
+            synchronized (tiles) {
+                tile = tiles.takeTile(textureRef, bg);
+            }
+            if (tile != null) comm.send(PATCH_CHANNEL, tile);
+        }
+
+        /**
+         * The comm the texture is streamed on, setting it up on first use: the Display's shared one,
+         * or the canvas's own in embed mode. {@code null} when Image isn't Flutter-backed.
+         */
+        private CommService textureComm() {
+            if (texture == null) {
+                CommService comm = FlutterBridge.resolveDisplayGcComm(display);
+                boolean shared = comm != null;
+                if (!shared) comm = FlutterBridge.commFor(canvas.getImpl());
+                if (comm == null) return null;
+                Image image = new Image(display, 1, 1);
+                if (!(image.getImpl() instanceof DartImage di)) {
+                    image.dispose();
+                    return null;
+                }
+                // Disposing the image releases the ref on the Flutter side, texture included.
+                di._setRemoteRef(textureRef);
+                comm.on("Image/" + textureRef + "/Patched", Void.class, v -> {
+                    texturePatched = true;
+                    requestRedraw();
+                });
+                textureComm = comm;
+                releasesTexture = !shared;
+                texture = image;
+            }
+            return textureComm;
+        }
+
+        private void disposeTexture() {
+            if (texture == null) return;
+            textureComm.remove("Image/" + textureRef + "/Patched");
+            if (releasesTexture)
+                textureComm.send("Image/releaseRemoteRef", java.nio.ByteBuffer.allocate(8).putLong(textureRef).array());
+            texture.dispose();
+            texture = null;
         }
 
         /** The control background (0xRRGGBB) to composite uncovered frame pixels over; white fallback. */
@@ -251,25 +352,30 @@ public final class EvolveSwingHost {
             return 0xFFFFFF;
         }
 
-        private void frameProduced(int[] argb, int w, int h) {
-            synchronized (this) {
-                framePixels = argb;
-                frameWidth = w;
-                frameHeight = h;
-            }
-            // Repaint the SWT canvas on its own thread (mirrors FXCanvas). The off-screen Swing
-            // repaint that produced this frame ran on the EDT; hop back to the SWT thread to blit.
-            // Coalesce so a burst of EDT frames doesn't queue a redraw each; skip once the app is
-            // tearing down (the canvas/display may be disposed on the SWT side while frames arrive).
+        private void frameProduced() {
+            // Present on the SWT thread (mirrors FXCanvas). The off-screen Swing repaint that produced
+            // this frame ran on the EDT; hop back to the SWT thread to ship it. Coalesce so a burst of
+            // EDT frames doesn't queue a present each; skip once the app is tearing down (the
+            // canvas/display may be disposed on the SWT side while frames arrive).
+            asyncOnce(presentPending, this::present);
+        }
+
+        private void requestRedraw() {
+            asyncOnce(redrawPending, () -> {
+                if (!canvas.isDisposed()) canvas.redraw();
+            });
+        }
+
+        private void asyncOnce(AtomicBoolean pending, Runnable r) {
             if (display.isDisposed()) return;
-            if (redrawPending.compareAndSet(false, true)) {
+            if (pending.compareAndSet(false, true)) {
                 try {
                     display.asyncExec(() -> {
-                        redrawPending.set(false);
-                        if (!canvas.isDisposed()) canvas.redraw();
+                        pending.set(false);
+                        r.run();
                     });
                 } catch (org.eclipse.swt.SWTException disposed) {
-                    redrawPending.set(false); // display disposed between the check and asyncExec
+                    pending.set(false); // display disposed between the check and asyncExec
                 }
             }
         }
@@ -312,20 +418,16 @@ public final class EvolveSwingHost {
 
             @Override
             public void imageUpdated(int dirtyX, int dirtyY, int dirtyWidth, int dirtyHeight) {
-                final int[] snapshot;
-                final int w, h;
                 synchronized (lock) {
                     if (buffer == null || bufWidth <= 0 || bufHeight <= 0) return;
-                    w = bufWidth;
-                    h = bufHeight;
-                    // Copy the whole logical frame out of the shared buffer (dropping any
-                    // padding the stride carries) so the SWT thread reads a stable image.
-                    snapshot = new int[w * h];
-                    for (int row = 0; row < h; row++) {
-                        System.arraycopy(buffer, row * stride, snapshot, row * w, w);
+                    // Copy only the repainted rectangle out of the shared buffer (dropping any padding
+                    // the stride carries) so the SWT thread reads a stable image.
+                    synchronized (tiles) {
+                        tiles.resize(bufWidth, bufHeight);
+                        tiles.copy(buffer, stride, dirtyX, dirtyY, dirtyWidth, dirtyHeight);
                     }
                 }
-                frameProduced(snapshot, w, h);
+                frameProduced();
             }
 
             @Override public void focusGrabbed() {}
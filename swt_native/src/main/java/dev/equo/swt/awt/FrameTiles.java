@@ -0,0 +1,155 @@
+package dev.equo.swt.awt;
+
+import java.nio.ByteBuffer;
+
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * The embedded Swing frame as the SWT side last copied it, plus the region that changed since it
+ * was last presented. {@code JLightweightFrame} reports the dirty rectangle of every repaint; only
+ * that rectangle is copied out of the frame's shared buffer, and on present only the union of what
+ * changed is composited — shipped as one raw RGBA tile into the texture Flutter keeps for the host,
+ * or written into the host's own persistent pixels. A blinking caret then moves a few hundred bytes
+ * instead of re-encoding the whole panel.
+ *
+ * <p>The buffers live as long as the frame size does; only a resize reallocates them. Not
+ * thread-safe: the host guards it with its own lock (the EDT copies, the SWT thread presents).
+ */
+public final class FrameTiles {
+
+    /** Bytes ahead of a tile's pixels: the texture ref, its width and height, the tile's x, y, width and height. */
+    public static final int HEADER_BYTES = 8 + 6 * 4;
+
+    // INT_ARGB_PRE, width * height, without the stride padding of the shared buffer.
+    private int[] pixels = new int[0];
+    private int width;
+    private int height;
+    // Half-open damage bounds; empty when x0 >= x1.
+    private int x0, y0, x1, y1;
+    // The background the last present composited over; a change re-composites everything.
+    private int composedOver = -1;
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    /** Sets the frame size. A change reallocates the buffer and damages the whole frame. */
+    public void resize(int w, int h) {
+        if (w == width && h == height) return;
+        width = w;
+        height = h;
+        pixels = new int[w * h];
+        damage(0, 0, w, h);
+    }
+
+    /**
+     * Copies the given rectangle of the shared frame buffer ({@code src}, {@code stride} ints per
+     * row) and adds it to the damage. The rectangle is clipped to the frame.
+     */
+    public void copy(int[] src, int stride, int x, int y, int w, int h) {
+        int left = Math.max(0, x), top = Math.max(0, y);
+        int right = Math.min(width, x + w), bottom = Math.min(height, y + h);
+        if (left >= right || top >= bottom) return;
+        int cols = right - left;
+        for (int row = top; row < bottom; row++) {
+            System.arraycopy(src, row * stride + left, pixels, row * width + left, cols);
+        }
+        damage(left, top, right - left, bottom - top);
+    }
+
+    public void damage(int x, int y, int w, int h) {
+        if (w <= 0 || h <= 0) return;
+        if (x0 >= x1) {
+            x0 = x;
+            y0 = y;
+            x1 = x + w;
+            y1 = y + h;
+        } else {
+            x0 = Math.min(x0, x);
+            y0 = Math.min(y0, y);
+            x1 = Math.max(x1, x + w);
+            y1 = Math.max(y1, y + h);
+        }
+    }
+
+    public boolean hasDamage() {
+        return x0 < x1;
+    }
+
+    /**
+     * Encodes the damage, composited over {@code bg} (0xRRGGBB), as one tile for texture
+     * {@code ref} and clears it. The layout is {@link #HEADER_BYTES} of big-endian header followed
+     * by the tile's rows as opaque RGBA. Returns {@code null} when nothing changed.
+     */
+    public byte[] takeTile(long ref, int bg) {
+        Rectangle r = takeDamage(bg);
+        if (r == null) return null;
+        // The message itself is the one allocation left per present, and it is sized to the damage:
+        // the comm frames and writes it off this thread, so it cannot be a reused buffer.
+        byte[] out = new byte[HEADER_BYTES + r.width * r.height * 4];
+        ByteBuffer.wrap(out).putLong(ref).putInt(width).putInt(height)
+                .putInt(r.x).putInt(r.y).putInt(r.width).putInt(r.height);
+        int o = HEADER_BYTES;
+        for (int row = r.y; row < r.y + r.height; row++) {
+            int i = row * width + r.x;
+            for (int end = i + r.width; i < end; i++) {
+                int rgb = over(pixels[i], bg);
+                out[o++] = (byte) (rgb >> 16);
+                out[o++] = (byte) (rgb >> 8);
+                out[o++] = (byte) rgb;
+                out[o++] = (byte) 0xFF;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Composites the damage over {@code bg} (0xRRGGBB) into {@code out} — {@code width * height}
+     * pixels, laid out like the frame — and clears it. Returns the rectangle written, or
+     * {@code null} when nothing changed.
+     */
+    public Rectangle takeInto(int[] out, int bg) {
+        Rectangle r = takeDamage(bg);
+        if (r == null) return null;
+        for (int row = r.y; row < r.y + r.height; row++) {
+            int i = row * width + r.x;
+            for (int end = i + r.width; i < end; i++) {
+                out[i] = over(pixels[i], bg);
+            }
+        }
+        return r;
+    }
+
+    private Rectangle takeDamage(int bg) {
+        if (bg != composedOver) {
+            composedOver = bg;
+            damage(0, 0, width, height);
+        }
+        if (!hasDamage()) return null;
+        Rectangle r = new Rectangle(x0, y0, x1 - x0, y1 - y0);
+        x0 = y0 = x1 = y1 = 0;
+        return r;
+    }
+
+    /**
+     * One INT_ARGB_PRE pixel over the opaque background. The off-screen frame can leave regions
+     * the Swing content didn't cover transparent (notably on Windows, where a resize leaves the
+     * reallocated buffer's uncovered area unpainted); those show the widget background — a naive
+     * alpha-drop would render them black.
+     */
+    static int over(int argb, int bg) {
+        int a = (argb >>> 24) & 0xFF;
+        if (a == 0xFF) return argb & 0xFFFFFF;
+        if (a == 0) return bg;
+        // Premultiplied source over opaque bg: out = src_pre + bg * (255 - a) / 255.
+        int inv = 255 - a;
+        int r = ((argb >> 16) & 0xFF) + (((bg >> 16) & 0xFF) * inv) / 255;
+        int g = ((argb >> 8) & 0xFF) + (((bg >> 8) & 0xFF) * inv) / 255;
+        int b = (argb & 0xFF) + ((bg & 0xFF) * inv) / 255;
+        return (Math.min(r, 255) << 16) | (Math.min(g, 255) << 8) | Math.min(b, 255);
+    }
+}
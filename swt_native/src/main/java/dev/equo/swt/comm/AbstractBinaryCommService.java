@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
@@ -19,6 +20,12 @@ import java.util.function.Consumer;
  *
  * <p>Wire format: {@code [2-byte name length BE][name UTF-8][payload]}. Frames sent before the
  * first client connects are buffered and flushed on connect (see {@link #onClientConnected}).
+ *
+ * <p>{@link #send} only hands the payload to this comm's {@link SendLane}: framing and the socket
+ * write run on a pooled worker, in send order, so a large push costs the sending (UI) thread its
+ * serialization and nothing more; a payload still being encoded holds its place in that order.
+ * The payload is owned by the comm once sent and must not be reused by the caller.
+ * {@code -Dcomm.syncSend=true} frames and writes on the caller instead.
  */
 public abstract class AbstractBinaryCommService implements CommService {
 
@@ -28,6 +35,8 @@ public abstract class AbstractBinaryCommService implements CommService {
     private final Map<String, TypedHandler<?>> typedHandlers = new ConcurrentHashMap<>();
     private final List<byte[]> pendingFrames = new ArrayList<>();
     private volatile boolean firstClientConnected = false;
+    private final SendLane lane = new SendLane();
+    private volatile boolean syncSend = Boolean.getBoolean("comm.syncSend");
 
     @Override
     public void send(String eventName) {
@@ -36,6 +45,38 @@ public abstract class AbstractBinaryCommService implements CommService {
 
     @Override
     public void send(String eventName, byte[] payload) {
+        if (syncSend) {
+            deliver(eventName, payload);
+        } else {
+            lane.execute(() -> deliver(eventName, payload));
+        }
+    }
+
+    /** The lane waits for {@code payload}, so the sends issued after this one wait for it too. */
+    @Override
+    public void send(String eventName, CompletableFuture<byte[]> payload) {
+        if (syncSend) {
+            deliver(eventName, payload.join());
+        } else {
+            lane.execute(() -> deliver(eventName, payload.join()));
+        }
+    }
+
+    /** Frames and writes on the caller ({@code true}) or through the send lane; for benches. */
+    public void setSyncSend(boolean syncSend) {
+        if (syncSend) lane.awaitIdle(DRAIN_TIMEOUT_MS);
+        this.syncSend = syncSend;
+    }
+
+    private static final long DRAIN_TIMEOUT_MS = 1_000;
+
+    /** Lets sends already issued reach the transport; subclasses call it before closing it. */
+    protected void drainSends() {
+        if (!lane.awaitIdle(DRAIN_TIMEOUT_MS))
+            System.err.println(logTag() + " Stopping with sends still queued");
+    }
+
+    private void deliver(String eventName, byte[] payload) {
         byte[] frame = encodeFrame(eventName, payload);
         if (!firstClientConnected) {
             synchronized (pendingFrames) {
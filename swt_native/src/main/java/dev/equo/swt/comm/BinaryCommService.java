@@ -59,6 +59,7 @@ public class BinaryCommService extends AbstractBinaryCommService {
 
     @Override
     public void stop() {
+        drainSends();
         try {
             server.stop();
         } catch (Exception e) {
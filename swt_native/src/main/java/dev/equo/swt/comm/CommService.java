@@ -1,5 +1,6 @@
 package dev.equo.swt.comm;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public interface CommService {
@@ -7,6 +8,14 @@ public interface CommService {
 
     void send(String eventName, byte[] payload);
 
+    /**
+     * Sends the payload {@code payload} completes with, in the place among this comm's sends that
+     * this call takes. This default waits for it on the caller.
+     */
+    default void send(String eventName, CompletableFuture<byte[]> payload) {
+        send(eventName, payload.join());
+    }
+
     /**
      * Registers a handler for {@code eventName}. The frame payload is deserialized to {@code cls}
      * before the callback is invoked. Pass {@code byte[].class} to receive the raw frame bytes with
@@ -85,6 +85,7 @@ public class JettyBinaryCommService extends AbstractBinaryCommService {
 
     @Override
     public void stop() {
+        drainSends();
         try {
             server.stop();
         } catch (Exception e) {
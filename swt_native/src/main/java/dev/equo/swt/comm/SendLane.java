@@ -0,0 +1,75 @@
+package dev.equo.swt.comm;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One comm's ordered hand-off to the wire. Tasks run one at a time, in {@link #execute} order, on a
+ * small daemon pool shared by every lane — so two comms (two Displays, two embedded shells) frame
+ * and write in parallel, while each keeps the exact order its sends were issued in.
+ */
+final class SendLane {
+
+    private static final AtomicInteger threadIds = new AtomicInteger();
+
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)), r -> {
+                Thread t = new Thread(r, "swt-comm-send-" + threadIds.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+
+    private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    void execute(Runnable task) {
+        tasks.add(task);
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            POOL.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+        scheduled.set(false);
+        // A task added after the last poll but before the flag cleared found the lane scheduled
+        // and did not reschedule it.
+        if (!tasks.isEmpty()) schedule();
+    }
+
+    /** Whether every task issued so far has run. */
+    boolean isIdle() {
+        return tasks.isEmpty() && !scheduled.get();
+    }
+
+    /**
+     * Waits up to {@code timeoutMillis} for every task issued before this call to run; returns
+     * whether they did. Blocks on a marker queued behind them rather than polling the lane.
+     */
+    boolean awaitIdle(long timeoutMillis) {
+        CountDownLatch reached = new CountDownLatch(1);
+        execute(reached::countDown);
+        try {
+            return reached.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
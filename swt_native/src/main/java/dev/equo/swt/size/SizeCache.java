@@ -0,0 +1,89 @@
+package dev.equo.swt.size;
+
+import dev.equo.swt.Config;
+import org.eclipse.swt.graphics.Point;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoized computeSize answers, per widget. SWT layouts ask a control for its size several times a
+ * pass, mostly with the same hints, and every answer measures the widget's text in its theme's
+ * text style. A widget's last few answers are kept by (wHint, hHint, changed) together with what
+ * they were measured from: its text, image, font and style, the theme, and whether SWT fonts are
+ * in use. A change to any of those drops them, and the next call measures again.
+ * {@code -Ddev.equo.swt.size.cache=false} measures every call.
+ */
+public final class SizeCache {
+
+    public record Stats(long measured, long reused) {
+    }
+
+    private static final int SLOTS = 4;
+    private static final Map<Object, SizeCache> caches = new WeakHashMap<>();
+    private static long measured, reused;
+
+    private Object[] inputs;
+    private Themes.Theme theme;
+    private boolean swtFonts;
+    private final int[] wHints = new int[SLOTS];
+    private final int[] hHints = new int[SLOTS];
+    private final boolean[] changes = new boolean[SLOTS];
+    private final Point[] sizes = new Point[SLOTS];
+    private int count, next;
+
+    private SizeCache() {
+    }
+
+    /**
+     * {@code widget}'s size for these hints: the one {@code measure} gave last time if
+     * {@code inputs} (what {@code measure} reads from the widget) are what they were then, else
+     * what {@code measure} gives now.
+     */
+    public static synchronized Point computeSize(Object widget, int wHint, int hHint, boolean changed,
+                                                 Supplier<Point> measure, Object... inputs) {
+        if (!Boolean.parseBoolean(System.getProperty("dev.equo.swt.size.cache", "true"))) {
+            measured++;
+            return measure.get();
+        }
+        SizeCache cache = caches.computeIfAbsent(widget, w -> new SizeCache());
+        Themes.Theme theme = Themes.getTheme();
+        boolean swtFonts = Config.getConfigFlags().use_swt_fonts;
+        if (cache.theme != theme || cache.swtFonts != swtFonts || !Arrays.deepEquals(cache.inputs, inputs)) {
+            cache.inputs = inputs;
+            cache.theme = theme;
+            cache.swtFonts = swtFonts;
+            cache.count = 0;
+            cache.next = 0;
+        }
+        for (int i = 0; i < cache.count; i++) {
+            if (cache.wHints[i] == wHint && cache.hHints[i] == hHint && cache.changes[i] == changed) {
+                reused++;
+                Point size = cache.sizes[i];
+                return new Point(size.x, size.y);
+            }
+        }
+        measured++;
+        Point size = measure.get();
+        int slot = cache.next;
+        cache.next = (slot + 1) % SLOTS;
+        cache.count = Math.min(cache.count + 1, SLOTS);
+        cache.wHints[slot] = wHint;
+        cache.hHints[slot] = hHint;
+        cache.changes[slot] = changed;
+        cache.sizes[slot] = new Point(size.x, size.y);
+        return size;
+    }
+
+    /** How many computeSize calls have measured, and how many reused an earlier answer. */
+    public static synchronized Stats stats() {
+        return new Stats(measured, reused);
+    }
+
+    public static synchronized void resetStats() {
+        measured = 0;
+        reused = 0;
+    }
+}
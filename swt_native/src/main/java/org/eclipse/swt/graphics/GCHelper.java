@@ -161,13 +161,14 @@ public class GCHelper {
     }
 
     /**
-     * Updates an image from raw PNG bytes received over the binary comm channel — the desktop
+     * Updates an image from a render Flutter read back over the binary comm channel — the desktop
      * D→J image path. No base64 is involved (the bytes arrive verbatim via {@code sendBytes}).
+     * The bytes are a raw RGBA readback or, as a fallback, a PNG; see {@link #decodeRendered}.
      */
-    public static void updateImageFromPngBytes(Image dartImage, Image swtSource, byte[] pngBytes) {
-        if (pngBytes == null) return;
+    public static void updateImageFromRenderedBytes(Image dartImage, Image swtSource, byte[] bytes) {
+        if (bytes == null) return;
         try {
-            ImageData newData = new ImageData(new java.io.ByteArrayInputStream(pngBytes));
+            ImageData newData = decodeRendered(bytes);
             if (dartImage.getImpl() instanceof DartImage di) {
                 di._updateImageData(newData);
             }
@@ -175,17 +176,58 @@ public class GCHelper {
                 swtSource.getImpl()._updateImageData(newData);
             }
         } catch (Exception e) {
-            System.err.println("[GCHelper] Failed to update image from PNG bytes: " + e.getMessage());
+            System.err.println("[GCHelper] Failed to update image from rendered bytes: " + e.getMessage());
         }
     }
 
     /**
      * Base64 variant — retained for the web (Chromium) transport, whose raw-bytes channel is not
-     * yet implemented. Desktop uses {@link #updateImageFromPngBytes} instead.
+     * yet implemented. Desktop uses {@link #updateImageFromRenderedBytes} instead.
      */
     public static void updateImageFromPng(Image dartImage, Image swtSource, String pngBase64) {
         if (pngBase64 == null) return;
-        updateImageFromPngBytes(dartImage, swtSource, java.util.Base64.getDecoder().decode(pngBase64));
+        updateImageFromRenderedBytes(dartImage, swtSource, java.util.Base64.getDecoder().decode(pngBase64));
+    }
+
+    /** Leads a raw readback ("RGBA"); a PNG starts with 0x89 'P' 'N' 'G', so the two never collide. */
+    static final int RAW_RGBA_MAGIC = 0x52474241;
+
+    /** The magic, then the big-endian width and height. */
+    static final int RAW_RGBA_HEADER_BYTES = 12;
+
+    /**
+     * Decodes a render read back from Flutter. The raw format — {@link #RAW_RGBA_MAGIC}, width,
+     * height, then straight (unpremultiplied) RGBA rows — is unpacked in one pass into the same
+     * layout the PNG decoder produces for Flutter's RGBA PNGs (24-bit direct color, 4-byte scanline
+     * pad, separate alpha), so callers see identical image data either way. Anything else is read
+     * as an image file (PNG, when {@code image_png_readback} is set or the peer predates raw).
+     */
+    public static ImageData decodeRendered(byte[] bytes) {
+        java.nio.ByteBuffer header = java.nio.ByteBuffer.wrap(bytes);
+        if (bytes.length < RAW_RGBA_HEADER_BYTES || header.getInt(0) != RAW_RGBA_MAGIC) {
+            return new ImageData(new java.io.ByteArrayInputStream(bytes));
+        }
+        int width = header.getInt(4), height = header.getInt(8);
+        if (width <= 0 || height <= 0 || bytes.length - RAW_RGBA_HEADER_BYTES < (long) width * height * 4) {
+            SWT.error(SWT.ERROR_INVALID_IMAGE);
+        }
+        int bytesPerLine = (width * 3 + 3) & ~3;
+        byte[] data = new byte[bytesPerLine * height];
+        byte[] alpha = new byte[width * height];
+        int s = RAW_RGBA_HEADER_BYTES, a = 0;
+        for (int y = 0; y < height; y++) {
+            int d = y * bytesPerLine;
+            for (int x = 0; x < width; x++) {
+                data[d++] = bytes[s++];
+                data[d++] = bytes[s++];
+                data[d++] = bytes[s++];
+                alpha[a++] = bytes[s++];
+            }
+        }
+        ImageData imageData = new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF), 4, data);
+        imageData.alphaData = alpha;
+        imageData.type = SWT.IMAGE_PNG;
+        return imageData;
     }
 
     private static final String RESPONSE_SUFFIX = "Response";
@@ -196,7 +238,7 @@ public class GCHelper {
      * {@code eventName + "Response"} payload (raw frame bytes) arrives or {@code timeoutMs} elapses,
      * handing the bytes to {@code handler}. Pumping (instead of {@code future.get()}) keeps the UI
      * responsive and lets the inbound WebSocket frame be dispatched. Used by the binary D→J image
-     * path where Flutter returns PNG bytes via {@code sendBytes} (e.g. {@code GC.copyArea(Image,…)}).
+     * path where Flutter returns rendered image bytes via {@code sendBytes} (e.g. {@code GC.copyArea(Image,…)}).
      */
     public static void callOnDisplayBytes(Object widget, String eventName, Object args,
                                           java.util.function.Consumer<byte[]> handler, long timeoutMs) {
@@ -211,8 +253,11 @@ public class GCHelper {
         });
         if (widget instanceof org.eclipse.swt.widgets.DartWidget w)
             dev.equo.swt.FlutterBridge.send(w, eventName, args);
-        else if (widget instanceof DartResource r)
+        else if (widget instanceof DartResource r) {
+            // Flutter answers once the GC's ops so far are drawn: a recorded paint can't hold them.
+            dev.equo.swt.PaintRecorder.flush(r);
             dev.equo.swt.FlutterBridge.send(r, eventName, args);
+        }
         long deadline = System.currentTimeMillis() + timeoutMs;
         while (!future.isDone() && System.currentTimeMillis() < deadline) {
             if (display != null && !display.isDisposed() && !display.readAndDispatch()) {
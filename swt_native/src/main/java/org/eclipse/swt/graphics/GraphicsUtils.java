@@ -1,6 +1,7 @@
 package org.eclipse.swt.graphics;
 
 import dev.equo.swt.Config;
+import dev.equo.swt.IconPack;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
 
@@ -86,41 +87,34 @@ public class GraphicsUtils {
         return copy.getApi();
     }
 
-    private static java.util.Map<String, java.io.File> assetFilesCache = null;
+    private static IconPack assetFilesCache = null;
 
+    // The replacements: assets_path's packed index if the build wrote one, else a scan of the
+    // directory; without assets_path, the pack bundled in the jar, if any (see IconPack).
     private static void initAssetsCache() {
         if (assetFilesCache != null) return;
-        assetFilesCache = new java.util.HashMap<>();
         String assetsPath = Config.getConfigFlags().assets_path;
-        if (assetsPath == null || assetsPath.isBlank()) return;
+        if (assetsPath == null || assetsPath.isBlank()) {
+            IconPack bundled = IconPack.bundled();
+            assetFilesCache = bundled != null ? bundled : IconPack.empty();
+            return;
+        }
         assetsPath = assetsPath.replace("\"", "");
         java.io.File dir = new java.io.File(assetsPath);
         if (!dir.isAbsolute()) {
             dir = new java.io.File(System.getProperty("user.dir"), assetsPath);
         }
-        java.io.File[] files = dir.listFiles();
-        if (files != null) {
-            for (java.io.File f : files) {
-                String n = f.getName();
-                int dot = n.lastIndexOf('.');
-                if (dot > 0) {
-                    assetFilesCache.put(n.substring(0, dot), f);
-                }
-            }
-        }
+        assetFilesCache = IconPack.forDirectory(dir);
     }
 
     // Returns true if a replacement was found and applied to the target DartImage.
     private static boolean tryApplyReplacement(String filename, DartImage target) {
         initAssetsCache();
-        java.io.File file = assetFilesCache.get(filename);
-        if (file == null) return false;
-        String n = file.getName();
-        int dot = n.lastIndexOf('.');
-        String ext = n.substring(dot + 1).toLowerCase();
+        IconPack.Entry entry = assetFilesCache.get(filename);
+        if (entry == null) return false;
         try {
-            byte[] bytes = java.nio.file.Files.readAllBytes(file.toPath());
-            if (ext.equals("svg")) {
+            byte[] bytes = entry.bytes();
+            if (entry.ext.equals("svg")) {
                 target.svgContent = new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
             } else {
                 // Use ImageData as a byte transport: Flutter decodes the raw encoded bytes
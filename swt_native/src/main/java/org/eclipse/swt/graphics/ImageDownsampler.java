@@ -0,0 +1,248 @@
+package org.eclipse.swt.graphics;
+
+import dev.equo.swt.Config;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.internal.DPIUtil;
+import org.eclipse.swt.widgets.Display;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Scaled {@code GC.drawImage} calls ship the whole source image and let Flutter scale it, so a
+ * photo drawn as a thumbnail sends every one of its pixels. With {@code image_downsample} set
+ * ({@code -Dswt.evolve.image_downsample=true}), the source rectangle is cropped and area-averaged
+ * here to the destination's pixel size at the device zoom, and that smaller image is drawn
+ * instead. A GC transform that magnifies isn't accounted for; leave the option off for those.
+ *
+ * <p>Results are kept on the source image per (source rectangle, target size), for the
+ * {@link DartImage#imageData} they were made from. The image replaces that data rather than
+ * mutating it, so a draw that finds other data disposes the old results first. Results are also
+ * disposed when the source is, when they fall out of the few kept per image, and when their
+ * Display is disposed.
+ */
+public final class ImageDownsampler {
+
+    /** Sizes kept per source image; a view being resized asks for a new one each frame. */
+    private static final int SIZES_PER_IMAGE = 4;
+
+    /** Every source's results, to dispose with their Display; a source's go with it. */
+    private static final Set<Sizes> all = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /** Displays that dispose their results in a {@link Display#disposeExec}. */
+    private static final Set<Display> displays = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private record Key(int srcX, int srcY, int srcWidth, int srcHeight, int width, int height) {
+    }
+
+    /** One source image's results, most recently drawn last. */
+    static final class Sizes {
+        final Display display;
+        final ImageData data;
+        final LinkedHashMap<Key, Image> images = new LinkedHashMap<>(8, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Image> eldest) {
+                if (size() <= SIZES_PER_IMAGE)
+                    return false;
+                eldest.getValue().dispose();
+                return true;
+            }
+        };
+
+        Sizes(Display display, ImageData data) {
+            this.display = display;
+            this.data = data;
+        }
+
+        void dispose() {
+            for (Image image : images.values())
+                image.dispose();
+            images.clear();
+        }
+    }
+
+    private ImageDownsampler() {
+    }
+
+    /** {@link #forDraw(Display, Image, int, int, int, int, int, int)} for the whole image. */
+    static Image forDraw(Display display, Image image, int destWidth, int destHeight) {
+        if (image == null || image.isDisposed())
+            return null;
+        Rectangle bounds = image.getBounds();
+        return forDraw(display, image, 0, 0, bounds.width, bounds.height, destWidth, destHeight);
+    }
+
+    /**
+     * The image to draw in place of {@code image}'s source rectangle — its whole bounds are the new
+     * source rectangle — or {@code null} to draw {@code image} as given: the option is off, the
+     * image isn't plain pixels held here (SVG, a replaced icon, a GC render), or the result
+     * wouldn't be at most half the pixels.
+     */
+    static Image forDraw(Display display, Image image, int srcX, int srcY, int srcWidth, int srcHeight, int destWidth, int destHeight) {
+        if (!Config.getConfigFlags().image_downsample || destWidth <= 0 || destHeight <= 0 || !(image.getImpl() instanceof DartImage di))
+            return null;
+        ImageData data = di.imageData;
+        if (data == null || di.svgContent != null || di.filename != null || di.remoteRef != null || di.memGC != null)
+            return null;
+        Rectangle bounds = image.getBounds();
+        if (bounds.width <= 0 || bounds.height <= 0)
+            return null;
+        // Points to pixels of the data held, which may be at a zoom other than 100.
+        int x = srcX * data.width / bounds.width, w = Math.max(1, srcWidth * data.width / bounds.width);
+        int y = srcY * data.height / bounds.height, h = Math.max(1, srcHeight * data.height / bounds.height);
+        if (x + w > data.width || y + h > data.height)
+            return null;
+        int zoom = DPIUtil.getDeviceZoom();
+        int[] size = targetSize(data.width, data.height, w, h, destWidth * zoom / 100, destHeight * zoom / 100);
+        if (size == null)
+            return null;
+        Key key = new Key(x, y, w, h, size[0], size[1]);
+        synchronized (all) {
+            Sizes sizes = di.downsampled;
+            if (sizes == null || sizes.data != data || sizes.display != display) {
+                if (sizes != null) {
+                    sizes.dispose();
+                    all.remove(sizes);
+                }
+                sizes = di.downsampled = new Sizes(display, data);
+                all.add(sizes);
+                if (displays.add(display))
+                    display.disposeExec(() -> release(display));
+            }
+            Image scaled = sizes.images.get(key);
+            if (scaled == null) {
+                scaled = new DartImage(display, downsample(data, x, y, w, h, size[0], size[1]), null).getApi();
+                sizes.images.put(key, scaled);
+            }
+            return scaled;
+        }
+    }
+
+    /** Disposes the results made from {@code image}, which is being disposed. */
+    static void forget(DartImage image) {
+        synchronized (all) {
+            Sizes sizes = image.downsampled;
+            if (sizes == null)
+                return;
+            image.downsampled = null;
+            sizes.dispose();
+            all.remove(sizes);
+        }
+    }
+
+    /** Disposes every result drawn on {@code display}, which is being disposed. */
+    private static void release(Display display) {
+        synchronized (all) {
+            for (Iterator<Sizes> it = all.iterator(); it.hasNext(); ) {
+                Sizes sizes = it.next();
+                if (sizes.display == display) {
+                    sizes.dispose();
+                    it.remove();
+                }
+            }
+            displays.remove(display);
+        }
+    }
+
+    /**
+     * The size to resample a {@code srcWidth}×{@code srcHeight} crop of an
+     * {@code imageWidth}×{@code imageHeight} image to for a {@code destWidth}×{@code destHeight}
+     * pixel destination — never larger than the crop, Flutter upscales as well as we would — or
+     * {@code null} when that isn't at most half the image's pixels.
+     */
+    public static int[] targetSize(int imageWidth, int imageHeight, int srcWidth, int srcHeight, int destWidth, int destHeight) {
+        int width = Math.max(1, Math.min(srcWidth, destWidth));
+        int height = Math.max(1, Math.min(srcHeight, destHeight));
+        if ((long) width * height * 2 > (long) imageWidth * imageHeight)
+            return null;
+        return new int[] { width, height };
+    }
+
+    /**
+     * Crops {@code data} to the given rectangle and shrinks it to {@code width}×{@code height} by
+     * averaging each destination pixel's box of source pixels, weighted by alpha so transparent
+     * pixels don't darken edges. Any depth and transparency in; 24-bit direct, with alpha only if
+     * some pixel isn't opaque, out.
+     */
+    public static ImageData downsample(ImageData data, int srcX, int srcY, int srcWidth, int srcHeight, int width, int height) {
+        PaletteData palette = data.palette;
+        int transparency = data.getTransparencyType();
+        ImageData mask = transparency == SWT.TRANSPARENCY_MASK ? data.getTransparencyMask() : null;
+        int[] pixels = new int[srcWidth], maskPixels = mask != null ? new int[srcWidth] : null;
+        byte[] alphas = new byte[srcWidth];
+        // Source column to destination column, and how many source columns each one averages.
+        int[] column = new int[srcWidth];
+        int[] columns = new int[width];
+        for (int sx = 0; sx < srcWidth; sx++) {
+            column[sx] = (int) ((long) sx * width / srcWidth);
+            columns[column[sx]]++;
+        }
+        long[] sumA = new long[width], sumR = new long[width], sumG = new long[width], sumB = new long[width];
+        ImageData out = new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        int[] row = new int[width];
+        byte[] rowAlpha = new byte[width];
+        boolean opaque = true;
+        byte[] outAlpha = new byte[width * height];
+        int rows = 0, dy = 0;
+        for (int sy = 0; sy < srcHeight; sy++) {
+            data.getPixels(srcX, srcY + sy, srcWidth, pixels, 0);
+            data.getAlphas(srcX, srcY + sy, srcWidth, alphas, 0);
+            if (mask != null)
+                mask.getPixels(srcX, srcY + sy, srcWidth, maskPixels, 0);
+            for (int sx = 0; sx < srcWidth; sx++) {
+                int pixel = pixels[sx];
+                int a = alphas[sx] & 0xFF;
+                if (data.alpha != -1)
+                    a = a * data.alpha / 255;
+                if ((transparency == SWT.TRANSPARENCY_PIXEL && pixel == data.transparentPixel) || (mask != null && maskPixels[sx] == 0))
+                    a = 0;
+                int r, g, b;
+                if (palette.isDirect) {
+                    r = shift(pixel & palette.redMask, palette.redShift);
+                    g = shift(pixel & palette.greenMask, palette.greenShift);
+                    b = shift(pixel & palette.blueMask, palette.blueShift);
+                } else {
+                    RGB rgb = palette.colors[pixel];
+                    r = rgb.red;
+                    g = rgb.green;
+                    b = rgb.blue;
+                }
+                int dx = column[sx];
+                sumA[dx] += a;
+                sumR[dx] += r * a;
+                sumG[dx] += g * a;
+                sumB[dx] += b * a;
+            }
+            rows++;
+            if (sy + 1 == srcHeight || (int) ((long) (sy + 1) * height / srcHeight) != dy) {
+                for (int dx = 0; dx < width; dx++) {
+                    long a = sumA[dx];
+                    int n = rows * columns[dx];
+                    int alpha = (int) ((a + n / 2) / n);
+                    int r = a == 0 ? 0 : (int) ((sumR[dx] + a / 2) / a);
+                    int g = a == 0 ? 0 : (int) ((sumG[dx] + a / 2) / a);
+                    int b = a == 0 ? 0 : (int) ((sumB[dx] + a / 2) / a);
+                    row[dx] = r << 16 | g << 8 | b;
+                    rowAlpha[dx] = (byte) alpha;
+                    opaque &= alpha == 255;
+                    sumA[dx] = sumR[dx] = sumG[dx] = sumB[dx] = 0;
+                }
+                out.setPixels(0, dy, width, row, 0);
+                System.arraycopy(rowAlpha, 0, outAlpha, dy * width, width);
+                rows = 0;
+                dy++;
+            }
+        }
+        if (!opaque)
+            out.alphaData = outAlpha;
+        return out;
+    }
+
+    private static int shift(int channel, int shift) {
+        return shift < 0 ? channel >>> -shift : channel << shift;
+    }
+}
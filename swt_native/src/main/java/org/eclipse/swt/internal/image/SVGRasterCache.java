@@ -0,0 +1,128 @@
+package org.eclipse.swt.internal.image;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.eclipse.swt.graphics.ImageData;
+
+/**
+ * Process-wide cache of rasterized SVG documents, keyed by content hash and zoom or target size.
+ * Eclipse themes load the same few hundred SVG icons for every part, at each zoom in use; a hit
+ * costs a copy of the pixels instead of a parse and a rasterization. Bounded by the bytes of pixel
+ * data held ({@code dev.equo.swt.svg.cacheBytes}, 32 MB by default), least recently used first out.
+ * Images are copied in and out, so callers may modify what they get.
+ *
+ * <p>{@code -Ddev.equo.swt.svg.cacheStats=true} prints the hit rate and memory held at exit.
+ */
+public final class SVGRasterCache {
+
+    static final long DEFAULT_MAX_BYTES = 32L << 20;
+
+    private static final SVGRasterCache SHARED = new SVGRasterCache(
+            Long.getLong("dev.equo.swt.svg.cacheBytes", DEFAULT_MAX_BYTES));
+
+    static {
+        if (Boolean.getBoolean("dev.equo.swt.svg.cacheStats")) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println("[svg-cache] " + SHARED.stats()),
+                    "svg-cache-stats"));
+        }
+    }
+
+    private record Key(long hash, int zoom, int width, int height) {
+    }
+
+    // Access-ordered: iteration starts at the least recently used entry.
+    private final LinkedHashMap<Key, ImageData> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final long maxBytes;
+    private long bytes;
+    private long hits, misses, evictions;
+
+    SVGRasterCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static SVGRasterCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * The document's content hash: 53 bits of its SHA-256. Plenty to tell a workbench's icons
+     * apart, and exact as a JSON number on the web, where Dart ints are doubles.
+     */
+    public static long contentHash(byte[] svg) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(svg);
+            long hash = 0;
+            for (int i = 0; i < 8; i++) hash = (hash << 8) | (digest[i] & 0xFF);
+            return hash & ((1L << 53) - 1);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** {@code svg} rasterized at {@code zoom} percent, through {@code rasterizer} on a miss. */
+    public ImageData atZoom(byte[] svg, int zoom, Function<InputStream, ImageData> rasterizer) {
+        return get(new Key(contentHash(svg), zoom, 0, 0), svg, rasterizer);
+    }
+
+    /** {@code svg} rasterized to {@code width} x {@code height}, through {@code rasterizer} on a miss. */
+    public ImageData atSize(byte[] svg, int width, int height, Function<InputStream, ImageData> rasterizer) {
+        return get(new Key(contentHash(svg), 0, width, height), svg, rasterizer);
+    }
+
+    private ImageData get(Key key, byte[] svg, Function<InputStream, ImageData> rasterizer) {
+        synchronized (this) {
+            ImageData cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return (ImageData) cached.clone();
+            }
+            misses++;
+        }
+        // Rasterize outside the lock: two threads missing on the same icon both do the work, once.
+        ImageData image = rasterizer.apply(new ByteArrayInputStream(svg));
+        if (image != null) put(key, (ImageData) image.clone());
+        return image;
+    }
+
+    private synchronized void put(Key key, ImageData image) {
+        long size = sizeOf(image);
+        if (size > maxBytes) return;
+        ImageData previous = entries.put(key, image);
+        if (previous != null) bytes -= sizeOf(previous);
+        bytes += size;
+        Iterator<Map.Entry<Key, ImageData>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= sizeOf(eldest.next().getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    static long sizeOf(ImageData image) {
+        long size = image.data != null ? image.data.length : 0;
+        if (image.alphaData != null) size += image.alphaData.length;
+        if (image.maskData != null) size += image.maskData.length;
+        return size;
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized String stats() {
+        long lookups = hits + misses;
+        return String.format("%d hits / %d lookups (%.1f%%), %d images in %d KB of %d KB, %d evicted",
+                hits, lookups, lookups == 0 ? 0.0 : 100.0 * hits / lookups,
+                entries.size(), bytes / 1024, maxBytes / 1024, evictions);
+    }
+}
@@ -6,6 +6,9 @@ import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 public class ControlHelper {
 
     // True while a Flutter-originated KeyDown is being dispatched. Widgets that edit content on
@@ -15,6 +18,15 @@ public class ControlHelper {
 
     public static int inPaintDepth;
 
+    /** Damage standing for the whole control. */
+    private static final Rectangle FULL = new Rectangle(0, 0, 0, 0);
+
+    /**
+     * The area invalidated per control since its last {@code redraw()} paint ran, as the union of
+     * the rectangles passed to {@code redraw(x, y, width, height, all)}, or {@link #FULL}.
+     */
+    private static final Map<DartControl, Rectangle> damage = new WeakHashMap<>();
+
     public static void sendFlutterKeyDown(DartWidget widget, Event event) {
         FLUTTER_KEY.set(true);
         try {
@@ -208,20 +220,43 @@ public class ControlHelper {
 
     static void paint(DartControl c, Event e) {
         if (c.drawCount > 0) return;
-        firePaint(c);
+        firePaint(c, false, null);
     }
 
     public static void paint(DartControl c) {
+        damage.put(c, FULL);
+        schedulePaint(c);
+    }
+
+    /**
+     * {@code redraw(x, y, width, height, all)}: the area is added to the control's damage, and the
+     * paint that follows covers only the damage accumulated by then, as native SWT's does.
+     */
+    public static void paint(DartControl c, int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) return;
+        Rectangle area = new Rectangle(x, y, width, height);
+        Rectangle pending = damage.get(c);
+        damage.put(c, pending == null ? area : pending == FULL ? FULL : pending.union(area));
+        schedulePaint(c);
+    }
+
+    private static void schedulePaint(DartControl c) {
         if (c.drawCount > 0) return;
         c.drawCount++;
         c.getDisplay().asyncExec(() -> {
             c.drawCount--;
-            firePaint(c);
+            Rectangle area = damage.remove(c);
+            firePaint(c, true, area == FULL ? null : area);
             c.dirty();
         });
     }
 
-    private static void firePaint(DartControl c) {
+    /**
+     * {@code reusable}: a {@code redraw()} paint, whose picture Flutter may already have (see
+     * {@link dev.equo.swt.PaintRecorder}); a paint Flutter asked for always goes out whole.
+     * {@code area}: the damage to paint, {@code null} for the whole control.
+     */
+    private static void firePaint(DartControl c, boolean reusable, Rectangle area) {
         if (c.isDisposed()) return;
         Composite parent = c.getParent();
         while (parent != null) {
@@ -238,6 +273,14 @@ public class ControlHelper {
         // from DartImage.getImageData during serialization).
         if (bounds.width <= 0 || bounds.height <= 0)
             return;
+        // Flutter composites a partial paint over the picture it holds; that needs the recording
+        // to carry the damage to it, so without one every paint is whole.
+        Rectangle clip = area != null && dev.equo.swt.PaintRecorder.enabled()
+                ? area.intersection(new Rectangle(0, 0, bounds.width, bounds.height)) : null;
+        if (clip != null && clip.isEmpty())
+            return;
+        if (clip != null && clip.width == bounds.width && clip.height == bounds.height)
+            clip = null;
         // Mark that a paint is in progress. sendEvent(SWT.Paint) runs the paint handler
         // synchronously, and that handler (plus the GC dispose below) can pump the SWT event
         // loop via DartImage.getImageData. While inPaintDepth > 0, DartDisplay.runDeferredEvents
@@ -250,30 +293,29 @@ public class ControlHelper {
             // get this synthetic full-area Paint. Without draw2d on the classpath, nothing to skip.
             try {
                 if (!Class.forName("org.eclipse.draw2d.FigureCanvas").isInstance(c.getApi())) {
-                    Event event = new Event();
-                    event.x = 0;
-                    event.y = 0;
-                    event.width = bounds.width;
-                    event.height = bounds.height;
-                    event.gc = new GC(c.getApi());
-                    c.sendEvent(SWT.Paint, event);
-                    event.gc.dispose();
+                    sendPaint(c, bounds, clip, reusable);
                 }
             } catch (ClassNotFoundException ex) {
-                Event event = new Event();
-                event.x = 0;
-                event.y = 0;
-                event.width = bounds.width;
-                event.height = bounds.height;
-                event.gc = new GC(c.getApi());
-                c.sendEvent(SWT.Paint, event);
-                event.gc.dispose();
+                sendPaint(c, bounds, clip, reusable);
             }
         } finally {
             inPaintDepth--;
         }
     }
 
+    private static void sendPaint(DartControl c, Rectangle bounds, Rectangle clip, boolean reusable) {
+        Event event = new Event();
+        event.x = clip != null ? clip.x : 0;
+        event.y = clip != null ? clip.y : 0;
+        event.width = clip != null ? clip.width : bounds.width;
+        event.height = clip != null ? clip.height : bounds.height;
+        event.gc = new GC(c.getApi());
+        if (clip != null) event.gc.setClipping(clip);
+        dev.equo.swt.PaintRecorder.begin(event.gc.getImpl(), reusable, clip);
+        c.sendEvent(SWT.Paint, event);
+        event.gc.dispose();
+    }
+
     public static void setEnabled(DartControl c, boolean enabled) {
         boolean newValue = enabled;
         if (!java.util.Objects.equals(c.enabled, newValue)) {
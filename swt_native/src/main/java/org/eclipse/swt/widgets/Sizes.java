@@ -77,15 +77,18 @@ public class Sizes {
     }
 
     public static Point computeSize(DartButton c, int wHint, int hHint, boolean changed) {
-        return ButtonSizes.computeSize(c, wHint, hHint, changed);
+        return SizeCache.computeSize(c, wHint, hHint, changed, () -> ButtonSizes.computeSize(c, wHint, hHint, changed),
+                c.getText(), c.getImage(), c.getFont(), c.getExplicitFont(), c.getStyle());
     }
 
     public static Point computeSize(DartTableItem widget, int wHint, int hHint, boolean changed) {
-        return TableItemSizes.computeSize(widget, wHint, hHint, changed);
+        return SizeCache.computeSize(widget, wHint, hHint, changed, () -> TableItemSizes.computeSize(widget, wHint, hHint, changed),
+                widget.getText(), widget.getImage(), widget.getFont(), widget.getExplicitFont(), widget.getStyle());
     }
 
     public static Point computeSize(DartTreeItem widget, int wHint, int hHint, boolean changed) {
-        return TreeItemSizes.computeSize(widget, wHint, hHint, changed);
+        return SizeCache.computeSize(widget, wHint, hHint, changed, () -> TreeItemSizes.computeSize(widget, wHint, hHint, changed),
+                widget.getText(), widget.getImage(), widget.getFont(), widget.getExplicitFont(), widget.getStyle());
     }
 
     private static final int TABLE_CELL_PADDING = 16;
@@ -142,11 +145,13 @@ public class Sizes {
     }
 
     public static Point computeSize(DartCLabel c, int wHint, int hHint, boolean changed) {
-        return CLabelSizes.computeSize(c, wHint, hHint, changed);
+        return SizeCache.computeSize(c, wHint, hHint, changed, () -> CLabelSizes.computeSize(c, wHint, hHint, changed),
+                c.getText(), c.getImage(), c.getFont(), c.getExplicitFont(), c.getStyle());
     }
 
     public static Point computeSize(DartCombo c, int wHint, int hHint, boolean changed) {
-        return ComboSizes.computeSize(c, wHint, hHint, changed);
+        return SizeCache.computeSize(c, wHint, hHint, changed, () -> ComboSizes.computeSize(c, wHint, hHint, changed),
+                c.getText(), c.getItems(), c.getFont(), c.getExplicitFont(), c.getStyle());
     }
 
     private static boolean inInfoPopup(Control c) {
@@ -384,7 +389,8 @@ public class Sizes {
     }
 
     public static Point computeSize(DartLabel c, int wHint, int hHint, boolean changed) {
-        return LabelSizes.computeSize(c, wHint, hHint, changed);
+        return SizeCache.computeSize(c, wHint, hHint, changed, () -> LabelSizes.computeSize(c, wHint, hHint, changed),
+                c.getText(), c.getImage(), c.getFont(), c.getExplicitFont(), c.getStyle());
     }
 
     public static Point computeSize(DartLink c, int wHint, int hHint, boolean changed) {
@@ -6,8 +6,18 @@ import org.eclipse.swt.dnd.TextTransfer;
 import org.eclipse.swt.dnd.Transfer;
 import org.eclipse.swt.graphics.Point;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 public class TextHelper {
 
+    /**
+     * The content Flutter is known to show, per Text: the very string its last applied
+     * {@link #handleEdit edit} produced. While the Text still holds that string, {@link #textForFlutter}
+     * leaves it out of the push rather than echoing a document Flutter already has.
+     */
+    private static final Map<DartText, String> flutterText = new WeakHashMap<>();
+
     public static void insertEditText(DartText text, String string) {
         int length = string.length();
         Point selection = text.getSelection();
@@ -297,6 +307,69 @@ public class TextHelper {
         }
     }
 
+    /**
+     * An edit typed in Flutter, as the range {@code [e.start, e.end)} of the content it was made
+     * against ({@code e.count} characters long, at {@link DartText#revision} {@code e.index})
+     * replaced by {@code e.text}, with the caret left at {@code e.x}. Verify sees just that range,
+     * as natively, and the edit is spliced into the content here; a keystroke no longer ships the
+     * whole document to Java, nor back.
+     *
+     * <p>The revision goes up whenever the content changes other than by an edit applied as
+     * Flutter sent it, and goes out with every push; an edit made against another revision is
+     * dropped even when the length happens to match.
+     */
+    public static void handleEdit(DartText text, Event e) {
+        String current = text.getText();
+        boolean vetoable = text.hooks(SWT.Verify) || text.filters(SWT.Verify);
+        if (e.text == null || e.index != text.revision || e.count != current.length() || e.start < 0 || e.start > e.end || e.end > current.length()) {
+            // Made against content Java no longer has (a setText crossed it): Java's stands.
+            resync(text);
+            if (vetoable)
+                dev.equo.swt.FlutterBridge.send(text, "modify/verdict", Map.of("doit", false));
+            return;
+        }
+        String replacement = e.text;
+        if (vetoable) {
+            replacement = text.verifyText(replacement, e.start, e.end);
+            if (replacement == null) {
+                dev.equo.swt.FlutterBridge.send(text, "modify/verdict", Map.of("doit", false));
+                return;
+            }
+        }
+        if (text.textLimit != Text.LIMIT) {
+            int room = Math.max(0, text.textLimit - (current.length() - (e.end - e.start)));
+            if (replacement.length() > room)
+                replacement = replacement.substring(0, room);
+        }
+        String updated = current.substring(0, e.start) + replacement + current.substring(e.end);
+        int revision = text.revision;
+        applyText(text, updated, false);
+        // A ModifyListener may have set other content, which Flutter doesn't have.
+        boolean applied = replacement.equals(e.text) && updated.equals(text.getText());
+        if (applied) {
+            // Flutter has this content already: its next edit is made against the same revision.
+            text.revision = revision;
+            flutterText.put(text, text.text);
+            if (e.x >= 0 && e.x <= text.text.length())
+                text.setSelection(e.x);
+        }
+        text.dirty();
+        if (vetoable)
+            dev.equo.swt.FlutterBridge.send(text, "modify/verdict", Map.of("doit", applied));
+    }
+
+    /** Flutter lost the content it had (a fresh field): the next push carries it. */
+    public static void resync(DartText text) {
+        flutterText.remove(text);
+        text.dirty();
+    }
+
+    /** The content to push, or {@code null} when Flutter already shows it. */
+    public static String textForFlutter(DartText text) {
+        String current = text.getText();
+        return current == flutterText.get(text) ? null : current;
+    }
+
     public static void setText(DartText text, String string) {
         if (text.hooks(SWT.Verify) || text.filters(SWT.Verify)) {
             int length = text.getCharCount();
@@ -304,10 +377,13 @@ public class TextHelper {
             if (string == null)
                 return;
         }
+        applyText(text, string, true);
+    }
 
+    private static void applyText(DartText text, String string, boolean limit) {
         text.clearSegments(false);
 
-        if (text.textLimit != Text.LIMIT && string.length() > text.textLimit) {
+        if (limit && text.textLimit != Text.LIMIT && string.length() > text.textLimit) {
             string = string.substring(0, text.textLimit);
         }
 
@@ -329,6 +405,7 @@ public class TextHelper {
             text.hiddenText = null;
         }
         text.text = new String(chars, 0, length);
+        text.revision++;
     }
 
     private static char[] withCrLf(char[] string) {
@@ -19,6 +19,7 @@ import java.util.concurrent.*;
 import org.eclipse.swt.*;
 import org.eclipse.swt.widgets.*;
 import dev.equo.swt.*;
+import dev.equo.swt.comm.CommService;
 
 /**
  * The <code>Clipboard</code> provides a mechanism for transferring data from one
@@ -388,7 +389,60 @@ public class DartClipboard implements IClipboard {
      * @since 3.132
      */
     public CompletableFuture<Object> getContentsAsync(Transfer transfer, int clipboards) {
-        return CompletableFuture.completedFuture(getContents(transfer, clipboards));
+        return getContentsAsync(transfer, clipboards, null);
+    }
+
+    /**
+     * {@link #getContentsAsync(Transfer, int)}, reporting the bytes read from the client as they
+     * arrive: a large paste is an image or a document of megabytes. Reached through
+     * {@code Clipboard.getImpl()}.
+     *
+     * <p>For {@link DND#CLIPBOARD} the client's clipboard is the source of truth: another
+     * application may have replaced what this one wrote. The copy held here stands in for it
+     * only while the client still holds the write it was sent with, which the client answers
+     * with the write's id: nothing this process still holds is fetched back, and types the
+     * client can't hold last as long as the clipboard does. With no text written the client
+     * can't tell a replacement apart, so a type it holds is read from it and any other comes
+     * from the copy.
+     */
+    public CompletableFuture<Object> getContentsAsync(Transfer transfer, int clipboards, ClipboardChannel.Progress progress) {
+        checkWidget();
+        if (transfer == null)
+            DND.error(SWT.ERROR_NULL_ARGUMENT);
+        Object held = getContents(transfer, clipboards);
+        int format = _clientFormat(transfer);
+        CommService comm = FlutterBridge.resolveDisplayGcComm(display);
+        if (comm == null || (clipboards & DND.CLIPBOARD) == 0)
+            return CompletableFuture.completedFuture(held);
+        ClipboardChannel channel = new ClipboardChannel(comm);
+        if (getContents(TextTransfer.getInstance(), DND.CLIPBOARD) == null)
+            return format < 0 ? CompletableFuture.completedFuture(held) : _onDisplay(_read(channel, (byte) format, progress));
+        // Fetched and decoded on the comm's thread; only the completion runs on the UI thread.
+        return _onDisplay(channel.holds(ClipboardChannel.lastWrite()).thenCompose(holds -> {
+            if (holds)
+                return CompletableFuture.completedFuture(held);
+            if (format < 0)
+                return CompletableFuture.completedFuture(null);
+            return _read(channel, (byte) format, progress);
+        }));
+    }
+
+    private static CompletableFuture<Object> _read(ClipboardChannel channel, byte format, ClipboardChannel.Progress progress) {
+        return channel.read(format, progress).thenApply(bytes -> bytes != null ? ClipboardChannel.decode(format, bytes) : null);
+    }
+
+    /** Completes with {@code contents}, on the UI thread while there is one; a failed read is no data. */
+    private CompletableFuture<Object> _onDisplay(CompletableFuture<Object> contents) {
+        Display display = this.display;
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        contents.whenComplete((value, error) -> {
+            Object data = error == null ? value : null;
+            if (display.isDisposed())
+                result.complete(data);
+            else
+                display.asyncExec(() -> result.complete(data));
+        });
+        return result;
     }
 
     /**
@@ -530,6 +584,7 @@ public class DartClipboard implements IClipboard {
             _webClipboardData.put(DND.CLIPBOARD, data);
             _webClipboardTransfers.put(DND.CLIPBOARD, dataTypes);
             _writeTextToSystemClipboard(data, dataTypes);
+            _writeToClient(data, dataTypes);
         }
         if ((clipboards & DND.SELECTION_CLIPBOARD) != 0) {
             _webClipboardData.put(DND.SELECTION_CLIPBOARD, data);
@@ -654,6 +709,38 @@ public class DartClipboard implements IClipboard {
         }
     }
 
+    /** The client's format for {@code transfer}, or -1 for a type only this process holds. */
+    static int _clientFormat(Transfer transfer) {
+        if (transfer instanceof TextTransfer)
+            return ClipboardChannel.TEXT;
+        if (transfer instanceof RTFTransfer)
+            return ClipboardChannel.RTF;
+        if (transfer instanceof HTMLTransfer)
+            return ClipboardChannel.HTML;
+        if (transfer instanceof ImageTransfer)
+            return ClipboardChannel.IMAGE;
+        return -1;
+    }
+
+    /** Streams the types the client holds to it, off the UI thread. */
+    private void _writeToClient(Object[] data, Transfer[] dataTypes) {
+        CommService comm = FlutterBridge.resolveDisplayGcComm(display);
+        if (comm == null)
+            return;
+        byte[] formats = new byte[dataTypes.length];
+        Object[] values = new Object[dataTypes.length];
+        int count = 0;
+        for (int i = 0; i < dataTypes.length; i++) {
+            int format = _clientFormat(dataTypes[i]);
+            if (format < 0)
+                continue;
+            formats[count] = (byte) format;
+            values[count++] = data[i];
+        }
+        if (count > 0)
+            new ClipboardChannel(comm).write(java.util.Arrays.copyOf(formats, count), java.util.Arrays.copyOf(values, count), null);
+    }
+
     public Clipboard getApi() {
         if (api == null)
             api = Clipboard.createApi(this);
@@ -316,7 +316,7 @@ public final class DartGC extends DartResource implements IGC {
         drawOp.image = GraphicsUtils.copyImage(display, image);
         drawOp.x = x;
         drawOp.y = y;
-        GCHelper.callOnDisplayBytes(this, "copyAreaImageintint", drawOp, p -> GCHelper.updateImageFromPngBytes(image, null, p), 10_000);
+        GCHelper.callOnDisplayBytes(this, "copyAreaImageintint", drawOp, p -> GCHelper.updateImageFromRenderedBytes(image, null, p), 10_000);
     }
 
     void copyArea(Image image, int x, int y, long srcImage) {
@@ -392,7 +392,9 @@ public final class DartGC extends DartResource implements IGC {
                 di.memGC = null;
                 if (bridge instanceof GCImageDrawer drawer) {
                     drawer.sendGcDispose();
-                    image.getImageData();
+                    // A batched GC renders once its batch is submitted; its caller waits for all of them.
+                    if (!drawer.isBatched())
+                        image.getImageData();
                     drawer.disposeView();
                 }
             }
@@ -592,6 +594,12 @@ public final class DartGC extends DartResource implements IGC {
             imageCapture.accept(image);
             return;
         }
+        Image scaled = ImageDownsampler.forDraw(display, image, destWidth, destHeight);
+        if (scaled != null) {
+            Rectangle bounds = scaled.getBounds();
+            drawImage(scaled, 0, 0, bounds.width, bounds.height, destX, destY, destWidth, destHeight, false);
+            return;
+        }
         VGCDrawImageImageintintintint drawOp = new VGCDrawImageImageintintintint();
         drawOp.image = GraphicsUtils.copyImage(display, image);
         drawOp.destX = destX;
@@ -602,6 +610,13 @@ public final class DartGC extends DartResource implements IGC {
     }
 
     void drawImage(Image srcImage, int srcX, int srcY, int srcWidth, int srcHeight, int destX, int destY, int destWidth, int destHeight, boolean simple) {
+        Image scaled = ImageDownsampler.forDraw(display, srcImage, srcX, srcY, srcWidth, srcHeight, destWidth, destHeight);
+        if (scaled != null) {
+            srcImage = scaled;
+            srcX = srcY = 0;
+            srcWidth = scaled.getBounds().width;
+            srcHeight = scaled.getBounds().height;
+        }
         VGCDrawImageImageintintintintintintintint drawOp = new VGCDrawImageImageintintintintintintintint();
         drawOp.image = GraphicsUtils.copyImage(display, srcImage);
         drawOp.srcX = srcX;
@@ -1890,7 +1905,7 @@ public final class DartGC extends DartResource implements IGC {
             final java.util.concurrent.CompletableFuture<Void> capturedFuture = imageCtx.renderFuture();
             gcImageId = System.identityHashCode(this);
             this.bridge = EmbeddedBridge.of(gcImageId, capturedDart, pngBytes -> {
-                GCHelper.updateImageFromPngBytes(capturedDart, capturedSwt, pngBytes);
+                GCHelper.updateImageFromRenderedBytes(capturedDart, capturedSwt, pngBytes);
                 capturedFuture.complete(null);
                 Display d = Display.getDefault();
                 if (d != null && !d.isDisposed())
@@ -3211,14 +3226,14 @@ public final class DartGC extends DartResource implements IGC {
     public boolean silentDispose;
 
     public void requestRenderSnapshotAndWait() {
-        if (!(bridge instanceof GCImageDrawer drawer))
+        if (!(bridge instanceof GCImageDrawer drawer) || drawer.isBatched())
             return;
         Image target = data != null ? data.image : null;
         if (target == null)
             return;
         java.util.concurrent.CompletableFuture<Void> snapshotFuture = new java.util.concurrent.CompletableFuture<>();
         drawer.requestRenderSnapshot(bytes -> {
-            GCHelper.updateImageFromPngBytes(target, swtImageSource, bytes);
+            GCHelper.updateImageFromRenderedBytes(target, swtImageSource, bytes);
             snapshotFuture.complete(null);
         });
         Display d = Display.getCurrent();
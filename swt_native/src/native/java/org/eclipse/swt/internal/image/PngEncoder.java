@@ -16,6 +16,7 @@
 package org.eclipse.swt.internal.image;
 
 import java.io.*;
+import java.util.stream.*;
 import java.util.zip.*;
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
@@ -60,6 +61,24 @@ final class PngEncoder extends Object {
 
     int interlaceMethod = 0;
 
+    /**
+     * Bridge mode ({@link PNGFileFormat#encodeForBridge}), for the images
+     * encoded on every send to Flutter, where encode time matters more than
+     * the last few percent of size: fastest deflate level with the FILTERED
+     * strategy, a filter chosen per scanline, and big images compressed as
+     * independent row bands in parallel.
+     */
+    boolean bridge;
+
+    /** Target uncompressed size of one parallel band. */
+    static final int BAND_BYTES = 256 * 1024;
+
+    /** Images with less filtered data than this are compressed as one band. */
+    static final int PARALLEL_MIN_BYTES = 1 << 20;
+
+    /** Deflate's window: how much of the previous band primes the next one. */
+    static final int WINDOW = 32 * 1024;
+
     public PngEncoder(ImageLoader loader) {
         this.loader = loader;
         this.data = loader.data[0];
@@ -187,6 +206,10 @@ final class PngEncoder extends Object {
     }
 
     void writeImageData() throws IOException {
+        if (bridge) {
+            writeChunk(TAG_IDAT, deflateForBridge());
+            return;
+        }
         ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
         OutputStream os = new DeflaterOutputStream(baos, new Deflater(switch(loader.compression) {
             case 0 ->
@@ -198,19 +221,31 @@ final class PngEncoder extends Object {
             default ->
                 DEFAULT_COMPRESSION;
         }));
-        if (colorType == 3) {
-            byte[] lineData = new byte[width];
-            for (int y = 0; y < height; y++) {
-                int filter = 0;
-                os.write(filter);
-                data.getPixels(0, y, width, lineData, 0);
-                os.write(lineData);
-            }
-        } else {
-            int[] lineData = new int[width];
-            byte[] alphaData = null;
-            if (colorType == 6) {
-                alphaData = new byte[width];
+        RowReader rows = new RowReader();
+        for (int y = 0; y < height; y++) {
+            int filter = 0;
+            os.write(filter);
+            os.write(rows.read(y));
+        }
+        os.flush();
+        os.close();
+        writeChunk(TAG_IDAT, baos.toByteArray());
+    }
+
+    /**
+     * Reads the image's rows as unfiltered PNG scanline bytes: palette
+     * indices for color type 3, RGB or RGBA otherwise. Each reader owns its
+     * buffers, so bands can read their rows concurrently.
+     */
+    final class RowReader {
+        final byte[] lineBytes = new byte[width * bytesPerPixel()];
+        final int[] lineData = colorType == 3 ? null : new int[width];
+        final byte[] alphaData = colorType == 6 ? new byte[width] : null;
+
+        byte[] read(int y) {
+            if (colorType == 3) {
+                data.getPixels(0, y, width, lineBytes, 0);
+                return lineBytes;
             }
             int redMask = data.palette.redMask;
             int redShift = data.palette.redShift;
@@ -218,33 +253,198 @@ final class PngEncoder extends Object {
             int greenShift = data.palette.greenShift;
             int blueShift = data.palette.blueShift;
             int blueMask = data.palette.blueMask;
-            byte[] lineBytes = new byte[width * (colorType == 6 ? 4 : 3)];
-            for (int y = 0; y < height; y++) {
-                int filter = 0;
-                os.write(filter);
-                data.getPixels(0, y, width, lineData, 0);
+            data.getPixels(0, y, width, lineData, 0);
+            if (colorType == 6) {
+                data.getAlphas(0, y, width, alphaData, 0);
+            }
+            int offset = 0;
+            for (int x = 0; x < lineData.length; x++) {
+                int pixel = lineData[x];
+                int r = pixel & redMask;
+                lineBytes[offset++] = (byte) ((redShift < 0) ? r >>> -redShift : r << redShift);
+                int g = pixel & greenMask;
+                lineBytes[offset++] = (byte) ((greenShift < 0) ? g >>> -greenShift : g << greenShift);
+                int b = pixel & blueMask;
+                lineBytes[offset++] = (byte) ((blueShift < 0) ? b >>> -blueShift : b << blueShift);
                 if (colorType == 6) {
-                    data.getAlphas(0, y, width, alphaData, 0);
+                    lineBytes[offset++] = alphaData[x];
                 }
-                int offset = 0;
-                for (int x = 0; x < lineData.length; x++) {
-                    int pixel = lineData[x];
-                    int r = pixel & redMask;
-                    lineBytes[offset++] = (byte) ((redShift < 0) ? r >>> -redShift : r << redShift);
-                    int g = pixel & greenMask;
-                    lineBytes[offset++] = (byte) ((greenShift < 0) ? g >>> -greenShift : g << greenShift);
-                    int b = pixel & blueMask;
-                    lineBytes[offset++] = (byte) ((blueShift < 0) ? b >>> -blueShift : b << blueShift);
-                    if (colorType == 6) {
-                        lineBytes[offset++] = alphaData[x];
+            }
+            return lineBytes;
+        }
+    }
+
+    int bytesPerPixel() {
+        return colorType == 6 ? 4 : colorType == 2 ? 3 : 1;
+    }
+
+    /**
+     * The bridge-mode IDAT payload. Rows are filtered and then deflated in
+     * bands of about {@link #BAND_BYTES}, each band in parallel (pigz-style):
+     * every band is a raw deflate stream primed with the previous band's last
+     * {@link #WINDOW} bytes as its dictionary and ended with a sync flush, so
+     * the bands concatenate into one valid stream under a single zlib header
+     * and Adler-32 of the whole.
+     */
+    byte[] deflateForBridge() {
+        int rowBytes = width * bytesPerPixel();
+        int bandRows = Math.max(1, BAND_BYTES / (rowBytes + 1));
+        if ((long) height * (rowBytes + 1) < PARALLEL_MIN_BYTES)
+            bandRows = height;
+        int rowsPerBand = bandRows;
+        int bands = (height + rowsPerBand - 1) / rowsPerBand;
+        byte[][] filtered = new byte[bands][];
+        byte[][] deflated = new byte[bands][];
+        IntStream filtering = IntStream.range(0, bands);
+        (bands > 1 ? filtering.parallel() : filtering).forEach(b -> filtered[b] = filterRows(b * rowsPerBand, Math.min(height, (b + 1) * rowsPerBand)));
+        IntStream deflating = IntStream.range(0, bands);
+        (bands > 1 ? deflating.parallel() : deflating).forEach(b -> deflated[b] = deflateBand(filtered[b], b > 0 ? filtered[b - 1] : null, b == bands - 1));
+        Adler32 adler = new Adler32();
+        int length = 2 + 4;
+        for (int b = 0; b < bands; b++) {
+            adler.update(filtered[b]);
+            length += deflated[b].length;
+        }
+        byte[] out = new byte[length];
+        // zlib header: deflate with a 32K window, fastest level, no dictionary of its own.
+        out[0] = 0x78;
+        out[1] = 0x01;
+        int offset = 2;
+        for (byte[] band : deflated) {
+            System.arraycopy(band, 0, out, offset, band.length);
+            offset += band.length;
+        }
+        int checksum = (int) adler.getValue();
+        out[offset++] = (byte) (checksum >>> 24);
+        out[offset++] = (byte) (checksum >>> 16);
+        out[offset++] = (byte) (checksum >>> 8);
+        out[offset] = (byte) checksum;
+        return out;
+    }
+
+    /**
+     * Rows [from, to) as filtered scanlines, each led by its filter type.
+     * Palette images use filter None, as the PNG specification recommends;
+     * otherwise each row takes whichever filter gives the smallest sum of
+     * absolute (signed) output bytes, the usual heuristic for deflate.
+     */
+    byte[] filterRows(int from, int to) {
+        int bpp = bytesPerPixel();
+        int rowBytes = width * bpp;
+        byte[] out = new byte[(to - from) * (rowBytes + 1)];
+        RowReader rows = new RowReader();
+        byte[] previous = new byte[rowBytes];
+        if (from > 0)
+            System.arraycopy(rows.read(from - 1), 0, previous, 0, rowBytes);
+        byte[] current = new byte[rowBytes];
+        byte[][] candidates = new byte[5][];
+        for (int f = 1; f < 5; f++)
+            candidates[f] = new byte[rowBytes];
+        int offset = 0;
+        for (int y = from; y < to; y++) {
+            System.arraycopy(rows.read(y), 0, current, 0, rowBytes);
+            int filter = 0;
+            byte[] chosen = current;
+            if (colorType != 3) {
+                candidates[0] = current;
+                long best = sumAbs(current);
+                for (int f = 1; f < 5; f++) {
+                    applyFilter(f, current, previous, candidates[f], bpp);
+                    long sum = sumAbs(candidates[f]);
+                    if (sum < best) {
+                        best = sum;
+                        filter = f;
                     }
                 }
-                os.write(lineBytes);
+                chosen = candidates[filter];
             }
+            out[offset++] = (byte) filter;
+            System.arraycopy(chosen, 0, out, offset, rowBytes);
+            offset += rowBytes;
+            byte[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return out;
+    }
+
+    static long sumAbs(byte[] row) {
+        long sum = 0;
+        for (byte b : row)
+            sum += Math.abs(b);
+        return sum;
+    }
+
+    /**
+     * Filters row against previous (the raw row above, zeros for the first)
+     * into out, with the first pixel of each filter split out of the loop.
+     */
+    static void applyFilter(int filter, byte[] row, byte[] previous, byte[] out, int bpp) {
+        int n = row.length;
+        int edge = Math.min(n, bpp);
+        switch(filter) {
+            case PngIhdrChunk.FILTER_SUB:
+                System.arraycopy(row, 0, out, 0, edge);
+                for (int i = edge; i < n; i++)
+                    out[i] = (byte) (row[i] - row[i - bpp]);
+                break;
+            case PngIhdrChunk.FILTER_UP:
+                for (int i = 0; i < n; i++)
+                    out[i] = (byte) (row[i] - previous[i]);
+                break;
+            case PngIhdrChunk.FILTER_AVERAGE:
+                for (int i = 0; i < edge; i++)
+                    out[i] = (byte) (row[i] - ((previous[i] & 0xFF) >>> 1));
+                for (int i = edge; i < n; i++)
+                    out[i] = (byte) (row[i] - (((row[i - bpp] & 0xFF) + (previous[i] & 0xFF)) >>> 1));
+                break;
+            case PngIhdrChunk.FILTER_PAETH:
+                for (int i = 0; i < edge; i++)
+                    out[i] = (byte) (row[i] - previous[i]);
+                for (int i = edge; i < n; i++) {
+                    int left = row[i - bpp] & 0xFF;
+                    int above = previous[i] & 0xFF;
+                    int aboveLeft = previous[i - bpp] & 0xFF;
+                    int a = Math.abs(above - aboveLeft);
+                    int b = Math.abs(left - aboveLeft);
+                    int c = Math.abs(left + above - 2 * aboveLeft);
+                    out[i] = (byte) (row[i] - ((a <= b && a <= c) ? left : (b <= c) ? above : aboveLeft));
+                }
+                break;
+            default:
+                System.arraycopy(row, 0, out, 0, n);
+        }
+    }
+
+    /**
+     * One band as raw deflate data: primed with the tail of the previous
+     * band, if any, and ended with a sync flush unless it is the last.
+     */
+    static byte[] deflateBand(byte[] input, byte[] previous, boolean last) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setStrategy(Deflater.FILTERED);
+            if (previous != null) {
+                int window = Math.min(previous.length, WINDOW);
+                deflater.setDictionary(previous, previous.length - window, window);
+            }
+            deflater.setInput(input);
+            if (last)
+                deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4 + 64);
+            byte[] buffer = new byte[16 * 1024];
+            while (true) {
+                int n = deflater.deflate(buffer, 0, buffer.length, last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+                out.write(buffer, 0, n);
+                // A sync flush is complete once all input is taken and it no longer fills the
+                // buffer; the first call after setStrategy() may return nothing at all.
+                if (last ? deflater.finished() : deflater.needsInput() && n < buffer.length)
+                    break;
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
         }
-        os.flush();
-        os.close();
-        writeChunk(TAG_IDAT, baos.toByteArray());
     }
 
     void writeEnd() {
@@ -253,23 +453,27 @@ final class PngEncoder extends Object {
 
     public void encode(LEDataOutputStream outputStream) {
         try {
-            writeSignature();
-            writeHeader();
-            if (colorType == 3) {
-                writePalette();
-            }
-            boolean transparencyAlpha = (transparencyType == SWT.TRANSPARENCY_ALPHA);
-            boolean transparencyPixel = (transparencyType == SWT.TRANSPARENCY_PIXEL);
-            boolean type2Transparency = (colorType == 2 && transparencyPixel);
-            boolean type3Transparency = (colorType == 3 && (transparencyAlpha || transparencyPixel));
-            if (type2Transparency || type3Transparency) {
-                writeTransparency();
-            }
-            writeImageData();
-            writeEnd();
-            outputStream.write(bytes.toByteArray());
+            outputStream.write(encode());
         } catch (IOException e) {
             SWT.error(SWT.ERROR_IO, e);
         }
     }
+
+    byte[] encode() throws IOException {
+        writeSignature();
+        writeHeader();
+        if (colorType == 3) {
+            writePalette();
+        }
+        boolean transparencyAlpha = (transparencyType == SWT.TRANSPARENCY_ALPHA);
+        boolean transparencyPixel = (transparencyType == SWT.TRANSPARENCY_PIXEL);
+        boolean type2Transparency = (colorType == 2 && transparencyPixel);
+        boolean type3Transparency = (colorType == 3 && (transparencyAlpha || transparencyPixel));
+        if (type2Transparency || type3Transparency) {
+            writeTransparency();
+        }
+        writeImageData();
+        writeEnd();
+        return bytes.toByteArray();
+    }
 }
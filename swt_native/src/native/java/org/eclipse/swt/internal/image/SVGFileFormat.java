@@ -63,7 +63,8 @@ public class SVGFileFormat extends FileFormat {
         if (targetZoom <= 0) {
             SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, " [Cannot rasterize SVG for zoom <= 0]");
         }
-        ImageData rasterizedImageData = RASTERIZER.rasterizeSVG(inputStream, 100 * targetZoom / fileZoom);
+        int zoom = 100 * targetZoom / fileZoom;
+        ImageData rasterizedImageData = SVGRasterCache.shared().atZoom(readDocument(), zoom, svg -> RASTERIZER.rasterizeSVG(svg, zoom));
         return List.of(new ElementAtZoom<>(rasterizedImageData, targetZoom));
     }
 
@@ -75,10 +76,22 @@ public class SVGFileFormat extends FileFormat {
         if (width <= 0 || height <= 0) {
             SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, " [Cannot rasterize SVG for width or height <= 0]");
         }
-        ImageData rasterizedImageData = RASTERIZER.rasterizeSVG(inputStream, width, height);
+        ImageData rasterizedImageData = SVGRasterCache.shared().atSize(readDocument(), width, height, svg -> RASTERIZER.rasterizeSVG(svg, width, height));
         return rasterizedImageData;
     }
 
+    /**
+     * Reads the whole document, the key into {@link SVGRasterCache}.
+     */
+    private byte[] readDocument() {
+        try {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            SWT.error(SWT.ERROR_IO, e);
+            return null;
+        }
+    }
+
     @Override
     void unloadIntoByteStream(ImageLoader loader) {
         throw new UnsupportedOperationException();
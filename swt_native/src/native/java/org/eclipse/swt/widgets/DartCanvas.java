@@ -376,7 +376,7 @@ public class DartCanvas extends DartComposite implements ICanvas {
     public void redraw(int x, int y, int width, int height, boolean all) {
         super.redraw(x, y, width, height, all);
         if (this.getClass() == DartCanvas.class)
-            ControlHelper.paint(this);
+            ControlHelper.paint(this, x, y, width, height);
     }
 
     @Override
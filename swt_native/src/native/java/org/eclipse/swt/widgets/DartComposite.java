@@ -762,7 +762,7 @@ public class DartComposite extends DartScrollable implements IComposite {
     public void redraw(int x, int y, int width, int height, boolean all) {
         super.redraw(x, y, width, height, all);
         if (hooks(SWT.Paint))
-            ControlHelper.paint(this);
+            ControlHelper.paint(this, x, y, width, height);
     }
 
     @Override
@@ -400,7 +400,10 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
             error(SWT.ERROR_NULL_ARGUMENT);
         if (filterTable == null)
             filterTable = new EventTable();
+        boolean hooked = filterTable.hooks(eventType);
         filterTable.hook(eventType, listener);
+        if (!hooked)
+            DartControl.hookFilter(getShells(), eventType);
     }
 
     void addLayoutDeferred(Composite comp) {
@@ -522,6 +525,12 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
      * @see #syncExec
      */
     public void asyncExec(Runnable runnable) {
+        if (_inboxHop && runnable != null && thread == Thread.currentThread()) {
+            // An inbound handler hopping to the UI thread, which _inbox already ran it on.
+            _inboxHop = false;
+            runnable.run();
+            return;
+        }
         synchronized (DartDisplay.class) {
             if (isDisposed())
                 error(SWT.ERROR_DEVICE_DISPOSED);
@@ -2532,6 +2541,7 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
             events |= runPopups();
             events |= runPaint();
             events |= runDeferredEvents();
+            events |= runInbox();
             if (!events) {
                 events = isDisposed() || runAsyncMessages(false);
             }
@@ -2666,6 +2676,8 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
         if (caretTimer != null)
             timerExec(-1, caretTimer);
         caretTimer = null;
+        _timers.clear();
+        _dueTimers.clear();
         /* Release the System Cursors */
         for (int i = 0; i < cursors.length; i++) {
             if (cursors[i] != null)
@@ -2805,6 +2817,25 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
         return ((DartSynchronizer) synchronizer.getImpl()).runAsyncMessages(all);
     }
 
+    /** Runs the Flutter events queued in {@link #_inbox}, in order. */
+    boolean runInbox() {
+        return _inbox.drain(_dispatchInbound);
+    }
+
+    private void dispatchInbound(Consumer<Event> handler, Event event) {
+        sendPreEvent(SWT.None);
+        _inboxHop = true;
+        try {
+            handler.accept(event);
+        } catch (Throwable t) {
+            SWT.error(SWT.ERROR_FAILED_EXEC, t);
+        } finally {
+            _inboxHop = false;
+            if (!isDisposed())
+                sendPostEvent(SWT.None);
+        }
+    }
+
     boolean runAWTInvokeLater() {
         allowTimers = runAsyncMessages = false;
         allowTimers = runAsyncMessages = true;
@@ -2951,6 +2982,7 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
 
     boolean runTimers() {
         boolean result = false;
+        _timers.expire(System.nanoTime(), _dueTimers::add);
         for (int n = _dueTimers.size(); n > 0; n--) {
             Runnable r = _dueTimers.poll();
             if (r == null)
@@ -3479,17 +3511,31 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
      */
     public boolean sleep() {
         checkDevice();
-        if (!((DartSynchronizer) synchronizer.getImpl()).isMessagesEmpty())
+        if (!((DartSynchronizer) synchronizer.getImpl()).isMessagesEmpty() || !_inbox.isEmpty())
             return true;
         sendPreExternalEventDispatchEvent();
         try {
             _wakeSignal.drainPermits();
-            if (!hasPendingWork()) {
-                if (displayBridge != null && displayBridge.needsPump()) {
-                    displayBridge.sleep(16);
-                } else {
-                    _wakeSignal.tryAcquire(WEB_PARK_CAP_MS, java.util.concurrent.TimeUnit.MILLISECONDS);
+            boolean pump = displayBridge != null && displayBridge.needsPump();
+            // Published before the re-check below, so a producer that enqueues after it sees the
+            // flag and interrupts the native wait too (see wakeThread()).
+            _parked = true;
+            try {
+                if (!hasPendingWork()) {
+                    boolean signalled;
+                    if (pump) {
+                        long park = parkNanos(displayBridge.pumpParkCapMillis());
+                        long start = System.nanoTime();
+                        displayBridge.sleep((int) Math.min(Integer.MAX_VALUE, Math.max(1, java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(park + 999_999))));
+                        signalled = System.nanoTime() - start < park;
+                    } else {
+                        signalled = _wakeSignal.tryAcquire(parkNanos(WEB_PARK_CAP_MS), java.util.concurrent.TimeUnit.NANOSECONDS);
+                    }
+                    if (!signalled && !hasPendingWork())
+                        _idleWakeups.incrementAndGet();
                 }
+            } finally {
+                _parked = false;
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -3498,6 +3544,24 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
         return true;
     }
 
+    /**
+     * How long {@link #sleep()} may park: until the next {@code timerExec} deadline, or the cap if
+     * that comes first. Every other wake source signals the Display, so nothing else needs polling.
+     */
+    private long parkNanos(long capMillis) {
+        long cap = java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(capMillis);
+        return Math.min(cap, _timers.nanosUntilNext(System.nanoTime()));
+    }
+
+    /**
+     * Parks that ran out their timeout and found nothing to do: polling the loop did not need. An
+     * idle Display whose wake sources all signal should leave this at zero; each caret blink or
+     * other timer shows up as a wake with work, not here.
+     */
+    public long _idleWakeups() {
+        return _idleWakeups.get();
+    }
+
     int sourceProc(int info) {
         return 0;
     }
@@ -3611,22 +3675,23 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
         checkDevice();
         if (runnable == null)
             error(SWT.ERROR_NULL_ARGUMENT);
-        TimerTask existing = _timerExecTasks.remove(runnable);
-        if (existing != null)
-            existing.cancel();
-        if (milliseconds < 0)
+        if (thread != Thread.currentThread()) {
+            // checkDevice doesn't check the thread, and the wheel is the UI thread's alone. The
+            // hop wakes a parked loop; the deadline still counts from this call.
+            long requested = System.nanoTime();
+            asyncExec(() -> {
+                if (milliseconds < 0)
+                    _timers.cancel(runnable);
+                else
+                    _timers.schedule(runnable, milliseconds, requested);
+            });
             return;
-        TimerTask task = new TimerTask() {
-
-            @Override
-            public void run() {
-                _timerExecTasks.remove(runnable);
-                _dueTimers.add(runnable);
-                wakeThread();
-            }
-        };
-        _timerExecTasks.put(runnable, task);
-        _timerExecTimer.schedule(task, milliseconds);
+        }
+        if (milliseconds < 0) {
+            _timers.cancel(runnable);
+            return;
+        }
+        _timers.schedule(runnable, milliseconds, System.nanoTime());
     }
 
     /**
@@ -3692,10 +3757,14 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
 
     void wakeThread() {
         _wakeSignal.release();
+        DisplayBridge bridge = displayBridge;
+        if (_parked && bridge != null)
+            bridge.wakeSleep();
     }
 
+    /** The control the pointer last entered or moved over, as reported by Flutter. */
     Control findControl(boolean checkTrim) {
-        return null;
+        return currentControl != null && !currentControl.isDisposed() ? currentControl : null;
     }
 
     static boolean isActivateShellOnForceFocus() {
@@ -4090,7 +4159,7 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
     }
 
     private boolean hasPendingWork() {
-        return !_dueTimers.isEmpty() || !((DartSynchronizer) synchronizer.getImpl()).isMessagesEmpty() || (displayBridge != null && displayBridge.hasDirty());
+        return !_dueTimers.isEmpty() || _timers.hasExpired(System.nanoTime()) || !((DartSynchronizer) synchronizer.getImpl()).isMessagesEmpty() || !_inbox.isEmpty() || (displayBridge != null && displayBridge.hasDirty());
     }
 
     void addShell(Shell shell) {
@@ -4115,15 +4184,35 @@ public class DartDisplay extends DartDevice implements Executor, IDisplay {
         shells = newShells;
     }
 
-    Map<Runnable, TimerTask> _timerExecTasks = new HashMap<>();
-
-    Timer _timerExecTimer = new Timer(true);
+    /** {@code timerExec} deadlines; UI-thread only, drained into {@link #_dueTimers} by {@link #runTimers()}. */
+    final TimerWheel _timers = new TimerWheel();
 
-    final java.util.concurrent.ConcurrentLinkedQueue<Runnable> _dueTimers = new java.util.concurrent.ConcurrentLinkedQueue<>();
+    final ArrayDeque<Runnable> _dueTimers = new ArrayDeque<>();
 
     final java.util.concurrent.Semaphore _wakeSignal = new java.util.concurrent.Semaphore(0);
 
-    static volatile long WEB_PARK_CAP_MS = 16;
+    /**
+     * Flutter's events for this Display's widgets, posted by {@link FlutterBridge#on} instead of an
+     * {@code asyncExec} each and run by {@link #readAndDispatch} ahead of the runnables. A handler's
+     * own {@code asyncExec}, the hop it made when it ran on the comm thread, runs in place while
+     * {@link #_inboxHop} is set; anything it schedules after that is an ordinary runnable.
+     */
+    final EventInbox _inbox = new EventInbox(this::wakeThread);
+
+    private final BiConsumer<Consumer<Event>, Event> _dispatchInbound = this::dispatchInbound;
+
+    private boolean _inboxHop;
+
+    /**
+     * Safety-net cap on an idle park where nothing needs pumping. Uncapped by default: asyncExec,
+     * comm input (through the inbox), dirty marks and timer deadlines all end the park themselves.
+     */
+    static volatile long WEB_PARK_CAP_MS = Long.getLong("dev.equo.swt.idleParkCapMs", Long.MAX_VALUE);
+
+    /** Whether the UI thread is inside {@link #sleep()}'s park, where a native wait may need a nudge. */
+    volatile boolean _parked;
+
+    final AtomicLong _idleWakeups = new AtomicLong();
 
     ArrayList<ToolTip> activeTooltips = new ArrayList<>();
 
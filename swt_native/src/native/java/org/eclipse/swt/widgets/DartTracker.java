@@ -457,6 +457,7 @@ public class DartTracker extends DartWidget implements ITracker {
                     ((DartDisplay) display.getImpl()).lockCursor = false;
                     ((DartDisplay) display.getImpl()).lockCursor = true;
                 }
+                ((DartDisplay) display.getImpl()).runInbox();
                 ((DartDisplay) display.getImpl()).runAsyncMessages(false);
             } finally {
                 ((DartDisplay) display.getImpl()).removePool();
@@ -37,6 +37,13 @@ public class DeskDisplayBridge extends DisplayBridge {
      */
     private boolean windowClosed;
 
+    /**
+     * Whether the loaded native bridge can interrupt {@link FlutterNative#waitEvents} from another
+     * thread. When it can, the idle wait is uncapped; an older bridge without it keeps the 16ms cap,
+     * since an asyncExec would otherwise sit unseen until the next OS event.
+     */
+    private volatile boolean nativeWake;
+
     DeskDisplayBridge(DartDisplay display) {
         super(display);
         // The native window is the client; never fall back to a browser/chromium launch.
@@ -67,6 +74,7 @@ public class DeskDisplayBridge extends DisplayBridge {
 
         windowContext = FlutterNative.initialize(
                 port, 0, displayId, "Display", theme, backgroundColor, backgroundColor, width, height);
+        nativeWake = FlutterNative.wakeEvents();
     }
 
     /**
@@ -99,17 +107,30 @@ public class DeskDisplayBridge extends DisplayBridge {
      * Idle wait: block inside the native (Cocoa/GTK/Win32) event loop instead of {@code Thread.sleep}.
      * Keeps the SWT main thread parked in the OS event loop, so a click, key, or window event wakes
      * it immediately (no up-to-16ms input lag) and live window drag/resize stays smooth. The deadline
-     * still bounds the wait so Java-side timers (caret blink, etc.) keep ticking when idle.
+     * is the next Java-side timer (caret blink, etc.); Java-side wakes end the wait through
+     * {@link #wakeSleep()}.
      */
     @Override
     public void sleep(int millis) throws InterruptedException {
         if (windowContext != 0 && !windowClosed) {
             FlutterNative.waitEvents(windowContext, millis);
         } else {
-            Thread.sleep(millis);
+            super.sleep(millis);
         }
     }
 
+    @Override
+    public long pumpParkCapMillis() {
+        return nativeWake ? Integer.MAX_VALUE : super.pumpParkCapMillis();
+    }
+
+    /** Posts an empty native event so a {@link #sleep(int)} blocked in the OS event loop returns. */
+    @Override
+    public void wakeSleep() {
+        if (nativeWake)
+            FlutterNative.wakeEvents();
+    }
+
     private void onWindowClosed() {
         // Avoid re-entrancy: once we start closing, stop pumping the (now gone) window. Keep
         // windowContext non-zero so destroyDisplay() still shuts the engine down (see windowClosed).
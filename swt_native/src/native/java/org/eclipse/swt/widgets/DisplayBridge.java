@@ -1,7 +1,11 @@
 package org.eclipse.swt.widgets;
 
 import dev.equo.swt.ConfigFlags;
+import dev.equo.swt.EventInbox;
 import dev.equo.swt.FlutterBridge;
+import dev.equo.swt.GCStateShadow;
+import dev.equo.swt.PaintRecorder;
+import dev.equo.swt.SvgDocuments;
 import dev.equo.swt.comm.CommService;
 import dev.equo.swt.WindowBridge;
 import org.eclipse.swt.graphics.Rectangle;
@@ -89,6 +93,11 @@ public abstract class DisplayBridge extends FlutterBridge implements WindowBridg
     /** Starts the surface for the Display (web server + browser, or native window). */
     protected abstract void start(DartDisplay display);
 
+    @Override
+    protected EventInbox inbox() {
+        return forDisplay != null ? forDisplay._inbox : null;
+    }
+
     /**
      * Returns the display-level bridge for the given widget's display. Called from
      * {@code DartWidget.register()} for every control; also registers top-level shells with the display.
@@ -151,6 +160,14 @@ public abstract class DisplayBridge extends FlutterBridge implements WindowBridg
             // the socket (e.g. a browser refresh) but is NOT the bridge's first ClientReady — needs the
             // swt.evolve properties re-pushed, or its theme/config init is lost on refresh.
             if (!first && p.isFirst) broadcastSwtEvolveProperties();
+            // A fresh Flutter instance has none of the SVG documents sent on this comm so far; the
+            // resync below re-serializes every image, which sends them again. Nor any painted picture,
+            // nor any GC state to merge a delta into.
+            if (p.isFirst) {
+                SvgDocuments.forget(comm());
+                PaintRecorder.forget(comm());
+                GCStateShadow.forget();
+            }
 
             // A reconnecting client (e.g. a browser refresh re-establishing the socket and re-sending
             // ClientReady) cancels any pending tab-close — see WebDisplayBridge.onDisplayClientReady.
@@ -397,14 +414,47 @@ public abstract class DisplayBridge extends FlutterBridge implements WindowBridg
         return false;
     }
 
+    /**
+     * Longest wait {@code DartDisplay.sleep()} hands to {@link #sleep(int)} when no timer is due
+     * sooner. A surface whose pump has to be called to make progress keeps a frame (16ms); one whose
+     * wait the Display can interrupt ({@link #wakeSleep()}) can wait for as long as it likes.
+     */
+    public long pumpParkCapMillis() {
+        return 16;
+    }
+
     /**
      * Idle wait between event-loop turns, called from {@code DartDisplay.sleep()} when {@link
-     * #needsPump()} is true. Parks the thread by default; the native-window surface overrides this to
-     * block inside the OS event loop so input/window events wake it immediately (see
-     * {@link DeskDisplayBridge}).
+     * #needsPump()} is true. Parks on the Display's wake permit by default, so asyncExec, input and
+     * dirty marks end it at once rather than after the full wait; the native-window surface overrides
+     * this to block inside the OS event loop instead (see {@link DeskDisplayBridge}).
      */
     public void sleep(int millis) throws InterruptedException {
-        Thread.sleep(millis);
+        DartDisplay display = forDisplay;
+        if (display != null) {
+            display._wakeSignal.tryAcquire(millis, java.util.concurrent.TimeUnit.MILLISECONDS);
+        } else {
+            Thread.sleep(millis);
+        }
+    }
+
+    /**
+     * Ends a {@link #sleep(int)} in progress from another thread. Called by {@code DartDisplay} for
+     * every wake while its UI thread is parked. The default wait parks on the wake permit, which the
+     * Display has already released, so there is nothing more to do here.
+     */
+    public void wakeSleep() {
+    }
+
+    /**
+     * Releases the Display's wake permit so an off-thread dirty unparks {@code DartDisplay.sleep()}
+     * at once: with no idle cap, nothing else would flush it. See {@link FlutterBridge#wakeForDirty()}.
+     */
+    @Override
+    protected void wakeForDirty() {
+        DartDisplay display = forDisplay;
+        if (display != null)
+            display.wakeThread();
     }
 
     @Override
@@ -227,22 +227,12 @@ public class WebDisplayBridge extends DisplayBridge {
             chromiumLauncher.pump();
     }
 
-    /**
-     * Releases the Display's wake permit so an off-thread dirty unparks {@code DartDisplay.sleep()}
-     * promptly instead of waiting for the safety-net cap. See {@link FlutterBridge#wakeForDirty()}.
-     */
-    @Override
-    protected void wakeForDirty() {
-        DartDisplay display = forDisplay;
-        if (display != null)
-            display.wakeThread();
-    }
-
     /**
      * Whether the event loop must keep ticking rather than parking indefinitely in {@code sleep()}.
      * True only while a CEF standalone window is open: its message loop is pull-driven from
      * {@link #onUpdate()} ({@code chromiumLauncher.pump()}), so {@code sleep()} caps the wait at 16ms
-     * (~60fps). Pure web mode is fully event-driven, so it parks until woken.
+     * (~60fps) — a wait that any wake source still cuts short. Pure web mode is fully event-driven,
+     * so it parks until woken.
      */
     @Override
     public boolean needsPump() {
@@ -0,0 +1,195 @@
+package dev.equo.swt;
+
+import dev.equo.swt.harness.RecordingComm;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Clipboard contents go to the client and come back in chunks, against a stand-in for the Flutter
+ * client that keeps what it is written and answers reads from its own thread: the caller never
+ * waits on the transfer, and a 50 MB paste arrives whole, its progress reported chunk by chunk.
+ */
+class ClipboardChannelTest {
+
+    private final StandInClient client = new StandInClient();
+
+    @AfterEach
+    void tearDown() {
+        client.thread.shutdownNow();
+    }
+
+    @Test
+    void fiftyMegabytesOfTextCopyAndPaste() throws Exception {
+        int size = 50 * 1024 * 1024;
+        String text = "0123456789abcdef".repeat(size / 16);
+        ClipboardChannel channel = new ClipboardChannel(client);
+
+        AtomicInteger written = new AtomicInteger();
+        channel.write(new byte[]{ClipboardChannel.TEXT}, new Object[]{text}, (done, total) -> written.set(done))
+                .get(30, TimeUnit.SECONDS);
+        assertThat(written).hasValue(size);
+
+        AtomicInteger chunks = new AtomicInteger();
+        AtomicInteger received = new AtomicInteger();
+        AtomicBoolean steady = new AtomicBoolean(true);
+        AtomicReference<Thread> completedOn = new AtomicReference<>();
+        byte[] pasted = channel.read(ClipboardChannel.TEXT, (done, total) -> {
+                    chunks.incrementAndGet();
+                    if (done <= received.getAndSet(done) || total != size) steady.set(false);
+                })
+                .whenComplete((bytes, error) -> completedOn.set(Thread.currentThread()))
+                .get(30, TimeUnit.SECONDS);
+
+        assertThat(ClipboardChannel.decode(ClipboardChannel.TEXT, pasted)).isEqualTo(text);
+        assertThat(chunks).hasValue(size / ClipboardChannel.CHUNK);
+        assertThat(received).hasValue(size);
+        assertThat(steady).as("every chunk advanced the progress toward the whole size").isTrue();
+        assertThat(completedOn.get()).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void aFormatTheClientLacksReadsAsNull() throws Exception {
+        ClipboardChannel channel = new ClipboardChannel(client);
+        channel.write(new byte[]{ClipboardChannel.TEXT}, new Object[]{"plain"}, null).get(5, TimeUnit.SECONDS);
+
+        assertThat(channel.read(ClipboardChannel.HTML, null).get(5, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void aNewWriteReplacesEveryFormat() throws Exception {
+        ClipboardChannel channel = new ClipboardChannel(client);
+        channel.write(new byte[]{ClipboardChannel.TEXT, ClipboardChannel.RTF}, new Object[]{"plain", "{\\rtf1 rich}"}, null);
+        channel.write(new byte[]{ClipboardChannel.TEXT}, new Object[]{"newer"}, null).get(5, TimeUnit.SECONDS);
+
+        assertThat(ClipboardChannel.decode(ClipboardChannel.TEXT, channel.read(ClipboardChannel.TEXT, null).get(5, TimeUnit.SECONDS)))
+                .isEqualTo("newer");
+        assertThat(channel.read(ClipboardChannel.RTF, null).get(5, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void aReadRightAfterAWriteReadsWhatWasWritten() throws Exception {
+        ClipboardChannel channel = new ClipboardChannel(client);
+        String text = "x".repeat(4 * ClipboardChannel.CHUNK);
+        channel.write(new byte[]{ClipboardChannel.TEXT}, new Object[]{"older"}, null).get(5, TimeUnit.SECONDS);
+
+        channel.write(new byte[]{ClipboardChannel.TEXT}, new Object[]{text}, null);
+        byte[] read = channel.read(ClipboardChannel.TEXT, null).get(5, TimeUnit.SECONDS);
+
+        assertThat(ClipboardChannel.decode(ClipboardChannel.TEXT, read)).isEqualTo(text);
+    }
+
+    @Test
+    void theClientAnswersWhichWriteItStillHolds() throws Exception {
+        ClipboardChannel channel = new ClipboardChannel(client);
+        channel.write(new byte[]{ClipboardChannel.TEXT, ClipboardChannel.RTF}, new Object[]{"plain", "{\\rtf1 rich}"}, null);
+        long write = ClipboardChannel.lastWrite();
+
+        assertThat(channel.holds(write).get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(channel.holds(write - 1).get(5, TimeUnit.SECONDS)).isFalse();
+
+        client.replacedElsewhere();
+        assertThat(channel.holds(write).get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    void imagesTravelAsRawPixels() {
+        ImageData image = new ImageData(3, 2, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        image.alphaData = new byte[3 * 2];
+        Arrays.fill(image.alphaData, (byte) 0xFF);
+        image.setPixel(0, 0, 0x112233);
+        image.setPixel(2, 1, 0xAABBCC);
+        image.setAlpha(2, 1, 0x80);
+
+        byte[] raw = ClipboardChannel.encode(ClipboardChannel.IMAGE, image);
+        assertThat(raw).hasSize(8 + 3 * 2 * 4);
+        assertThat(Arrays.copyOfRange(raw, 8, 12)).containsExactly(0x11, 0x22, 0x33, 0xFF);
+
+        ImageData back = (ImageData) ClipboardChannel.decode(ClipboardChannel.IMAGE, raw);
+        assertThat(back.width).isEqualTo(3);
+        assertThat(back.height).isEqualTo(2);
+        assertThat(back.palette.getRGB(back.getPixel(2, 1))).isEqualTo(image.palette.getRGB(0xAABBCC));
+        assertThat(back.getAlpha(2, 1)).isEqualTo(0x80);
+        assertThat(back.getAlpha(0, 0)).isEqualTo(0xFF);
+    }
+
+    /**
+     * What the Flutter client does with the channel's frames, answering from a thread of its own. The
+     * frames are not recorded: a 50 MB write would be kept again as text.
+     */
+    private static final class StandInClient extends RecordingComm {
+        final ExecutorService thread = Executors.newSingleThreadExecutor();
+        final Map<Byte, byte[]> held = new HashMap<>();
+        final Map<Byte, Integer> filled = new HashMap<>();
+        long writeId = -1;
+
+        @Override
+        public void send(String eventName, byte[] payload) {
+            ByteBuffer in = ByteBuffer.wrap(payload);
+            long id = in.getLong();
+            byte format = in.get();
+            if (eventName.equals(ClipboardChannel.WRITE)) {
+                int total = in.getInt();
+                synchronized (held) {
+                    if (id != writeId) {
+                        writeId = id;
+                        held.clear();
+                        filled.clear();
+                    }
+                    byte[] data = held.computeIfAbsent(format, f -> new byte[total]);
+                    int at = filled.getOrDefault(format, 0);
+                    int length = in.remaining();
+                    in.get(data, at, length);
+                    filled.put(format, at + length);
+                }
+            } else if (eventName.equals(ClipboardChannel.READ)) {
+                thread.execute(() -> reply(ClipboardChannel.READ + "/" + id, format));
+            }
+        }
+
+        /** Another application copied something: the text, and the formats kept with it, are gone. */
+        void replacedElsewhere() {
+            synchronized (held) {
+                held.clear();
+                filled.clear();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void reply(String channel, byte format) {
+            byte[] data;
+            synchronized (held) {
+                if (format == ClipboardChannel.WRITTEN)
+                    data = held.containsKey(ClipboardChannel.TEXT) ? ByteBuffer.allocate(8).putLong(writeId).array() : null;
+                else
+                    data = held.get(format);
+            }
+            Consumer<byte[]> handler = (Consumer<byte[]>) handlers.get(channel);
+            if (data == null) {
+                handler.accept(ByteBuffer.allocate(4).putInt(ClipboardChannel.ABSENT).array());
+                return;
+            }
+            int offset = 0;
+            do {
+                int length = Math.min(ClipboardChannel.CHUNK, data.length - offset);
+                handler.accept(ByteBuffer.allocate(4 + length).putInt(data.length).put(data, offset, length).array());
+                offset += length;
+            } while (offset < data.length);
+        }
+    }
+}
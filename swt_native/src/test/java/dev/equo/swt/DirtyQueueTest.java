@@ -0,0 +1,150 @@
+package dev.equo.swt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The per-Display queue behind {@code FlutterBridge.dirty()}: dedupe, lazy unmark, the O(1) due
+ * count and the held-back entries of frame coalescing. Depths come from a fixed map, so the tests
+ * need no widget tree.
+ */
+class DirtyQueueTest {
+
+    private final Map<Object, Integer> depths = new java.util.HashMap<>();
+    private final DirtyQueue queue = new DirtyQueue(o -> depths.getOrDefault(o, 0));
+
+    @Test
+    void markingTwiceQueuesOnce() {
+        Object w = new Object();
+
+        assertThat(queue.mark(w)).isTrue();
+        assertThat(queue.mark(w)).isFalse();
+
+        assertThat(drain()).containsExactly(w);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void entriesCarryTheDepthTheyWereMarkedAt() {
+        Object root = new Object(), leaf = new Object();
+        depths.put(root, 0);
+        depths.put(leaf, 3);
+        queue.mark(leaf);
+        queue.mark(root);
+
+        List<DirtyQueue.Entry> out = new ArrayList<>();
+        queue.drainTo(out);
+        assertThat(out.get(0).depth).isEqualTo(3);
+        assertThat(out.get(1).depth).isEqualTo(0);
+    }
+
+    @Test
+    void anUnmarkedItemIsSkippedAtDrain() {
+        Object a = new Object(), b = new Object();
+        queue.mark(a);
+        queue.mark(b);
+
+        assertThat(queue.remove(a)).isTrue();
+        assertThat(queue.remove(a)).isFalse();
+        assertThat(queue.contains(a)).isFalse();
+        assertThat(drain()).containsExactly(b);
+    }
+
+    @Test
+    void reMarkingAfterAnUnmarkDrainsItOnce() {
+        Object w = new Object();
+        queue.mark(w);
+        queue.remove(w);
+        queue.mark(w);
+
+        assertThat(drain()).containsExactly(w);
+    }
+
+    @Test
+    void dueCountFollowsMarksUnmarksAndDrains() {
+        Object a = new Object(), b = new Object();
+        assertThat(queue.hasDue(0)).isFalse();
+
+        queue.mark(a);
+        queue.mark(b);
+        queue.remove(a);
+        assertThat(queue.hasDue(0)).isTrue();
+
+        drain();
+        assertThat(queue.hasDue(0)).isFalse();
+    }
+
+    @Test
+    void aHeldItemIsPendingButNotDueUntilItsDeadline() {
+        Object table = new Object();
+        queue.hold(table, 100);
+
+        assertThat(queue.contains(table)).isTrue();
+        assertThat(queue.hasDue(99)).isFalse();
+        assertThat(queue.hasDue(100)).isTrue();
+
+        assertThat(drain()).containsExactly(table);
+        assertThat(queue.hasDue(100)).isFalse();
+    }
+
+    @Test
+    void unmarkingAHeldItemLeavesNothingDue() {
+        Object table = new Object();
+        queue.hold(table, 100);
+        queue.remove(table);
+
+        assertThat(queue.hasDue(0)).isFalse();
+        assertThat(drain()).isEmpty();
+    }
+
+    @Test
+    void aMarkWhileHeldIsCoveredByTheHold() {
+        Object table = new Object();
+        queue.hold(table, 100);
+
+        assertThat(queue.mark(table)).isFalse();
+        assertThat(queue.hasDue(0)).isFalse();
+    }
+
+    @Test
+    void concurrentMarksAreNeitherLostNorDuplicated() throws InterruptedException {
+        int threads = 8, perThread = 2_000;
+        Object[] items = new Object[perThread];
+        for (int i = 0; i < perThread; i++) items[i] = new Object();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (Object item : items) queue.mark(item);
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(drain()).hasSize(perThread).doesNotHaveDuplicates();
+        assertThat(queue.hasDue(0)).isFalse();
+    }
+
+    private List<Object> drain() {
+        List<DirtyQueue.Entry> out = new ArrayList<>();
+        queue.drainTo(out);
+        List<Object> items = new ArrayList<>();
+        for (DirtyQueue.Entry e : out) items.add(e.item);
+        return items;
+    }
+}
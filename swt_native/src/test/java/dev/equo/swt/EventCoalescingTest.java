@@ -0,0 +1,117 @@
+package dev.equo.swt;
+
+import dev.equo.swt.harness.RecordingBridge;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Canvas;
+import org.eclipse.swt.widgets.DartWidget;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Mocks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mouse moves Flutter sends a widget while the UI thread is behind reach its listener as one, at
+ * the latest position, unless the widget or the whole app opts out.
+ */
+@ExtendWith(Mocks.class)
+class EventCoalescingTest {
+
+    private static final BiConsumer<Consumer<Event>, Event> RUN = Consumer::accept;
+
+    /** Queues what it receives in an inbox the test drains, as a Display's loop does. */
+    private static class InboxBridge extends RecordingBridge {
+        final EventInbox inbox = new EventInbox(() -> {});
+
+        @Override
+        protected EventInbox inbox() {
+            return inbox;
+        }
+    }
+
+    private InboxBridge bridge;
+    private DartWidget canvas;
+    private final List<String> seen = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Config.forceEquo();
+        bridge = new InboxBridge();
+        FlutterBridge.set(bridge);
+        canvas = (DartWidget) new Canvas(Mocks.swtShell(), SWT.NONE).getImpl();
+        FlutterBridge.on(canvas, "MouseMove", "MouseMove", e -> seen.add("move " + e.x));
+        FlutterBridge.on(canvas, "Mouse", "MouseDown", e -> seen.add("down " + e.x));
+    }
+
+    @AfterEach
+    void tearDown() {
+        FlutterBridge.set(null);
+        Config.defaultToEclipse();
+        System.clearProperty("dev.equo.swt.events.coalesce");
+    }
+
+    @Test
+    void movesWhileBehindRunOnceAtTheLatestPosition() {
+        for (int x = 0; x < 10; x++) receive("MouseMove", "MouseMove", x);
+        receive("Mouse", "MouseDown", 9);
+        receive("MouseMove", "MouseMove", 12);
+
+        bridge.inbox.drain(RUN);
+
+        assertThat(seen).containsExactly("move 9", "down 9", "move 12");
+    }
+
+    @Test
+    void aWidgetCanOptOut() {
+        canvas.setData(FlutterBridge.COALESCE, false);
+        for (int x = 0; x < 3; x++) receive("MouseMove", "MouseMove", x);
+
+        bridge.inbox.drain(RUN);
+
+        assertThat(seen).containsExactly("move 0", "move 1", "move 2");
+    }
+
+    @Test
+    void anOptOutCanBeTakenBack() {
+        canvas.setData(FlutterBridge.COALESCE, false);
+        canvas.setData(FlutterBridge.COALESCE, null);
+        for (int x = 0; x < 3; x++) receive("MouseMove", "MouseMove", x);
+
+        bridge.inbox.drain(RUN);
+
+        assertThat(seen).containsExactly("move 2");
+    }
+
+    @Test
+    void coalescingCanBeTurnedOff() {
+        System.setProperty("dev.equo.swt.events.coalesce", "false");
+        for (int x = 0; x < 3; x++) receive("MouseMove", "MouseMove", x);
+
+        bridge.inbox.drain(RUN);
+
+        assertThat(seen).containsExactly("move 0", "move 1", "move 2");
+    }
+
+    @Test
+    void buttonEventsAreNeverMerged() {
+        for (int x = 0; x < 3; x++) receive("Mouse", "MouseDown", x);
+
+        bridge.inbox.drain(RUN);
+
+        assertThat(seen).containsExactly("down 0", "down 1", "down 2");
+    }
+
+    private void receive(String listener, String event, int x) {
+        Event e = new Event();
+        e.x = x;
+        bridge.comm.fireContaining(FlutterBridge.event(canvas, listener, event), e);
+    }
+}
@@ -0,0 +1,237 @@
+package dev.equo.swt;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flutter's events reach the UI thread in the order they arrived, past chunk boundaries, waking
+ * the loop only when it had nothing queued; an event posted with a merge folds into the last one
+ * queued for its handler, and no other.
+ */
+class EventInboxTest {
+
+    private static final BiConsumer<Consumer<Event>, Event> RUN = Consumer::accept;
+
+    @Test
+    void eventsRunInOrderAcrossChunks() {
+        EventInbox inbox = new EventInbox(() -> {});
+        List<Integer> seen = new ArrayList<>();
+        int count = EventInbox.CHUNK * 3 + 7;
+        for (int i = 0; i < count; i++) inbox.post(e -> seen.add(e.count), event(i));
+
+        assertThat(inbox.drain(RUN)).isTrue();
+
+        assertThat(seen).hasSize(count);
+        for (int i = 0; i < count; i++) assertThat(seen.get(i)).isEqualTo(i);
+        assertThat(inbox.isEmpty()).isTrue();
+        assertThat(inbox.drain(RUN)).isFalse();
+    }
+
+    @Test
+    void onlyAPostToAnEmptyInboxWakes() {
+        AtomicInteger wakes = new AtomicInteger();
+        EventInbox inbox = new EventInbox(wakes::incrementAndGet);
+
+        inbox.post(e -> {}, event(0));
+        inbox.post(e -> {}, event(1));
+        assertThat(wakes).hasValue(1);
+
+        inbox.drain(RUN);
+        inbox.post(e -> {}, event(2));
+        assertThat(wakes).hasValue(2);
+    }
+
+    @Test
+    void anEventPostedWhileDrainingWaitsForTheNextDrain() {
+        EventInbox inbox = new EventInbox(() -> {});
+        List<Integer> seen = new ArrayList<>();
+        inbox.post(e -> {
+            seen.add(e.count);
+            inbox.post(f -> seen.add(f.count), event(1));
+        }, event(0));
+
+        inbox.drain(RUN);
+        assertThat(seen).containsExactly(0);
+        inbox.drain(RUN);
+        assertThat(seen).containsExactly(0, 1);
+    }
+
+    @Test
+    void aHandlerThatDrainsAgainRunsEachEventOnce() {
+        EventInbox inbox = new EventInbox(() -> {});
+        List<Integer> seen = new ArrayList<>();
+        inbox.post(e -> {
+            seen.add(e.count);
+            inbox.drain(RUN);
+        }, event(0));
+        for (int i = 1; i < EventInbox.CHUNK + 3; i++) inbox.post(e -> seen.add(e.count), event(i));
+
+        assertThat(inbox.drain(RUN)).isTrue();
+
+        assertThat(seen).hasSize(EventInbox.CHUNK + 3).isSorted();
+        assertThat(inbox.isEmpty()).isTrue();
+        assertThat(inbox.drain(RUN)).isFalse();
+        inbox.post(e -> seen.add(e.count), event(-1));
+        inbox.drain(RUN);
+        assertThat(seen).endsWith(-1);
+    }
+
+    @Test
+    void aFailingHandlerLeavesTheRestQueued() {
+        EventInbox inbox = new EventInbox(() -> {});
+        List<Integer> seen = new ArrayList<>();
+        inbox.post(e -> { throw new IllegalStateException("listener failed"); }, event(0));
+        inbox.post(e -> seen.add(e.count), event(1));
+
+        assertThatThrownBy(() -> inbox.drain(RUN)).isInstanceOf(IllegalStateException.class);
+        assertThat(inbox.isEmpty()).isFalse();
+        inbox.drain(RUN);
+        assertThat(seen).containsExactly(1);
+    }
+
+    @Test
+    void aConsumerThreadSeesEveryEventOfAProducerThread() throws InterruptedException {
+        EventInbox inbox = new EventInbox(() -> {});
+        int count = EventInbox.CHUNK * 40;
+        List<Integer> seen = new ArrayList<>();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) inbox.post(e -> seen.add(e.count), event(i));
+        });
+        producer.start();
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (seen.size() < count && System.nanoTime() < deadline) inbox.drain(RUN);
+        producer.join();
+
+        assertThat(seen).hasSize(count);
+        for (int i = 0; i < count; i++) assertThat(seen.get(i)).isEqualTo(i);
+    }
+
+    @Test
+    void movesQueuedForOneHandlerRunOnceAtTheLatest() {
+        EventInbox inbox = new EventInbox(() -> {});
+        List<Integer> seen = new ArrayList<>();
+        Consumer<Event> move = e -> seen.add(e.count);
+        for (int i = 0; i < 5; i++) inbox.post(move, event(i), EventInbox.LATEST);
+
+        inbox.drain(RUN);
+
+        assertThat(seen).containsExactly(4);
+    }
+
+    @Test
+    void anotherEventBetweenKeepsThemApart() {
+        EventInbox inbox = new EventInbox(() -> {});
+        List<String> seen = new ArrayList<>();
+        Consumer<Event> move = e -> seen.add("move " + e.count);
+        Consumer<Event> down = e -> seen.add("down " + e.count);
+        inbox.post(move, event(0), EventInbox.LATEST);
+        inbox.post(move, event(1), EventInbox.LATEST);
+        inbox.post(down, event(2));
+        inbox.post(move, event(3), EventInbox.LATEST);
+
+        inbox.drain(RUN);
+
+        assertThat(seen).containsExactly("move 1", "down 2", "move 3");
+    }
+
+    @Test
+    void anEventTheLoopTookIsNotMergedInto() {
+        EventInbox inbox = new EventInbox(() -> {});
+        List<Integer> seen = new ArrayList<>();
+        Consumer<Event> move = e -> seen.add(e.count);
+        inbox.post(move, event(0), EventInbox.LATEST);
+        inbox.drain(RUN);
+
+        inbox.post(move, event(1), EventInbox.LATEST);
+        inbox.drain(RUN);
+
+        assertThat(seen).containsExactly(0, 1);
+    }
+
+    @Test
+    void aMoveANestedDrainRanIsNotMergedInto() {
+        EventInbox inbox = new EventInbox(() -> {});
+        List<Integer> seen = new ArrayList<>();
+        Consumer<Event> move = e -> seen.add(e.count);
+        inbox.post(e -> {
+            inbox.drain(RUN);
+            inbox.post(move, event(2), EventInbox.LATEST);
+        }, event(0));
+        inbox.post(move, event(1), EventInbox.LATEST);
+
+        inbox.drain(RUN);
+        inbox.drain(RUN);
+
+        assertThat(seen).containsExactly(1, 2);
+        assertThat(inbox.isEmpty()).isTrue();
+    }
+
+    @Test
+    void wheelStepsTheSameWayAddUp() {
+        EventInbox inbox = new EventInbox(() -> {});
+        List<Integer> seen = new ArrayList<>();
+        Consumer<Event> wheel = e -> seen.add(e.count);
+        inbox.post(wheel, event(3, SWT.SCROLL_LINE), EventInbox.WHEEL);
+        inbox.post(wheel, event(-1, SWT.SCROLL_LINE), EventInbox.WHEEL);
+        inbox.post(wheel, event(3, SWT.SCROLL_LINE), EventInbox.WHEEL);
+        inbox.post(wheel, event(1, SWT.SCROLL_PAGE), EventInbox.WHEEL);
+
+        inbox.drain(RUN);
+
+        assertThat(seen).containsExactly(5, 1);
+    }
+
+    @Test
+    void aDropIsNotMergedIntoTheDrag() {
+        EventInbox inbox = new EventInbox(() -> {});
+        List<Integer> seen = new ArrayList<>();
+        Consumer<Event> selection = e -> seen.add(e.count);
+        inbox.post(selection, event(0, SWT.DRAG), EventInbox.DRAG);
+        inbox.post(selection, event(1, SWT.DRAG), EventInbox.DRAG);
+        inbox.post(selection, event(2, SWT.NONE), EventInbox.DRAG);
+
+        inbox.drain(RUN);
+
+        assertThat(seen).containsExactly(1, 2);
+    }
+
+    @Test
+    void aConsumerThreadSeesTheLastMoveOfAProducerThread() throws InterruptedException {
+        EventInbox inbox = new EventInbox(() -> {});
+        int count = EventInbox.CHUNK * 40;
+        List<Integer> seen = new ArrayList<>();
+        Consumer<Event> move = e -> seen.add(e.count);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) inbox.post(move, event(i), EventInbox.LATEST);
+        });
+        producer.start();
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while ((seen.isEmpty() || seen.get(seen.size() - 1) != count - 1) && System.nanoTime() < deadline)
+            inbox.drain(RUN);
+        producer.join();
+
+        assertThat(seen).isSorted().doesNotHaveDuplicates().endsWith(count - 1);
+    }
+
+    private static Event event(int count, int detail) {
+        Event e = event(count);
+        e.detail = detail;
+        return e;
+    }
+
+    private static Event event(int count) {
+        Event e = new Event();
+        e.count = count;
+        return e;
+    }
+}
@@ -0,0 +1,166 @@
+package dev.equo.swt;
+
+import dev.equo.swt.harness.RecordingBridge;
+import dev.equo.swt.harness.RecordingComm;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * The event loop's flush orders pushes by what the user is interacting with and spills
+ * lower-priority pushes past the frame budget to the next turn, without losing or doubling any.
+ */
+@ExtendWith(Mocks.class)
+class FrameSchedulerTest {
+
+    private RecordingBridge bridge;
+    private Shell shell;
+    private long savedBytes;
+
+    @BeforeAll
+    static void useEquo() {
+        Config.forceEquo();
+    }
+
+    @AfterAll
+    static void reset() {
+        Config.defaultToEclipse();
+    }
+
+    @BeforeEach
+    void setUp() {
+        bridge = new RecordingBridge();
+        FlutterBridge.set(bridge);
+        shell = Mocks.swtShell();
+        when(shell.isVisible()).thenReturn(true);
+        savedBytes = FrameScheduler.budgetBytes;
+    }
+
+    @AfterEach
+    void tearDown() {
+        FrameScheduler.budgetBytes = savedBytes;
+        FlutterBridge.clearDirty();
+        FlutterBridge.set(null);
+    }
+
+    @Test
+    @DisplayName("the focus control is pushed ahead of earlier changes")
+    void focusControlGoesFirst() {
+        Label a = label(shell), b = label(shell), focused = label(shell);
+        when(shell.getDisplay().getFocusControl()).thenReturn(focused);
+        bridge.comm.sent.clear();
+
+        a.setText("a");
+        b.setText("b");
+        focused.setText("typed");
+        FlutterBridge.updateFrame();
+
+        assertThat(order(a, b, focused).get(0)).isSameAs(focused);
+    }
+
+    @Test
+    @DisplayName("a hidden page is pushed after the visible controls")
+    void hiddenControlsGoLast() {
+        Composite hiddenPage = new Composite(shell, SWT.NONE);
+        hiddenPage.setVisible(false);
+        Label hidden = label(hiddenPage), visible = label(shell);
+        bridge.comm.sent.clear();
+
+        hidden.setText("background");
+        visible.setText("foreground");
+        FlutterBridge.updateFrame();
+
+        assertThat(order(hidden, visible)).containsExactly(visible, hidden);
+    }
+
+    @Test
+    @DisplayName("past the budget, pushes spill to the next frame and each still goes out once")
+    void overBudgetSpillsToTheNextFrame() {
+        Label a = label(shell), b = label(shell), c = label(shell);
+        FrameScheduler.budgetBytes = 1;
+        bridge.comm.sent.clear();
+
+        a.setText("a");
+        b.setText("b");
+        c.setText("c");
+        FlutterBridge.updateFrame();
+        assertThat(pushes(a) + pushes(b) + pushes(c)).as("one push fits the frame").isEqualTo(1);
+        assertThat(bridge.hasDirty()).as("the spilled pushes are due at once").isTrue();
+
+        FlutterBridge.updateFrame();
+        FlutterBridge.updateFrame();
+        assertThat(pushes(a)).isEqualTo(1);
+        assertThat(pushes(b)).isEqualTo(1);
+        assertThat(pushes(c)).isEqualTo(1);
+        assertThat(bridge.hasDirty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("the focus and pointer controls are never spilled")
+    void inputControlsAreNeverSpilled() {
+        Label a = label(shell), focused = label(shell), hovered = label(shell);
+        when(shell.getDisplay().getFocusControl()).thenReturn(focused);
+        when(shell.getDisplay().getCursorControl()).thenReturn(hovered);
+        FrameScheduler.budgetBytes = 1;
+        bridge.comm.sent.clear();
+
+        a.setText("a");
+        focused.setText("typed");
+        hovered.setText("hover");
+        FlutterBridge.updateFrame();
+
+        assertThat(pushes(focused)).isEqualTo(1);
+        assertThat(pushes(hovered)).isEqualTo(1);
+        assertThat(pushes(a)).isZero();
+    }
+
+    @Test
+    @DisplayName("an explicit update() is never metered")
+    void explicitUpdateIsNotBudgeted() {
+        Label a = label(shell), b = label(shell);
+        FrameScheduler.budgetBytes = 1;
+        bridge.comm.sent.clear();
+
+        a.setText("a");
+        b.setText("b");
+        FlutterBridge.update();
+
+        assertThat(pushes(a)).isEqualTo(1);
+        assertThat(pushes(b)).isEqualTo(1);
+    }
+
+    /** A Label past its first send, so later changes are pushes on its own channel. */
+    private static Label label(Composite parent) {
+        Label label = new Label(parent, SWT.NONE);
+        label.setData("dev.equo.swt.new", false);
+        FlutterBridge.update();
+        return label;
+    }
+
+    private int pushes(Widget widget) {
+        String channel = "/" + widget.hashCode();
+        return (int) bridge.comm.sent.stream().filter(f -> f.event.endsWith(channel)).count();
+    }
+
+    /** The given widgets in the order their pushes were sent. */
+    private List<Widget> order(Widget... widgets) {
+        List<Widget> seen = new java.util.ArrayList<>();
+        for (RecordingComm.Frame f : bridge.comm.sent) {
+            for (Widget w : widgets) {
+                if (f.event.endsWith("/" + w.hashCode()) && !seen.contains(w)) seen.add(w);
+            }
+        }
+        return seen;
+    }
+}
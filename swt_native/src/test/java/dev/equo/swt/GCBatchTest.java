@@ -0,0 +1,159 @@
+package dev.equo.swt;
+
+import dev.equo.swt.comm.CommService;
+import dev.equo.swt.harness.RecordingComm;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GC(Image) jobs recorded into a batch go out as one frame and come back as one reply, against a
+ * stand-in for the Flutter client that unpacks the frame as main.dart does and "renders" each job
+ * whose gcDispose it got as the names of the messages it received. Like main.dart, it replies once
+ * every job is done, a failed render counting as done, or else after its reply timeout.
+ */
+class GCBatchTest {
+
+    private final StandInClient client = new StandInClient();
+
+    @Test
+    void manyJobsTakeOneRoundTrip() throws Exception {
+        GCBatch batch = GCBatch.begin();
+        assertThat(GCBatch.current()).isSameAs(batch);
+        Map<Long, String> rendered = new ConcurrentHashMap<>();
+        for (long gcId = 1; gcId <= 20; gcId++) {
+            CommService job = batch.join(gcId, client, () -> {
+            });
+            long id = gcId;
+            job.on("GC/" + gcId + "/imageResult", byte[].class, bytes -> rendered.put(id, render(bytes)));
+            job.send("GC/" + gcId + "/imageInit", new byte[]{1, 2, 3});
+            job.send("GC/" + gcId + "/drawLineintintintint", new byte[]{4});
+            job.send("GC/" + gcId + "/gcDispose");
+        }
+
+        batch.submit().get(5, TimeUnit.SECONDS);
+
+        assertThat(GCBatch.current()).isNull();
+        assertThat(client.frames).hasValue(1);
+        assertThat(rendered).hasSize(20);
+        assertThat(rendered.get(7L)).isEqualTo("GC/7/imageInit,GC/7/drawLineintintintint,GC/7/gcDispose");
+    }
+
+    @Test
+    void aJobLeftOutOfTheReplyIsCancelled() throws Exception {
+        GCBatch batch = GCBatch.begin();
+        List<Long> cancelled = new ArrayList<>();
+        AtomicInteger rendered = new AtomicInteger();
+        for (long gcId = 1; gcId <= 3; gcId++) {
+            long id = gcId;
+            CommService job = batch.join(gcId, client, () -> cancelled.add(id));
+            job.on("GC/" + gcId + "/imageResult", byte[].class, bytes -> rendered.incrementAndGet());
+            job.send("GC/" + gcId + "/imageInit", new byte[0]);
+            if (gcId != 2)
+                job.send("GC/" + gcId + "/gcDispose");
+        }
+
+        batch.submit().get(5, TimeUnit.SECONDS);
+
+        assertThat(rendered).hasValue(2);
+        assertThat(cancelled).containsExactly(2L);
+    }
+
+    @Test
+    void aFailedRenderIsCancelledWithoutHoldingBackTheReply() throws Exception {
+        client.failing.add(2L);
+        GCBatch batch = GCBatch.begin();
+        List<Long> cancelled = new ArrayList<>();
+        AtomicInteger rendered = new AtomicInteger();
+        for (long gcId = 1; gcId <= 3; gcId++) {
+            long id = gcId;
+            CommService job = batch.join(gcId, client, () -> cancelled.add(id));
+            job.on("GC/" + gcId + "/imageResult", byte[].class, bytes -> rendered.incrementAndGet());
+            job.send("GC/" + gcId + "/imageInit", new byte[0]);
+            job.send("GC/" + gcId + "/gcDispose");
+        }
+
+        batch.submit().get(StandInClient.REPLY_TIMEOUT_MS / 2, TimeUnit.MILLISECONDS);
+
+        assertThat(rendered).hasValue(2);
+        assertThat(cancelled).containsExactly(2L);
+    }
+
+    @Test
+    void anEmptyBatchSendsNothing() throws Exception {
+        GCBatch batch = GCBatch.begin();
+
+        batch.submit().get(5, TimeUnit.SECONDS);
+
+        assertThat(client.frames).hasValue(0);
+    }
+
+    /** The stand-in's render: the names of the frames its job received, in order. */
+    private static String render(byte[] payload) {
+        return new String(payload, 8, payload.length - 8, StandardCharsets.UTF_8);
+    }
+
+    /** Unpacks a batch as main.dart's _registerGcBatchListener does and answers on its own thread. */
+    private static final class StandInClient extends RecordingComm {
+        /** main.dart's _gcBatchReplyTimeout, scaled down. */
+        static final long REPLY_TIMEOUT_MS = 2_000;
+
+        final AtomicInteger frames = new AtomicInteger();
+        /** Jobs whose render fails, as an imageInit that doesn't decode does: done, with no render. */
+        final Set<Long> failing = ConcurrentHashMap.newKeySet();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void send(String eventName, byte[] payload) {
+            if (!eventName.equals(GCBatch.SUBMIT))
+                return;
+            frames.incrementAndGet();
+            ByteBuffer in = ByteBuffer.wrap(payload);
+            long batchId = in.getLong();
+            List<Long> gcIds = new ArrayList<>();
+            List<byte[]> renders = new ArrayList<>();
+            boolean allDone = true;
+            for (int jobs = in.getInt(); jobs > 0; jobs--) {
+                long gcId = in.getLong();
+                List<String> names = new ArrayList<>();
+                for (int count = in.getInt(); count > 0; count--) {
+                    byte[] frame = new byte[in.getInt()];
+                    in.get(frame);
+                    names.add(new String(frame, 2, ByteBuffer.wrap(frame).getShort(), StandardCharsets.UTF_8));
+                }
+                if (!names.get(names.size() - 1).endsWith("/gcDispose"))
+                    allDone = false;
+                else if (!failing.contains(gcId)) {
+                    gcIds.add(gcId);
+                    byte[] text = String.join(",", names).getBytes(StandardCharsets.UTF_8);
+                    renders.add(ByteBuffer.allocate(8 + text.length).putLong(gcId).put(text).array());
+                }
+            }
+            int size = 4;
+            for (byte[] render : renders) size += 12 + render.length;
+            ByteBuffer out = ByteBuffer.allocate(size).putInt(renders.size());
+            for (int i = 0; i < renders.size(); i++)
+                out.putLong(gcIds.get(i)).putInt(renders.get(i).length).put(renders.get(i));
+            long delay = allDone ? 0 : REPLY_TIMEOUT_MS;
+            new Thread(() -> {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                ((Consumer<byte[]>) handlers.get(GCBatch.SUBMIT + "/" + batchId)).accept(out.array());
+            }).start();
+        }
+    }
+}
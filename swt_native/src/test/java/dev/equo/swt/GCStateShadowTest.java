@@ -0,0 +1,76 @@
+package dev.equo.swt;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.DartGC;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.VGC;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.swt.widgets.Mocks.drawable;
+
+/**
+ * After a GC's full state has gone out, only the attributes that changed go out, with absolute
+ * values — defaults included.
+ */
+class GCStateShadowTest extends SerializeTestBase {
+
+    @Test
+    void onlyChangedAttributesAreSent() throws IOException {
+        GC gc = new GC(drawable());
+        GCStateShadow.sync(gc.getImpl(), state(gc));
+
+        gc.setForeground(new Color(10, 20, 30));
+        gc.setLineWidth(3);
+
+        assertThatJson(delta(gc)).isObject()
+                .containsOnlyKeys("foreground", "lineWidth")
+                .containsEntry("lineWidth", 3);
+        assertThat(GCStateShadow.of(gc.getImpl()).delta(state(gc), serializer)).as("already sent").isNull();
+    }
+
+    @Test
+    void anAttributeBackAtItsDefaultIsSentExplicitly() throws IOException {
+        GC gc = new GC(drawable());
+        gc.setLineWidth(3);
+        GCStateShadow.sync(gc.getImpl(), state(gc));
+
+        gc.setLineWidth(0);
+
+        assertThatJson(delta(gc)).isObject().containsEntry("lineWidth", 0);
+    }
+
+    @Test
+    void aDashArrayChangedInPlaceIsSentAgain() throws IOException {
+        GC gc = new GC(drawable());
+        int[] dashes = {4, 2};
+        gc.setLineDash(dashes);
+        GCStateShadow.sync(gc.getImpl(), state(gc));
+
+        dashes[0] = 8;
+
+        assertThatJson(delta(gc)).isObject().containsOnlyKeys("lineDash");
+    }
+
+    @Test
+    void aFreshClientGetsTheFullStateAgain() {
+        GC gc = new GC(drawable());
+        GCStateShadow.sync(gc.getImpl(), state(gc));
+
+        GCStateShadow.forget();
+
+        assertThat(GCStateShadow.of(gc.getImpl())).isNull();
+    }
+
+    private String delta(GC gc) throws IOException {
+        return new String(GCStateShadow.of(gc.getImpl()).delta(state(gc), serializer), StandardCharsets.UTF_8);
+    }
+
+    private static VGC state(GC gc) {
+        return ((DartGC) gc.getImpl()).getValue();
+    }
+}
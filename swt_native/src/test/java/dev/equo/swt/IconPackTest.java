@@ -0,0 +1,113 @@
+package dev.equo.swt;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A packed assets directory resolves the same replacements, with the same bytes, as scanning it;
+ * and it is only read in place of the directory while nothing next to it changed.
+ */
+class IconPackTest {
+
+    private static final String SVG = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"24\" height=\"20\"><rect width=\"4\" height=\"4\"/></svg>";
+
+    @TempDir
+    Path assets;
+
+    @Test
+    void packResolvesWhatAScanDoes() throws IOException {
+        Files.writeString(assets.resolve("save_edit.svg"), SVG);
+        Files.write(assets.resolve("run_exc.png"), png(16, 16));
+        Path pack = pack();
+
+        IconPack packed = IconPack.open(pack);
+        IconPack scanned = IconPack.scan(assets.toFile());
+
+        assertThat(packed.size()).isEqualTo(2);
+        for (String name : new String[]{"save_edit", "run_exc"}) {
+            assertThat(packed.get(name).ext).isEqualTo(scanned.get(name).ext);
+            assertThat(packed.get(name).bytes()).isEqualTo(scanned.get(name).bytes());
+        }
+        assertThat(packed.get("missing")).isNull();
+    }
+
+    @Test
+    void aDirectoryWithACurrentPackUsesIt() throws IOException {
+        Path svg = assets.resolve("save_edit.svg");
+        Files.writeString(svg, SVG);
+        Path pack = pack();
+        // Different bytes under the packed timestamp: only the pack has the original ones.
+        Files.writeString(svg, "<svg/>");
+        Files.setLastModifiedTime(svg, Files.getLastModifiedTime(pack));
+
+        IconPack forDir = IconPack.forDirectory(assets.toFile());
+
+        assertThat(forDir.get("save_edit").bytes()).isEqualTo(SVG.getBytes(StandardCharsets.UTF_8));
+        assertThat(forDir.get("icons")).as("the pack is not a replacement").isNull();
+    }
+
+    @Test
+    void aFileAddedAfterPackingMakesTheDirectoryWin() throws IOException {
+        Files.writeString(assets.resolve("save_edit.svg"), SVG);
+        Path pack = pack();
+        Path later = assets.resolve("later.svg");
+        Files.writeString(later, SVG);
+        Files.setLastModifiedTime(later, Files.getLastModifiedTime(pack));
+
+        IconPack forDir = IconPack.forDirectory(assets.toFile());
+
+        assertThat(forDir.get("save_edit")).isNotNull();
+        assertThat(forDir.get("later")).isNotNull();
+    }
+
+    @Test
+    void aFileEditedAfterPackingMakesTheDirectoryWin() throws IOException {
+        Path svg = assets.resolve("save_edit.svg");
+        Files.writeString(svg, SVG);
+        Path pack = pack();
+        Files.writeString(svg, "<svg/>");
+        Files.setLastModifiedTime(svg, FileTime.fromMillis(Files.getLastModifiedTime(pack).toMillis() + 2000));
+
+        IconPack forDir = IconPack.forDirectory(assets.toFile());
+
+        assertThat(forDir.get("save_edit").bytes()).isEqualTo("<svg/>".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void aTruncatedPackIsRejected() throws IOException {
+        Files.writeString(assets.resolve("save_edit.svg"), SVG);
+        Path pack = pack();
+        byte[] bytes = Files.readAllBytes(pack);
+        Files.write(pack, java.util.Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThatThrownBy(() -> IconPack.open(pack)).isInstanceOf(IOException.class);
+    }
+
+    private Path pack() throws IOException {
+        Path pack = assets.resolve(IconPack.FILE_NAME);
+        try (OutputStream out = Files.newOutputStream(pack)) {
+            IconPack.write(assets.toFile(), out);
+        }
+        return pack;
+    }
+
+    /** The start of a PNG: the signature and an IHDR with the size. */
+    private static byte[] png(int width, int height) {
+        return ByteBuffer.allocate(33)
+                .put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})
+                .putInt(13).put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(width).putInt(height)
+                .array();
+    }
+}
@@ -0,0 +1,181 @@
+package dev.equo.swt;
+
+import dev.equo.swt.comm.CommService;
+import dev.equo.swt.harness.RecordingComm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The pool against a stand-in for the Flutter client: its engines take a while to start, then
+ * answer ClientReady, and answer each {@code create} with the GC's own ClientReady, as main.dart's
+ * GCEngine branch does. Runs without the native library.
+ */
+class OffscreenEnginePoolTest {
+
+    private final StandInClient client = new StandInClient();
+
+    @AfterEach
+    void tearDown() {
+        client.thread.shutdownNow();
+    }
+
+    @Test
+    void aWarmEngineServesGcAfterGc() throws Exception {
+        OffscreenEnginePool pool = new OffscreenEnginePool(client, client, 2, 60_000, 5_000);
+
+        for (long gcId = 1; gcId <= 10; gcId++) {
+            OffscreenEnginePool.Engine engine = pool.acquire().get(5, TimeUnit.SECONDS);
+            CompletableFuture<Void> gcReady = client.gcReady(gcId);
+            engine.create(gcId);
+            gcReady.get(5, TimeUnit.SECONDS);
+            engine.release();
+        }
+
+        assertThat(client.started).hasSize(1);
+        OffscreenEnginePool.Metrics metrics = pool.metrics();
+        assertThat(metrics.acquires()).isEqualTo(10);
+        assertThat(metrics.coldStarts()).isEqualTo(1);
+        assertThat(metrics.engines()).isEqualTo(1);
+        assertThat(metrics.maxAcquireNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(StandInClient.STARTUP_MS));
+        assertThat(metrics.meanAcquireMillis()).isLessThan(metrics.maxAcquireNanos() / 1e6);
+    }
+
+    @Test
+    void busyEnginesAreSharedOnceTheBoundIsReached() throws Exception {
+        OffscreenEnginePool pool = new OffscreenEnginePool(client, client, 2, 60_000, 5_000);
+
+        List<OffscreenEnginePool.Engine> engines = new ArrayList<>();
+        for (int i = 0; i < 5; i++) engines.add(pool.acquire().get(5, TimeUnit.SECONDS));
+
+        assertThat(client.started).hasSize(2);
+        assertThat(engines.stream().distinct()).hasSize(2);
+        assertThat(engines.stream().filter(e -> e == engines.get(0))).hasSize(3);
+        assertThat(pool.metrics().engines()).isEqualTo(2);
+    }
+
+    @Test
+    void anIdleEngineIsEvicted() throws Exception {
+        OffscreenEnginePool pool = new OffscreenEnginePool(client, client, 2, 50, 5_000);
+
+        pool.acquire().get(5, TimeUnit.SECONDS).release();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pool.metrics().evictions() == 0 && System.nanoTime() < deadline) Thread.sleep(10);
+
+        assertThat(pool.metrics().evictions()).isEqualTo(1);
+        assertThat(pool.metrics().engines()).isZero();
+        assertThat(client.stopped).containsExactlyElementsOf(client.started);
+
+        pool.acquire().get(5, TimeUnit.SECONDS);
+        assertThat(pool.metrics().coldStarts()).isEqualTo(2);
+    }
+
+    @Test
+    void anEngineInUseIsNotEvicted() throws Exception {
+        OffscreenEnginePool pool = new OffscreenEnginePool(client, client, 1, 50, 5_000);
+
+        OffscreenEnginePool.Engine held = pool.acquire().get(5, TimeUnit.SECONDS);
+        pool.acquire().get(5, TimeUnit.SECONDS).release();
+        Thread.sleep(200);
+
+        assertThat(pool.metrics().evictions()).isZero();
+        assertThat(client.stopped).isEmpty();
+        held.release();
+    }
+
+    @Test
+    void anEngineThatNeverAnswersIsDropped() throws Exception {
+        client.silent = true;
+        OffscreenEnginePool pool = new OffscreenEnginePool(client, client, 2, 60_000, 100);
+
+        assertThatThrownBy(() -> pool.acquire().get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(java.util.concurrent.TimeoutException.class);
+        assertThat(pool.metrics().engines()).isZero();
+        assertThat(client.stopped).containsExactlyElementsOf(client.started);
+
+        client.silent = false;
+        pool.acquire().get(5, TimeUnit.SECONDS);
+        assertThat(client.started).hasSize(2);
+    }
+
+    @Test
+    void anEngineThatStopsAnsweringIsDroppedOnAGcTimeout() throws Exception {
+        OffscreenEnginePool pool = new OffscreenEnginePool(client, client, 1, 60_000, 5_000);
+        OffscreenEnginePool.Engine engine = pool.acquire().get(5, TimeUnit.SECONDS);
+        engine.release();
+
+        client.stalled = true;
+        OffscreenEnginePool.Engine dead = pool.acquire().get(5, TimeUnit.SECONDS);
+        assertThat(dead).isSameAs(engine);
+        CompletableFuture<Void> gcReady = client.gcReady(1);
+        dead.create(1);
+        // What GCImageDrawer does when the GC's ClientReady doesn't come.
+        assertThatThrownBy(() -> gcReady.orTimeout(100, TimeUnit.MILLISECONDS).join()).hasCauseInstanceOf(java.util.concurrent.TimeoutException.class);
+        dead.drop();
+        dead.release();
+
+        assertThat(pool.metrics().engines()).isZero();
+        assertThat(client.stopped).containsExactlyElementsOf(client.started);
+        client.stalled = false;
+        OffscreenEnginePool.Engine fresh = pool.acquire().get(5, TimeUnit.SECONDS);
+        assertThat(fresh).isNotSameAs(dead);
+        assertThat(client.started).hasSize(2);
+    }
+
+    /** Engines that start on a thread of their own and answer as main.dart's GCEngine branch. */
+    private static final class StandInClient extends RecordingComm implements OffscreenEnginePool.Launcher {
+        static final long STARTUP_MS = 30;
+
+        final ScheduledExecutorService thread = Executors.newSingleThreadScheduledExecutor();
+        final List<Long> started = new CopyOnWriteArrayList<>();
+        final List<Long> stopped = new CopyOnWriteArrayList<>();
+        volatile boolean silent;
+        /** Started engines have died: they no longer answer {@code create}. */
+        volatile boolean stalled;
+
+        CompletableFuture<Void> gcReady(long gcId) {
+            CompletableFuture<Void> ready = new CompletableFuture<>();
+            on("GCImageDrawer/" + gcId + "/ClientReady", Void.class, ready::complete);
+            return ready;
+        }
+
+        @Override
+        public long start(CommService comm, long engineId) {
+            started.add(engineId);
+            if (!silent)
+                thread.schedule(() -> fire("GCEngine/" + engineId + "/ClientReady", null), STARTUP_MS, TimeUnit.MILLISECONDS);
+            return engineId;
+        }
+
+        @Override
+        public void stop(long handle) {
+            stopped.add(handle);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void fire(String eventName, Object payload) {
+            Consumer<Object> handler = (Consumer<Object>) handlers.get(eventName);
+            if (handler != null)
+                handler.accept(payload);
+        }
+
+        @Override
+        public void send(String eventName, byte[] payload) {
+            if (eventName.startsWith("GCEngine/") && eventName.endsWith("/create") && !stalled) {
+                long gcId = ByteBuffer.wrap(payload).getLong();
+                thread.execute(() -> fire("GCImageDrawer/" + gcId + "/ClientReady", null));
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package dev.equo.swt;
+
+import dev.equo.swt.harness.RecordingComm;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A redraw that paints what Flutter already has sends only a reuse; anything else goes out whole,
+ * a partial paint with its damage.
+ */
+class PaintRecorderTest {
+
+    private static final String CHANNEL = "GC/1";
+    private static final Map<String, Boolean> DISPOSE = Map.of("fullRepaint", true);
+
+    @Test
+    void anIdenticalRedrawIsReused() {
+        RecordingComm comm = new RecordingComm();
+        Map<Object, Object> first = paint(comm, true, "[0,0,10,10]");
+        Map<Object, Object> second = paint(comm, true, "[0,0,10,10]");
+
+        assertThat(first).containsKey("picture").doesNotContainKey("reuse");
+        assertThat(second).containsEntry("reuse", first.get("picture"));
+        assertThat(comm.sent).as("only the first paint's op").hasSize(1);
+    }
+
+    @Test
+    void aChangedPaintIsSentWhole() {
+        RecordingComm comm = new RecordingComm();
+        Map<Object, Object> first = paint(comm, true, "[0,0,10,10]");
+        Map<Object, Object> second = paint(comm, true, "[0,0,20,10]");
+
+        assertThat(second).containsKey("picture").doesNotContainKey("reuse");
+        assertThat(second.get("picture")).isNotEqualTo(first.get("picture"));
+        assertThat(comm.sent).hasSize(2);
+    }
+
+    @Test
+    void aPaintFlutterAskedForIsNeverReused() {
+        RecordingComm comm = new RecordingComm();
+        paint(comm, true, "[0,0,10,10]");
+        Map<Object, Object> requested = paint(comm, false, "[0,0,10,10]");
+
+        assertThat(requested).doesNotContainKey("reuse");
+        assertThat(comm.sent).hasSize(2);
+    }
+
+    @Test
+    void anUnrecordedGCOrAFreshClientMeansSendingWholeAgain() {
+        RecordingComm comm = new RecordingComm();
+        paint(comm, true, "[0,0,10,10]");
+        PaintRecorder.finish(new Object(), comm, CHANNEL, DISPOSE);
+        assertThat(paint(comm, true, "[0,0,10,10]")).doesNotContainKey("reuse");
+
+        PaintRecorder.forget(comm);
+        assertThat(paint(comm, true, "[0,0,10,10]")).doesNotContainKey("reuse");
+        assertThat(comm.sent).hasSize(3);
+    }
+
+    @Test
+    void aPartialPaintCarriesItsDamageAndIsNeverReused() {
+        RecordingComm comm = new RecordingComm();
+        paint(comm, true, "[0,0,10,10]");
+        Map<Object, Object> partial = paint(comm, true, "[0,0,10,10]", new Rectangle(2, 3, 4, 5));
+
+        assertThat(partial).doesNotContainKey("reuse").doesNotContainKey("picture");
+        assertThat((int[]) partial.get("damage")).containsExactly(2, 3, 4, 5);
+        assertThat(paint(comm, true, "[0,0,10,10]")).as("Flutter holds a composite now").doesNotContainKey("reuse");
+        assertThat(comm.sent).hasSize(3);
+    }
+
+    @Test
+    void aPartialPaintFlushedMidPaintStillCarriesItsDamage() {
+        RecordingComm comm = new RecordingComm();
+        Object gc = new Object();
+        PaintRecorder.begin(gc, true, new Rectangle(2, 3, 4, 5));
+        PaintRecorder.of(gc).record(comm, CHANNEL, CHANNEL + "/drawLine", "[0,0,10,10]".getBytes(StandardCharsets.UTF_8));
+
+        PaintRecorder.flush(gc);
+        Map<Object, Object> partial = disposed(gc, comm);
+
+        assertThat(comm.sent).as("flushed").hasSize(1);
+        assertThat((int[]) partial.get("damage")).containsExactly(2, 3, 4, 5);
+    }
+
+    private static Map<Object, Object> paint(RecordingComm comm, boolean reusable, String line) {
+        return paint(comm, reusable, line, null);
+    }
+
+    private static Map<Object, Object> paint(RecordingComm comm, boolean reusable, String line, Rectangle damage) {
+        Object gc = new Object();
+        PaintRecorder.begin(gc, reusable, damage);
+        PaintRecorder.of(gc).record(comm, CHANNEL, CHANNEL + "/drawLine", line.getBytes(StandardCharsets.UTF_8));
+        return disposed(gc, comm);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> disposed(Object gc, RecordingComm comm) {
+        return (Map<Object, Object>) PaintRecorder.finish(gc, comm, CHANNEL, DISPOSE);
+    }
+}
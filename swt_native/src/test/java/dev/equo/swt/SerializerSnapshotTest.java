@@ -0,0 +1,59 @@
+package dev.equo.swt;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A snapshot leaves the pixels of the images it reaches to be encoded off the Display thread; the
+ * payload it completes to is the one {@code to()} writes, and what it sends is the pixels as they
+ * were when it was taken.
+ */
+class SerializerSnapshotTest {
+
+    private final Serializer serializer = new Serializer();
+
+    @Test
+    void aSnapshotCompletesToTheSamePayload() throws IOException {
+        ImageData first = image(0x336699), second = image(0x996633);
+        second.alphaData = new byte[second.width * second.height];
+
+        Serializer.Snapshot snapshot = serializer.snapshot(List.of(first, second), null);
+
+        assertThat(snapshot.isComplete()).isFalse();
+        assertThat(snapshot.json()).asString().doesNotContain("\"data\":\"");
+        assertThat(snapshot.encode().join()).isEqualTo(serializer.to(List.of(first, second)));
+    }
+
+    @Test
+    void theSnapshotSendsThePixelsItWasTakenWith() throws IOException {
+        ImageData image = image(0x336699);
+        byte[] before = serializer.to(image);
+
+        Serializer.Snapshot snapshot = serializer.snapshot(image, null);
+        image.setPixel(0, 0, 0xFFFFFF);
+
+        assertThat(snapshot.encode().join()).isEqualTo(before);
+    }
+
+    @Test
+    void aPayloadWithoutPixelsIsCompleteAsSerialized() throws IOException {
+        Serializer.Snapshot snapshot = serializer.snapshot(List.of("a", 1), null);
+
+        assertThat(snapshot.isComplete()).isTrue();
+        assertThat(snapshot.encode().join()).isSameAs(snapshot.json());
+    }
+
+    private static ImageData image(int rgb) {
+        ImageData data = new ImageData(16, 16, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        for (int y = 0; y < 16; y++)
+            for (int x = y; x < 16; x++)
+                data.setPixel(x, y, rgb);
+        return data;
+    }
+}
@@ -0,0 +1,81 @@
+package dev.equo.swt;
+
+import dev.equo.swt.harness.RecordingComm;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each SVG document goes out once per connection, and again after the client starts over; only
+ * on the comm a payload is serialized for, and only once that payload is encoded.
+ */
+class SvgDocumentsTest {
+
+    private static final String ICON = "<svg xmlns=\"http://www.w3.org/2000/svg\"><rect width=\"16\" height=\"16\"/></svg>";
+
+    @Test
+    void aDocumentIsSentOncePerComm() {
+        RecordingComm comm = new RecordingComm(), other = new RecordingComm();
+        long hash = SvgDocuments.hash(ICON);
+
+        SvgDocuments.publish(comm, hash, ICON);
+        SvgDocuments.publish(comm, hash, ICON);
+        SvgDocuments.publish(other, hash, ICON);
+
+        assertThat(comm.sent).hasSize(1);
+        assertThat(comm.sent.get(0).event).isEqualTo(SvgDocuments.CHANNEL);
+        assertThat(comm.sent.get(0).json).endsWith(ICON);
+        assertThat(other.sent).hasSize(1);
+    }
+
+    @Test
+    void aFreshClientGetsTheDocumentsAgain() {
+        RecordingComm comm = new RecordingComm();
+        long hash = SvgDocuments.hash(ICON);
+        SvgDocuments.publish(comm, hash, ICON);
+
+        SvgDocuments.forget(comm);
+        SvgDocuments.publish(comm, hash, ICON);
+
+        assertThat(comm.sent).hasSize(2);
+    }
+
+    @Test
+    void aPayloadForACommRefersByHashAndPublishesOnThatComm() {
+        RecordingComm comm = new RecordingComm();
+        SvgDocuments.Wire wire = SvgDocuments.begin(comm);
+        assertThat(SvgDocuments.byRef()).isTrue();
+        SvgDocuments.refer(SvgDocuments.hash(ICON), ICON);
+        assertThat(comm.sent).isEmpty();
+
+        SvgDocuments.end(wire, true);
+
+        assertThat(comm.sent).hasSize(1);
+        assertThat(SvgDocuments.byRef()).isFalse();
+    }
+
+    @Test
+    void aPayloadForNoCommKeepsMarkupInlineEvenInsideOneThatIs() {
+        RecordingComm comm = new RecordingComm();
+        SvgDocuments.Wire outer = SvgDocuments.begin(comm);
+        SvgDocuments.Wire inner = SvgDocuments.begin(null);
+        assertThat(SvgDocuments.byRef()).isFalse();
+        SvgDocuments.refer(SvgDocuments.hash(ICON), ICON);
+        SvgDocuments.end(inner, true);
+
+        assertThat(SvgDocuments.byRef()).isTrue();
+        SvgDocuments.end(outer, true);
+        assertThat(comm.sent).isEmpty();
+    }
+
+    @Test
+    void aPayloadThatFailsToEncodePublishesNothing() {
+        RecordingComm comm = new RecordingComm();
+        SvgDocuments.Wire wire = SvgDocuments.begin(comm);
+        SvgDocuments.refer(SvgDocuments.hash(ICON), ICON);
+
+        SvgDocuments.end(wire, false);
+
+        assertThat(comm.sent).isEmpty();
+    }
+}
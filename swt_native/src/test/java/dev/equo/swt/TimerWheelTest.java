@@ -0,0 +1,178 @@
+package dev.equo.swt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The wheel behind {@code DartDisplay.timerExec}, driven with an explicit clock so every deadline
+ * is deterministic. Ticks are 1 ms and the wheel has 8 slots, so a revolution is 8 ms and the
+ * multi-round paths are cheap to reach.
+ */
+class TimerWheelTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final TimerWheel wheel = new TimerWheel(8, MS, 0);
+    private final List<Runnable> fired = new ArrayList<>();
+
+    /** A distinct runnable each call: a non-capturing lambda would hand back one shared instance. */
+    private static Runnable task() {
+        return new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+    }
+
+    @Test
+    void firesOnlyOnceTheDeadlineHasPassed() {
+        Runnable r = task();
+        wheel.schedule(r, 5, 0);
+
+        assertThat(wheel.expire(4 * MS, fired::add)).isZero();
+        assertThat(wheel.expire(5 * MS, fired::add)).isEqualTo(1);
+        assertThat(fired).containsExactly(r);
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    void neverFiresEarlyForASubTickDeadline() {
+        Runnable r = task();
+        wheel.schedule(r, 2, MS / 2); // due at 2.5 ms, rounds up to the 3 ms tick
+
+        wheel.expire(2 * MS + MS / 2 - 1, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.expire(3 * MS, fired::add);
+        assertThat(fired).containsExactly(r);
+    }
+
+    @Test
+    void reschedulingReplacesTheEarlierDeadline() {
+        Runnable r = task();
+        wheel.schedule(r, 2, 0);
+        wheel.schedule(r, 6, 0);
+
+        wheel.expire(3 * MS, fired::add);
+        assertThat(fired).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        wheel.expire(6 * MS, fired::add);
+        assertThat(fired).containsExactly(r);
+    }
+
+    @Test
+    void aDebounceMovedLaterIsNotDueAtItsOldDeadline() {
+        TimerWheel wheel = new TimerWheel(1024, MS, 0);
+        Runnable r = task();
+        wheel.schedule(r, 10, 0);
+        assertThat(wheel.nanosUntilNext(0)).isEqualTo(10 * MS);
+        wheel.schedule(r, 1000, 0);
+
+        assertThat(wheel.hasExpired(20 * MS)).isFalse();
+        assertThat(wheel.expire(20 * MS, fired::add)).isZero();
+        assertThat(wheel.hasExpired(500 * MS)).isFalse();
+        assertThat(wheel.nanosUntilNext(500 * MS)).isEqualTo(500 * MS);
+        assertThat(wheel.expire(1000 * MS, fired::add)).isEqualTo(1);
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        Runnable r = task();
+        wheel.schedule(r, 3, 0);
+
+        assertThat(wheel.cancel(r)).isTrue();
+        assertThat(wheel.cancel(r)).isFalse();
+        wheel.expire(10 * MS, fired::add);
+        assertThat(fired).isEmpty();
+    }
+
+    @Test
+    void timerBeyondOneRevolutionWaitsForItsRound() {
+        Runnable far = task();
+        wheel.schedule(far, 20, 0); // shares slot 4 with tick 4 and 12
+
+        wheel.expire(4 * MS, fired::add);
+        wheel.expire(12 * MS, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.expire(20 * MS, fired::add);
+        assertThat(fired).containsExactly(far);
+    }
+
+    @Test
+    void fallingBehindByManyRevolutionsStillFiresEverything() {
+        Runnable a = task(), b = task(), c = task();
+        wheel.schedule(a, 1, 0);
+        wheel.schedule(b, 9, 0);
+        wheel.schedule(c, 30, 0);
+
+        assertThat(wheel.expire(100 * MS, fired::add)).isEqualTo(3);
+        assertThat(fired).containsExactlyInAnyOrder(a, b, c);
+    }
+
+    @Test
+    void firesInDeadlineOrder() {
+        Runnable a = task(), b = task(), c = task();
+        wheel.schedule(c, 5, 0);
+        wheel.schedule(a, 1, 0);
+        wheel.schedule(b, 3, 0);
+
+        wheel.expire(6 * MS, fired::add);
+        assertThat(fired).containsExactly(a, b, c);
+    }
+
+    @Test
+    void zeroDelayIsDueOnTheNextTick() {
+        Runnable r = task();
+        wheel.expire(4 * MS, fired::add);
+        wheel.schedule(r, 0, 4 * MS);
+
+        assertThat(wheel.nanosUntilNext(4 * MS)).isEqualTo(MS);
+        wheel.expire(5 * MS, fired::add);
+        assertThat(fired).containsExactly(r);
+    }
+
+    @Test
+    void nanosUntilNextTracksTheEarliestDeadline() {
+        assertThat(wheel.nanosUntilNext(0)).isEqualTo(Long.MAX_VALUE);
+        Runnable late = task(), soon = task();
+        wheel.schedule(late, 6, 0);
+        assertThat(wheel.nanosUntilNext(0)).isEqualTo(6 * MS);
+
+        wheel.schedule(soon, 2, 0);
+        assertThat(wheel.nanosUntilNext(MS)).isEqualTo(MS);
+
+        wheel.cancel(soon);
+        assertThat(wheel.nanosUntilNext(MS)).isEqualTo(5 * MS);
+        assertThat(wheel.hasExpired(5 * MS)).isFalse();
+        assertThat(wheel.hasExpired(6 * MS)).isTrue();
+    }
+
+    @Test
+    void nanosUntilNextFindsATimerBeyondOneRevolution() {
+        wheel.schedule(task(), 50, 0);
+
+        assertThat(wheel.nanosUntilNext(0)).isEqualTo(50 * MS);
+    }
+
+    /** The caret/animation shape: each run re-arms the same runnable, as runTimers() lets it. */
+    @Test
+    void aFiredTimerCanReArmItself() {
+        Runnable r = task();
+        wheel.schedule(r, 2, 0);
+
+        int runs = 0;
+        for (long now = 0; now <= 10 * MS; now += MS) {
+            fired.clear();
+            wheel.expire(now, fired::add);
+            for (Runnable due : fired) {
+                runs++;
+                wheel.schedule(due, 2, now);
+            }
+        }
+        assertThat(runs).isEqualTo(5);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,95 @@
+package dev.equo.swt.awt;
+
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Only what Swing repainted is copied and shipped, composited over the control background, and
+ * nothing is shipped when nothing changed.
+ */
+class FrameTilesTest {
+
+    private static final int WHITE = 0xFFFFFF;
+
+    @Test
+    void firstPresentShipsTheWholeFrame() {
+        FrameTiles tiles = new FrameTiles();
+        tiles.resize(4, 3);
+
+        byte[] tile = tiles.takeTile(-1, WHITE);
+
+        ByteBuffer header = ByteBuffer.wrap(tile);
+        assertThat(header.getLong()).isEqualTo(-1);
+        assertThat(new int[]{header.getInt(), header.getInt(), header.getInt(), header.getInt(), header.getInt(), header.getInt()})
+                .containsExactly(4, 3, 0, 0, 4, 3);
+        assertThat(tile).hasSize(FrameTiles.HEADER_BYTES + 4 * 3 * 4);
+        assertThat(tiles.takeTile(-1, WHITE)).isNull();
+    }
+
+    @Test
+    void shipsOnlyTheUnionOfTheRepaintedRectangles() {
+        FrameTiles tiles = new FrameTiles();
+        int[] frame = frame(8, 8, 10, 0xFF102030);
+        tiles.resize(8, 8);
+        tiles.takeTile(-1, WHITE);
+
+        tiles.copy(frame, 10, 1, 2, 2, 1);
+        tiles.copy(frame, 10, 4, 3, 1, 2);
+        byte[] tile = tiles.takeTile(-1, WHITE);
+
+        ByteBuffer header = ByteBuffer.wrap(tile, 16, 16);
+        assertThat(new int[]{header.getInt(), header.getInt(), header.getInt(), header.getInt()})
+                .containsExactly(1, 2, 4, 3);
+        assertThat(tile).hasSize(FrameTiles.HEADER_BYTES + 4 * 3 * 4);
+        assertThat(rgba(tile, 0)).isEqualTo(0x102030FF);
+    }
+
+    @Test
+    void copyIsClippedToTheFrameAndSkipsTheStridePadding() {
+        FrameTiles tiles = new FrameTiles();
+        int[] out = new int[4 * 2];
+        int[] frame = frame(4, 2, 6, 0xFF0000FF);
+        frame[4] = 0xFFFF0000; // padding: must never be read as a pixel
+        tiles.resize(4, 2);
+        tiles.takeInto(out, WHITE);
+
+        tiles.copy(frame, 6, 2, -5, 50, 50);
+        Rectangle r = tiles.takeInto(out, WHITE);
+
+        assertThat(r).isEqualTo(new Rectangle(2, 0, 2, 2));
+        assertThat(out).containsExactly(WHITE, WHITE, 0x0000FF, 0x0000FF, WHITE, WHITE, 0x0000FF, 0x0000FF);
+    }
+
+    @Test
+    void uncoveredPixelsShowTheBackgroundAndABackgroundChangeRecomposites() {
+        FrameTiles tiles = new FrameTiles();
+        int[] out = new int[2];
+        tiles.resize(2, 1);
+        tiles.copy(new int[]{0, 0x80400000}, 2, 0, 0, 2, 1);
+        tiles.takeInto(out, WHITE);
+        assertThat(out[0]).isEqualTo(WHITE);
+        assertThat(out[1]).isEqualTo((0x40 + 0xFF * 127 / 255) << 16 | (0xFF * 127 / 255) << 8 | 0xFF * 127 / 255);
+
+        Rectangle r = tiles.takeInto(out, 0x000000);
+
+        assertThat(r).isEqualTo(new Rectangle(0, 0, 2, 1));
+        assertThat(out).containsExactly(0x000000, 0x400000);
+    }
+
+    /** A {@code w} x {@code h} frame of {@code argb} in a buffer {@code stride} ints wide. */
+    private static int[] frame(int w, int h, int stride, int argb) {
+        int[] px = new int[stride * h];
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) px[y * stride + x] = argb;
+        }
+        return px;
+    }
+
+    private static int rgba(byte[] tile, int pixel) {
+        return ByteBuffer.wrap(tile, FrameTiles.HEADER_BYTES + pixel * 4, 4).getInt();
+    }
+}
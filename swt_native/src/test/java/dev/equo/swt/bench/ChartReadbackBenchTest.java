@@ -0,0 +1,94 @@
+package dev.equo.swt.bench;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GCHelper;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Java's share of an off-screen chart loop — draw into a {@code GC(Image)}, then
+ * {@code getImageData()} — per frame: turning Flutter's readback into {@code ImageData}. Measured
+ * for the PNG readback (SWT's pure-Java PNG decoder) and the raw RGBA one that replaced it, over
+ * the same 1024×640 line-and-bar chart. Flutter's side of the trade (no PNG encode) needs an
+ * engine and is not part of this number.
+ */
+@Tag("bench")
+public class ChartReadbackBenchTest {
+
+    private static final int W = 1024, H = 640;
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 20);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 200);
+
+    @Test
+    void offscreenChart() {
+        byte[] rgba = chart();
+        byte[] png = png(rgba);
+        byte[] raw = ByteBuffer.allocate(12 + rgba.length).putInt(0x52474241).putInt(W).putInt(H).put(rgba).array();
+
+        double pngMicros = perFrame(png);
+        double rawMicros = perFrame(raw);
+
+        System.out.printf("[bench] %dx%d chart readback -> ImageData: PNG (%d B) %.0f µs/frame (%.0f frames/s), raw (%d B) %.0f µs/frame (%.0f frames/s)%n",
+                W, H, png.length, pngMicros, 1e6 / pngMicros, raw.length, rawMicros, 1e6 / rawMicros);
+        assertThat(GCHelper.decodeRendered(raw).data).isEqualTo(GCHelper.decodeRendered(png).data);
+    }
+
+    private static double perFrame(byte[] readback) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) sink += GCHelper.decodeRendered(readback).data.length;
+        long[] samples = new long[MEASURED];
+        for (int i = 0; i < MEASURED; i++) {
+            long t0 = System.nanoTime();
+            sink += GCHelper.decodeRendered(readback).data.length;
+            samples[i] = System.nanoTime() - t0;
+        }
+        assertThat(sink).isPositive();
+        Arrays.sort(samples);
+        return samples[MEASURED / 2] / 1e3;
+    }
+
+    /** Opaque RGBA of a white plot with grid lines, bars and an antialiased-looking series. */
+    private static byte[] chart() {
+        byte[] rgba = new byte[W * H * 4];
+        Arrays.fill(rgba, (byte) 0xFF);
+        for (int y = 0; y < H; y++) {
+            for (int x = 0; x < W; x++) {
+                int rgb = 0xFFFFFF;
+                if (x % 64 == 0 || y % 64 == 0) rgb = 0xDDDDDD;
+                int bar = x / 32;
+                if (x % 32 > 6 && y > H - 40 - (bar * 97 % 400)) rgb = 0x4A90D9;
+                int curve = (int) (H / 2 + Math.sin(x / 60.0) * 180);
+                int d = Math.abs(y - curve);
+                if (d < 3) rgb = 0xD0021B | (d * 40) << 8;
+                int i = (y * W + x) * 4;
+                rgba[i] = (byte) (rgb >> 16);
+                rgba[i + 1] = (byte) (rgb >> 8);
+                rgba[i + 2] = (byte) rgb;
+            }
+        }
+        return rgba;
+    }
+
+    private static byte[] png(byte[] rgba) {
+        ImageData data = new ImageData(W, H, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        data.alphaData = new byte[W * H];
+        for (int i = 0; i < W * H; i++) {
+            data.setPixel(i % W, i / W, (rgba[i * 4] & 0xFF) << 16 | (rgba[i * 4 + 1] & 0xFF) << 8 | rgba[i * 4 + 2] & 0xFF);
+            data.alphaData[i] = rgba[i * 4 + 3];
+        }
+        ImageLoader loader = new ImageLoader();
+        loader.data = new ImageData[]{data};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        loader.save(out, SWT.IMAGE_PNG);
+        return out.toByteArray();
+    }
+}
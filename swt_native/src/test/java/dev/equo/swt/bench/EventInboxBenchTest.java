@@ -0,0 +1,260 @@
+package dev.equo.swt.bench;
+
+import dev.equo.swt.EventInbox;
+import org.eclipse.swt.widgets.Event;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A 1 kHz synthetic mouse stream from a receive thread to a UI loop parked on a semaphore, as
+ * {@code DartDisplay.sleep} parks: input-to-listener latency (p50, p99) and bytes allocated per
+ * event by both threads. The per-event {@code asyncExec} path — a lambda and a lock object per
+ * event queued under a global lock, and a wake each time — against {@link EventInbox}. Both
+ * allocate the decoded {@link Event}, which is in the figures.
+ *
+ * <p>Then the same stream at 1 kHz into a listener that takes 2 ms, as a rubber band's repaint
+ * does: how far behind the pointer the listener runs, and how many times it runs, with each
+ * move run against moves folded while queued ({@link EventInbox#LATEST}).
+ */
+@Tag("bench")
+public class EventInboxBenchTest {
+
+    private static final long PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 500);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 3000);
+
+    @Test
+    void mouseStreamAtOneKilohertz() throws InterruptedException {
+        for (boolean inbox : new boolean[]{false, true}) {
+            stream(inbox, WARMUP);
+            long[] result = stream(inbox, MEASURED);
+            long[] latencies = Arrays.copyOf(result, MEASURED);
+            Arrays.sort(latencies);
+            System.out.printf("[bench] 1 kHz mouse stream, %s: p50 %.1f µs, p99 %.1f µs, %d B allocated per event%n",
+                    inbox ? "event inbox" : "asyncExec per event",
+                    latencies[MEASURED / 2] / 1e3, latencies[MEASURED * 99 / 100] / 1e3, result[MEASURED] / MEASURED);
+        }
+    }
+
+    @Test
+    void mouseStreamIntoASlowListener() throws InterruptedException {
+        int count = MEASURED / 3;
+        for (boolean coalesce : new boolean[]{false, true}) {
+            long[] lags = slowStream(coalesce ? EventInbox.LATEST : null, count);
+            int runs = (int) lags[count];
+            long[] seen = Arrays.copyOf(lags, runs);
+            Arrays.sort(seen);
+            System.out.printf("[bench] 1 kHz mouse stream, 2 ms listener, %s: %d of %d moves run, lag p50 %.1f ms, max %.1f ms%n",
+                    coalesce ? "moves folded while queued" : "every move run", runs, count,
+                    seen[runs / 2] / 1e6, seen[runs - 1] / 1e6);
+        }
+    }
+
+    /**
+     * Streams {@code count} moves into a 2 ms listener until it has seen the last; returns the lag
+     * of each run, from the post of the move it saw, then at {@code [count]} how many runs there were.
+     */
+    private static long[] slowStream(EventInbox.Merge merge, int count) throws InterruptedException {
+        long[] posted = new long[count];
+        long[] result = new long[count + 1];
+        Semaphore wake = new Semaphore(0);
+        EventInbox inbox = new EventInbox(wake::release);
+        int[] runs = {0};
+        int[] last = {-1};
+        Consumer<Event> listener = e -> {
+            result[runs[0]++] = System.nanoTime() - posted[e.count];
+            last[0] = e.count;
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2);
+            while (System.nanoTime() < end) Thread.onSpinWait();
+        };
+        BiConsumer<Consumer<Event>, Event> dispatch = Consumer::accept;
+        Thread ui = new Thread(() -> {
+            while (last[0] != count - 1) {
+                if (inbox.isEmpty())
+                    wake.acquireUninterruptibly();
+                wake.drainPermits();
+                inbox.drain(dispatch);
+            }
+        }, "ui");
+        Thread receiver = new Thread(() -> {
+            long next = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                next += PERIOD_NANOS;
+                long wait;
+                while ((wait = next - System.nanoTime()) > 0) LockSupport.parkNanos(wait);
+                Event e = new Event();
+                e.x = i % 800;
+                e.y = i % 600;
+                e.count = i;
+                posted[i] = System.nanoTime();
+                inbox.post(listener, e, merge);
+            }
+        }, "receiver");
+        ui.start();
+        receiver.start();
+        receiver.join();
+        ui.join(TimeUnit.SECONDS.toMillis(30));
+        assertThat(ui.isAlive()).as("the listener saw the last move").isFalse();
+        result[count] = runs[0];
+        return result;
+    }
+
+    /** Streams {@code count} events; returns their latencies followed by the bytes both threads allocated. */
+    private static long[] stream(boolean useInbox, int count) throws InterruptedException {
+        long[] posted = new long[count];
+        long[] result = new long[count + 1];
+        Semaphore wake = new Semaphore(0);
+        Loop loop = useInbox ? new InboxLoop(wake) : new AsyncExecLoop(wake);
+        Consumer<Event> listener = e -> result[e.count] = System.nanoTime() - posted[e.count];
+
+        long[] allocated = new long[2];
+        Thread ui = new Thread(() -> {
+            long before = allocated();
+            int seen = 0;
+            while (seen < count) {
+                if (!loop.hasWork())
+                    wake.acquireUninterruptibly();
+                wake.drainPermits();
+                seen += loop.run();
+            }
+            allocated[0] = allocated() - before;
+        }, "ui");
+        Thread receiver = new Thread(() -> {
+            long before = allocated();
+            long next = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                next += PERIOD_NANOS;
+                long wait;
+                while ((wait = next - System.nanoTime()) > 0) LockSupport.parkNanos(wait);
+                Event e = new Event();
+                e.x = i % 800;
+                e.y = i % 600;
+                e.count = i;
+                posted[i] = System.nanoTime();
+                loop.post(listener, e);
+            }
+            allocated[1] = allocated() - before;
+        }, "receiver");
+        ui.start();
+        receiver.start();
+        receiver.join();
+        ui.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(ui.isAlive()).as("the loop ran every event").isFalse();
+        result[count] = allocated[0] + allocated[1];
+        return result;
+    }
+
+    /** Bytes the calling thread has allocated so far. */
+    private static long allocated() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private interface Loop {
+        void post(Consumer<Event> listener, Event e);
+
+        boolean hasWork();
+
+        /** Runs what is queued; returns how many events ran. */
+        int run();
+    }
+
+    private static final class InboxLoop implements Loop {
+        private final EventInbox inbox;
+        private final BiConsumer<Consumer<Event>, Event> dispatch;
+        private int ran;
+
+        InboxLoop(Semaphore wake) {
+            inbox = new EventInbox(wake::release);
+            dispatch = (listener, e) -> {
+                listener.accept(e);
+                ran++;
+            };
+        }
+
+        @Override
+        public void post(Consumer<Event> listener, Event e) {
+            inbox.post(listener, e);
+        }
+
+        @Override
+        public boolean hasWork() {
+            return !inbox.isEmpty();
+        }
+
+        @Override
+        public int run() {
+            ran = 0;
+            inbox.drain(dispatch);
+            return ran;
+        }
+    }
+
+    /** What each inbound event cost before: {@code asyncExec(() -> sendEvent(...))}. */
+    private static final class AsyncExecLoop implements Loop {
+        private static final Object DISPLAY_LOCK = new Object();
+
+        /** Stands in for the Synchronizer's {@code RunnableLock}. */
+        private static final class RunnableLock {
+            final Runnable runnable;
+            Thread thread;
+            Throwable throwable;
+
+            RunnableLock(Runnable runnable) {
+                this.runnable = runnable;
+            }
+        }
+
+        private final ArrayDeque<RunnableLock> messages = new ArrayDeque<>();
+        private final Semaphore wake;
+
+        AsyncExecLoop(Semaphore wake) {
+            this.wake = wake;
+        }
+
+        @Override
+        public void post(Consumer<Event> listener, Event e) {
+            synchronized (DISPLAY_LOCK) {
+                synchronized (messages) {
+                    messages.addLast(new RunnableLock(() -> listener.accept(e)));
+                }
+                wake.release();
+            }
+        }
+
+        @Override
+        public boolean hasWork() {
+            synchronized (messages) {
+                return !messages.isEmpty();
+            }
+        }
+
+        @Override
+        public int run() {
+            int ran = 0;
+            while (true) {
+                RunnableLock lock;
+                synchronized (messages) {
+                    lock = messages.pollFirst();
+                }
+                if (lock == null)
+                    return ran;
+                synchronized (lock) {
+                    lock.runnable.run();
+                    lock.notifyAll();
+                }
+                ran++;
+            }
+        }
+    }
+}
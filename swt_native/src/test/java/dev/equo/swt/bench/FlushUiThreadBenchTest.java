@@ -0,0 +1,99 @@
+package dev.equo.swt.bench;
+
+import dev.equo.swt.Serializer;
+import dev.equo.swt.comm.BinaryCommService;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UI-thread time of one flush of the {@link WorkbenchTree} fixture over a real socket. Run twice:
+ * as before, serialized whole and framed and written on the caller; and as a flush sends now, a
+ * {@link Serializer#snapshot snapshot} of the live V* state (the walk that must stay on the Display
+ * thread) handed to the comm's send lane while its images' pixels are encoded on the pool. The
+ * difference is what moved off the UI thread. A local client reads every frame; each iteration
+ * waits for it outside the timed region, so the lane never builds a backlog.
+ */
+@Tag("bench")
+public class FlushUiThreadBenchTest {
+
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 200);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 2000);
+
+    private static final Serializer serializer = new Serializer();
+
+    @Test
+    void workbenchFlush() throws Exception {
+        BenchPayloads.Shape shape = BenchPayloads.WORKBENCH;
+        BinaryCommService comm = new BinaryCommService();
+        AtomicInteger received = new AtomicInteger();
+        CountDownLatch open = new CountDownLatch(1);
+        WebSocketClient client = new WebSocketClient(new URI("ws://localhost:" + comm.getPort())) {
+            @Override public void onOpen(ServerHandshake handshake) { open.countDown(); }
+            @Override public void onMessage(String message) { }
+            @Override public void onMessage(ByteBuffer bytes) { received.incrementAndGet(); }
+            @Override public void onClose(int code, String reason, boolean remote) { }
+            @Override public void onError(Exception ex) { ex.printStackTrace(); }
+        };
+        try {
+            client.connect();
+            assertThat(open.await(5, TimeUnit.SECONDS)).isTrue();
+            for (boolean sync : new boolean[]{true, false}) {
+                comm.setSyncSend(sync);
+                for (int i = 0; i < WARMUP; i++) flush(comm, shape, received, sync);
+                long[] serialize = new long[MEASURED];
+                long[] total = new long[MEASURED];
+                for (int i = 0; i < MEASURED; i++) {
+                    long[] t = flush(comm, shape, received, sync);
+                    serialize[i] = t[0];
+                    total[i] = t[1];
+                }
+                System.out.printf("[bench] workbench flush (%d B), %s: UI thread p50 %.1f µs, p99 %.1f µs (serialize p50 %.1f µs)%n",
+                        shape.size, sync ? "whole, framed+written on caller" : "snapshot, send lane",
+                        pct(total, 50) / 1e3, pct(total, 99) / 1e3, pct(serialize, 50) / 1e3);
+            }
+        } finally {
+            client.closeBlocking();
+            comm.stop();
+        }
+    }
+
+    private static long[] flush(BinaryCommService comm, BenchPayloads.Shape shape, AtomicInteger received, boolean sync)
+            throws IOException, InterruptedException {
+        int expected = received.get() + 1;
+        long t0 = System.nanoTime(), t1;
+        if (sync) {
+            byte[] payload = serializer.to(shape.impl, comm);
+            t1 = System.nanoTime();
+            comm.send("Composite/1", payload);
+        } else {
+            Serializer.Snapshot snapshot = serializer.snapshot(shape.impl, comm);
+            t1 = System.nanoTime();
+            comm.send("Composite/1", snapshot.encode());
+        }
+        long t2 = System.nanoTime();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.get() < expected) {
+            if (System.nanoTime() > deadline) throw new IllegalStateException("client never received the frame");
+            Thread.onSpinWait();
+        }
+        return new long[]{t1 - t0, t2 - t0};
+    }
+
+    private static double pct(long[] samples, int p) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * p / 100)];
+    }
+}
@@ -0,0 +1,89 @@
+package dev.equo.swt.bench;
+
+import dev.equo.swt.Config;
+import dev.equo.swt.FlutterBridge;
+import dev.equo.swt.harness.RecordingBridge;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Mocks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+
+/**
+ * A 500-control form (250 rows of a label and a check button) resized and laid out again, then
+ * flushed, as a dialog being dragged larger is: time per pass and what each flush sends. Moved
+ * controls in one packed bounds update against a push of each control and its parent
+ * ({@code -Ddev.equo.swt.bounds.compact=false}).
+ */
+@Tag("bench")
+@ExtendWith(Mocks.class)
+public class FormResizeBenchTest {
+
+    private static final int ROWS = 250;
+    private static final int PASSES = 20;
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 3);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 10);
+
+    @AfterEach
+    void tearDown() {
+        FlutterBridge.set(null);
+        Config.defaultToEclipse();
+        System.clearProperty("dev.equo.swt.bounds.compact");
+    }
+
+    @Test
+    void fiveHundredControlForm() {
+        Config.forceEquo();
+        for (boolean compact : new boolean[]{false, true}) {
+            System.setProperty("dev.equo.swt.bounds.compact", String.valueOf(compact));
+            RecordingBridge bridge = new RecordingBridge();
+            FlutterBridge.set(bridge);
+            Composite form = build();
+            FlutterBridge.update();
+            for (int i = 0; i < WARMUP; i++) resize(form);
+            bridge.comm.sent.clear();
+            long[] samples = new long[MEASURED];
+            for (int i = 0; i < MEASURED; i++) {
+                long t0 = System.nanoTime();
+                resize(form);
+                samples[i] = System.nanoTime() - t0;
+            }
+            Arrays.sort(samples);
+            long bytes = 0;
+            for (var frame : bridge.comm.sent) bytes += frame.json.length();
+            int flushes = MEASURED * PASSES;
+            System.out.printf("[bench] %d controls, %s: %.3f ms per resize, %.1f frames and %d B sent per flush%n",
+                    ROWS * 2, compact ? "packed bounds update" : "moved controls pushed whole",
+                    samples[MEASURED / 2] / 1e6 / PASSES, (double) bridge.comm.sent.size() / flushes, bytes / flushes);
+            form.dispose();
+        }
+    }
+
+    private static void resize(Composite form) {
+        for (int pass = 0; pass < PASSES; pass++) {
+            form.setSize(600 + pass % 10 * 20, 8000);
+            form.layout(true, true);
+            FlutterBridge.update();
+        }
+    }
+
+    private static Composite build() {
+        Composite form = new Composite(Mocks.swtShell(), SWT.NONE);
+        form.setLayout(new GridLayout(2, false));
+        for (int r = 0; r < ROWS; r++) {
+            new Label(form, SWT.NONE).setText("Setting " + r + ":");
+            Button check = new Button(form, SWT.CHECK);
+            check.setText("Enabled");
+            check.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+        }
+        return form;
+    }
+}
@@ -0,0 +1,75 @@
+package dev.equo.swt.bench;
+
+import dev.equo.swt.IconPack;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * What an icon-heavy workbench pays for its icon replacements at startup: indexing the assets
+ * directory and then loading every replaced icon once, from a directory scan (a listing, then a
+ * file read per icon) against a packed {@link IconPack} (one index parse, reads from the mapping).
+ * The directory holds 1200 small SVGs, about the size of the Eclipse icon set.
+ */
+@Tag("bench")
+public class IconReplacementBenchTest {
+
+    private static final int ICONS = 1200;
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 20);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 100);
+
+    @TempDir
+    Path assets;
+
+    @Test
+    void startupIconLoad() throws IOException {
+        String[] names = new String[ICONS];
+        for (int i = 0; i < ICONS; i++) {
+            names[i] = "icon_" + i;
+            Files.writeString(assets.resolve(names[i] + ".svg"), "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"16\" height=\"16\">"
+                    + "<path d=\"M" + i % 16 + " 0h8v8H" + i % 16 + "z\" fill=\"#" + Integer.toHexString(0x100000 + i * 997) + "\"/></svg>");
+        }
+        Path pack = assets.resolve(IconPack.FILE_NAME);
+        try (OutputStream out = Files.newOutputStream(pack)) {
+            IconPack.write(assets.toFile(), out);
+        }
+
+        double scanned = millis(names, () -> IconPack.scan(assets.toFile()));
+        double packed = millis(names, () -> IconPack.open(pack));
+        System.out.printf("[bench] %d icon replacements, index + load all: directory scan %.2f ms, packed %.2f ms%n",
+                ICONS, scanned, packed);
+    }
+
+    interface Source {
+        IconPack open() throws IOException;
+    }
+
+    /** Median time to open the replacements and read every icon once. */
+    private static double millis(String[] names, Source source) throws IOException {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) sink += loadAll(source.open(), names);
+        long[] samples = new long[MEASURED];
+        for (int i = 0; i < MEASURED; i++) {
+            long t0 = System.nanoTime();
+            sink += loadAll(source.open(), names);
+            samples[i] = System.nanoTime() - t0;
+        }
+        assertThat(sink).isPositive();
+        Arrays.sort(samples);
+        return samples[MEASURED / 2] / 1e6;
+    }
+
+    private static long loadAll(IconPack icons, String[] names) throws IOException {
+        long bytes = 0;
+        for (String name : names) bytes += icons.get(name).bytes().length;
+        return bytes;
+    }
+}
@@ -0,0 +1,72 @@
+package dev.equo.swt.bench;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageDownsampler;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.internal.image.PNGFileFormat;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A 3000×2000 photo drawn as a 300×200 thumbnail on a 200% display: what the bridge encodes and
+ * sends for the draw when the whole image goes over, against downsampling it to 600×400 first.
+ * The downsample is paid once per (image, size); later draws reuse it, so only its first draw
+ * includes it.
+ */
+@Tag("bench")
+public class ImageDownsampleBenchTest {
+
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 5);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 15);
+
+    @Test
+    void photoThumbnail() {
+        ImageData photo = photo(3000, 2000);
+        int[] size = ImageDownsampler.targetSize(photo.width, photo.height, photo.width, photo.height, 600, 400);
+
+        long[] full = time(() -> PNGFileFormat.encodeForBridge(photo).length);
+        long[] scaled = time(() -> PNGFileFormat.encodeForBridge(
+                ImageDownsampler.downsample(photo, 0, 0, photo.width, photo.height, size[0], size[1])).length);
+        System.out.printf("[bench] 3000x2000 photo drawn at 300x200@2x: whole image %.1f ms, %d KB; downsampled %.1f ms, %d KB%n",
+                full[0] / 1e6, full[1] / 1024, scaled[0] / 1e6, scaled[1] / 1024);
+    }
+
+    interface Encode {
+        int bytes();
+    }
+
+    /** Median time in ns, and the bytes sent. */
+    private static long[] time(Encode encode) {
+        int bytes = 0;
+        for (int i = 0; i < WARMUP; i++) bytes = encode.bytes();
+        long[] samples = new long[MEASURED];
+        for (int i = 0; i < MEASURED; i++) {
+            long t0 = System.nanoTime();
+            bytes = encode.bytes();
+            samples[i] = System.nanoTime() - t0;
+        }
+        assertThat(bytes).isPositive();
+        Arrays.sort(samples);
+        return new long[]{samples[MEASURED / 2], bytes};
+    }
+
+    /** Smooth gradients with grain, which compresses about as badly as a photo does. */
+    private static ImageData photo(int w, int h) {
+        Random random = new Random(1);
+        ImageData data = new ImageData(w, h, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int r = (x * 255 / w + random.nextInt(12)) & 0xFF;
+                int g = (y * 255 / h + random.nextInt(12)) & 0xFF;
+                int b = ((x + y) * 127 / (w + h) + 64 + random.nextInt(12)) & 0xFF;
+                data.setPixel(x, y, r << 16 | g << 8 | b);
+            }
+        }
+        return data;
+    }
+}
@@ -0,0 +1,85 @@
+package dev.equo.swt.bench;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PNG decode time per image through {@code ImageLoader}, for the three IDAT paths
+ * {@code PNGFileFormat} has: the direct {@code Inflater} one (default), the
+ * {@code InflaterInputStream} stack it replaced ({@code dev.equo.swt.png.streamDecode}) and SWT's
+ * own pure-Java inflater ({@code PNGFileFormat_3.2}). Sizes: 16×16 and 32×32 icons, and a 4K
+ * frame. The images are RGBA with UI-like content, so they compress like real ones.
+ */
+@Tag("bench")
+public class PngDecodeBenchTest {
+
+    private static final String STREAM = "dev.equo.swt.png.streamDecode";
+    private static final String PURE_JAVA = "org.eclipse.swt.internal.image.PNGFileFormat_3.2";
+
+    @Test
+    void iconsAnd4k() {
+        for (int[] size : new int[][]{{16, 16}, {32, 32}, {3840, 2160}}) {
+            byte[] png = png(size[0], size[1]);
+            int rounds = size[0] * size[1] > 1_000_000 ? 10 : 5_000;
+            double direct = micros(png, rounds, null);
+            double stream = micros(png, rounds, STREAM);
+            double pureJava = micros(png, Math.max(3, rounds / 5), PURE_JAVA);
+            System.out.printf("[bench] PNG decode %dx%d (%d B): Inflater %.1f µs, InflaterInputStream %.1f µs, pure-Java %.1f µs%n",
+                    size[0], size[1], png.length, direct, stream, pureJava);
+        }
+    }
+
+    /** Median decode time, with {@code property} (one of the path switches) set, or none. */
+    private static double micros(byte[] png, int rounds, String property) {
+        if (property != null) System.setProperty(property, "true");
+        try {
+            long sink = 0;
+            for (int i = 0; i < Math.min(rounds, 50); i++) sink += decode(png).data.length;
+            long[] samples = new long[rounds];
+            for (int i = 0; i < rounds; i++) {
+                long t0 = System.nanoTime();
+                sink += decode(png).data.length;
+                samples[i] = System.nanoTime() - t0;
+            }
+            assertThat(sink).isPositive();
+            Arrays.sort(samples);
+            return samples[rounds / 2] / 1e3;
+        } finally {
+            if (property != null) System.clearProperty(property);
+        }
+    }
+
+    private static ImageData decode(byte[] png) {
+        return new ImageLoader().load(new ByteArrayInputStream(png))[0];
+    }
+
+    private static byte[] png(int w, int h) {
+        Random random = new Random(w);
+        ImageData data = new ImageData(w, h, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        data.alphaData = new byte[w * h];
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int rgb = ((x / 24 + y / 24) & 1) == 0 ? 0xF3F3F3 : 0xFFFFFF;
+                if (random.nextInt(8) == 0) rgb = random.nextInt(0xFFFFFF);
+                data.setPixel(x, y, rgb);
+                data.alphaData[y * w + x] = (byte) (x < 2 || y < 2 ? 0 : 255);
+            }
+        }
+        ImageLoader loader = new ImageLoader();
+        loader.data = new ImageData[]{data};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        loader.save(out, SWT.IMAGE_PNG);
+        return out.toByteArray();
+    }
+}
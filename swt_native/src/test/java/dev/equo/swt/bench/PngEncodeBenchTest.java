@@ -0,0 +1,120 @@
+package dev.equo.swt.bench;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.internal.image.PNGFileFormat;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PNG encode throughput and output size, {@code ImageLoader.save} (default level, no filtering)
+ * against the bridge encoder ({@code PNGFileFormat.encodeForBridge}: fastest level, FILTERED
+ * strategy, per-row filters, parallel bands). Three kinds of image the bridge sends: a 1080p
+ * screenshot, 16×16 toolbar icons and an 800×500 line chart.
+ */
+@Tag("bench")
+public class PngEncodeBenchTest {
+
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 20);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 100);
+
+    @Test
+    void screenshotsIconsAndCharts() {
+        report("screenshot 1920x1080", screenshot(1920, 1080), Math.max(3, MEASURED / 10));
+        report("icon 16x16", icon(16), MEASURED * 50);
+        report("chart 800x500", chart(800, 500), MEASURED);
+    }
+
+    private static void report(String name, ImageData image, int rounds) {
+        double rawMb = image.width * image.height * 4 / 1e6;
+        long[] legacy = time(image, rounds, PngEncodeBenchTest::legacy);
+        long[] bridge = time(image, rounds, PNGFileFormat::encodeForBridge);
+        System.out.printf("[bench] PNG encode %s: ImageLoader.save %.1f MB/s, %d B; bridge %.1f MB/s, %d B%n",
+                name, rawMb / (legacy[0] / 1e9), legacy[1], rawMb / (bridge[0] / 1e9), bridge[1]);
+    }
+
+    /** Median encode time in ns, and the encoded size. */
+    private static long[] time(ImageData image, int rounds, Function<ImageData, byte[]> encoder) {
+        int size = 0;
+        for (int i = 0; i < WARMUP; i++) size = encoder.apply(image).length;
+        long[] samples = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long t0 = System.nanoTime();
+            size = encoder.apply(image).length;
+            samples[i] = System.nanoTime() - t0;
+        }
+        assertThat(size).isPositive();
+        Arrays.sort(samples);
+        return new long[]{samples[rounds / 2], size};
+    }
+
+    private static byte[] legacy(ImageData image) {
+        ImageLoader loader = new ImageLoader();
+        loader.data = new ImageData[]{image};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        loader.save(out, SWT.IMAGE_PNG);
+        return out.toByteArray();
+    }
+
+    private static ImageData rgb(int w, int h, boolean alpha) {
+        ImageData data = new ImageData(w, h, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        if (alpha) data.alphaData = new byte[w * h];
+        return data;
+    }
+
+    /** Window chrome, panels, and rows of "text": flat fills with dense high-contrast detail. */
+    private static ImageData screenshot(int w, int h) {
+        Random random = new Random(1);
+        ImageData data = rgb(w, h, false);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int rgb = y < 32 ? 0x2B2B2B : x < 280 ? 0xF0F0F0 : 0xFFFFFF;
+                boolean textRow = y > 40 && (y % 22) > 6 && (y % 22) < 18 && (x % 400) < 320;
+                if (textRow && random.nextInt(3) == 0) rgb = 0x1E1E1E + random.nextInt(0x40) * 0x010101;
+                data.setPixel(x, y, rgb);
+            }
+        }
+        return data;
+    }
+
+    /** An anti-aliased disc on transparency. */
+    private static ImageData icon(int size) {
+        ImageData data = rgb(size, size, true);
+        double r = size / 2.0 - 1;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                double d = Math.hypot(x + 0.5 - size / 2.0, y + 0.5 - size / 2.0);
+                data.setPixel(x, y, 0x3874D8 + (y * 4 << 8));
+                data.alphaData[y * size + x] = (byte) (255 * Math.max(0, Math.min(1, r - d + 0.5)));
+            }
+        }
+        return data;
+    }
+
+    /** Grid lines and two polylines over white, like a GC-rendered chart. */
+    private static ImageData chart(int w, int h) {
+        ImageData data = rgb(w, h, true);
+        Arrays.fill(data.alphaData, (byte) 0xFF);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) data.setPixel(x, y, x % 50 == 0 || y % 50 == 0 ? 0xDDDDDD : 0xFFFFFF);
+        }
+        for (int x = 0; x < w; x++) {
+            int a = (int) (h / 2 + Math.sin(x / 40.0) * h / 3);
+            int b = (int) (h / 2 + Math.cos(x / 25.0) * h / 5);
+            for (int t = -1; t <= 1; t++) {
+                data.setPixel(x, Math.max(0, Math.min(h - 1, a + t)), 0xD04040);
+                data.setPixel(x, Math.max(0, Math.min(h - 1, b + t)), 0x4060C0);
+            }
+        }
+        return data;
+    }
+}
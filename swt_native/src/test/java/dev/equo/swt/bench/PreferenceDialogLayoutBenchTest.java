@@ -0,0 +1,95 @@
+package dev.equo.swt.bench;
+
+import dev.equo.swt.Config;
+import dev.equo.swt.FlutterBridge;
+import dev.equo.swt.harness.RecordingBridge;
+import dev.equo.swt.size.SizeCache;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Mocks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+
+/**
+ * A preference page of 20 two-column sections (a label and a combo, then a check button, per row)
+ * laid out again and again, as a dialog being resized is: time per layout pass, and how many
+ * computeSize calls measured text against how many reused an earlier answer. Memoized sizes
+ * against {@code -Ddev.equo.swt.size.cache=false}.
+ */
+@Tag("bench")
+@ExtendWith(Mocks.class)
+public class PreferenceDialogLayoutBenchTest {
+
+    private static final int SECTIONS = 20;
+    private static final int ROWS = 8;
+    private static final int PASSES = 50;
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 3);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 10);
+
+    @AfterEach
+    void tearDown() {
+        FlutterBridge.set(null);
+        Config.defaultToEclipse();
+        System.clearProperty("dev.equo.swt.size.cache");
+    }
+
+    @Test
+    void resizedPreferencePage() {
+        Config.forceEquo();
+        FlutterBridge.set(new RecordingBridge());
+        Composite page = build();
+        for (boolean cached : new boolean[]{false, true}) {
+            System.setProperty("dev.equo.swt.size.cache", String.valueOf(cached));
+            for (int i = 0; i < WARMUP; i++) resize(page);
+            SizeCache.resetStats();
+            long[] samples = new long[MEASURED];
+            for (int i = 0; i < MEASURED; i++) {
+                long t0 = System.nanoTime();
+                resize(page);
+                samples[i] = System.nanoTime() - t0;
+            }
+            Arrays.sort(samples);
+            SizeCache.Stats stats = SizeCache.stats();
+            System.out.printf("[bench] %d controls, %s: %.3f ms per layout pass, %d measured, %d reused%n",
+                    SECTIONS * ROWS * 3, cached ? "memoized sizes" : "every size measured",
+                    samples[MEASURED / 2] / 1e6 / PASSES, stats.measured(), stats.reused());
+        }
+    }
+
+    private static void resize(Composite page) {
+        for (int pass = 0; pass < PASSES; pass++) {
+            page.setSize(600 + pass % 10 * 20, 800);
+            page.layout(true, true);
+        }
+    }
+
+    /** The page, in a real Composite: the Shell Mocks gives is a mock, which lays nothing out. */
+    private static Composite build() {
+        Composite page = new Composite(Mocks.swtShell(), SWT.NONE);
+        page.setLayout(new GridLayout(1, false));
+        for (int s = 0; s < SECTIONS; s++) {
+            Composite section = new Composite(page, SWT.NONE);
+            section.setLayout(new GridLayout(2, false));
+            section.setLayoutData(new GridData(SWT.FILL, SWT.TOP, true, false));
+            for (int r = 0; r < ROWS; r++) {
+                new Label(section, SWT.NONE).setText("Preference " + s + "." + r + ":");
+                Combo combo = new Combo(section, SWT.READ_ONLY);
+                combo.setItems("Always", "Never", "Prompt");
+                combo.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+                Button check = new Button(section, SWT.CHECK);
+                check.setText("Apply to new projects");
+                check.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+            }
+        }
+        return page;
+    }
+}
@@ -0,0 +1,106 @@
+package dev.equo.swt.bench;
+
+import dev.equo.swt.SvgDocuments;
+import dev.equo.swt.harness.RecordingComm;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.internal.image.SVGRasterCache;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The icon demand of a workbench replayed over the real Eclipse icon set in
+ * {@code flutter-lib/assets/icons}: a few icons (save, run, folders, Java elements) on every
+ * toolbar and tree row, most of them a handful of times. The draws follow a Zipf distribution over
+ * the set, at 100% and then again at 200% zoom, as a window moved to a HiDPI screen does. Reports
+ * the rasterization cache's hit rate and the pixel memory it holds, and what the widget payloads
+ * carry with markup inline against each document sent once and referred to by hash. The rasterizer
+ * only allocates the icon's pixels, so the figures are the cache's, not JSVG's.
+ */
+@Tag("bench")
+public class SvgIconCacheBenchTest {
+
+    private static final int DRAWS = Integer.getInteger("bench.measured", 20_000);
+
+    @Test
+    void workbenchIconDemand() throws IOException {
+        List<byte[]> icons = icons();
+        assertThat(icons).as("the icon set").isNotEmpty();
+        int[] draws = zipf(icons.size(), DRAWS, new Random(42));
+
+        SVGRasterCache cache = SVGRasterCache.shared();
+        long[] rasterized = {0};
+        RecordingComm comm = new RecordingComm();
+        long inline = 0, byRef = 0;
+        for (int zoom : new int[]{100, 200}) {
+            int side = 16 * zoom / 100;
+            Function<InputStream, ImageData> rasterizer = in -> {
+                rasterized[0]++;
+                return new ImageData(side, side, 32, new PaletteData(0xff00, 0xff0000, 0xff000000));
+            };
+            for (int icon : draws) {
+                byte[] svg = icons.get(icon);
+                cache.atZoom(svg, zoom, rasterizer);
+                inline += svg.length;
+                String markup = new String(svg, StandardCharsets.UTF_8);
+                SvgDocuments.publish(comm, SvgDocuments.hash(markup), markup);
+                byRef += Long.toString(SvgDocuments.hash(markup)).length();
+            }
+        }
+        long documents = 0;
+        for (RecordingComm.Frame frame : comm.sent) documents += frame.json.length();
+        int lookups = draws.length * 2;
+        System.out.printf("[bench] %d icons, %d draws at 100%% and 200%%: %d rasterized (%.1f%% hits); cache: %s%n",
+                icons.size(), lookups, rasterized[0], 100.0 * (lookups - rasterized[0]) / lookups, cache.stats());
+        System.out.printf("[bench] svg on the wire: %d KB inline, %d KB by reference (%d documents, %d KB, plus the refs)%n",
+                inline / 1024, (documents + byRef) / 1024, comm.sent.size(), documents / 1024);
+    }
+
+    private static List<byte[]> icons() throws IOException {
+        for (String dir : new String[]{"../flutter-lib/assets/icons", "flutter-lib/assets/icons"}) {
+            Path path = Path.of(dir);
+            if (!Files.isDirectory(path)) continue;
+            try (Stream<Path> files = Files.list(path)) {
+                return files.filter(f -> f.toString().endsWith(".svg")).sorted().map(f -> {
+                    try {
+                        return Files.readAllBytes(f);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }).toList();
+            }
+        }
+        return List.of();
+    }
+
+    /** {@code count} draws over {@code n} icons, icon {@code k} drawn in proportion to 1/(k+1). */
+    private static int[] zipf(int n, int count, Random random) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) cumulative[k] = sum += 1.0 / (k + 1);
+        int[] draws = new int[count];
+        for (int i = 0; i < count; i++) {
+            double u = random.nextDouble() * sum;
+            int lo = 0, hi = n - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cumulative[mid] < u) lo = mid + 1;
+                else hi = mid;
+            }
+            draws[i] = lo;
+        }
+        return draws;
+    }
+}
@@ -0,0 +1,81 @@
+package dev.equo.swt.bench;
+
+import dev.equo.swt.ImageDataCodec;
+import dev.equo.swt.awt.FrameTiles;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Frames/s an embedded 1920×1080 Swing panel can present, from the repaint's dirty rectangle to the
+ * bytes handed to the comm. The old path copied and composited the whole frame into a fresh
+ * {@code ImageData} and PNG-encoded it on the wire; {@link FrameTiles} copies the dirty rectangle
+ * and ships it as one raw tile. Reported for a blinking caret (a 2×18 repaint) and for a repaint of
+ * the whole panel (a scroll), the tile path's worst case.
+ */
+@Tag("bench")
+public class SwingFrameBenchTest {
+
+    private static final int W = 1920, H = 1080;
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 5);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 30);
+
+    @Test
+    void fullHdPanel() {
+        int[] shared = new int[W * H];
+        Random random = new Random(42);
+        for (int i = 0; i < shared.length; i++) {
+            // Mostly flat UI with some noise, so the PNG baseline isn't a best case either.
+            shared[i] = (i & 63) == 0 ? 0xFF000000 | random.nextInt(0xFFFFFF) : 0xFFF0F0F0;
+        }
+
+        double oldFps = fps(() -> wholeFrameAsPng(shared));
+        FrameTiles tiles = new FrameTiles();
+        tiles.resize(W, H);
+        tiles.takeTile(-1, 0xFFFFFF);
+        int[] caret = {0};
+        double caretFps = fps(() -> {
+            int x = 400 + (caret[0]++ & 1);
+            tiles.copy(shared, W, x, 300, 2, 18);
+            return tiles.takeTile(-1, 0xFFFFFF).length;
+        });
+        double scrollFps = fps(() -> {
+            tiles.copy(shared, W, 0, 0, W, H);
+            return tiles.takeTile(-1, 0xFFFFFF).length;
+        });
+
+        System.out.printf("[bench] 1920x1080 Swing panel: whole frame as PNG %.1f frames/s; tiles: caret %.0f frames/s, full repaint %.1f frames/s%n",
+                oldFps, caretFps, scrollFps);
+        assertThat(caretFps).isGreaterThan(oldFps);
+    }
+
+    /** The replaced paint path: a fresh full-frame copy, composite and ImageData, PNG-encoded. */
+    private static int wholeFrameAsPng(int[] shared) {
+        int[] snapshot = new int[W * H];
+        System.arraycopy(shared, 0, snapshot, 0, snapshot.length);
+        int[] out = new int[W * H];
+        for (int i = 0; i < out.length; i++) out[i] = snapshot[i] & 0xFFFFFF;
+        ImageData imageData = new ImageData(W, H, 32, new PaletteData(0x00ff0000, 0x0000ff00, 0x000000ff));
+        imageData.setPixels(0, 0, W * H, out, 0);
+        return ImageDataCodec.encode(imageData).length;
+    }
+
+    private interface Frame {
+        int present();
+    }
+
+    private static double fps(Frame frame) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) sink += frame.present();
+        long t0 = System.nanoTime();
+        for (int i = 0; i < MEASURED; i++) sink += frame.present();
+        long elapsed = System.nanoTime() - t0;
+        assertThat(sink).isPositive();
+        return MEASURED * 1e9 / elapsed;
+    }
+}
@@ -0,0 +1,100 @@
+package dev.equo.swt.bench;
+
+import dev.equo.swt.Config;
+import dev.equo.swt.FlutterBridge;
+import dev.equo.swt.Serializer;
+import dev.equo.swt.harness.RecordingBridge;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.DartText;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Mocks;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * One keystroke at the end of a 1 MB {@code SWT.MULTI} Text: the Modify Flutter sends, Java
+ * applying it, and the {@code VText} push that follows. The whole-content Modify (and its echo)
+ * against the edit delta, which carries the keystroke and pushes no content back.
+ */
+@Tag("bench")
+@ExtendWith(Mocks.class)
+public class TextTypingBenchTest {
+
+    private static final int DOCUMENT = 1 << 20;
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 50);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 200);
+
+    private final Serializer serializer = new Serializer();
+
+    @AfterEach
+    void tearDown() {
+        FlutterBridge.set(null);
+        Config.defaultToEclipse();
+    }
+
+    @Test
+    void typingIntoAMegabyte() throws IOException {
+        Config.forceEquo();
+        RecordingBridge bridge = new RecordingBridge();
+        FlutterBridge.set(bridge);
+        Shell shell = Mocks.swtShell();
+        Display display = shell.getDisplay();
+        doAnswer(inv -> {
+            ((Runnable) inv.getArgument(0)).run();
+            return null;
+        }).when(display).asyncExec(any(Runnable.class));
+        char[] content = new char[DOCUMENT];
+        for (int i = 0; i < content.length; i++) content[i] = i % 80 == 79 ? '\n' : (char) ('a' + i % 26);
+
+        for (boolean delta : new boolean[]{false, true}) {
+            Text text = new Text(shell, SWT.MULTI);
+            text.setText(new String(content));
+            for (int i = 0; i < WARMUP; i++) keystroke(bridge, text, delta);
+            long[] samples = new long[MEASURED];
+            long bytes = 0;
+            for (int i = 0; i < MEASURED; i++) {
+                long t0 = System.nanoTime();
+                bytes = keystroke(bridge, text, delta);
+                samples[i] = System.nanoTime() - t0;
+            }
+            Arrays.sort(samples);
+            System.out.printf("[bench] keystroke into %d KB Text, %s: %.1f µs, %d B on the wire%n",
+                    DOCUMENT >> 10, delta ? "edit delta" : "whole-content Modify", samples[MEASURED / 2] / 1e3, bytes);
+            text.dispose();
+        }
+    }
+
+    /** Types one character at the end; returns the bytes of the Modify and the push that follows. */
+    private long keystroke(RecordingBridge bridge, Text text, boolean delta) throws IOException {
+        String before = text.getText();
+        Event e = new Event();
+        if (delta) {
+            e.start = e.end = e.count = before.length();
+            e.index = ((DartText) text.getImpl()).getValue().getRevision();
+            e.text = "x";
+            e.x = before.length() + 1;
+            bridge.comm.fireContaining("/modify/edit", e);
+        } else {
+            e.text = before + "x";
+            e.start = e.text.length();
+            bridge.comm.fireContaining("/Modify/Modify", e);
+        }
+        long in = e.text.getBytes(StandardCharsets.UTF_8).length;
+        long out = serializer.to(((DartText) text.getImpl()).getValue()).length;
+        assertThat(text.getCharCount()).isEqualTo(before.length() + 1);
+        return in + out;
+    }
+}
@@ -0,0 +1,114 @@
+package dev.equo.swt.bench;
+
+import dev.equo.swt.TimerWheel;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code timerExec} cost with 10k concurrent timers: the Display-owned {@link TimerWheel} against
+ * the {@code java.util.Timer} + {@code TimerTask} scheme it replaced. Three phases, each over the
+ * same runnables and delays: arm them all, re-arm them all (what an animation does every frame),
+ * then let them all fire. The wheel fires on a simulated clock, the Timer on its own thread, so
+ * the fire phase is reported for the wheel only.
+ */
+@Tag("bench")
+public class TimerWheelBenchTest {
+
+    private static final int TIMERS = Integer.getInteger("bench.timers", 10_000);
+    private static final int ROUNDS = Integer.getInteger("bench.rounds", 20);
+    private static final int MAX_DELAY_MS = 2_000;
+
+    @Test
+    void tenThousandConcurrentTimers() {
+        Random random = new Random(42);
+        Runnable[] tasks = new Runnable[TIMERS];
+        int[] delays = new int[TIMERS];
+        for (int i = 0; i < TIMERS; i++) {
+            tasks[i] = new Runnable() {
+                @Override
+                public void run() {
+                }
+            };
+            delays[i] = 1 + random.nextInt(MAX_DELAY_MS);
+        }
+
+        for (int i = 0; i < 3; i++) { // warm-up
+            wheelRound(tasks, delays);
+            timerRound(tasks, delays);
+        }
+        long[] wheel = new long[3];
+        long[] timer = new long[2];
+        for (int i = 0; i < ROUNDS; i++) {
+            long[] w = wheelRound(tasks, delays);
+            long[] t = timerRound(tasks, delays);
+            for (int k = 0; k < 3; k++) wheel[k] += w[k];
+            for (int k = 0; k < 2; k++) timer[k] += t[k];
+        }
+        System.out.printf("[bench] timerExec x%d  wheel: arm %.1f ns/op, re-arm %.1f ns/op, fire %.1f ns/op%n",
+                TIMERS, perOp(wheel[0]), perOp(wheel[1]), perOp(wheel[2]));
+        System.out.printf("[bench] timerExec x%d  java.util.Timer: arm %.1f ns/op, re-arm %.1f ns/op%n",
+                TIMERS, perOp(timer[0]), perOp(timer[1]));
+    }
+
+    private static double perOp(long totalNanos) {
+        return (double) totalNanos / ((long) TIMERS * ROUNDS);
+    }
+
+    private static long[] wheelRound(Runnable[] tasks, int[] delays) {
+        TimerWheel wheel = new TimerWheel();
+        long now = System.nanoTime();
+        long t0 = System.nanoTime();
+        for (int i = 0; i < tasks.length; i++)
+            wheel.schedule(tasks[i], delays[i], now);
+        long t1 = System.nanoTime();
+        for (int i = 0; i < tasks.length; i++)
+            wheel.schedule(tasks[i], delays[(i + 1) % delays.length], now);
+        long t2 = System.nanoTime();
+        List<Runnable> fired = new ArrayList<>(tasks.length);
+        // Advance a millisecond at a time, as a loop woken at each deadline would.
+        for (long at = now; !wheel.isEmpty(); at += 1_000_000L)
+            wheel.expire(at, fired::add);
+        long t3 = System.nanoTime();
+        assertThat(fired).hasSize(tasks.length);
+        return new long[]{t1 - t0, t2 - t1, t3 - t2};
+    }
+
+    private static long[] timerRound(Runnable[] tasks, int[] delays) {
+        Timer timer = new Timer(true);
+        try {
+            TimerTask[] armed = new TimerTask[tasks.length];
+            long t0 = System.nanoTime();
+            for (int i = 0; i < tasks.length; i++) {
+                armed[i] = wrap(tasks[i]);
+                timer.schedule(armed[i], delays[i]);
+            }
+            long t1 = System.nanoTime();
+            for (int i = 0; i < tasks.length; i++) {
+                armed[i].cancel();
+                armed[i] = wrap(tasks[i]);
+                timer.schedule(armed[i], delays[(i + 1) % delays.length]);
+            }
+            long t2 = System.nanoTime();
+            return new long[]{t1 - t0, t2 - t1};
+        } finally {
+            timer.cancel();
+        }
+    }
+
+    private static TimerTask wrap(Runnable r) {
+        return new TimerTask() {
+            @Override
+            public void run() {
+                r.run();
+            }
+        };
+    }
+}
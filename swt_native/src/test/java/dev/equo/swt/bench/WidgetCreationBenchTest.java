@@ -0,0 +1,89 @@
+package dev.equo.swt.bench;
+
+import dev.equo.swt.Config;
+import dev.equo.swt.FlutterBridge;
+import dev.equo.swt.harness.RecordingBridge;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Mocks;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+
+/**
+ * A 10,000-widget workbench (100 composites of 99 labels, none with a listener): creation time and
+ * heap per widget, and the comm handlers it leaves registered. Every event channel registered at
+ * creation against channels registered once their type is hooked.
+ *
+ * <p>Hooking on demand asks the Display, per widget, whether a filter wants each lazy event. The
+ * Display here is a Mockito mock, so those twelve lookups cost a mock dispatch each (about 1.4 s
+ * over 10,000 widgets) where a real Display reads a null filter table. Read the lazy creation
+ * time with that in mind; the heap and handler figures are unaffected.
+ */
+@Tag("bench")
+@ExtendWith(Mocks.class)
+public class WidgetCreationBenchTest {
+
+    private static final int COMPOSITES = 100;
+    private static final int LABELS = 99;
+    private static final int WIDGETS = COMPOSITES * (LABELS + 1);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 3);
+    private static final int MEASURED = Integer.getInteger("bench.measured", 10);
+
+    @AfterEach
+    void tearDown() {
+        FlutterBridge.set(null);
+        Config.defaultToEclipse();
+        System.clearProperty("dev.equo.swt.events.lazy");
+    }
+
+    @Test
+    void tenThousandWidgets() {
+        Config.forceEquo();
+        for (boolean lazy : new boolean[]{false, true}) {
+            System.setProperty("dev.equo.swt.events.lazy", String.valueOf(lazy));
+            for (int i = 0; i < WARMUP; i++) build(new RecordingBridge());
+            long[] samples = new long[MEASURED];
+            for (int i = 0; i < MEASURED; i++) {
+                RecordingBridge bridge = new RecordingBridge();
+                long t0 = System.nanoTime();
+                build(bridge);
+                samples[i] = System.nanoTime() - t0;
+            }
+            Arrays.sort(samples);
+
+            RecordingBridge bridge = new RecordingBridge();
+            long before = usedHeap();
+            Control[] tree = build(bridge);
+            long heap = usedHeap() - before;
+            System.out.printf("[bench] %d widgets, %s: %.1f ms to create, %d B heap and %.1f handlers per widget%n",
+                    WIDGETS, lazy ? "channels on hook" : "all channels at creation", samples[MEASURED / 2] / 1e6,
+                    heap / WIDGETS, (double) bridge.comm.handlers.size() / WIDGETS);
+            Arrays.fill(tree, null);
+        }
+    }
+
+    private static Control[] build(RecordingBridge bridge) {
+        FlutterBridge.set(bridge);
+        Shell shell = Mocks.swtShell();
+        Control[] tree = new Control[COMPOSITES];
+        for (int c = 0; c < COMPOSITES; c++) {
+            Composite composite = new Composite(shell, SWT.NONE);
+            for (int l = 0; l < LABELS; l++) new Label(composite, SWT.NONE);
+            tree[c] = composite;
+        }
+        return tree;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,92 @@
+package dev.equo.swt.comm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The comm's off-thread hand-off must keep each comm's sends in issue order — a widget's state push
+ * and the message that follows it can never swap on the wire — while separate comms don't wait on
+ * each other.
+ */
+class SendLaneTest {
+
+    @Test
+    void runsTasksInIssueOrder() {
+        SendLane lane = new SendLane();
+        List<Integer> ran = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            int n = i;
+            lane.execute(() -> ran.add(n));
+        }
+
+        assertThat(lane.awaitIdle(5_000)).isTrue();
+        assertThat(ran).hasSize(10_000);
+        for (int i = 0; i < ran.size(); i++) {
+            assertThat(ran.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void aFailingTaskDoesNotStallTheLane() {
+        SendLane lane = new SendLane();
+        List<String> ran = new CopyOnWriteArrayList<>();
+        lane.execute(() -> {
+            throw new IllegalStateException("expected by the test");
+        });
+        lane.execute(() -> ran.add("after"));
+
+        assertThat(lane.awaitIdle(5_000)).isTrue();
+        assertThat(ran).containsExactly("after");
+    }
+
+    @Test
+    void aBlockedLaneDoesNotHoldUpAnother() throws InterruptedException {
+        SendLane slow = new SendLane(), fast = new SendLane();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastRan = new CountDownLatch(1);
+        slow.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        fast.execute(fastRan::countDown);
+
+        try {
+            assertThat(fastRan.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slow.isIdle()).isFalse();
+        } finally {
+            release.countDown();
+        }
+        assertThat(slow.awaitIdle(5_000)).isTrue();
+    }
+
+    @Test
+    void awaitingABlockedLaneGivesUpAtTheTimeout() {
+        SendLane lane = new SendLane();
+        CountDownLatch release = new CountDownLatch(1);
+        lane.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            long t0 = System.nanoTime();
+            assertThat(lane.awaitIdle(50)).isFalse();
+            assertThat(System.nanoTime() - t0).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        } finally {
+            release.countDown();
+        }
+        assertThat(lane.awaitIdle(5_000)).isTrue();
+    }
+}
@@ -0,0 +1,95 @@
+package dev.equo.swt.size;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.DartLabel;
+import org.eclipse.swt.widgets.Sizes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A label asked for its size again with the same hints answers from its last measurement, until
+ * its text, font, style or the theme changes.
+ */
+class SizeCacheTest {
+
+    private final DartLabel label = mock(DartLabel.class);
+
+    @BeforeEach
+    void setUp() {
+        when(label.getStyle()).thenReturn(SWT.HORIZONTAL);
+        when(label.getText()).thenReturn("Name:");
+        SizeCache.resetStats();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Themes.theme = Themes.Theme.NonDefault;
+    }
+
+    @Test
+    void theSameHintsMeasureOnce() {
+        Point first = Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+        Point second = Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+        Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(SizeCache.stats()).isEqualTo(new SizeCache.Stats(1, 2));
+    }
+
+    @Test
+    void otherHintsMeasureOnTheirOwn() {
+        Point natural = Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, false);
+        Point hinted = Sizes.computeSize(label, 200, SWT.DEFAULT, false);
+        Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+
+        assertThat(hinted.x).isEqualTo(200);
+        assertThat(Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, false)).isEqualTo(natural);
+        assertThat(SizeCache.stats()).isEqualTo(new SizeCache.Stats(3, 1));
+    }
+
+    @Test
+    void newTextMeasuresAgain() {
+        Point before = Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+        when(label.getText()).thenReturn("A much longer name:");
+
+        Point after = Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+
+        assertThat(after.x).isGreaterThan(before.x);
+        assertThat(SizeCache.stats().measured()).isEqualTo(2);
+    }
+
+    @Test
+    void anotherStyleMeasuresAgain() {
+        Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+        when(label.getStyle()).thenReturn(SWT.HORIZONTAL | SWT.WRAP);
+
+        Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+
+        assertThat(SizeCache.stats().measured()).isEqualTo(2);
+    }
+
+    @Test
+    void aThemeChangeMeasuresAgain() {
+        Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+        Themes.theme = Themes.Theme.Default;
+
+        Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+
+        assertThat(SizeCache.stats().measured()).isEqualTo(2);
+    }
+
+    @Test
+    void aCallerChangingTheAnswerDoesNotChangeTheNextOne() {
+        Point first = Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true);
+        int width = first.x;
+        first.x += 50;
+
+        assertThat(Sizes.computeSize(label, SWT.DEFAULT, SWT.DEFAULT, true).x).isEqualTo(width);
+    }
+}
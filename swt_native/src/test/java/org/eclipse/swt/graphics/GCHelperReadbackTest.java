@@ -0,0 +1,77 @@
+package org.eclipse.swt.graphics;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A raw RGBA readback decodes to exactly the image data the PNG readback it replaces produced, so
+ * nothing downstream of {@code GC(Image)} / {@code copyArea} can tell which one Flutter sent.
+ */
+class GCHelperReadbackTest {
+
+    private static final int W = 7, H = 5;
+
+    @Test
+    void rawAndPngReadbacksDecodeToTheSameImageData() {
+        byte[] rgba = pixels();
+
+        ImageData fromRaw = GCHelper.decodeRendered(raw(W, H, rgba));
+        ImageData fromPng = GCHelper.decodeRendered(png(rgba));
+
+        assertThat(fromRaw.width).isEqualTo(fromPng.width);
+        assertThat(fromRaw.height).isEqualTo(fromPng.height);
+        assertThat(fromRaw.depth).isEqualTo(fromPng.depth);
+        assertThat(fromRaw.bytesPerLine).isEqualTo(fromPng.bytesPerLine);
+        assertThat(fromRaw.type).isEqualTo(fromPng.type);
+        assertThat(fromRaw.data).isEqualTo(fromPng.data);
+        assertThat(fromRaw.alphaData).isEqualTo(fromPng.alphaData);
+        assertThat(fromRaw.palette.getRGB(fromRaw.getPixel(3, 2))).isEqualTo(fromPng.palette.getRGB(fromPng.getPixel(3, 2)));
+    }
+
+    @Test
+    void aTruncatedRawReadbackIsRejected() {
+        byte[] bytes = raw(W, H, pixels());
+
+        assertThatThrownBy(() -> GCHelper.decodeRendered(Arrays.copyOf(bytes, bytes.length - 1)))
+                .isInstanceOf(SWTException.class);
+    }
+
+    private static byte[] pixels() {
+        byte[] rgba = new byte[W * H * 4];
+        for (int i = 0; i < W * H; i++) {
+            rgba[i * 4] = (byte) (i * 37);
+            rgba[i * 4 + 1] = (byte) (i * 11);
+            rgba[i * 4 + 2] = (byte) (255 - i * 5);
+            rgba[i * 4 + 3] = (byte) (i % 3 == 0 ? 255 : i * 7);
+        }
+        return rgba;
+    }
+
+    private static byte[] raw(int w, int h, byte[] rgba) {
+        return ByteBuffer.allocate(GCHelper.RAW_RGBA_HEADER_BYTES + rgba.length)
+                .putInt(GCHelper.RAW_RGBA_MAGIC).putInt(w).putInt(h).put(rgba).array();
+    }
+
+    /** The same pixels as Flutter's PNG readback carried them: RGB plus an alpha channel. */
+    private static byte[] png(byte[] rgba) {
+        ImageData data = new ImageData(W, H, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        data.alphaData = new byte[W * H];
+        for (int i = 0; i < W * H; i++) {
+            data.setPixel(i % W, i / W, (rgba[i * 4] & 0xFF) << 16 | (rgba[i * 4 + 1] & 0xFF) << 8 | rgba[i * 4 + 2] & 0xFF);
+            data.alphaData[i] = rgba[i * 4 + 3];
+        }
+        ImageLoader loader = new ImageLoader();
+        loader.data = new ImageData[]{data};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        loader.save(out, SWT.IMAGE_PNG);
+        return out.toByteArray();
+    }
+}
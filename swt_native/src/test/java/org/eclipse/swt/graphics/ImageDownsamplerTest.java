@@ -0,0 +1,85 @@
+package org.eclipse.swt.graphics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Downsampling crops to the source rectangle and averages each destination pixel's box, weighting
+ * by alpha; it only kicks in when the result is at most half the image.
+ */
+class ImageDownsamplerTest {
+
+    @Test
+    void theTargetIsTheDestinationButNeverBiggerThanTheCrop() {
+        assertThat(ImageDownsampler.targetSize(4000, 3000, 4000, 3000, 400, 300)).containsExactly(400, 300);
+        assertThat(ImageDownsampler.targetSize(4000, 3000, 100, 100, 400, 300)).containsExactly(100, 100);
+    }
+
+    @Test
+    void drawsThatWouldNotHalveThePixelsAreLeftAlone() {
+        assertThat(ImageDownsampler.targetSize(100, 100, 100, 100, 80, 80)).isNull();
+        assertThat(ImageDownsampler.targetSize(100, 100, 100, 100, 200, 200)).isNull();
+    }
+
+    @Test
+    void eachPixelIsTheAverageOfItsBox() {
+        // Left half black, right half white, at 8x4: 2x2 boxes stay pure, none straddle the edge.
+        ImageData data = new ImageData(8, 4, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        for (int y = 0; y < 4; y++)
+            for (int x = 4; x < 8; x++)
+                data.setPixel(x, y, 0xFFFFFF);
+
+        ImageData out = ImageDownsampler.downsample(data, 0, 0, 8, 4, 4, 2);
+
+        assertThat(out.width).isEqualTo(4);
+        assertThat(out.height).isEqualTo(2);
+        assertThat(out.getPixel(1, 1)).isEqualTo(0x000000);
+        assertThat(out.getPixel(2, 0)).isEqualTo(0xFFFFFF);
+        assertThat(out.alphaData).as("opaque in, opaque out").isNull();
+
+        ImageData halves = ImageDownsampler.downsample(data, 0, 0, 8, 4, 1, 1);
+        assertThat(halves.getPixel(0, 0)).isEqualTo(0x808080);
+    }
+
+    @Test
+    void onlyTheSourceRectangleIsUsed() {
+        ImageData data = new ImageData(8, 8, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        for (int y = 4; y < 8; y++)
+            for (int x = 4; x < 8; x++)
+                data.setPixel(x, y, 0x00FF00);
+
+        ImageData out = ImageDownsampler.downsample(data, 4, 4, 4, 4, 2, 2);
+
+        for (int y = 0; y < 2; y++)
+            for (int x = 0; x < 2; x++)
+                assertThat(out.getPixel(x, y)).isEqualTo(0x00FF00);
+    }
+
+    @Test
+    void transparentPixelsDoNotDarkenTheAverage() {
+        // A red pixel next to a fully transparent black one averages to half-transparent red.
+        ImageData data = new ImageData(2, 1, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        data.setPixel(0, 0, 0xFF0000);
+        data.alphaData = new byte[] { (byte) 255, 0 };
+
+        ImageData out = ImageDownsampler.downsample(data, 0, 0, 2, 1, 1, 1);
+
+        assertThat(out.getPixel(0, 0)).isEqualTo(0xFF0000);
+        assertThat(out.getAlpha(0, 0)).isEqualTo(128);
+    }
+
+    @Test
+    void indexedImagesAndTransparentPixelsAreRead() {
+        ImageData data = new ImageData(2, 2, 8, new PaletteData(new RGB(0, 0, 0), new RGB(0, 0, 255)));
+        data.setPixel(0, 0, 1);
+        data.setPixel(1, 0, 1);
+        data.setPixel(0, 1, 1);
+        data.transparentPixel = 0;
+
+        ImageData out = ImageDownsampler.downsample(data, 0, 0, 2, 2, 1, 1);
+
+        assertThat(out.getPixel(0, 0)).isEqualTo(0x0000FF);
+        assertThat(out.getAlpha(0, 0)).isEqualTo(191);
+    }
+}
@@ -0,0 +1,182 @@
+package org.eclipse.swt.internal.image;
+
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The direct {@code Inflater} decode of non-interlaced PNGs yields exactly what the
+ * {@code InflaterInputStream} path it replaced did, across color types, bit depths, every row
+ * filter and image data split over several IDAT chunks.
+ */
+class PNGInflateTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            // colorType, bitDepth, width, height, idatChunks
+            "6, 8, 16, 16, 1",
+            "6, 8, 33, 17, 5",
+            "2, 8, 31, 9, 3",
+            "2, 16, 7, 6, 2",
+            "0, 2, 13, 5, 1",
+            "4, 8, 9, 9, 4",
+            "3, 4, 11, 7, 2",
+    })
+    void matchesTheStreamPath(int colorType, int bitDepth, int width, int height, int idatChunks) throws IOException {
+        byte[] png = png(colorType, bitDepth, width, height, idatChunks, new Random(colorType * 31L + bitDepth));
+
+        ImageData direct = load(png, false);
+        ImageData stream = load(png, true);
+
+        assertThat(direct.width).isEqualTo(width);
+        assertThat(direct.depth).isEqualTo(stream.depth);
+        assertThat(direct.bytesPerLine).isEqualTo(stream.bytesPerLine);
+        assertThat(direct.data).isEqualTo(stream.data);
+        assertThat(direct.alphaData).isEqualTo(stream.alphaData);
+    }
+
+    @Test
+    void truncatedImageDataIsRejected() throws IOException {
+        byte[] png = png(6, 8, 20, 20, 1, new Random(7));
+        // Drop the tail of the IDAT payload but keep the chunk layout valid.
+        byte[] truncated = rewriteIdat(png, data -> Arrays.copyOf(data, data.length / 2));
+
+        assertThatThrownBy(() -> load(truncated, false)).isInstanceOf(SWTException.class);
+        assertThatThrownBy(() -> load(truncated, true)).isInstanceOf(SWTException.class);
+    }
+
+    private static ImageData load(byte[] png, boolean stream) {
+        String saved = System.getProperty(PNGFileFormat.STREAM_DECODE_PROPERTY);
+        System.setProperty(PNGFileFormat.STREAM_DECODE_PROPERTY, Boolean.toString(stream));
+        try {
+            return new ImageLoader().load(new ByteArrayInputStream(png))[0];
+        } finally {
+            if (saved == null) System.clearProperty(PNGFileFormat.STREAM_DECODE_PROPERTY);
+            else System.setProperty(PNGFileFormat.STREAM_DECODE_PROPERTY, saved);
+        }
+    }
+
+    // ---- A small PNG writer: random pixels, each row through a different filter ----------------
+
+    private static byte[] png(int colorType, int bitDepth, int width, int height, int idatChunks, Random random)
+            throws IOException {
+        int channels = switch (colorType) {
+            case 2 -> 3;
+            case 4 -> 2;
+            case 6 -> 4;
+            default -> 1;
+        };
+        int bitsPerPixel = channels * bitDepth;
+        int rowBytes = (width * bitsPerPixel + 7) / 8;
+        int bpp = Math.max(1, bitsPerPixel / 8);
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        byte[] prev = new byte[rowBytes];
+        for (int y = 0; y < height; y++) {
+            byte[] row = new byte[rowBytes];
+            random.nextBytes(row);
+            if (colorType == 3) {
+                for (int i = 0; i < rowBytes; i++) row[i] &= 0x33; // palette indices 0..3
+            }
+            int filter = y % 5;
+            raw.write(filter);
+            raw.write(filter(row, prev, bpp, filter));
+            prev = row;
+        }
+        byte[] compressed = deflate(raw.toByteArray());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(new byte[]{(byte) 137, 80, 78, 71, 13, 10, 26, 10});
+        byte[] header = new byte[13];
+        java.nio.ByteBuffer.wrap(header).putInt(width).putInt(height).put((byte) bitDepth).put((byte) colorType);
+        chunk(out, "IHDR", header);
+        if (colorType == 3) {
+            byte[] plte = new byte[4 * 3];
+            random.nextBytes(plte);
+            chunk(out, "PLTE", plte);
+        }
+        int step = (compressed.length + idatChunks - 1) / idatChunks;
+        for (int off = 0; off < compressed.length; off += step) {
+            chunk(out, "IDAT", Arrays.copyOfRange(compressed, off, Math.min(compressed.length, off + step)));
+        }
+        chunk(out, "IEND", new byte[0]);
+        return out.toByteArray();
+    }
+
+    private static byte[] filter(byte[] row, byte[] prev, int bpp, int filter) {
+        byte[] out = new byte[row.length];
+        for (int i = 0; i < row.length; i++) {
+            int left = i >= bpp ? row[i - bpp] & 0xFF : 0;
+            int above = prev[i] & 0xFF;
+            int aboveLeft = i >= bpp ? prev[i - bpp] & 0xFF : 0;
+            int predictor = switch (filter) {
+                case 1 -> left;
+                case 2 -> above;
+                case 3 -> (left + above) / 2;
+                case 4 -> {
+                    int p = left + above - aboveLeft;
+                    int pa = Math.abs(p - left), pb = Math.abs(p - above), pc = Math.abs(p - aboveLeft);
+                    yield pa <= pb && pa <= pc ? left : pb <= pc ? above : aboveLeft;
+                }
+                default -> 0;
+            };
+            out[i] = (byte) (row[i] - predictor);
+        }
+        return out;
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(bytes);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[4096];
+        while (!deflater.finished()) out.write(buf, 0, deflater.deflate(buf));
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    private static void chunk(ByteArrayOutputStream out, String type, byte[] data) throws IOException {
+        DataOutputStream d = new DataOutputStream(out);
+        byte[] typeBytes = type.getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        d.writeInt(data.length);
+        d.write(typeBytes);
+        d.write(data);
+        d.writeInt((int) crc.getValue());
+    }
+
+    private static byte[] rewriteIdat(byte[] png, java.util.function.UnaryOperator<byte[]> rewrite) throws IOException {
+        java.nio.ByteBuffer in = java.nio.ByteBuffer.wrap(png);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(png, 0, 8);
+        in.position(8);
+        while (in.hasRemaining()) {
+            int length = in.getInt();
+            byte[] type = new byte[4];
+            in.get(type);
+            byte[] data = new byte[length];
+            in.get(data);
+            in.getInt();
+            String name = new String(type, java.nio.charset.StandardCharsets.US_ASCII);
+            chunk(out, name, name.equals("IDAT") ? rewrite.apply(data) : data);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,123 @@
+package org.eclipse.swt.internal.image;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The bridge encoder's PNGs decode to the same pixels and alpha as the image that went in — with
+ * per-row filters, and for big images across the parallel bands that are stitched into one
+ * deflate stream.
+ */
+class PngBridgeEncodeTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            // width, height, alpha
+            "1, 1, true",
+            "16, 16, true",
+            "33, 17, false",
+            // Over PngEncoder.PARALLEL_MIN_BYTES: several bands, each primed with the last.
+            "1024, 700, true",
+            "700, 1024, false",
+    })
+    void directImagesRoundTrip(int width, int height, boolean alpha) {
+        ImageData image = direct(width, height, alpha, new Random(width * 31L + height));
+
+        ImageData decoded = decode(PNGFileFormat.encodeForBridge(image));
+
+        assertThat(decoded.width).isEqualTo(width);
+        assertThat(decoded.height).isEqualTo(height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                assertThat(decoded.palette.getRGB(decoded.getPixel(x, y)))
+                        .as("pixel %d,%d", x, y)
+                        .isEqualTo(image.palette.getRGB(image.getPixel(x, y)));
+                if (alpha) assertThat(decoded.getAlpha(x, y)).isEqualTo(image.getAlpha(x, y));
+            }
+        }
+    }
+
+    @Test
+    void paletteImagesRoundTrip() {
+        RGB[] colors = {new RGB(0, 0, 0), new RGB(255, 0, 0), new RGB(0, 128, 255), new RGB(250, 250, 250)};
+        ImageData image = new ImageData(21, 13, 8, new PaletteData(colors));
+        Random random = new Random(3);
+        for (int y = 0; y < image.height; y++) {
+            for (int x = 0; x < image.width; x++) image.setPixel(x, y, random.nextInt(colors.length));
+        }
+
+        ImageData decoded = decode(PNGFileFormat.encodeForBridge(image));
+
+        for (int y = 0; y < image.height; y++) {
+            for (int x = 0; x < image.width; x++) {
+                assertThat(decoded.palette.getRGB(decoded.getPixel(x, y))).isEqualTo(colors[image.getPixel(x, y)]);
+            }
+        }
+    }
+
+    @Test
+    void eachRowGetsTheFilterThatSuitsIt() {
+        // A horizontal gradient: Sub turns each row into a run of ones.
+        ImageData image = new ImageData(64, 4, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        for (int y = 0; y < image.height; y++) {
+            for (int x = 0; x < image.width; x++) image.setPixel(x, y, x * 0x030303);
+        }
+        PngEncoder encoder = encoder(image);
+
+        byte[] rows = encoder.filterRows(0, 1);
+
+        assertThat(rows[0]).isEqualTo((byte) PngIhdrChunk.FILTER_SUB);
+    }
+
+    @Test
+    void paletteRowsAreNotFiltered() {
+        ImageData image = new ImageData(8, 2, 8, new PaletteData(new RGB[]{new RGB(0, 0, 0), new RGB(9, 9, 9)}));
+        for (int x = 0; x < image.width; x++) image.setPixel(x, 1, x & 1);
+        PngEncoder encoder = encoder(image);
+
+        byte[] rows = encoder.filterRows(0, 2);
+
+        assertThat(rows[0]).isZero();
+        assertThat(rows[1 + image.width]).isZero();
+    }
+
+    private static PngEncoder encoder(ImageData image) {
+        ImageLoader loader = new ImageLoader();
+        loader.data = new ImageData[]{image};
+        PngEncoder encoder = new PngEncoder(loader);
+        encoder.bridge = true;
+        return encoder;
+    }
+
+    private static ImageData direct(int width, int height, boolean alpha, Random random) {
+        ImageData image = new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        if (alpha) image.alphaData = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                // Flat UI-like areas with noise, so every filter gets picked somewhere.
+                int rgb = random.nextInt(6) == 0 ? random.nextInt(0xFFFFFF) : ((x / 24 + y / 24) & 1) * 0x202020 + x;
+                image.setPixel(x, y, rgb);
+                if (alpha) image.alphaData[y * width + x] = (byte) (x * 255 / Math.max(1, width - 1));
+            }
+        }
+        return image;
+    }
+
+    private static ImageData decode(byte[] png) {
+        ImageData[] images = new ImageLoader().load(new ByteArrayInputStream(png));
+        assertThat(images).hasSize(1);
+        assertThat(images[0].type).isEqualTo(SWT.IMAGE_PNG);
+        return images[0];
+    }
+}
@@ -0,0 +1,114 @@
+package org.eclipse.swt.internal.image;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The SVG raster cache rasterizes each (document, zoom or size) once, hands out copies, and stays
+ * within its byte budget by dropping the least recently used images.
+ */
+class SVGRasterCacheTest {
+
+    private static final byte[] ICON = svg("M0 0h16v16H0z");
+    private static final byte[] OTHER = svg("M4 4h8v8H4z");
+
+    private final AtomicInteger rasterized = new AtomicInteger();
+
+    @Test
+    void aDocumentIsRasterizedOncePerZoom() {
+        SVGRasterCache cache = new SVGRasterCache(1 << 20);
+
+        ImageData first = cache.atZoom(ICON, 100, rasterizer(16));
+        ImageData again = cache.atZoom(ICON, 100, rasterizer(16));
+        cache.atZoom(ICON, 200, rasterizer(32));
+        cache.atSize(ICON, 24, 24, rasterizer(24));
+
+        assertThat(rasterized).hasValue(3);
+        assertThat(again.data).isEqualTo(first.data);
+        assertThat(cache.stats()).startsWith("1 hits / 4 lookups");
+    }
+
+    @Test
+    void hitsAreCopies() {
+        SVGRasterCache cache = new SVGRasterCache(1 << 20);
+        ImageData first = cache.atZoom(ICON, 100, rasterizer(16));
+        first.data[0] = 42;
+
+        ImageData again = cache.atZoom(ICON, 100, rasterizer(16));
+
+        assertThat(again.data[0]).isNotEqualTo((byte) 42);
+    }
+
+    @Test
+    void leastRecentlyUsedImagesMakeRoom() {
+        long oneIcon = SVGRasterCache.sizeOf(image(16));
+        SVGRasterCache cache = new SVGRasterCache(2 * oneIcon);
+        byte[] third = svg("M1 1h2v2H1z");
+
+        cache.atZoom(ICON, 100, rasterizer(16));
+        cache.atZoom(OTHER, 100, rasterizer(16));
+        cache.atZoom(ICON, 100, rasterizer(16));
+        cache.atZoom(third, 100, rasterizer(16));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.bytes()).isLessThanOrEqualTo(2 * oneIcon);
+        rasterized.set(0);
+        cache.atZoom(ICON, 100, rasterizer(16));
+        assertThat(rasterized).as("the recently used icon stayed").hasValue(0);
+        cache.atZoom(OTHER, 100, rasterizer(16));
+        assertThat(rasterized).as("the least recently used one went").hasValue(1);
+    }
+
+    @Test
+    void imagesBiggerThanTheBudgetAreNotKept() {
+        SVGRasterCache cache = new SVGRasterCache(100);
+
+        cache.atZoom(ICON, 100, rasterizer(64));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void contentHashesTellDocumentsApartAndFitADouble() {
+        long icon = SVGRasterCache.contentHash(ICON);
+
+        assertThat(icon).isEqualTo(SVGRasterCache.contentHash(ICON.clone()));
+        assertThat(icon).isNotEqualTo(SVGRasterCache.contentHash(OTHER));
+        assertThat(icon).isBetween(0L, 1L << 53);
+    }
+
+    /** A stand-in rasterizer: reads the document and counts the calls. */
+    private Function<InputStream, ImageData> rasterizer(int size) {
+        return stream -> {
+            try {
+                assertThat(stream.readAllBytes()).isNotEmpty();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rasterized.incrementAndGet();
+            return image(size);
+        };
+    }
+
+    private static ImageData image(int size) {
+        ImageData data = new ImageData(size, size, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        data.alphaData = new byte[size * size];
+        data.data[0] = 7;
+        return data;
+    }
+
+    private static byte[] svg(String path) {
+        return ("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"16\" height=\"16\"><path d=\"" + path + "\"/></svg>")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
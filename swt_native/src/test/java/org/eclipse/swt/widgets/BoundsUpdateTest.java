@@ -0,0 +1,169 @@
+package org.eclipse.swt.widgets;
+
+import dev.equo.swt.Config;
+import dev.equo.swt.FlutterBridge;
+import dev.equo.swt.comm.CommService;
+import dev.equo.swt.harness.RecordingComm;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A control that only moved or resized since Dart last had it is not pushed again, nor is its
+ * parent: the flush sends the bounds of every such control in one packed update.
+ */
+@ExtendWith(Mocks.class)
+class BoundsUpdateTest {
+
+    /** Keeps the bounds updates' bytes, which RecordingComm would decode as text. */
+    private static class BoundsComm extends RecordingComm {
+        final List<byte[]> updates = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(String eventName, byte[] payload) {
+            if (eventName.equals(FlutterBridge.BOUNDS_CHANNEL))
+                updates.add(payload);
+            super.send(eventName, payload);
+        }
+    }
+
+    private static class BoundsBridge extends FlutterBridge {
+        final BoundsComm comm = new BoundsComm();
+
+        BoundsBridge() {
+            clientReady.complete(true);
+        }
+
+        @Override
+        protected CommService comm() {
+            return comm;
+        }
+
+        @Override
+        public void initFlutterView(Composite parent, DartControl control) {
+        }
+
+        @Override
+        public void destroy(DartWidget control) {
+        }
+    }
+
+    private BoundsBridge bridge;
+
+    @BeforeAll
+    static void useEquo() {
+        Config.forceEquo();
+    }
+
+    @AfterAll
+    static void reset() {
+        Config.defaultToEclipse();
+    }
+
+    @BeforeEach
+    void setUp() {
+        bridge = new BoundsBridge();
+        FlutterBridge.set(bridge);
+    }
+
+    @AfterEach
+    void tearDown() {
+        FlutterBridge.set(null);
+        System.clearProperty("dev.equo.swt.bounds.compact");
+    }
+
+    @Test
+    @DisplayName("controls moved in a layout pass go out in one bounds update, without their parent")
+    void movedControlsShareOneUpdate() {
+        Composite form = new Composite(Mocks.swtShell(), SWT.NONE);
+        Label name = new Label(form, SWT.NONE);
+        Button check = new Button(form, SWT.CHECK);
+        FlutterBridge.update();
+        bridge.comm.sent.clear();
+
+        name.setBounds(5, 6, 70, 20);
+        check.setBounds(80, 4, 200, 24);
+        FlutterBridge.update();
+
+        assertThat(bridge.comm.sent).extracting(f -> f.event)
+                .doesNotContain(FlutterBridge.event(form.getImpl()), FlutterBridge.event(name.getImpl()),
+                        FlutterBridge.event(check.getImpl()));
+        assertThat(bridge.comm.updates).hasSize(1);
+        Map<Long, Rectangle> bounds = decode(bridge.comm.updates.get(0));
+        assertThat(bounds).containsOnlyKeys((long) name.hashCode(), (long) check.hashCode());
+        assertThat(bounds.get((long) name.hashCode())).isEqualTo(new Rectangle(5, 6, 70, 20));
+        assertThat(bounds.get((long) check.hashCode())).isEqualTo(new Rectangle(80, 4, 200, 24));
+    }
+
+    @Test
+    @DisplayName("a moved control that is pushed anyway is left out of the bounds update")
+    void aPushCarriesItsOwnBounds() {
+        Composite form = new Composite(Mocks.swtShell(), SWT.NONE);
+        Label name = new Label(form, SWT.NONE);
+        Label other = new Label(form, SWT.NONE);
+        FlutterBridge.update();
+        bridge.comm.sent.clear();
+
+        name.setBounds(5, 6, 70, 20);
+        name.setText("Name:");
+        other.setBounds(5, 30, 70, 20);
+        FlutterBridge.update();
+
+        assertThat(bridge.comm.sent).extracting(f -> f.event)
+                .contains(FlutterBridge.event(name.getImpl()));
+        assertThat(decode(bridge.comm.updates.get(0))).containsOnlyKeys((long) other.hashCode());
+    }
+
+    @Test
+    @DisplayName("a control Dart doesn't have yet is pushed whole, with its parent")
+    void aNewControlIsPushedWhole() {
+        Composite form = new Composite(Mocks.swtShell(), SWT.NONE);
+        FlutterBridge.update();
+        Label name = new Label(form, SWT.NONE);
+
+        name.setBounds(5, 6, 70, 20);
+        FlutterBridge.update();
+
+        assertThat(bridge.comm.updates).isEmpty();
+    }
+
+    @Test
+    @DisplayName("-Ddev.equo.swt.bounds.compact=false pushes a moved control and its parent")
+    void compactBoundsCanBeTurnedOff() {
+        System.setProperty("dev.equo.swt.bounds.compact", "false");
+        Composite form = new Composite(Mocks.swtShell(), SWT.NONE);
+        Label name = new Label(form, SWT.NONE);
+        FlutterBridge.update();
+
+        name.setBounds(5, 6, 70, 20);
+        FlutterBridge.update();
+
+        assertThat(bridge.comm.updates).isEmpty();
+        assertThat(bridge.comm.sent).extracting(f -> f.event).contains(FlutterBridge.event(form.getImpl()));
+    }
+
+    /** The update's bounds by control id, checking its seq and count on the way. */
+    private static Map<Long, Rectangle> decode(byte[] update) {
+        ByteBuffer in = ByteBuffer.wrap(update);
+        assertThat(in.getLong()).as("seq").isPositive();
+        Map<Long, Rectangle> bounds = new LinkedHashMap<>();
+        for (int count = in.getInt(); count > 0; count--)
+            bounds.put(in.getLong(), new Rectangle(in.getInt(), in.getInt(), in.getInt(), in.getInt()));
+        assertThat(in.hasRemaining()).isFalse();
+        return bounds;
+    }
+}
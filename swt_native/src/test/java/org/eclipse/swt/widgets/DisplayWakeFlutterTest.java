@@ -39,8 +39,9 @@ import static org.assertj.core.api.Assertions.assertThat;
  * arriving on the comm thread must wake a parked UI thread).
  *
  * <p>Covers: {@code asyncExec}, {@code syncExec}, events from Dart (Selection), input events from
- * Dart (MouseMove), marking a widget dirty, and that an idle loop parks indefinitely (no timeout cap
- * in pure web mode) until woken. Like {@link RadioGroupFlutterTest} this is a {@code @Tag("flutter-it")}
+ * Dart (MouseMove), marking a widget dirty, {@code timerExec} deadlines, and that an idle loop parks
+ * indefinitely (no timeout cap in pure web mode) until woken — checked through the idle-wakeup
+ * counter as well as the park/wake probes. Like {@link RadioGroupFlutterTest} this is a {@code @Tag("flutter-it")}
  * test run by the {@code nativeTest} task against the whole-tree-Flutter backend; it reaches its one web-only class
  * ({@code WebDisplayBridge}, see the dirty test) by reflection, so the file still compiles against
  * every backend even though it only runs on web. It needs no renderer, so it injects a no-op
@@ -68,10 +69,13 @@ class DisplayWakeFlutterTest {
     private final AtomicInteger parks = new AtomicInteger();
     /** Bumped by the {@link SWT#PostExternalEventDispatch} listener each time the loop wakes. */
     private final AtomicInteger wakes = new AtomicInteger();
+    /** The cap in force before this test, restored afterwards (the default is uncapped). */
+    private long defaultParkCap;
 
     @BeforeEach
     void setUp() throws InterruptedException {
         running = true;
+        defaultParkCap = webParkCap();
         setWebParkCap(3_600_000L);
         CountDownLatch ready = new CountDownLatch(1);
         uiThread = new Thread(() -> {
@@ -120,14 +124,36 @@ class DisplayWakeFlutterTest {
             d.asyncExec(() -> {}); // unpark from this (non-UI) thread so the loop sees running == false
         if (uiThread != null)
             uiThread.join(5000);
-        setWebParkCap(16);
+        setWebParkCap(defaultParkCap);
+    }
+
+    private static java.lang.reflect.Field webParkCapField() throws Exception {
+        java.lang.reflect.Field f = Class.forName("org.eclipse.swt.widgets.DartDisplay").getDeclaredField("WEB_PARK_CAP_MS");
+        f.setAccessible(true);
+        return f;
+    }
+
+    private static long webParkCap() {
+        try {
+            return webParkCapField().getLong(null);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
     }
 
     private static void setWebParkCap(long ms) {
         try {
-            java.lang.reflect.Field f = Class.forName("org.eclipse.swt.widgets.DartDisplay").getDeclaredField("WEB_PARK_CAP_MS");
-            f.setAccessible(true);
-            f.setLong(null, ms);
+            webParkCapField().setLong(null, ms);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** {@code DartDisplay._idleWakeups()}: parks that timed out with nothing to do. */
+    private long idleWakeups() {
+        try {
+            Object dartDisplay = display.getImpl();
+            return (long) dartDisplay.getClass().getMethod("_idleWakeups").invoke(dartDisplay);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -473,6 +499,45 @@ class DisplayWakeFlutterTest {
                 .isTrue();
     }
 
+    @Test
+    void idleLoop_countsNoIdleWakeups() throws Exception {
+        long before = idleWakeups();
+
+        Thread.sleep(IDLE_PARK_MS);
+
+        assertThat(idleWakeups())
+                .as("an uncapped idle loop must not wake just to find nothing to do")
+                .isEqualTo(before);
+    }
+
+    @Test
+    void boundedPark_countsEachTimeoutAsAnIdleWakeup() throws Exception {
+        setWebParkCap(10);
+        onUiThread(() -> {}); // re-park under the new cap
+        long before = idleWakeups();
+
+        Thread.sleep(IDLE_PARK_MS);
+
+        assertThat(idleWakeups() - before)
+                .as("every capped park that times out idle is a wakeup the counter must see")
+                .isGreaterThan(0L);
+    }
+
+    @Test
+    void timerDeadline_endsThePark_withoutAnIdleWakeup() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        long before = idleWakeups();
+
+        onUiThread(() -> display.timerExec(50, fired::countDown));
+
+        assertThat(awaitLatch(fired))
+                .as("the park must end at the timer's deadline, with no other wake source")
+                .isTrue();
+        assertThat(idleWakeups())
+                .as("waking for a due timer is work, not an idle wakeup")
+                .isEqualTo(before);
+    }
+
     @Test
     void moveAllEventsTo_wakesTargetDisplay() throws Exception {
         Synchronizer source = new Synchronizer(display);
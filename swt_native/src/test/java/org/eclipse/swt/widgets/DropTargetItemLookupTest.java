@@ -0,0 +1,124 @@
+package org.eclipse.swt.widgets;
+
+import dev.equo.swt.Config;
+import dev.equo.swt.FlutterBridge;
+import dev.equo.swt.harness.RecordingBridge;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.dnd.DND;
+import org.eclipse.swt.dnd.DropTarget;
+import org.eclipse.swt.dnd.DropTargetAdapter;
+import org.eclipse.swt.dnd.DropTargetEvent;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Flutter names the item under the pointer by its id; the drop target resolves it from an index of
+ * the control's items built once per drag, which picks up items created mid-drag, such as the
+ * children of a tree item expanded on hover, and drops items disposed since.
+ */
+@ExtendWith(Mocks.class)
+class DropTargetItemLookupTest {
+
+    private RecordingBridge bridge;
+    private final List<Widget> hovered = new ArrayList<>();
+
+    @BeforeAll
+    static void useEquo() {
+        Config.forceEquo();
+    }
+
+    @AfterAll
+    static void reset() {
+        Config.defaultToEclipse();
+    }
+
+    @BeforeEach
+    void setUp() {
+        bridge = new RecordingBridge();
+        FlutterBridge.set(bridge);
+    }
+
+    @AfterEach
+    void tearDown() {
+        FlutterBridge.set(null);
+    }
+
+    private Tree tree() {
+        Shell shell = Mocks.swtShell();
+        Display display = shell.getDisplay();
+        SwtDisplay displayImpl = (SwtDisplay) display.getImpl();
+        doAnswer(inv -> {
+            EventTable table = inv.getArgument(0);
+            Event event = inv.getArgument(1);
+            if (table != null)
+                table.sendEvent(event);
+            return null;
+        }).when(displayImpl).sendEvent(any(EventTable.class), any(Event.class));
+        doAnswer(inv -> {
+            ((Runnable) inv.getArgument(0)).run();
+            return null;
+        }).when(display).asyncExec(any(Runnable.class));
+
+        Tree tree = new Tree(shell, SWT.NONE);
+        DropTarget target = new DropTarget(tree, DND.DROP_MOVE);
+        target.addDropListener(new DropTargetAdapter() {
+            @Override
+            public void dragOver(DropTargetEvent event) {
+                hovered.add(event.item);
+            }
+        });
+        return tree;
+    }
+
+    private void dragOver(Widget item) {
+        Event e = new Event();
+        e.itemId = FlutterBridge.id(item);
+        e.index = -1;
+        bridge.comm.fireContaining("/Drop/dragOver", e);
+    }
+
+    @Test
+    void aNestedItemResolvesThroughTheIndex() {
+        Tree tree = tree();
+        TreeItem root = new TreeItem(tree, SWT.NONE);
+        TreeItem child = new TreeItem(root, SWT.NONE);
+        TreeItem grandChild = new TreeItem(child, SWT.NONE);
+
+        dragOver(grandChild);
+        dragOver(root);
+
+        assertThat(hovered).containsExactly(grandChild, root);
+    }
+
+    @Test
+    void anItemCreatedMidDragIsFound() {
+        Tree tree = tree();
+        TreeItem root = new TreeItem(tree, SWT.NONE);
+        dragOver(root);
+
+        TreeItem expanded = new TreeItem(root, SWT.NONE);
+        dragOver(expanded);
+
+        assertThat(hovered).containsExactly(root, expanded);
+    }
+
+    @Test
+    void anItemDisposedMidDragResolvesToNothing() {
+        Tree tree = tree();
+        TreeItem root = new TreeItem(tree, SWT.NONE);
+        TreeItem child = new TreeItem(root, SWT.NONE);
+        dragOver(child);
+
+        child.dispose();
+        dragOver(child);
+
+        assertThat(hovered).containsExactly(child, null);
+    }
+}
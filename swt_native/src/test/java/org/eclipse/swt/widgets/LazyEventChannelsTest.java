@@ -0,0 +1,129 @@
+package org.eclipse.swt.widgets;
+
+import dev.equo.swt.Config;
+import dev.equo.swt.FlutterBridge;
+import dev.equo.swt.harness.RecordingBridge;
+import org.eclipse.swt.SWT;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * A control registers the channel of a mouse click, wheel, gesture... only once a listener or a
+ * Display filter hooks its type, and tells Flutter which of them to send.
+ */
+@ExtendWith(Mocks.class)
+class LazyEventChannelsTest {
+
+    private RecordingBridge bridge;
+
+    @BeforeAll
+    static void useEquo() {
+        Config.forceEquo();
+    }
+
+    @AfterAll
+    static void reset() {
+        Config.defaultToEclipse();
+    }
+
+    @BeforeEach
+    void setUp() {
+        bridge = new RecordingBridge();
+        FlutterBridge.set(bridge);
+    }
+
+    @AfterEach
+    void tearDown() {
+        FlutterBridge.set(null);
+        System.clearProperty("dev.equo.swt.events.lazy");
+    }
+
+    private Shell shell() {
+        Shell shell = Mocks.swtShell();
+        Display display = shell.getDisplay();
+        SwtDisplay displayImpl = (SwtDisplay) display.getImpl();
+        doAnswer(inv -> {
+            EventTable table = inv.getArgument(0);
+            Event event = inv.getArgument(1);
+            if (table != null)
+                table.sendEvent(event);
+            return null;
+        }).when(displayImpl).sendEvent(any(EventTable.class), any(Event.class));
+        doAnswer(inv -> {
+            ((Runnable) inv.getArgument(0)).run();
+            return null;
+        }).when(display).asyncExec(any(Runnable.class));
+        return shell;
+    }
+
+    private boolean registered(Control control, String listener, String event) {
+        return bridge.comm.handlers.containsKey(FlutterBridge.event(control.getImpl(), listener, event));
+    }
+
+    private static int events(Control control) {
+        return ((DartControl) control.getImpl()).getValue().getEvents();
+    }
+
+    @Test
+    @DisplayName("a control nobody listens to has no mouse-click channel, and Flutter sends none")
+    void nothingHookedNothingRegistered() {
+        Label label = new Label(shell(), SWT.NONE);
+
+        assertThat(registered(label, "Mouse", "MouseDown")).isFalse();
+        assertThat(registered(label, "MouseWheel", "MouseWheel")).isFalse();
+        assertThat(registered(label, "Focus", "FocusIn")).as("always registered").isTrue();
+        assertThat(events(label)).isZero();
+    }
+
+    @Test
+    @DisplayName("hooking an event registers its channel and asks Flutter for it")
+    void aListenerRegistersTheChannel() {
+        Label label = new Label(shell(), SWT.NONE);
+        List<Integer> clicks = new ArrayList<>();
+        label.addListener(SWT.MouseDown, e -> clicks.add(e.button));
+
+        assertThat(registered(label, "Mouse", "MouseDown")).isTrue();
+        assertThat(registered(label, "Mouse", "MouseUp")).isFalse();
+        assertThat(events(label)).isEqualTo(DartControl.lazyEventBit(SWT.MouseDown));
+
+        Event e = new Event();
+        e.button = 1;
+        bridge.comm.fireContaining(FlutterBridge.event(label.getImpl(), "Mouse", "MouseDown"), e);
+        assertThat(clicks).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("a Display filter asks every control for its event, existing and new")
+    void aFilterHooksEveryControl() {
+        Shell shell = shell();
+        Label existing = new Label(shell, SWT.NONE);
+
+        DartControl.hookFilter(new Control[] { existing }, SWT.MouseWheel);
+        doReturn(true).when((SwtDisplay) shell.getDisplay().getImpl()).filters(SWT.MouseWheel);
+        Label created = new Label(shell, SWT.NONE);
+
+        assertThat(registered(existing, "MouseWheel", "MouseWheel")).isTrue();
+        assertThat(registered(created, "MouseWheel", "MouseWheel")).isTrue();
+        assertThat(events(created)).isEqualTo(DartControl.lazyEventBit(SWT.MouseWheel));
+    }
+
+    @Test
+    @DisplayName("dev.equo.swt.events.lazy=false registers every channel at creation")
+    void eagerRegistersEverything() {
+        System.setProperty("dev.equo.swt.events.lazy", "false");
+        Label label = new Label(shell(), SWT.NONE);
+
+        for (int eventType : DartControl.LAZY_EVENTS)
+            assertThat(events(label) & DartControl.lazyEventBit(eventType)).isNotZero();
+        assertThat(registered(label, "Mouse", "MouseDown")).isTrue();
+        assertThat(registered(label, "Traverse", "Traverse")).isTrue();
+    }
+}
@@ -26,7 +26,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  *
  * <p>These tests cover the Java half of that contract: the bounds a child gets after its parent was
  * already sent must still reach Dart, and a widget marked dirty while a flush is running must not
- * be dropped by that flush's bookkeeping.
+ * be dropped by that flush's bookkeeping. They cover the whole-push path; a control that only moved
+ * is otherwise sent in the flush's bounds update instead (see {@code BoundsUpdateTest}).
  */
 @Tag("flutter-it")
 class StaleChildBoundsFlutterTest {
@@ -90,6 +91,7 @@ class StaleChildBoundsFlutterTest {
 
     @BeforeEach
     void setUp() {
+        System.setProperty("dev.equo.swt.bounds.compact", "false");
         bridge = new HookBridge();
         FlutterBridge.set(bridge);
         display = new Display();
@@ -101,6 +103,7 @@ class StaleChildBoundsFlutterTest {
             display.dispose();
         }
         FlutterBridge.set(null);
+        System.clearProperty("dev.equo.swt.bounds.compact");
     }
 
     private void pump() {
@@ -0,0 +1,167 @@
+package org.eclipse.swt.widgets;
+
+import dev.equo.swt.Config;
+import dev.equo.swt.FlutterBridge;
+import dev.equo.swt.harness.RecordingBridge;
+import org.eclipse.swt.SWT;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Flutter sends a Text edit as the range it replaced and the replacement. Java splices it into its
+ * content, Verify sees only that range as it does natively, and the next push leaves out the
+ * content Flutter already shows — until Java's content differs from it again.
+ */
+@ExtendWith(Mocks.class)
+class TextEditDeltaTest {
+
+    private RecordingBridge bridge;
+
+    @BeforeAll
+    static void useEquo() {
+        Config.forceEquo();
+    }
+
+    @AfterAll
+    static void reset() {
+        Config.defaultToEclipse();
+    }
+
+    @BeforeEach
+    void setUp() {
+        bridge = new RecordingBridge();
+        FlutterBridge.set(bridge);
+    }
+
+    @AfterEach
+    void tearDown() {
+        FlutterBridge.set(null);
+    }
+
+    private Text text(String content) {
+        Shell shell = Mocks.swtShell();
+        Display display = shell.getDisplay();
+        SwtDisplay displayImpl = (SwtDisplay) display.getImpl();
+        doAnswer(inv -> {
+            EventTable table = inv.getArgument(0);
+            Event event = inv.getArgument(1);
+            if (table != null)
+                table.sendEvent(event);
+            return null;
+        }).when(displayImpl).sendEvent(any(EventTable.class), any(Event.class));
+        doAnswer(inv -> {
+            ((Runnable) inv.getArgument(0)).run();
+            return null;
+        }).when(display).asyncExec(any(Runnable.class));
+
+        Text text = new Text(shell, SWT.MULTI);
+        text.setText(content);
+        return text;
+    }
+
+    private void type(int start, int end, String replacement, int baseLength, int revision) {
+        Event e = new Event();
+        e.start = start;
+        e.end = end;
+        e.text = replacement;
+        e.count = baseLength;
+        e.index = revision;
+        e.x = start + replacement.length();
+        bridge.comm.fireContaining("/modify/edit", e);
+    }
+
+    private static String pushed(Text text) {
+        return ((DartText) text.getImpl()).getValue().getText();
+    }
+
+    /** The revision Flutter is sent, and echoes with its edits. */
+    private static int revision(Text text) {
+        return ((DartText) text.getImpl()).getValue().getRevision();
+    }
+
+    @Test
+    @DisplayName("an edit is spliced in, and Verify sees only its range")
+    void anEditIsSplicedIn() {
+        Text text = text("hello world");
+        List<String> verified = new ArrayList<>();
+        text.addListener(SWT.Verify, e -> verified.add(e.start + "," + e.end + ":" + e.text));
+
+        int revision = revision(text);
+        type(5, 5, ",", 11, revision);
+        type(7, 12, "there", 12, revision);
+
+        assertThat(text.getText()).isEqualTo("hello, there");
+        assertThat(verified).containsExactly("5,5:,", "7,12:there");
+        assertThat(text.getCaretPosition()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("content Flutter typed is not pushed back, content Java set is")
+    void onlyContentFlutterLacksIsPushed() {
+        Text text = text("abc");
+
+        type(3, 3, "d", 3, revision(text));
+        assertThat(pushed(text)).as("Flutter shows abcd already").isNull();
+
+        text.setText("xyz");
+        assertThat(pushed(text)).isEqualTo("xyz");
+    }
+
+    @Test
+    @DisplayName("a Verify listener that changes the edit gets its content pushed")
+    void aChangedEditIsPushed() {
+        Text text = text("abc");
+        text.addListener(SWT.Verify, e -> e.text = e.text.toUpperCase());
+
+        type(3, 3, "d", 3, revision(text));
+
+        assertThat(text.getText()).isEqualTo("abcD");
+        assertThat(pushed(text)).isEqualTo("abcD");
+    }
+
+    @Test
+    @DisplayName("an edit made against content Java no longer has is dropped")
+    void aStaleEditIsDropped() {
+        Text text = text("abc");
+        int seen = revision(text);
+        text.setText("a much longer text");
+
+        type(3, 3, "d", 3, seen);
+
+        assertThat(text.getText()).isEqualTo("a much longer text");
+        assertThat(pushed(text)).isEqualTo("a much longer text");
+    }
+
+    @Test
+    @DisplayName("an edit made against other content of the same length is dropped too")
+    void aStaleEditOfTheSameLengthIsDropped() {
+        Text text = text("abc");
+        int seen = revision(text);
+        text.setText("xyz");
+
+        type(3, 3, "d", 3, seen);
+
+        assertThat(text.getText()).isEqualTo("xyz");
+        assertThat(pushed(text)).isEqualTo("xyz");
+    }
+
+    @Test
+    @DisplayName("after a Verify listener changed an edit, edits made before Flutter saw it are dropped")
+    void anEditAfterAChangedOneIsDropped() {
+        Text text = text("abc");
+        text.addListener(SWT.Verify, e -> e.text = e.text.equals("d") ? "D" : e.text);
+        int seen = revision(text);
+
+        type(3, 3, "d", 3, seen);
+        type(4, 4, "e", 4, seen);
+
+        assertThat(text.getText()).isEqualTo("abcD");
+    }
+}